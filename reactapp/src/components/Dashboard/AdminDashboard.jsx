@@ -1,5 +1,6 @@
 import React, { useState, useEffect } from 'react';
 import axios from 'axios';
+import { getAllPages } from '../../config/api';
 import './Dashboard.css';
 
 const AdminDashboard = ({ user, stats, token }) => {
@@ -22,7 +23,7 @@ const AdminDashboard = ({ user, stats, token }) => {
 
       const [teamsRes, playersRes, matchesRes, usersRes] = await Promise.all([
         axios.get('https://8080-acbffafcdacceebbbdbcfdbdb.premiumproject.examly.io/api/teams', config),
-        axios.get('https://8080-acbffafcdacceebbbdbcfdbdb.premiumproject.examly.io/api/players', config),
+        getAllPages('https://8080-acbffafcdacceebbbdbcfdbdb.premiumproject.examly.io/api/players', config),
         axios.get('https://8080-acbffafcdacceebbbdbcfdbdb.premiumproject.examly.io/api/matches', config),
         axios.get('https://8080-acbffafcdacceebbbdbcfdbdb.premiumproject.examly.io/api/auth/users', config)
       ]);
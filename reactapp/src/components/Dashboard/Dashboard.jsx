@@ -1,5 +1,6 @@
 import React, { useState, useEffect } from 'react';
 import axios from 'axios';
+import { getAllPages } from '../../config/api';
 import './Dashboard.css';
 
 // Import role-specific components
@@ -32,7 +33,7 @@ const Dashboard = ({ user, token }) => {
       if (user.role === 'FIFA_ADMIN') {
         endpoints.push(
           axios.get('https://8080-acbffafcdacceebbbdbcfdbdb.premiumproject.examly.io/api/teams/analytics', config),
-          axios.get('https://8080-acbffafcdacceebbbdbcfdbdb.premiumproject.examly.io/api/players', config),
+          getAllPages('https://8080-acbffafcdacceebbbdbcfdbdb.premiumproject.examly.io/api/players', config),
           axios.get('https://8080-acbffafcdacceebbbdbcfdbdb.premiumproject.examly.io/api/matches', config)
         );
       } else if (user.role === 'TEAM_MANAGER' || user.role === 'COACH') {
@@ -1,5 +1,6 @@
 import React, { useState, useEffect } from 'react';
 import axios from 'axios';
+import { getAllPages } from '../../config/api';
 import './Dashboard.css';
 
 const PlayerDashboard = ({ user, stats, token }) => {
@@ -19,7 +20,7 @@ const PlayerDashboard = ({ user, stats, token }) => {
       };
 
       // Find player by username or team
-      const playersRes = await axios.get('https://8080-acbffafcdacceebbbdbcfdbdb.premiumproject.examly.io/api/players', config);
+      const playersRes = await getAllPages('https://8080-acbffafcdacceebbbdbcfdbdb.premiumproject.examly.io/api/players', config);
       const playerData = playersRes.data.find(p => 
         p.playerName.toLowerCase().includes(user.username.toLowerCase()) ||
         (user.team && p.team?.teamName === user.team)
@@ -1,7 +1,7 @@
 import React, { useState, useEffect } from 'react';
 import axios from 'axios';
 import NotificationsCenter from '../Notifications/NotificationsCenter';
-import { getEndpoint, buildApiUrl } from '../../config/api';
+import { getEndpoint, buildApiUrl, getAllPages } from '../../config/api';
 import './HomePage.css';
 
 const HomePage = ({ user, token, onNavigate }) => {
@@ -37,7 +37,7 @@ const HomePage = ({ user, token, onNavigate }) => {
 
       const [teamsRes, playersRes, matchesRes, tournamentsRes] = await Promise.all([
         axios.get(getEndpoint('TEAMS'), config),
-        axios.get(getEndpoint('PLAYERS'), config),
+        getAllPages(getEndpoint('PLAYERS'), config),
         axios.get(getEndpoint('MATCHES'), config),
         axios.get(getEndpoint('TOURNAMENTS'), config)
       ]);
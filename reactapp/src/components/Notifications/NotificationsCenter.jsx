@@ -1,6 +1,6 @@
 import React, { useEffect, useMemo, useState } from 'react';
 import axios from 'axios';
-import { getEndpoint } from '../../config/api';
+import { getEndpoint, getAllPages } from '../../config/api';
 
 const ROLES_CAN_MANAGE = new Set(['FIFA_ADMIN','TOURNAMENT_DIRECTOR','COACH','TEAM_MANAGER','MATCH_OFFICIAL']);
 
@@ -21,10 +21,10 @@ const NotificationsCenter = ({ token, user }) => {
     if (!user?.id) return;
     setLoading(true); setError('');
     try {
-      let url;
-      if (filter.scope === 'MY') url = getEndpoint('NOTIFICATIONS_BY_USER', { userId: user.id });
-      else url = getEndpoint('NOTIFICATIONS_UNREAD_BY_USER', { userId: user.id });
-      const res = await axios.get(url, headers);
+      // The full list is cursor-paginated; the unread list is not
+      const res = filter.scope === 'MY'
+        ? await getAllPages(getEndpoint('NOTIFICATIONS_BY_USER', { userId: user.id }), headers)
+        : await axios.get(getEndpoint('NOTIFICATIONS_UNREAD_BY_USER', { userId: user.id }), headers);
       let data = res.data || [];
       if (filter.type !== 'ALL') data = data.filter(n => n.type === filter.type);
       setItems(data);
@@ -1,6 +1,6 @@
 import React, { useState, useEffect } from 'react';
 import axios from 'axios';
-import { getEndpoint } from '../../config/api';
+import { getEndpoint, getAllPages } from '../../config/api';
 import './PlayerManagement.css';
 
 const PlayerManagement = ({ token }) => {
@@ -54,7 +54,7 @@ const PlayerManagement = ({ token }) => {
       const config = {
         headers: { Authorization: `Bearer ${token}` }
       };
-      const response = await axios.get(getEndpoint('PLAYERS'), config);
+      const response = await getAllPages(getEndpoint('PLAYERS'), config);
       setPlayers(response.data);
       setError('');
     } catch (err) {
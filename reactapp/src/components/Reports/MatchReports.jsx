@@ -1,6 +1,6 @@
 import React, { useEffect, useMemo, useState } from 'react';
 import axios from 'axios';
-import { getEndpoint } from '../../config/api';
+import { getEndpoint, getAllPages } from '../../config/api';
 import './MatchReports.css';
 
 const ROLES_CAN_FILE = new Set(['FIFA_ADMIN','TOURNAMENT_DIRECTOR','MATCH_OFFICIAL']);
@@ -21,7 +21,7 @@ const MatchReports = ({ token, user }) => {
     setLoading(true); setError('');
     try {
       const [m] = await Promise.all([
-        axios.get(getEndpoint('MATCHES_PAST'), headers)
+        getAllPages(getEndpoint('MATCHES_PAST'), headers)
       ]);
       setMatches(m.data || []);
       // For demo, keep reports local
@@ -1,3 +1,5 @@
+import axios from 'axios';
+
 // API Configuration for Examly Premium Project
 const API_CONFIG = {
   BASE_URL: ('https://8080-acbffafcdacceebbbdbcfdbdb.premiumproject.examly.io'),
@@ -123,5 +125,20 @@ export const getEndpoint = (endpointName, params = {}) => {
   return buildApiUrl(endpoint, params);
 };
 
+// Keyset-paginated listings (players, past matches, a user's notifications) return one
+// page and put the next page's cursor in the X-Next-Cursor header; this follows the
+// cursors and resolves to { data: [...all rows] } like a plain axios response.
+export const getAllPages = async (url, config = {}) => {
+  const items = [];
+  let cursor = null;
+  do {
+    const params = { ...(config.params || {}), size: 200, ...(cursor ? { cursor } : {}) };
+    const res = await axios.get(url, { ...config, params });
+    items.push(...(res.data || []));
+    cursor = res.headers['x-next-cursor'];
+  } while (cursor);
+  return { data: items };
+};
+
 export default API_CONFIG;
 
@@ -0,0 +1,92 @@
+package com.examly.springapp.benchmark;
+
+import com.examly.springapp.service.security.FieldEncryptionEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.env.StandardEnvironment;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Field encryption throughput (operations per millisecond, 4 threads like concurrent requests).
+ *
+ * decryptAll models a bulk read through EncryptedStringConverter: `rows` values per call.
+ * The target is that decrypting a 500-row page stays well under a millisecond, i.e. small
+ * next to the query that loaded it. perCallCipherBaseline is the previous
+ * implementation's shape (Cipher.getInstance + a new key spec on every value) for comparison.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class FieldEncryptionBenchmark {
+
+    @Param({"500"})
+    private int rows;
+
+    private FieldEncryptionEngine engine;
+    private byte[] baselineKey;
+    private String plainText;
+    private String cipherText;
+    private List<String> plainRows;
+    private List<String> cipherRows;
+
+    @Setup
+    public void setUp() {
+        engine = new FieldEncryptionEngine("ThisIsABenchmarkFieldKey", new StandardEnvironment());
+        baselineKey = "0123456789abcdef".getBytes(StandardCharsets.UTF_8);
+        plainText = "passport=AB1234567;medical=cleared;contact=+41 44 123 45 67";
+        cipherText = engine.encrypt(plainText);
+        plainRows = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            plainRows.add("{\"card\":\"**** **** **** " + (1000 + i) + "\",\"billingZip\":\"80" + i + "\"}");
+        }
+        cipherRows = engine.encryptAll(plainRows);
+    }
+
+    @Benchmark
+    public String encrypt() {
+        return engine.encrypt(plainText);
+    }
+
+    @Benchmark
+    public String decrypt() {
+        return engine.decrypt(cipherText);
+    }
+
+    @Benchmark
+    public List<String> decryptAll() {
+        return engine.decryptAll(cipherRows);
+    }
+
+    @Benchmark
+    public List<String> encryptAll() {
+        return engine.encryptAll(plainRows);
+    }
+
+    @Benchmark
+    public String perCallCipherBaseline() throws Exception {
+        Cipher cipher = Cipher.getInstance("AES");
+        cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(baselineKey, "AES"));
+        return Base64.getEncoder().encodeToString(cipher.doFinal(plainText.getBytes(StandardCharsets.UTF_8)));
+    }
+}
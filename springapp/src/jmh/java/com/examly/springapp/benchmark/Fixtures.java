@@ -0,0 +1,113 @@
+package com.examly.springapp.benchmark;
+
+import com.examly.springapp.model.Match;
+import com.examly.springapp.model.MatchStatus;
+import com.examly.springapp.model.Player;
+import com.examly.springapp.model.Team;
+import com.examly.springapp.model.Tournament;
+import com.examly.springapp.model.Venue;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/** Detached sample data and stand-ins shared by the benchmarks. */
+final class Fixtures {
+
+    private Fixtures() {
+    }
+
+    /** Repository stand-in: every call does nothing and returns null/false/0. */
+    @SuppressWarnings("unchecked")
+    static <T> T noOp(Class<T> type) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                return switch (method.getName()) {
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> type.getSimpleName() + "(no-op)";
+                };
+            }
+            Class<?> returnType = method.getReturnType();
+            if (returnType == boolean.class) {
+                return false;
+            }
+            if (returnType == long.class) {
+                return 0L;
+            }
+            if (returnType == int.class) {
+                return 0;
+            }
+            return null;
+        });
+    }
+
+    static List<Team> teams(int count) {
+        List<Team> teams = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            Team team = new Team();
+            team.setId((long) i);
+            team.setTeamName("Team " + i);
+            team.setConfederation(i % 2 == 0 ? "UEFA" : "CONMEBOL");
+            team.setFifaRanking(i);
+            team.setHeadCoach("Coach " + i);
+            team.setRegistrationDate(LocalDateTime.of(2024, 1, 1, 12, 0));
+            teams.add(team);
+        }
+        return teams;
+    }
+
+    static List<Player> players(int count, List<Team> teams) {
+        List<Player> players = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            Player player = new Player();
+            player.setId((long) i);
+            player.setFirstName("First" + i);
+            player.setLastName("Last" + i);
+            player.setPosition(i % 4 == 0 ? "Goalkeeper" : "Forward");
+            player.setNationality("Nation " + (i % 32));
+            player.setCountry("Nation " + (i % 32));
+            player.setDateOfBirth(LocalDate.of(1990 + i % 15, 1 + i % 12, 1 + i % 28));
+            player.setJerseyNumber(i % 23 + 1);
+            player.setCapsEarned(i % 120);
+            player.setGoalsScored(i % 60);
+            player.setClubAffiliation("Club " + (i % 40));
+            player.setMedicalClearance(true);
+            player.setTeam(teams.get(i % teams.size()));
+            players.add(player);
+        }
+        return players;
+    }
+
+    static List<Match> matches(int count, List<Team> teams) {
+        Venue venue = new Venue();
+        venue.setId(1L);
+        venue.setVenueName("National Stadium");
+        venue.setCity("Doha");
+        venue.setCapacity(80000);
+        Tournament tournament = new Tournament();
+        tournament.setId(1L);
+        tournament.setTournamentName("World Cup");
+        tournament.setStartDate(LocalDate.of(2026, 6, 11));
+
+        List<Match> matches = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            Match match = new Match();
+            match.setId((long) i);
+            match.setHomeTeam(teams.get(i % teams.size()));
+            match.setAwayTeam(teams.get((i + 1) % teams.size()));
+            match.setMatchDate(LocalDateTime.of(2026, 6, 11, 18, 0).plusHours(i));
+            match.setKickoffTime(match.getMatchDate());
+            match.setStatus(MatchStatus.COMPLETED);
+            match.setHomeScore(i % 4);
+            match.setAwayScore(i % 3);
+            match.setRound("Group " + (char) ('A' + i % 8));
+            match.setVenue(venue);
+            match.setTournament(tournament);
+            matches.add(match);
+        }
+        return matches;
+    }
+}
@@ -0,0 +1,50 @@
+package com.examly.springapp.benchmark;
+
+import com.examly.springapp.service.security.SecurityService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SecurityService.validateInput per input type, called directly without a Spring context.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InputValidationBenchmark {
+
+    @Param({"EMAIL", "PASSWORD", "NAME", "GENERAL_TEXT"})
+    private SecurityService.InputType inputType;
+
+    private SecurityService securityService;
+    private String input;
+
+    @Setup
+    public void setUp() {
+        securityService = new SecurityService();
+        switch (inputType) {
+            case EMAIL -> input = "team.manager@federation.example.com";
+            case PASSWORD -> input = "Str0ng!Passw0rd";
+            case NAME -> input = "Lionel Andres Messi";
+            default -> input = "Kick-off moved to 18:00 <b>local</b> time due to weather; gates open at 16:00.";
+        }
+    }
+
+    @Benchmark
+    public SecurityService.ValidationResult validateInput() {
+        return securityService.validateInput(input, inputType);
+    }
+}
@@ -0,0 +1,81 @@
+package com.examly.springapp.benchmark;
+
+import com.examly.springapp.dto.PlayerView;
+import com.examly.springapp.model.Match;
+import com.examly.springapp.model.Player;
+import com.examly.springapp.model.Team;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Response body serialization for player and match listings, with the same Jackson
+ * setup Spring Boot gives the MVC message converter. The size parameter is the
+ * number of rows on the page (50 is the default page size).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    @Param({"1", "50", "200"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private List<Player> players;
+    private List<PlayerView> playerViews;
+    private List<Match> matches;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        List<Team> teams = Fixtures.teams(32);
+        players = Fixtures.players(size, teams);
+        matches = Fixtures.matches(size, teams);
+        playerViews = new ArrayList<>(size);
+        for (Player p : players) {
+            Team t = p.getTeam();
+            playerViews.add(new PlayerView(p.getId(), p.getFirstName(), p.getLastName(), p.getPosition(),
+                    t.getId(), t.getTeamName(), t.getConfederation(), t.getFifaRanking(),
+                    p.getJerseyNumber(), p.getDateOfBirth(), p.getNationality(),
+                    p.getCapsEarned(), p.getGoalsScored(), p.getClubAffiliation(),
+                    p.getMedicalClearance(), p.getIsAvailable()));
+        }
+    }
+
+    @Benchmark
+    public byte[] players() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(players);
+    }
+
+    @Benchmark
+    public byte[] playerViews() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(playerViews);
+    }
+
+    @Benchmark
+    public byte[] matches() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(matches);
+    }
+}
@@ -0,0 +1,51 @@
+package com.examly.springapp.benchmark;
+
+import com.examly.springapp.configuration.JWTUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token issue (login) and token parse (every authenticated request through JWTUtil).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtBenchmark {
+
+    private JWTUtil jwtUtil;
+    private List<GrantedAuthority> authorities;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JWTUtil("ThisIsABenchmarkSecretOfAtLeast32Chars!", 3600000, "SpringBootEmp", 10000);
+        authorities = List.of(new SimpleGrantedAuthority("ROLE_TEAM_MANAGER"));
+        token = jwtUtil.generateToken("manager@example.com", authorities);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken("manager@example.com", authorities);
+    }
+
+    @Benchmark
+    public String extractUsername() {
+        return jwtUtil.extractUsername(token);
+    }
+}
@@ -0,0 +1,66 @@
+package com.examly.springapp.benchmark;
+
+import com.examly.springapp.repository.ai.AIAnalysisRepository;
+import com.examly.springapp.service.ai.NaturalLanguageProcessingService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Query parsing, voice command parsing, sentiment and summary helpers. The service is
+ * used without its @Async proxy, so each call runs inline on the benchmark thread.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NaturalLanguageProcessingBenchmark {
+
+    private static final String QUERY = "show top scorers for Brazil and Argentina in 2022 group matches in Doha";
+    private static final String VOICE_COMMAND = "show me the live score of the France match";
+    private static final String COMMENTARY = "What a fantastic goal! The striker was brilliant tonight. "
+            + "The defence looked terrible in the first half and the fans were angry. "
+            + "After the break the team played with great energy and deserved the win. "
+            + "The coach praised the players for an amazing comeback.";
+
+    private NaturalLanguageProcessingService nlpService;
+
+    @Setup
+    public void setUp() {
+        nlpService = new NaturalLanguageProcessingService();
+        ReflectionTestUtils.setField(nlpService, "aiAnalysisRepository", Fixtures.noOp(AIAnalysisRepository.class));
+    }
+
+    @Benchmark
+    public Map<String, Object> processSearchQuery() {
+        return nlpService.processSearchQuery(QUERY).join();
+    }
+
+    @Benchmark
+    public Map<String, Object> processVoiceCommand() {
+        return nlpService.processVoiceCommand(VOICE_COMMAND).join();
+    }
+
+    @Benchmark
+    public Map<String, Object> analyzeSentiment() {
+        return nlpService.analyzeSentiment(COMMENTARY).join();
+    }
+
+    @Benchmark
+    public Map<String, Object> generateSummary() {
+        return nlpService.generateSummary(COMMENTARY, 120).join();
+    }
+}
@@ -0,0 +1,66 @@
+package com.examly.springapp.benchmark;
+
+import com.examly.springapp.service.inventory.SeatSection;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Seat claims on one section from 8 threads, as during an on-sale (operations per
+ * millisecond). Each operation takes `quantity` seats and gives them back, so the section
+ * stays at a steady `fillPercent` occupancy; the higher fills show the cost of searching
+ * past full words. Journaling is not included: it is batched off this path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(8)
+@Fork(1)
+public class SeatSectionBenchmark {
+
+    @Param({"80000"})
+    private int capacity;
+
+    @Param({"0", "90", "99"})
+    private int fillPercent;
+
+    @Param({"4"})
+    private int quantity;
+
+    private SeatSection section;
+
+    @Setup
+    public void setUp() {
+        section = new SeatSection(capacity);
+        int prefilled = (int) ((long) capacity * fillPercent / 100);
+        while (prefilled >= 64) {
+            section.take(64);
+            prefilled -= 64;
+        }
+        if (prefilled > 0) {
+            section.take(prefilled);
+        }
+    }
+
+    @Benchmark
+    public int[] holdAndRelease() {
+        int[] seats = section.take(quantity);
+        if (seats != null) {
+            section.free(seats);
+        }
+        return seats;
+    }
+}
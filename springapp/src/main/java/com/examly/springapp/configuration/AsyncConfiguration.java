@@ -0,0 +1,176 @@
+package com.examly.springapp.configuration;
+
+import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Async execution for the service.ai package.
+ *
+ * Each workload class gets its own bounded pool so a burst on one endpoint
+ * (e.g. /api/ai/match/analyze) cannot starve the others or the Tomcat threads:
+ *  - mlExecutor       : MachineLearningService, IntelligentMatchAnalysisService
+ *  - nlpExecutor      : NaturalLanguageProcessingService
+ *  - anomalyExecutor  : AnomalyDetectionService
+ *  - workflowExecutor : AutomatedWorkflowManagementService, AutomatedTournamentProcessingService
+ *  - liveEventExecutor: MatchEventIngestionService drain tasks (one in flight per live match)
+ *  - liveStreamExecutor: LiveScoreBroadcaster SSE writes (one in flight per subscriber)
+ *  - passwordHashExecutor: PasswordHashingService BCrypt work (login, registration);
+ *                       defaults to half the cores so hashing cannot starve reads
+ *  - paymentGatewayExecutor: PaymentGatewayClient calls to the payment provider; its
+ *                       threads plus queue cap how many checkouts can wait on the provider
+ *  - paymentCompletionExecutor: what PaymentGatewayClient and PaymentService do once a
+ *                       provider call ends or times out (breaker bookkeeping, saving the
+ *                       payment), kept off the JDK's timeout thread and out of the
+ *                       bulkhead; CALLER_RUNS by default so a completion is never dropped
+ *
+ * Pool sizing per workload (application.properties):
+ *   app.async.<pool>.core-size, app.async.<pool>.max-size, app.async.<pool>.queue-capacity
+ *   app.async.<pool>.rejection-policy=ABORT|CALLER_RUNS
+ *
+ * With ABORT (the default) a full queue surfaces as TaskRejectedException, which
+ * GlobalExceptionHandler turns into 503 instead of queueing unbounded work.
+ *
+ * When app.execution.mode=virtual (see ExecutionModeConfiguration) the pool workers
+ * are virtual threads; sizes and queue limits still apply, so the pools keep acting
+ * as bulkheads in front of the database.
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfiguration implements AsyncConfigurer {
+
+    public static final String ML_EXECUTOR = "mlExecutor";
+    public static final String NLP_EXECUTOR = "nlpExecutor";
+    public static final String ANOMALY_EXECUTOR = "anomalyExecutor";
+    public static final String WORKFLOW_EXECUTOR = "workflowExecutor";
+    public static final String LIVE_EVENT_EXECUTOR = "liveEventExecutor";
+    public static final String LIVE_STREAM_EXECUTOR = "liveStreamExecutor";
+    public static final String PASSWORD_HASH_EXECUTOR = "passwordHashExecutor";
+    public static final String PAYMENT_GATEWAY_EXECUTOR = "paymentGatewayExecutor";
+    public static final String PAYMENT_COMPLETION_EXECUTOR = "paymentCompletionExecutor";
+
+    @Autowired
+    private Environment environment;
+
+    private final AsyncExecutorMetrics metrics = new AsyncExecutorMetrics();
+
+    @Bean
+    public AsyncExecutorMetrics asyncExecutorMetrics() {
+        return metrics;
+    }
+
+    @Bean(name = ML_EXECUTOR)
+    public ThreadPoolTaskExecutor mlExecutor() {
+        return buildExecutor("ml", 4, 8, 100);
+    }
+
+    @Bean(name = NLP_EXECUTOR)
+    public ThreadPoolTaskExecutor nlpExecutor() {
+        return buildExecutor("nlp", 4, 8, 200);
+    }
+
+    @Bean(name = ANOMALY_EXECUTOR)
+    public ThreadPoolTaskExecutor anomalyExecutor() {
+        return buildExecutor("anomaly", 2, 4, 50);
+    }
+
+    @Bean(name = WORKFLOW_EXECUTOR)
+    public ThreadPoolTaskExecutor workflowExecutor() {
+        return buildExecutor("workflow", 2, 4, 100);
+    }
+
+    @Bean(name = LIVE_EVENT_EXECUTOR)
+    public ThreadPoolTaskExecutor liveEventExecutor() {
+        return buildExecutor("live-events", 4, 8, 500);
+    }
+
+    @Bean(name = LIVE_STREAM_EXECUTOR)
+    public ThreadPoolTaskExecutor liveStreamExecutor() {
+        return buildExecutor("live-stream", 8, 16, 10000);
+    }
+
+    @Bean(name = PASSWORD_HASH_EXECUTOR)
+    public ThreadPoolTaskExecutor passwordHashExecutor() {
+        int threads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        return buildExecutor("password-hash", threads, threads, threads * 4);
+    }
+
+    @Bean(name = PAYMENT_GATEWAY_EXECUTOR)
+    public ThreadPoolTaskExecutor paymentGatewayExecutor() {
+        return buildExecutor("payment-gateway", 16, 32, 64);
+    }
+
+    @Bean(name = PAYMENT_COMPLETION_EXECUTOR)
+    public ThreadPoolTaskExecutor paymentCompletionExecutor() {
+        return buildExecutor("payment-completion", 4, 8, 1000, "CALLER_RUNS");
+    }
+
+    /** Fallback for any @Async without an explicit pool name. */
+    @Override
+    public Executor getAsyncExecutor() {
+        return workflowExecutor();
+    }
+
+    @Override
+    public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
+        return (ex, method, params) ->
+                System.err.println("Async task " + method.getDeclaringClass().getSimpleName()
+                        + "." + method.getName() + " failed: " + ex.getMessage());
+    }
+
+    private ThreadPoolTaskExecutor buildExecutor(String pool, int defaultCore, int defaultMax, int defaultQueue) {
+        return buildExecutor(pool, defaultCore, defaultMax, defaultQueue, "ABORT");
+    }
+
+    private ThreadPoolTaskExecutor buildExecutor(String pool, int defaultCore, int defaultMax, int defaultQueue,
+                                                 String defaultPolicy) {
+        String prefix = "app.async." + pool + ".";
+        int coreSize = environment.getProperty(prefix + "core-size", Integer.class, defaultCore);
+        int maxSize = environment.getProperty(prefix + "max-size", Integer.class, defaultMax);
+        int queueCapacity = environment.getProperty(prefix + "queue-capacity", Integer.class, defaultQueue);
+        String policy = environment.getProperty(prefix + "rejection-policy", defaultPolicy);
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(pool + "-async-");
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(Math.max(coreSize, maxSize));
+        executor.setQueueCapacity(queueCapacity);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+
+        if (useVirtualThreads()) {
+            executor.setThreadFactory(VirtualThreads.threadFactory(pool + "-async-vt-"));
+        }
+
+        ExecutorStats stats = new ExecutorStats(pool, executor);
+        executor.setTaskDecorator(new ContextPropagatingTaskDecorator(stats));
+        executor.setRejectedExecutionHandler(countingHandler(stats, policy));
+        metrics.register(stats);
+        return executor;
+    }
+
+    private boolean useVirtualThreads() {
+        return ExecutionModeConfiguration.VIRTUAL.equalsIgnoreCase(
+                environment.getProperty(ExecutionModeConfiguration.MODE_PROPERTY, "platform"))
+                && VirtualThreads.isSupported();
+    }
+
+    private RejectedExecutionHandler countingHandler(ExecutorStats stats, String policy) {
+        RejectedExecutionHandler delegate = "CALLER_RUNS".equalsIgnoreCase(policy)
+                ? new ThreadPoolExecutor.CallerRunsPolicy()
+                : new ThreadPoolExecutor.AbortPolicy();
+        return (task, executor) -> {
+            stats.recordRejected();
+            delegate.rejectedExecution(task, executor);
+        };
+    }
+}
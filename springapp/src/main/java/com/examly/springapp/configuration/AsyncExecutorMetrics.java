@@ -0,0 +1,24 @@
+package com.examly.springapp.configuration;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of the named async pools so their stats can be reported from one place
+ * (see AIController /api/ai/executors).
+ */
+public class AsyncExecutorMetrics {
+
+    private final Map<String, ExecutorStats> pools = new ConcurrentHashMap<>();
+
+    public void register(ExecutorStats stats) {
+        pools.put(stats.getPoolName(), stats);
+    }
+
+    public Map<String, Object> snapshot() {
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        pools.values().forEach(stats -> snapshot.put(stats.getPoolName(), stats.snapshot()));
+        return snapshot;
+    }
+}
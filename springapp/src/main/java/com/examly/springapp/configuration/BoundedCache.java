@@ -0,0 +1,186 @@
+package com.examly.springapp.configuration;
+
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Size-bounded, least-recently-used Spring Cache with hit/miss/eviction counters.
+ *
+ * Backed by an access-ordered LinkedHashMap under a single lock: the caches here hold
+ * a few hundred reference rows and query results, so a lock costs far less than the
+ * MySQL round trip it replaces and keeps eviction exact.
+ *
+ * evict and clear called inside a transaction take effect after it commits: run any
+ * earlier and a concurrent read could load the pre-update row back into the cache
+ * before the write becomes visible. With a positive time-to-live every entry also
+ * expires that long after it was put, which bounds how long a value loaded by a
+ * read racing a write (or written on another node) can be served.
+ */
+public class BoundedCache extends AbstractValueAdaptingCache {
+
+    private final String name;
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final LinkedHashMap<Object, Entry> store;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder puts = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
+    public BoundedCache(String name, int maxEntries) {
+        this(name, maxEntries, 0);
+    }
+
+    /** @param ttlSeconds lifetime of an entry after it is put; 0 keeps entries until evicted */
+    public BoundedCache(String name, int maxEntries, long ttlSeconds) {
+        super(true);
+        this.name = name;
+        this.maxEntries = maxEntries;
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(Math.max(0, ttlSeconds));
+        this.store = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, Entry> eldest) {
+                if (size() > BoundedCache.this.maxEntries) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return store;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        Object value = null;
+        synchronized (store) {
+            Entry entry = store.get(key);
+            if (entry != null) {
+                if (entry.isExpired(System.nanoTime())) {
+                    store.remove(key);
+                    expirations.increment();
+                } else {
+                    value = entry.value;
+                }
+            }
+        }
+        if (value == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper cached = get(key);
+        if (cached != null) {
+            return (T) cached.get();
+        }
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        put(key, value);
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        synchronized (store) {
+            store.put(key, new Entry(toStoreValue(value), ttlNanos == 0 ? 0 : System.nanoTime() + ttlNanos));
+        }
+        puts.increment();
+    }
+
+    @Override
+    public void evict(Object key) {
+        afterCommit(() -> {
+            synchronized (store) {
+                store.remove(key);
+            }
+            invalidations.increment();
+        });
+    }
+
+    @Override
+    public void clear() {
+        afterCommit(() -> {
+            synchronized (store) {
+                store.clear();
+            }
+            invalidations.increment();
+        });
+    }
+
+    private static void afterCommit(Runnable invalidation) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidation.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidation.run();
+            }
+        });
+    }
+
+    public Map<String, Object> snapshot() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        Map<String, Object> stats = new HashMap<>();
+        synchronized (store) {
+            stats.put("size", store.size());
+        }
+        stats.put("maxEntries", maxEntries);
+        stats.put("ttlSeconds", TimeUnit.NANOSECONDS.toSeconds(ttlNanos));
+        stats.put("hits", hitCount);
+        stats.put("misses", missCount);
+        stats.put("hitRate", hitCount + missCount == 0 ? 0.0 : (double) hitCount / (hitCount + missCount));
+        stats.put("puts", puts.sum());
+        stats.put("evictions", evictions.sum());
+        stats.put("invalidations", invalidations.sum());
+        stats.put("expirations", expirations.sum());
+        return stats;
+    }
+
+    private static final class Entry {
+        final Object value;
+        // System.nanoTime() deadline, 0 when the cache has no time-to-live
+        final long expiresAt;
+
+        Entry(Object value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isExpired(long now) {
+            return expiresAt != 0 && now - expiresAt >= 0;
+        }
+    }
+}
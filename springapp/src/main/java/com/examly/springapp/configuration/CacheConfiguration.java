@@ -0,0 +1,89 @@
+package com.examly.springapp.configuration;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.support.AbstractCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * In-process caches for read-mostly reference data.
+ *
+ * Each entity has a by-id cache and a query cache (finder results keyed by finder
+ * name and arguments). The owning service evicts both on every save/delete.
+ * Inside a transaction the eviction runs after commit (see BoundedCache), so a concurrent read cannot reload the pre-update row
+ * into a cache that has already been cleared. Every entry also expires after a
+ * time-to-live, which bounds what a read racing the commit, or a write on another
+ * node, can leave behind. Both are configurable per cache:
+ *   app.cache.<cache-name>.max-entries
+ *   app.cache.<cache-name>.ttl-seconds   (default app.cache.ttl-seconds, 0 = none)
+ *
+ * GET /api/admin/caches reports hits, misses and evictions per cache.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfiguration {
+
+    public static final String TEAMS = "teams";
+    public static final String TEAM_QUERIES = "teamQueries";
+    public static final String VENUES = "venues";
+    public static final String VENUE_QUERIES = "venueQueries";
+    public static final String OFFICIALS = "officials";
+    public static final String OFFICIAL_QUERIES = "officialQueries";
+    public static final String TOURNAMENTS = "tournaments";
+    public static final String TOURNAMENT_QUERIES = "tournamentQueries";
+    // username -> UserPrincipal for requests whose token predates the identity claims
+    public static final String PRINCIPALS = "principals";
+
+    @Autowired
+    private Environment environment;
+
+    @Bean
+    public CacheManager cacheManager() {
+        List<BoundedCache> caches = new ArrayList<>();
+        caches.add(bounded(TEAMS, 1000));
+        caches.add(bounded(TEAM_QUERIES, 200));
+        caches.add(bounded(VENUES, 500));
+        caches.add(bounded(VENUE_QUERIES, 200));
+        caches.add(bounded(OFFICIALS, 1000));
+        caches.add(bounded(OFFICIAL_QUERIES, 200));
+        caches.add(bounded(TOURNAMENTS, 200));
+        caches.add(bounded(TOURNAMENT_QUERIES, 200));
+        caches.add(bounded(PRINCIPALS, 10000));
+
+        return new AbstractCacheManager() {
+            @Override
+            protected Collection<? extends Cache> loadCaches() {
+                return caches;
+            }
+        };
+    }
+
+    /** Per-cache statistics for the admin endpoint. */
+    public static Map<String, Object> snapshot(CacheManager cacheManager) {
+        Map<String, Object> stats = new TreeMap<>();
+        for (String name : cacheManager.getCacheNames()) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache instanceof BoundedCache) {
+                stats.put(name, ((BoundedCache) cache).snapshot());
+            }
+        }
+        return stats;
+    }
+
+    private BoundedCache bounded(String name, int defaultMaxEntries) {
+        int maxEntries = environment.getProperty("app.cache." + name + ".max-entries", Integer.class, defaultMaxEntries);
+        long ttlSeconds = environment.getProperty("app.cache." + name + ".ttl-seconds", Long.class,
+                environment.getProperty("app.cache.ttl-seconds", Long.class, 300L));
+        return new BoundedCache(name, Math.max(1, maxEntries), ttlSeconds);
+    }
+}
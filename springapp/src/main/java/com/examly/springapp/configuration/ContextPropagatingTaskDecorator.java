@@ -0,0 +1,57 @@
+package com.examly.springapp.configuration;
+
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Map;
+
+/**
+ * Carries the submitting thread's MDC and SecurityContext over to the worker
+ * thread, restores the worker's previous state afterwards, and records
+ * queue-wait / execution timings into the pool's {@link ExecutorStats}.
+ */
+public class ContextPropagatingTaskDecorator implements TaskDecorator {
+
+    private final ExecutorStats stats;
+
+    public ContextPropagatingTaskDecorator(ExecutorStats stats) {
+        this.stats = stats;
+    }
+
+    @Override
+    public Runnable decorate(Runnable task) {
+        Map<String, String> callerMdc = MDC.getCopyOfContextMap();
+        SecurityContext callerSecurity = SecurityContextHolder.getContext();
+        long submittedAt = System.nanoTime();
+        stats.recordSubmitted();
+
+        return () -> {
+            Map<String, String> previousMdc = MDC.getCopyOfContextMap();
+            SecurityContext previousSecurity = SecurityContextHolder.getContext();
+
+            setMdc(callerMdc);
+            SecurityContextHolder.setContext(callerSecurity);
+
+            long startedAt = System.nanoTime();
+            boolean success = false;
+            try {
+                task.run();
+                success = true;
+            } finally {
+                stats.recordExecution(startedAt - submittedAt, System.nanoTime() - startedAt, success);
+                setMdc(previousMdc);
+                SecurityContextHolder.setContext(previousSecurity);
+            }
+        };
+    }
+
+    private static void setMdc(Map<String, String> context) {
+        if (context == null) {
+            MDC.clear();
+        } else {
+            MDC.setContextMap(context);
+        }
+    }
+}
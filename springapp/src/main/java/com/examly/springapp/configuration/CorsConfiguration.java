@@ -1,5 +1,6 @@
 package com.examly.springapp.configuration;
 
+import com.examly.springapp.pagination.CursorPage;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
@@ -15,6 +16,8 @@ public class CorsConfiguration implements WebMvcConfigurer {
         .allowCredentials(true)
         .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS", "PATCH")
         .allowedHeaders("*")
+        .exposedHeaders(CursorPage.NEXT_CURSOR_HEADER, RateLimitFilter.LIMIT_HEADER, RateLimitFilter.REMAINING_HEADER,
+                RateLimitFilter.RESET_HEADER, RateLimitFilter.RETRY_AFTER_HEADER)
       //  .allowCredentials(true)
         .maxAge(3600);
 
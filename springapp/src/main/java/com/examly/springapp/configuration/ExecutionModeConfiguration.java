@@ -0,0 +1,38 @@
+package com.examly.springapp.configuration;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Switchable request execution mode.
+ *
+ *   app.execution.mode=platform   (default) Tomcat's bounded platform thread pool
+ *   app.execution.mode=virtual    one virtual thread per request, and virtual worker
+ *                                 threads for the @Async pools in AsyncConfiguration
+ *
+ * Virtual mode needs a JDK 21+ runtime; on older JVMs it logs a warning and keeps
+ * platform threads. In virtual mode concurrency is no longer capped by
+ * server.tomcat.threads.max, so the HikariCP pool (spring.datasource.hikari.*)
+ * becomes the real limit - keep its connection-timeout short so excess requests
+ * fail fast instead of parking indefinitely on getConnection().
+ */
+@Configuration
+public class ExecutionModeConfiguration {
+
+    public static final String MODE_PROPERTY = "app.execution.mode";
+    public static final String VIRTUAL = "virtual";
+
+    @Bean
+    @ConditionalOnProperty(name = MODE_PROPERTY, havingValue = VIRTUAL)
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        if (!VirtualThreads.isSupported()) {
+            System.err.println("app.execution.mode=virtual requested but this JVM has no virtual threads ("
+                    + Runtime.version() + "); keeping platform request threads");
+            return protocolHandler -> { };
+        }
+        System.out.println("Serving HTTP requests on virtual threads");
+        return protocolHandler -> protocolHandler.setExecutor(VirtualThreads.newThreadPerTaskExecutor());
+    }
+}
@@ -0,0 +1,80 @@
+package com.examly.springapp.configuration;
+
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-pool counters for the async executors declared in AsyncConfiguration.
+ * Updated by the task decorator (submitted/completed/failed/timing) and the
+ * rejection handler; read through {@link #snapshot()}.
+ */
+public class ExecutorStats {
+
+    private final String poolName;
+    private final ThreadPoolTaskExecutor executor;
+
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder totalExecutionNanos = new LongAdder();
+    private final LongAdder totalQueueWaitNanos = new LongAdder();
+    private final AtomicLong maxExecutionNanos = new AtomicLong();
+
+    public ExecutorStats(String poolName, ThreadPoolTaskExecutor executor) {
+        this.poolName = poolName;
+        this.executor = executor;
+    }
+
+    public String getPoolName() {
+        return poolName;
+    }
+
+    void recordSubmitted() {
+        submitted.increment();
+    }
+
+    void recordRejected() {
+        rejected.increment();
+    }
+
+    void recordExecution(long queueWaitNanos, long executionNanos, boolean success) {
+        totalQueueWaitNanos.add(queueWaitNanos);
+        totalExecutionNanos.add(executionNanos);
+        maxExecutionNanos.accumulateAndGet(executionNanos, Math::max);
+        if (success) {
+            completed.increment();
+        } else {
+            failed.increment();
+        }
+    }
+
+    public Map<String, Object> snapshot() {
+        Map<String, Object> stats = new HashMap<>();
+        long finished = completed.sum() + failed.sum();
+
+        stats.put("pool", poolName);
+        stats.put("submitted", submitted.sum());
+        stats.put("completed", completed.sum());
+        stats.put("failed", failed.sum());
+        stats.put("rejected", rejected.sum());
+        stats.put("avgExecutionMs", finished == 0 ? 0.0 : totalExecutionNanos.sum() / 1_000_000.0 / finished);
+        stats.put("avgQueueWaitMs", finished == 0 ? 0.0 : totalQueueWaitNanos.sum() / 1_000_000.0 / finished);
+        stats.put("maxExecutionMs", maxExecutionNanos.get() / 1_000_000.0);
+
+        stats.put("corePoolSize", executor.getCorePoolSize());
+        stats.put("maxPoolSize", executor.getMaxPoolSize());
+        stats.put("poolSize", executor.getPoolSize());
+        stats.put("activeThreads", executor.getActiveCount());
+
+        ThreadPoolExecutor pool = executor.getThreadPoolExecutor();
+        stats.put("queueDepth", pool.getQueue().size());
+        stats.put("queueRemainingCapacity", pool.getQueue().remainingCapacity());
+        return stats;
+    }
+}
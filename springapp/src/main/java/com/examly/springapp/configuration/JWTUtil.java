@@ -6,17 +6,24 @@ import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.Nullable;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
+import java.util.Base64;
 import java.util.Collection;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 /**
@@ -27,22 +34,48 @@ import java.util.stream.Collectors;
  *   app.jwt.secret=<at least 32 chars or base64-encoded 256-bit key>
  *   app.jwt.expiration=3600000
  *   app.jwt.issuer=SpringBootEmp
+ *   app.jwt.verified-cache.max-entries=10000
+ *
+ * Verification is done once per token: the parser is built once and shared (jjwt
+ * parsers are immutable and thread-safe), and verified tokens are kept in a bounded
+ * LRU cache keyed by the SHA-256 digest of the token, so raw tokens are never held
+ * as keys. An entry is only served until the token's own "exp"; after that it is
+ * dropped and the token goes back through the parser, which rejects it. The
+ * resource server's JwtDecoder (SecurityConfig) shares the same cache through
+ * decode(token, verifier).
  */
 @Component
 public class JWTUtil {
 
+    public static final String USER_ID_CLAIM = "uid";
+    public static final String ROLE_CLAIM = "role";
+    public static final String TEAM_CLAIM = "team";
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    });
+
     private final SecretKey secretKey;
     private final long expirationMs;
     private final String issuer;
+    private final JwtParser parser;
+    private final BoundedCache verifiedTokens;
 
     public JWTUtil(
             @Value("${app.jwt.secret:ThisIsADevOnlySecretChangeMeToAtLeast32Chars}") String secret,
             @Value("${app.jwt.expiration:3600000}") long expirationMs,
-            @Value("${app.jwt.issuer:SpringBootEmp}") String issuer
+            @Value("${app.jwt.issuer:SpringBootEmp}") String issuer,
+            @Value("${app.jwt.verified-cache.max-entries:10000}") int verifiedCacheEntries
     ) {
         this.secretKey = buildKey(secret);
         this.expirationMs = expirationMs;
         this.issuer = issuer;
+        this.parser = Jwts.parserBuilder().setSigningKey(secretKey).build();
+        this.verifiedTokens = new BoundedCache("verifiedTokens", verifiedCacheEntries);
     }
 
     private SecretKey buildKey(String secret) {
@@ -72,6 +105,16 @@ public class JWTUtil {
 
     /** Generate a JWT for the given principal and authorities. */
     public String generateToken(String username, @Nullable Collection<? extends GrantedAuthority> authorities) {
+        return generateToken(username, authorities, Map.of());
+    }
+
+    /**
+     * Generate a JWT that also carries identity claims (USER_ID_CLAIM, ROLE_CLAIM,
+     * TEAM_CLAIM), so request handlers can identify the caller without a lookup.
+     * Null claim values are left out.
+     */
+    public String generateToken(String username, @Nullable Collection<? extends GrantedAuthority> authorities,
+                                Map<String, Object> claims) {
         List<String> roles = authorities == null
                 ? List.of()
                 : authorities.stream()
@@ -81,23 +124,36 @@ public class JWTUtil {
                     .collect(Collectors.toList());
 
         Instant now = Instant.now();
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
                 .setSubject(username)
+                .setId(UUID.randomUUID().toString()) // jti: what TokenRevocationService revokes
                 .claim("roles", roles) // SecurityConfig maps this claim to GrantedAuthorities
                 .setIssuer(issuer)
                 .setIssuedAt(Date.from(now))
-                .setExpiration(Date.from(now.plusMillis(expirationMs)))
-                .signWith(secretKey, SignatureAlgorithm.HS256)
-                .compact();
+                .setExpiration(Date.from(now.plusMillis(expirationMs)));
+        claims.forEach((name, value) -> {
+            if (value != null) {
+                builder.claim(name, value);
+            }
+        });
+        return builder.signWith(secretKey, SignatureAlgorithm.HS256).compact();
     }
 
     public String extractUsername(String token) {
-        return parse(token).getBody().getSubject();
+        return verifiedClaims(token).getSubject();
+    }
+
+    public String extractTokenId(String token) {
+        return verifiedClaims(token).getId();
+    }
+
+    public Instant extractExpiration(String token) {
+        return verifiedClaims(token).getExpiration().toInstant();
     }
 
     @SuppressWarnings("unchecked")
     public List<String> extractRoles(String token) {
-        Object claim = parse(token).getBody().get("roles");
+        Object claim = verifiedClaims(token).get("roles");
         if (claim instanceof Collection<?> c) {
             return c.stream().map(String::valueOf).collect(Collectors.toList());
         }
@@ -113,15 +169,92 @@ public class JWTUtil {
     }
 
     public boolean isExpired(String token) {
-        Date exp = parse(token).getBody().getExpiration();
+        Date exp = verifiedClaims(token).getExpiration();
         return exp.before(new Date());
     }
 
-    private Jws<Claims> parse(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token);
+    /** Key used to sign tokens; the resource server verifies with the same key. */
+    public SecretKey getSigningKey() {
+        return secretKey;
+    }
+
+    /**
+     * Resource server path: returns the cached Spring Jwt for this token, or verifies
+     * it with the given decoder (e.g. NimbusJwtDecoder) and caches the result.
+     */
+    public Jwt decode(String token, JwtDecoder verifier) {
+        String key = digest(token);
+        VerifiedToken cached = lookup(key);
+        if (cached != null && cached.jwt != null) {
+            return cached.jwt;
+        }
+        Jwt jwt = verifier.decode(token);
+        Instant exp = jwt.getExpiresAt();
+        if (exp != null) {
+            VerifiedToken entry = cached != null ? cached : new VerifiedToken(exp.toEpochMilli());
+            entry.jwt = jwt;
+            if (cached == null) {
+                verifiedTokens.put(key, entry);
+            }
+        }
+        return jwt;
+    }
+
+    public Map<String, Object> getVerifiedTokenStats() {
+        return verifiedTokens.snapshot();
+    }
+
+    private Claims verifiedClaims(String token) {
+        String key = digest(token);
+        VerifiedToken cached = lookup(key);
+        if (cached != null && cached.claims != null) {
+            return cached.claims;
+        }
+        Claims claims = parser.parseClaimsJws(token).getBody();
+        Date exp = claims.getExpiration();
+        if (exp != null) {
+            VerifiedToken entry = cached != null ? cached : new VerifiedToken(exp.getTime());
+            entry.claims = claims;
+            if (cached == null) {
+                verifiedTokens.put(key, entry);
+            }
+        }
+        return claims;
+    }
+
+    private VerifiedToken lookup(String key) {
+        Cache.ValueWrapper wrapper = verifiedTokens.get(key);
+        if (wrapper == null) {
+            return null;
+        }
+        VerifiedToken entry = (VerifiedToken) wrapper.get();
+        if (entry.expiresAtMs <= System.currentTimeMillis()) {
+            verifiedTokens.evict(key);
+            return null;
+        }
+        return entry;
+    }
+
+    private static String digest(String token) {
+        if (token == null) {
+            throw new IllegalArgumentException("JWT token must not be null");
+        }
+        byte[] hash = SHA_256.get().digest(token.getBytes(StandardCharsets.UTF_8));
+        return Base64.getEncoder().encodeToString(hash);
+    }
+
+    /**
+     * A token that passed signature verification, in whichever forms have been needed
+     * so far: jjwt Claims for JWTUtil's helpers, Spring's Jwt for the resource server.
+     */
+    private static final class VerifiedToken {
+        final long expiresAtMs;
+        volatile Claims claims;
+        volatile Jwt jwt;
+
+        VerifiedToken(long expiresAtMs) {
+            this.expiresAtMs = expiresAtMs;
+        }
     }
 }
 // ...existing code...
\ No newline at end of file
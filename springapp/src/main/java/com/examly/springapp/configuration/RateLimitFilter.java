@@ -0,0 +1,91 @@
+package com.examly.springapp.configuration;
+
+import com.examly.springapp.service.security.RateLimiter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Applies RateLimiter quotas in the security chain, after bearer authentication so
+ * signed-in callers are limited by JWT subject and anonymous ones by client IP.
+ *
+ * Behind reverse proxies, set the number of them (app.rate-limit.trusted-proxies) and the
+ * client IP is taken from X-Forwarded-For that many entries from the right: those were
+ * appended by the proxies, while anything further left is whatever the client sent.
+ *
+ * Every limited response carries RateLimit-Limit / RateLimit-Remaining / RateLimit-Reset
+ * (seconds until the bucket is full again); rejections are 429 with Retry-After.
+ * Not a @Component: SecurityConfig adds it to the chain, so the servlet container
+ * must not register it a second time.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    public static final String LIMIT_HEADER = "RateLimit-Limit";
+    public static final String REMAINING_HEADER = "RateLimit-Remaining";
+    public static final String RESET_HEADER = "RateLimit-Reset";
+    public static final String RETRY_AFTER_HEADER = "Retry-After";
+
+    /** Exposed through CORS so the browser app can read them. */
+    public static final List<String> HEADERS = List.of(LIMIT_HEADER, REMAINING_HEADER, RESET_HEADER, RETRY_AFTER_HEADER);
+
+    private final RateLimiter rateLimiter;
+    private final int trustedProxies;
+
+    public RateLimitFilter(RateLimiter rateLimiter, int trustedProxies) {
+        this.rateLimiter = rateLimiter;
+        this.trustedProxies = Math.max(0, trustedProxies);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        RateLimiter.Decision decision = rateLimiter.tryAcquire(request.getMethod(), path, subject(), clientIp(request));
+        if (decision == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        response.setHeader(LIMIT_HEADER, Integer.toString(decision.getLimit()));
+        response.setHeader(REMAINING_HEADER, Long.toString(decision.getRemaining()));
+        response.setHeader(RESET_HEADER, Long.toString(decision.getResetSeconds()));
+        if (!decision.isAllowed()) {
+            response.setStatus(429);
+            response.setHeader(RETRY_AFTER_HEADER, Long.toString(decision.getRetryAfterSeconds()));
+            response.setContentType("application/json");
+            response.getWriter().write("{\"error\": \"Too many requests, please retry later\"}");
+            return;
+        }
+        chain.doFilter(request, response);
+    }
+
+    private static String subject() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication instanceof JwtAuthenticationToken ? authentication.getName() : null;
+    }
+
+    String clientIp(HttpServletRequest request) {
+        // Only behind proxies that append to it; otherwise any client could pick its own key
+        if (trustedProxies > 0) {
+            String forwarded = request.getHeader("X-Forwarded-For");
+            if (forwarded != null && !forwarded.isBlank()) {
+                String[] hops = forwarded.split(",");
+                // The outermost trusted proxy appended the address it saw; fewer hops than
+                // proxies means every entry came from a trusted proxy, so take the first
+                String hop = hops[Math.max(0, hops.length - trustedProxies)].trim();
+                if (!hop.isEmpty()) {
+                    return hop;
+                }
+            }
+        }
+        return request.getRemoteAddr();
+    }
+}
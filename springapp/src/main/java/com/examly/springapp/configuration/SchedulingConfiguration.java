@@ -0,0 +1,18 @@
+package com.examly.springapp.configuration;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Turns on @Scheduled methods. They run on Spring Boot's task scheduler, sized by
+ * spring.task.scheduling.pool.size; keep them short and hand real work to the
+ * AsyncConfiguration pools:
+ *  - LiveScoreBroadcaster.sendHeartbeats (app.live-stream.heartbeat-seconds)
+ *  - AnomalyDetectionService, AutomatedWorkflowManagementService,
+ *    AutomatedTournamentProcessingService monitoring jobs
+ *  - MaintainabilityService health checks and nightly cleanup
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfiguration {
+}
@@ -1,7 +1,8 @@
 package com.examly.springapp.configuration;
 
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
+import com.examly.springapp.pagination.CursorPage;
+import com.examly.springapp.service.security.RateLimiter;
+import com.examly.springapp.service.security.TokenRevocationService;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -15,23 +16,25 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.BadJwtException;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
 import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
+import org.springframework.security.oauth2.server.resource.web.authentication.BearerTokenAuthenticationFilter;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.http.HttpMethod;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletResponse;
 
 
 
-import javax.crypto.SecretKey;
-import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -41,6 +44,7 @@ import java.util.List;
  *  - JwtDecoder based on HS256 secret
  *  - JwtAuthenticationConverter mapping "roles" claim -> GrantedAuthorities
  *  - Basic CORS for localhost dev
+ *  - Per-route token-bucket rate limiting (RateLimitFilter, app.rate-limit.*)
  */
 @Configuration
 @EnableWebSecurity
@@ -48,16 +52,18 @@ import java.util.List;
 //@Profile("!test") // <-- active in prod/dev, NOT in tests
 public class SecurityConfig {
 
-    @Value("${app.jwt.secret:ThisIsADevOnlySecretChangeMeToAtLeast32Chars}")
-    private String jwtSecret;
-
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(
+            HttpSecurity http,
+            RateLimiter rateLimiter,
+            @Value("${app.rate-limit.trusted-proxies:0}") int trustedProxies) throws Exception {
         http
             .csrf(csrf -> csrf.disable())
             .cors(Customizer.withDefaults())
             .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(auth -> auth
+                // Async (CompletableFuture) responses re-dispatch after the original request was authorized
+                .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
                 .requestMatchers(
                     "/api/auth/**",
                     "/actuator/health",
@@ -66,6 +72,10 @@ public class SecurityConfig {
                     "/swagger-ui.html"
                 ).permitAll()
 
+                // Operational stats under the public match paths
+                .requestMatchers(HttpMethod.GET, "/api/matches/events/ingestion", "/api/matches/stream/stats")
+        .hasAnyRole("TOURNAMENT_DIRECTOR", "FIFA_ADMIN")
+
                 .requestMatchers(HttpMethod.GET, "/api/tournaments/**", "/api/matches/**")
         .permitAll() // Everyone can view tournament info & schedules
 
@@ -123,15 +133,35 @@ public class SecurityConfig {
     .requestMatchers("/api/audit/view")
         .hasAnyRole("FIFA_ADMIN", "TOURNAMENT_DIRECTOR") // limited audit visibility
 
+    .requestMatchers("/api/admin/**")
+        .hasRole("FIFA_ADMIN") // permissions, sessions, waiting rooms, stats
+
+    .requestMatchers(HttpMethod.POST, "/api/security/authorize/batch")
+        .hasAnyRole("FIFA_ADMIN", "TOURNAMENT_DIRECTOR") // exposes the permission matrix
+
     // ------------------------
     // 🔹 Payments and tickets
     // ------------------------
+    .requestMatchers(HttpMethod.POST, "/api/payments/capture/**")
+        .hasRole("FIFA_ADMIN") // confirms tickets; callers must not capture their own payments
     .requestMatchers("/api/payments/**")
         .hasAnyRole("GUEST", "PLAYER", "TEAM_MANAGER", "FIFA_ADMIN")
     .requestMatchers(HttpMethod.POST, "/api/tickets/**")
         .hasRole("GUEST")
     .requestMatchers(HttpMethod.GET, "/api/tickets/my")
         .hasAnyRole("GUEST")
+    .requestMatchers(HttpMethod.DELETE, "/api/tickets/**")
+        .hasRole("GUEST")
+    .requestMatchers(HttpMethod.GET, "/api/tickets/availability/**")
+        .permitAll()
+    .requestMatchers(HttpMethod.GET, "/api/waiting-room/*/status")
+        .permitAll() // the signed position token is the credential
+    .requestMatchers(HttpMethod.GET, "/api/tickets/*/credential")
+        .hasRole("GUEST")
+    .requestMatchers(HttpMethod.GET, "/api/gates/public-key")
+        .permitAll()
+    .requestMatchers("/api/gates/**")
+        .hasAnyRole("MATCH_OFFICIAL", "TOURNAMENT_DIRECTOR", "FIFA_ADMIN") // stadium gate staff
 
     // ------------------------
     // 🔹 Default rule
@@ -154,28 +184,32 @@ public class SecurityConfig {
 )
             .oauth2ResourceServer(oauth2 -> oauth2
                 .jwt(jwt -> jwt.jwtAuthenticationConverter(jwtAuthenticationConverter()))
-            );
+            )
+            // Admission control before any controller or DB work; keyed by JWT subject or IP
+            .addFilterAfter(new RateLimitFilter(rateLimiter, trustedProxies), BearerTokenAuthenticationFilter.class);
 
         return http.build();
     }
 
-    /** Use the same HS256 key for verifying JWTs as used by JWTUtil to sign them. */
+    /**
+     * Use the same HS256 key for verifying JWTs as used by JWTUtil to sign them.
+     * Verified tokens are cached in JWTUtil, so a client reusing its token is only
+     * signature-checked once until the token expires. Revocation is checked on every
+     * request, after the cache, against TokenRevocationService's in-memory index.
+     */
     @Bean
-    public JwtDecoder jwtDecoder() {
-        SecretKey key = secretKeyFrom(jwtSecret);
-        return NimbusJwtDecoder
-                .withSecretKey(key)
+    public JwtDecoder jwtDecoder(JWTUtil jwtUtil, TokenRevocationService tokenRevocationService) {
+        NimbusJwtDecoder nimbus = NimbusJwtDecoder
+                .withSecretKey(jwtUtil.getSigningKey())
                 .macAlgorithm(MacAlgorithm.HS256)
                 .build();
-    }
-
-    private SecretKey secretKeyFrom(String secret) {
-        try {
-            // Prefer Base64 if provided
-            return Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
-        } catch (IllegalArgumentException ignored) {
-            return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
-        }
+        return token -> {
+            Jwt jwt = jwtUtil.decode(token, nimbus);
+            if (tokenRevocationService.isRevoked(jwt.getId())) {
+                throw new BadJwtException("Token has been revoked");
+            }
+            return jwt;
+        };
     }
 
     /**
@@ -193,10 +227,13 @@ public class SecurityConfig {
         return converter;
     }
 
-    /** Password encoder for any form/login flows (useful for issuing tokens). */
+    /**
+     * Password encoder for any form/login flows (useful for issuing tokens).
+     * Raising app.security.bcrypt.strength upgrades stored hashes as users log in.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${app.security.bcrypt.strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 
     /** Simple permissive CORS for local dev; tighten for production. */
@@ -209,6 +246,10 @@ public class SecurityConfig {
         ));
         cfg.setAllowedMethods(List.of("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
         cfg.setAllowedHeaders(List.of("*")); // allow all headers for simplicity
+        // Response headers the browser app must be able to read
+        List<String> exposed = new ArrayList<>(RateLimitFilter.HEADERS);
+        exposed.add(CursorPage.NEXT_CURSOR_HEADER);
+        cfg.setExposedHeaders(exposed);
         cfg.setAllowCredentials(true);
     
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
@@ -0,0 +1,42 @@
+package com.examly.springapp.configuration;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread.
+ *
+ * Off by default; with app.sql.statement-count.enabled=true the inspector is handed to
+ * the session factory, and tests can reset() before a request and read count() after
+ * it to pin how many queries an endpoint costs (an N+1 shows up as a count that grows
+ * with the number of rows).
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.sql.statement-count.enabled", havingValue = "true")
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<int[]> COUNT = ThreadLocal.withInitial(() -> new int[1]);
+
+    public static void reset() {
+        COUNT.get()[0] = 0;
+    }
+
+    public static int count() {
+        return COUNT.get()[0];
+    }
+
+    @Override
+    public String inspect(String sql) {
+        COUNT.get()[0]++;
+        return sql;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer statementCountingCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, this);
+    }
+}
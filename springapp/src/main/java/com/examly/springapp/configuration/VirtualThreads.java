@@ -0,0 +1,54 @@
+package com.examly.springapp.configuration;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Reflective access to JDK virtual threads.
+ *
+ * The project compiles for Java 17, where virtual threads do not exist, so the
+ * API is looked up at runtime. On a JDK 21+ runtime {@link #isSupported()} is
+ * true and the factories below hand out virtual threads; otherwise callers fall
+ * back to platform threads.
+ */
+public final class VirtualThreads {
+
+    private VirtualThreads() {}
+
+    public static boolean isSupported() {
+        try {
+            Thread.class.getMethod("ofVirtual");
+            Class<?> executors = Class.forName("java.util.concurrent.Executors");
+            executors.getMethod("newVirtualThreadPerTaskExecutor");
+            // On JDK 19/20 the API exists but throws unless --enable-preview is set
+            threadFactory("probe-");
+            return true;
+        } catch (Exception | LinkageError e) {
+            return false;
+        }
+    }
+
+    /** Executor that starts a new virtual thread per task (Tomcat request handling). */
+    public static ExecutorService newThreadPerTaskExecutor() {
+        try {
+            Method factory = Class.forName("java.util.concurrent.Executors")
+                    .getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Virtual threads are not available on this JVM", e);
+        }
+    }
+
+    /** ThreadFactory producing virtual threads named prefix0, prefix1, ... */
+    public static ThreadFactory threadFactory(String namePrefix) {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, namePrefix, 0L);
+            return (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Virtual threads are not available on this JVM", e);
+        }
+    }
+}
@@ -1,9 +1,26 @@
 package com.examly.springapp.controller;
 
+import com.examly.springapp.configuration.CacheConfiguration;
+import com.examly.springapp.configuration.JWTUtil;
 import com.examly.springapp.service.AdminService;
+import com.examly.springapp.service.UserUniquenessIndex;
+import com.examly.springapp.service.audit.AuditPartitionManager;
+import com.examly.springapp.service.audit.AuditTrailService;
+import com.examly.springapp.service.idempotency.IdempotencyService;
+import com.examly.springapp.service.inventory.SeatInventoryService;
+import com.examly.springapp.service.payment.PaymentGatewayClient;
+import com.examly.springapp.service.waitingroom.WaitingRoomService;
+import com.examly.springapp.service.security.FieldEncryptionEngine;
+import com.examly.springapp.service.security.PasswordHashingService;
+import com.examly.springapp.service.security.PermissionMatrix;
+import com.examly.springapp.service.security.RateLimiter;
+import com.examly.springapp.service.security.TokenRevocationService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import java.time.LocalDateTime;
 import java.util.Map;
 
 @RestController
@@ -14,6 +31,48 @@ public class AdminController {
     @Autowired
     private AdminService adminService;
 
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private JWTUtil jwtUtil;
+
+    @Autowired
+    private PasswordHashingService passwordHashingService;
+
+    @Autowired
+    private AuditTrailService auditTrailService;
+
+    @Autowired
+    private AuditPartitionManager auditPartitionManager;
+
+    @Autowired
+    private RateLimiter rateLimiter;
+
+    @Autowired
+    private PermissionMatrix permissionMatrix;
+
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
+    @Autowired
+    private UserUniquenessIndex userUniquenessIndex;
+
+    @Autowired
+    private SeatInventoryService seatInventoryService;
+
+    @Autowired
+    private WaitingRoomService waitingRoomService;
+
+    @Autowired
+    private PaymentGatewayClient paymentGatewayClient;
+
+    @Autowired
+    private IdempotencyService idempotencyService;
+
+    @Autowired
+    private FieldEncryptionEngine fieldEncryptionEngine;
+
     @GetMapping("/analytics")
     public ResponseEntity<Map<String, Object>> getSystemAnalytics() {
         Map<String, Object> analytics = adminService.getSystemAnalytics();
@@ -26,14 +85,144 @@ public class AdminController {
         return ResponseEntity.ok(reports);
     }
 
+    // Optional ISO from/to narrow the scan to the matching monthly partitions
     @GetMapping("/audit-logs")
     public ResponseEntity<Map<String, Object>> getAuditLogs(
-            @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size) {
-        Map<String, Object> auditLogs = adminService.getAuditLogs(page, size);
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        Map<String, Object> auditLogs = adminService.getAuditLogs(cursor, size, from, to);
         return ResponseEntity.ok(auditLogs);
     }
 
+    // Reference data and verified-token caches: size, hits, misses, evictions
+    @GetMapping("/caches")
+    public ResponseEntity<Map<String, Object>> getCacheStatistics() {
+        Map<String, Object> stats = CacheConfiguration.snapshot(cacheManager);
+        stats.put("verifiedTokens", jwtUtil.getVerifiedTokenStats());
+        return ResponseEntity.ok(stats);
+    }
+
+    // BCrypt pool: queue wait vs hashing time, rejections, rehashes on login
+    @GetMapping("/password-hashing")
+    public ResponseEntity<Map<String, Object>> getPasswordHashingStatistics() {
+        return ResponseEntity.ok(passwordHashingService.getStats());
+    }
+
+    // Write-behind audit buffer: buffered, written, dropped per overflow policy
+    @GetMapping("/audit-pipeline")
+    public ResponseEntity<Map<String, Object>> getAuditPipelineStatistics() {
+        return ResponseEntity.ok(auditTrailService.getPipelineStats());
+    }
+
+    // Monthly audit_logs partitions with estimated row counts, and retention activity
+    @GetMapping("/audit-partitions")
+    public ResponseEntity<Map<String, Object>> getAuditPartitionStatistics() {
+        return ResponseEntity.ok(auditPartitionManager.getPartitionStats());
+    }
+
+    // Rate limiter: allowed/rejected per route and tracked callers
+    @GetMapping("/rate-limits")
+    public ResponseEntity<Map<String, Object>> getRateLimitStatistics() {
+        return ResponseEntity.ok(rateLimiter.getStats());
+    }
+
+    // Compiled permission matrix: grants per role, replace some roles, or re-read configuration
+    @GetMapping("/permissions")
+    public ResponseEntity<Map<String, Object>> getPermissions() {
+        return ResponseEntity.ok(permissionMatrix.snapshot());
+    }
+
+    @PutMapping("/permissions")
+    public ResponseEntity<Map<String, Object>> updatePermissions(@RequestBody Map<String, String> roleGrants) {
+        try {
+            permissionMatrix.update(roleGrants);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Invalid role, operation or resource: " + e.getMessage()));
+        }
+        return ResponseEntity.ok(permissionMatrix.snapshot());
+    }
+
+    @PostMapping("/permissions/reload")
+    public ResponseEntity<Map<String, Object>> reloadPermissions() {
+        permissionMatrix.reload();
+        return ResponseEntity.ok(permissionMatrix.snapshot());
+    }
+
+    // Waiting rooms: open (or re-rate) a match's on-sale queue, close it, list them
+    @PostMapping("/waiting-rooms/{matchId}")
+    public ResponseEntity<Map<String, Object>> openWaitingRoom(@PathVariable Long matchId,
+                                                               @RequestParam(required = false) Double admitPerSecond) {
+        if (admitPerSecond != null && !waitingRoomService.isValidRate(admitPerSecond)) {
+            return ResponseEntity.badRequest().body(Map.of("error",
+                    "admitPerSecond must be above 0 and at most " + waitingRoomService.getMaxAdmitPerSecond()));
+        }
+        return ResponseEntity.ok(waitingRoomService.open(matchId, admitPerSecond));
+    }
+
+    @DeleteMapping("/waiting-rooms/{matchId}")
+    public ResponseEntity<Map<String, Object>> closeWaitingRoom(@PathVariable Long matchId) {
+        if (!waitingRoomService.close(matchId)) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(Map.of("matchId", matchId, "open", false));
+    }
+
+    @GetMapping("/waiting-rooms")
+    public ResponseEntity<Map<String, Object>> getWaitingRooms() {
+        return ResponseEntity.ok(waitingRoomService.getStats());
+    }
+
+    // Seat inventory: open holds, confirmations, expiries and journal group-commit stats
+    @GetMapping("/inventory")
+    public ResponseEntity<Map<String, Object>> getInventoryStatistics() {
+        return ResponseEntity.ok(seatInventoryService.getStats());
+    }
+
+    // Payment gateway circuit breaker state, timeouts and bulkhead usage
+    @GetMapping("/payment-gateway")
+    public ResponseEntity<Map<String, Object>> getPaymentGatewayStats() {
+        return ResponseEntity.ok(paymentGatewayClient.getStats());
+    }
+
+    // Idempotency keys: executions vs replays, in-flight waits, table purges
+    @GetMapping("/idempotency")
+    public ResponseEntity<Map<String, Object>> getIdempotencyStats() {
+        return ResponseEntity.ok(idempotencyService.getStats());
+    }
+
+    // Column encryption: values encrypted/decrypted, failures, plaintext rows still to re-encrypt
+    @GetMapping("/field-encryption")
+    public ResponseEntity<Map<String, Object>> getFieldEncryptionStats() {
+        return ResponseEntity.ok(fieldEncryptionEngine.getStats());
+    }
+
+    // Registration uniqueness filters: how many checks needed a query
+    @GetMapping("/registration-index")
+    public ResponseEntity<Map<String, Object>> getRegistrationIndexStatistics() {
+        return ResponseEntity.ok(userUniquenessIndex.getStats());
+    }
+
+    // Token revocation: index stats, kill one session, or every session of a user
+    @GetMapping("/revocations")
+    public ResponseEntity<Map<String, Object>> getRevocationStatistics() {
+        return ResponseEntity.ok(tokenRevocationService.getStats());
+    }
+
+    @DeleteMapping("/sessions/{sessionId}")
+    public ResponseEntity<Map<String, Object>> revokeSession(@PathVariable Long sessionId) {
+        if (!tokenRevocationService.revokeSession(sessionId)) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(Map.of("revoked", 1));
+    }
+
+    @PostMapping("/users/{userId}/sessions/revoke")
+    public ResponseEntity<Map<String, Object>> revokeUserSessions(@PathVariable Long userId) {
+        return ResponseEntity.ok(Map.of("revoked", tokenRevocationService.revokeAllForUser(userId)));
+    }
+
     @PostMapping("/notifications")
     public ResponseEntity<Void> sendSystemNotification(@RequestBody Map<String, Object> notificationData) {
         String message = (String) notificationData.get("message");
@@ -1,10 +1,14 @@
 package com.examly.springapp.controller;
 
+import com.examly.springapp.exception.PasswordHashingBusyException;
 import com.examly.springapp.model.User;
 import com.examly.springapp.model.UserRole;
 import com.examly.springapp.service.AuthService;
+import com.examly.springapp.service.security.TokenRevocationService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.validation.Valid;
@@ -20,6 +24,9 @@ public class AuthController {
     @Autowired
     private AuthService authService;
 
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
     @PostMapping("/login")
     public ResponseEntity<Map<String, Object>> login(@RequestBody LoginRequest loginRequest) {
         try {
@@ -32,6 +39,8 @@ public class AuthController {
             response.put("message", "Login successful");
             
             return ResponseEntity.ok(response);
+        } catch (PasswordHashingBusyException e) {
+            throw e; // 429 from GlobalExceptionHandler
         } catch (Exception e) {
             Map<String, Object> errorResponse = new HashMap<>();
             errorResponse.put("error", "Invalid credentials");
@@ -62,6 +71,8 @@ public class AuthController {
             response.put("message", "Registration successful");
             
             return ResponseEntity.ok(response);
+        } catch (PasswordHashingBusyException e) {
+            throw e; // 429 from GlobalExceptionHandler
         } catch (Exception e) {
             Map<String, Object> errorResponse = new HashMap<>();
             errorResponse.put("error", "Registration failed");
@@ -70,12 +81,24 @@ public class AuthController {
         }
     }
         // ✅ Password update endpoint
+    // Revokes the presented token; it is rejected from now on, on every instance within the refresh interval
+    @PostMapping("/logout")
+    public ResponseEntity<Map<String, Object>> logout(@AuthenticationPrincipal Jwt jwt) {
+        if (jwt == null || jwt.getId() == null || jwt.getExpiresAt() == null) {
+            return ResponseEntity.badRequest().body(Map.of("error", "A bearer token is required"));
+        }
+        tokenRevocationService.revoke(jwt.getId(), jwt.getExpiresAt());
+        return ResponseEntity.ok(Map.of("message", "Logged out"));
+    }
+
     @PutMapping("/password")
     public ResponseEntity<?> updatePassword(@RequestParam String username,
                                             @RequestParam String newPassword) {
         try {
             authService.updatePassword(username, newPassword);
             return ResponseEntity.ok("Password updated successfully");
+        } catch (PasswordHashingBusyException e) {
+            throw e; // 429 from GlobalExceptionHandler
         } catch (RuntimeException ex) {
             return ResponseEntity.badRequest().body(ex.getMessage());
         }
@@ -0,0 +1,52 @@
+package com.examly.springapp.controller;
+
+import com.examly.springapp.service.gate.GateScanService;
+import com.examly.springapp.service.gate.TicketCredentialService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/gates")
+public class GateController {
+
+    // Upper bound for one offline upload, so a single request cannot hold a gate thread for long
+    private static final int MAX_BATCH = 10_000;
+
+    @Autowired
+    private GateScanService gateScanService;
+
+    @Autowired
+    private TicketCredentialService ticketCredentialService;
+
+    // For gate devices that validate signatures offline
+    @GetMapping("/public-key")
+    public ResponseEntity<Map<String, Object>> publicKey() {
+        return ResponseEntity.ok(Map.of(
+                "algorithm", TicketCredentialService.ALGORITHM,
+                "publicKey", ticketCredentialService.publicKey()));
+    }
+
+    @PostMapping("/{matchId}/scan")
+    public ResponseEntity<Map<String, Object>> scan(@PathVariable Long matchId, @RequestBody Map<String, String> payload) {
+        return ResponseEntity.ok(gateScanService.scan(matchId, payload.get("credential")));
+    }
+
+    // Offline gates upload what they scanned; duplicates across gates are reported per credential
+    @PostMapping("/{matchId}/scans")
+    public ResponseEntity<Map<String, Object>> scanAll(@PathVariable Long matchId, @RequestBody Map<String, List<String>> payload) {
+        List<String> credentials = payload.getOrDefault("credentials", List.of());
+        if (credentials.size() > MAX_BATCH) {
+            return ResponseEntity.badRequest().body(Map.of("error", "At most " + MAX_BATCH + " credentials per upload"));
+        }
+        return ResponseEntity.ok(Map.of("results", gateScanService.scanAll(matchId, credentials)));
+    }
+
+    @GetMapping("/{matchId}/stats")
+    public ResponseEntity<Map<String, Object>> stats(@PathVariable Long matchId) {
+        return ResponseEntity.ok(gateScanService.getStats(matchId));
+    }
+}
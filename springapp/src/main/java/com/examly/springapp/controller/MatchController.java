@@ -1,11 +1,17 @@
 package com.examly.springapp.controller;
 
+import com.examly.springapp.dto.MatchView;
 import com.examly.springapp.model.Match;
 import com.examly.springapp.model.MatchStatus;
 import com.examly.springapp.service.MatchService;
+import com.examly.springapp.service.live.LiveScoreBroadcaster;
+import com.examly.springapp.service.live.MatchEventIngestionService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import jakarta.validation.Valid;
 import java.util.List;
 import java.util.Map;
@@ -19,6 +25,12 @@ public class MatchController {
     @Autowired
     private MatchService matchService;
 
+    @Autowired
+    private MatchEventIngestionService matchEventIngestionService;
+
+    @Autowired
+    private LiveScoreBroadcaster liveScoreBroadcaster;
+
     @PostMapping
     public ResponseEntity<Match> scheduleMatch(@Valid @RequestBody Match match) {
         Match savedMatch = matchService.saveMatch(match);
@@ -26,7 +38,7 @@ public class MatchController {
     }
 
     @GetMapping
-    public ResponseEntity<List<Match>> getAllMatches() {
+    public ResponseEntity<List<MatchView>> getAllMatches() {
         return ResponseEntity.ok(matchService.getAllMatches());
     }
 
@@ -38,23 +50,52 @@ public class MatchController {
     }
 
     @GetMapping("/status/{status}")
-    public ResponseEntity<List<Match>> getMatchesByStatus(@PathVariable MatchStatus status) {
+    public ResponseEntity<List<MatchView>> getMatchesByStatus(@PathVariable MatchStatus status) {
         return ResponseEntity.ok(matchService.getMatchesByStatus(status));
     }
 
     @GetMapping("/upcoming")
-    public ResponseEntity<List<Match>> getUpcomingMatches() {
+    public ResponseEntity<List<MatchView>> getUpcomingMatches() {
         return ResponseEntity.ok(matchService.getUpcomingMatches());
     }
 
     @GetMapping("/live")
-    public ResponseEntity<List<Match>> getLiveMatches() {
+    public ResponseEntity<List<MatchView>> getLiveMatches() {
         return ResponseEntity.ok(matchService.getLiveMatches());
     }
 
     @GetMapping("/past")
-    public ResponseEntity<List<Match>> getPastMatches() {
-        return ResponseEntity.ok(matchService.getPastMatches());
+    public ResponseEntity<List<MatchView>> getPastMatches(@RequestParam(required = false) String cursor,
+                                                      @RequestParam(required = false) Integer size) {
+        return matchService.getPastMatches(cursor, size).toResponse();
+    }
+
+    // Live feed: events are buffered and persisted in order, asynchronously (202)
+    @PostMapping("/{id}/events")
+    public ResponseEntity<Map<String, Object>> ingestMatchEvents(@PathVariable Long id,
+                                                                 @RequestBody List<Map<String, Object>> events) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(matchEventIngestionService.ingest(id, events));
+    }
+
+    @GetMapping("/{id}/events")
+    public ResponseEntity<List<Map<String, Object>>> getMatchEvents(@PathVariable Long id) {
+        return ResponseEntity.ok(matchService.getMatchEvents(id));
+    }
+
+    // Push alternative to polling /live: "score" and "events" SSE messages for one match
+    @GetMapping(value = "/{id}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamLiveScore(@PathVariable Long id) {
+        return matchService.streamLiveScore(id);
+    }
+
+    @GetMapping("/stream/stats")
+    public ResponseEntity<Map<String, Object>> getLiveStreamStats() {
+        return ResponseEntity.ok(liveScoreBroadcaster.getStreamStats());
+    }
+
+    @GetMapping("/events/ingestion")
+    public ResponseEntity<Map<String, Object>> getEventIngestionStats() {
+        return ResponseEntity.ok(matchEventIngestionService.getIngestionStats());
     }
 
     @PutMapping("/{id}/result")
@@ -25,8 +25,10 @@ public class NotificationController {
     }
 
     @GetMapping("/user/{userId}")
-    public ResponseEntity<List<Notification>> getNotificationsByUser(@PathVariable Long userId) {
-        return ResponseEntity.ok(notificationService.getNotificationsByUser(userId));
+    public ResponseEntity<List<Notification>> getNotificationsByUser(@PathVariable Long userId,
+                                                                     @RequestParam(required = false) String cursor,
+                                                                     @RequestParam(required = false) Integer size) {
+        return notificationService.getNotificationsByUser(userId, cursor, size).toResponse();
     }
 
     @GetMapping("/user/{userId}/unread")
@@ -52,13 +52,7 @@ public class OfficialController {
 
     @PutMapping("/{id}")
     public ResponseEntity<Official> updateOfficial(@PathVariable Long id, @Valid @RequestBody Official officialDetails) {
-        Official updatedOfficial = officialService.getOfficialById(id).map(existingOfficial -> {
-            existingOfficial.setOfficialName(officialDetails.getOfficialName());
-            existingOfficial.setOfficialType(officialDetails.getOfficialType());
-            existingOfficial.setNationality(officialDetails.getNationality());
-            existingOfficial.setExperience(officialDetails.getExperience());
-            return officialService.saveOfficial(existingOfficial);
-        }).orElseThrow(() -> new RuntimeException("Official not found"));
+        Official updatedOfficial = officialService.updateOfficial(id, officialDetails);
         
         return ResponseEntity.ok(updatedOfficial);
     }
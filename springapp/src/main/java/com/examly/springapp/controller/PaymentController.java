@@ -1,9 +1,12 @@
 package com.examly.springapp.controller;
 
 import com.examly.springapp.model.Payment;
-import com.examly.springapp.model.User;
-import com.examly.springapp.repository.UserRepository;
+import com.examly.springapp.model.Ticket;
 import com.examly.springapp.service.PaymentService;
+import com.examly.springapp.service.TicketService;
+import com.examly.springapp.service.idempotency.IdempotencyService;
+import com.examly.springapp.service.security.UserPrincipalService;
+import com.examly.springapp.service.waitingroom.WaitingRoomService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -12,6 +15,7 @@ import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/payments")
@@ -21,36 +25,50 @@ public class PaymentController {
     private PaymentService paymentService;
 
     @Autowired
-    private UserRepository userRepository;
+    private UserPrincipalService userPrincipalService;
+
+    @Autowired
+    private TicketService ticketService;
+
+    @Autowired
+    private WaitingRoomService waitingRoomService;
+
+    @Autowired
+    private IdempotencyService idempotencyService;
 
     @PostMapping("/initiate")
-    public ResponseEntity<Payment> initiate(@AuthenticationPrincipal Jwt jwt, @RequestBody Map<String, Object> payload) {
-        String username = jwt.getSubject();
-        User user = userRepository.findByUsername(username).orElseThrow();
+    public ResponseEntity<Payment> initiate(@AuthenticationPrincipal Jwt jwt, @RequestBody Map<String, Object> payload,
+                                            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey) {
+        Long userId = userPrincipalService.userId(jwt);
         Long ticketId = payload.get("ticketId") == null ? null : Long.valueOf(payload.get("ticketId").toString());
         double amount = Double.parseDouble(payload.get("amount").toString());
         String currency = payload.getOrDefault("currency", "INR").toString();
         String provider = payload.getOrDefault("provider", "OFFLINE").toString();
-        Payment p = paymentService.initiate(user.getId(), ticketId, amount, currency, provider);
-        return ResponseEntity.ok(p);
+        return idempotencyService.execute(IdempotencyService.PAYMENT_INITIATION, userId, idempotencyKey, payload,
+                Payment.class, () -> paymentService.initiate(userId, ticketId, amount, currency, provider));
     }
 
     @PostMapping("/checkout")
-    public ResponseEntity<Map<String, String>> checkout(@AuthenticationPrincipal Jwt jwt, @RequestBody Map<String, Object> payload) throws Exception {
-        String username = jwt.getSubject();
-        User user = userRepository.findByUsername(username).orElseThrow();
+    public CompletableFuture<ResponseEntity<Map<String, String>>> checkout(@AuthenticationPrincipal Jwt jwt, @RequestBody Map<String, Object> payload,
+                                                                           @RequestHeader(value = WaitingRoomController.TOKEN_HEADER, required = false) String waitingRoomToken) {
+        Long userId = userPrincipalService.userId(jwt);
+        Long ticketId = payload.get("ticketId") == null ? null : Long.valueOf(payload.get("ticketId").toString());
+        if (ticketId != null) {
+            // Paying for a ticket of a match on sale through a waiting room needs a live admission
+            Long matchId = ticketService.findById(ticketId).map(Ticket::getMatchId).orElse(null);
+            waitingRoomService.requireAdmission(matchId, jwt.getSubject(), waitingRoomToken);
+        }
         double amount = Double.parseDouble(payload.get("amount").toString());
         String currency = payload.getOrDefault("currency", "INR").toString();
-        String apiKey = System.getenv("STRIPE_SECRET");
-        if (apiKey == null || apiKey.isEmpty()) {
-            return ResponseEntity.badRequest().body(Map.of("error", "Stripe secret not configured"));
+        if (!paymentService.isCheckoutConfigured()) {
+            return CompletableFuture.completedFuture(
+                    ResponseEntity.badRequest().body(Map.of("error", "Payment gateway not configured")));
         }
-        Payment p = paymentService.initiate(user.getId(), null, amount, currency, "STRIPE");
-        long amountMinor = Math.round(amount * 100);
         String success = payload.getOrDefault("successUrl", "http://localhost:3000/success").toString();
         String cancel = payload.getOrDefault("cancelUrl", "http://localhost:3000/cancel").toString();
-        String url = paymentService.createStripeCheckoutSession(apiKey, amountMinor, currency, success, cancel, "FIFA Ticket", p.getReference());
-        return ResponseEntity.ok(Map.of("checkoutUrl", url, "reference", p.getReference()));
+        // The provider call runs on the payment gateway pool; this thread goes back to Tomcat
+        return paymentService.checkout(userId, ticketId, amount, currency, success, cancel)
+                .thenApply(ResponseEntity::ok);
     }
 
     @PostMapping("/capture/{reference}")
@@ -61,9 +79,8 @@ public class PaymentController {
 
     @GetMapping("/history")
     public ResponseEntity<List<Payment>> history(@AuthenticationPrincipal Jwt jwt) {
-        String username = jwt.getSubject();
-        User user = userRepository.findByUsername(username).orElseThrow();
-        return ResponseEntity.ok(paymentService.history(user.getId()));
+        Long userId = userPrincipalService.userId(jwt);
+        return ResponseEntity.ok(paymentService.history(userId));
     }
 }
 
@@ -1,5 +1,6 @@
 package com.examly.springapp.controller;
 
+import com.examly.springapp.dto.PlayerView;
 import com.examly.springapp.model.Player;
 import com.examly.springapp.model.Team;
 import com.examly.springapp.service.PlayerService;
@@ -30,43 +31,45 @@ public class PlayerController {
         return ResponseEntity.ok(savedPlayer);
     }
 
+    // Keyset paginated; the next page's cursor is returned in the X-Next-Cursor header
     @GetMapping
-    public ResponseEntity<List<Player>> getAllPlayers() {
-        return ResponseEntity.ok(playerService.getAllPlayers());
+    public ResponseEntity<List<PlayerView>> getAllPlayers(@RequestParam(required = false) String cursor,
+                                                          @RequestParam(required = false) Integer size) {
+        return playerService.getAllPlayers(cursor, size).toResponse();
     }
 
     @GetMapping("/team/{teamId}")
-    public ResponseEntity<List<Player>> getPlayersByTeam(@PathVariable Long teamId) {
+    public ResponseEntity<List<PlayerView>> getPlayersByTeam(@PathVariable Long teamId) {
         return ResponseEntity.ok(playerService.getPlayersByTeam(teamId));
     }
 
     @GetMapping("/position/{position}")
-    public ResponseEntity<List<Player>> getPlayersByPosition(@PathVariable String position) {
+    public ResponseEntity<List<PlayerView>> getPlayersByPosition(@PathVariable String position) {
         return ResponseEntity.ok(playerService.getPlayersByPosition(position));
     }
 
     @GetMapping("/nationality/{nationality}")
-    public ResponseEntity<List<Player>> getPlayersByNationality(@PathVariable String nationality) {
+    public ResponseEntity<List<PlayerView>> getPlayersByNationality(@PathVariable String nationality) {
         return ResponseEntity.ok(playerService.getPlayersByNationality(nationality));
     }
 
     @GetMapping("/available")
-    public ResponseEntity<List<Player>> getAvailablePlayers() {
+    public ResponseEntity<List<PlayerView>> getAvailablePlayers() {
         return ResponseEntity.ok(playerService.getAvailablePlayers());
     }
 
     @GetMapping("/medical-clearance")
-    public ResponseEntity<List<Player>> getPlayersWithMedicalClearance() {
+    public ResponseEntity<List<PlayerView>> getPlayersWithMedicalClearance() {
         return ResponseEntity.ok(playerService.getPlayersWithMedicalClearance());
     }
 
     @GetMapping("/top-scorers")
-    public ResponseEntity<List<Player>> getTopScorers() {
-        return ResponseEntity.ok(playerService.getTopScorers());
+    public ResponseEntity<List<PlayerView>> getTopScorers(@RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(playerService.getTopScorers(limit));
     }
 
     @GetMapping("/search")
-    public ResponseEntity<List<Player>> searchPlayers(@RequestParam String name) {
+    public ResponseEntity<List<PlayerView>> searchPlayers(@RequestParam String name) {
         return ResponseEntity.ok(playerService.searchPlayers(name));
     }
 
@@ -146,17 +149,18 @@ public class PlayerController {
     }
 
     @GetMapping("/allPlayers")
-    public ResponseEntity<List<Player>> getAllPlayersLegacy() {
-        return getAllPlayers();
+    public ResponseEntity<List<PlayerView>> getAllPlayersLegacy(@RequestParam(required = false) String cursor,
+                                                                @RequestParam(required = false) Integer size) {
+        return getAllPlayers(cursor, size);
     }
 
     @GetMapping("/byPosition")
-    public ResponseEntity<List<Player>> getPlayersByPositionLegacy(@RequestParam String position) {
+    public ResponseEntity<List<PlayerView>> getPlayersByPositionLegacy(@RequestParam String position) {
         return getPlayersByPosition(position);
     }
 
     @GetMapping("/sortedByCountry")
-    public ResponseEntity<List<Player>> getPlayerSortedByCountry(@RequestParam String country) {
+    public ResponseEntity<List<PlayerView>> getPlayerSortedByCountry(@RequestParam String country) {
         return ResponseEntity.ok(playerService.getPlayersByNationality(country));
     }
 
@@ -2,6 +2,7 @@ package com.examly.springapp.controller;
 
 import com.examly.springapp.model.User;
 import com.examly.springapp.service.AuthService;
+import com.examly.springapp.service.security.UserPrincipalService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -14,17 +15,18 @@ public class ProfileController {
     @Autowired
     private AuthService authService;
 
+    @Autowired
+    private UserPrincipalService userPrincipalService;
+
     @GetMapping
     public ResponseEntity<User> me(@AuthenticationPrincipal Jwt jwt) {
-        String username = jwt.getSubject();
-        User user = authService.findByUsername(username).orElseThrow();
+        User user = authService.findById(userPrincipalService.userId(jwt)).orElseThrow();
         return ResponseEntity.ok(user);
     }
 
     @PutMapping
     public ResponseEntity<User> update(@AuthenticationPrincipal Jwt jwt, @RequestBody User updates) {
-        String username = jwt.getSubject();
-        User user = authService.findByUsername(username).orElseThrow();
+        User user = authService.findById(userPrincipalService.userId(jwt)).orElseThrow();
         // Only allow updating certain fields
         user.setEmail(updates.getEmail());
         user.setTeam(updates.getTeam());
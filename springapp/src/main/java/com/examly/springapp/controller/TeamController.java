@@ -70,15 +70,7 @@ public class TeamController {
 
     @PutMapping("/{id}")
     public ResponseEntity<Team> updateTeam(@PathVariable Long id, @Valid @RequestBody Team teamDetails) {
-        Team updatedTeam = teamService.getTeamById(id).map(existingTeam -> {
-            existingTeam.setTeamName(teamDetails.getTeamName());
-            existingTeam.setConfederation(teamDetails.getConfederation());
-            existingTeam.setFifaRanking(teamDetails.getFifaRanking());
-            existingTeam.setHeadCoach(teamDetails.getHeadCoach());
-            existingTeam.setTeamManager(teamDetails.getTeamManager());
-            existingTeam.setStatus(teamDetails.getStatus());
-            return teamService.saveTeam(existingTeam);
-        }).orElseThrow(() -> new RuntimeException("Team not found"));
+        Team updatedTeam = teamService.updateTeam(id, teamDetails);
         
         return ResponseEntity.ok(updatedTeam);
     }
@@ -2,8 +2,9 @@ package com.examly.springapp.controller;
 
 import com.examly.springapp.model.Ticket;
 import com.examly.springapp.service.TicketService;
-import com.examly.springapp.repository.UserRepository;
-import com.examly.springapp.model.User;
+import com.examly.springapp.service.idempotency.IdempotencyService;
+import com.examly.springapp.service.security.UserPrincipalService;
+import com.examly.springapp.service.waitingroom.WaitingRoomService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -11,6 +12,7 @@ import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/tickets")
@@ -20,20 +22,54 @@ public class TicketController {
     private TicketService ticketService;
 
     @Autowired
-    private UserRepository userRepository;
+    private UserPrincipalService userPrincipalService;
+
+    @Autowired
+    private WaitingRoomService waitingRoomService;
+
+    @Autowired
+    private IdempotencyService idempotencyService;
 
     @PostMapping
-    public ResponseEntity<Ticket> book(@RequestBody Ticket ticket, @AuthenticationPrincipal Jwt jwt) {
-        String username = jwt.getSubject();
-        User user = userRepository.findByUsername(username).orElseThrow();
-        return ResponseEntity.ok(ticketService.bookTicket(ticket, user.getId()));
+    public ResponseEntity<Ticket> book(@RequestBody Ticket ticket, @AuthenticationPrincipal Jwt jwt,
+                                       @RequestHeader(value = WaitingRoomController.TOKEN_HEADER, required = false) String waitingRoomToken,
+                                       @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey) {
+        // No-op unless the match's on-sale runs through a waiting room
+        waitingRoomService.requireAdmission(ticket.getMatchId(), jwt.getSubject(), waitingRoomToken);
+        Long userId = userPrincipalService.userId(jwt);
+        // A retried booking with the same key gets the first booking back instead of a second hold
+        return idempotencyService.execute(IdempotencyService.TICKET_BOOKING, userId, idempotencyKey, ticket,
+                Ticket.class, () -> ticketService.bookTicket(ticket, userId));
+    }
+
+    // Unpaid tickets only: frees the held seats
+    @DeleteMapping("/{ticketId}")
+    public ResponseEntity<Map<String, Object>> cancel(@PathVariable Long ticketId, @AuthenticationPrincipal Jwt jwt) {
+        Long userId = userPrincipalService.userId(jwt);
+        if (!ticketService.cancelTicket(ticketId, userId)) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Only your own unpaid tickets can be cancelled"));
+        }
+        return ResponseEntity.ok(Map.of("ticketId", ticketId, "status", TicketService.CANCELLED));
+    }
+
+    // QR payload for the gates: verifiable offline with /api/gates/public-key
+    @GetMapping("/{ticketId}/credential")
+    public ResponseEntity<Map<String, Object>> credential(@PathVariable Long ticketId, @AuthenticationPrincipal Jwt jwt) {
+        Long userId = userPrincipalService.userId(jwt);
+        return ticketService.getCredential(ticketId, userId)
+                .map(credential -> ResponseEntity.ok(Map.<String, Object>of("ticketId", ticketId, "credential", credential)))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/availability/{matchId}")
+    public ResponseEntity<Map<String, Object>> availability(@PathVariable Long matchId) {
+        return ResponseEntity.ok(ticketService.getAvailability(matchId));
     }
 
     @GetMapping("/my")
     public ResponseEntity<List<Ticket>> my(@AuthenticationPrincipal Jwt jwt) {
-        String username = jwt.getSubject();
-        User user = userRepository.findByUsername(username).orElseThrow();
-        return ResponseEntity.ok(ticketService.getMyTickets(user.getId()));
+        Long userId = userPrincipalService.userId(jwt);
+        return ResponseEntity.ok(ticketService.getMyTickets(userId));
     }
 }
 
@@ -56,6 +56,9 @@ public class TournamentController {
     @GetMapping("/{id}/standings")
     public ResponseEntity<Map<String, Object>> getTournamentStandings(@PathVariable Long id) {
         Map<String, Object> standings = tournamentService.getTournamentStandings(id);
+        if (standings == null) {
+            return ResponseEntity.notFound().build();
+        }
         return ResponseEntity.ok(standings);
     }
 
@@ -79,15 +82,7 @@ public class TournamentController {
 
     @PutMapping("/{id}")
     public ResponseEntity<Tournament> updateTournament(@PathVariable Long id, @Valid @RequestBody Tournament tournamentDetails) {
-        Tournament updatedTournament = tournamentService.getTournamentById(id).map(existingTournament -> {
-            existingTournament.setTournamentName(tournamentDetails.getTournamentName());
-            existingTournament.setStartDate(tournamentDetails.getStartDate());
-            existingTournament.setEndDate(tournamentDetails.getEndDate());
-            existingTournament.setHostCountry(tournamentDetails.getHostCountry());
-            existingTournament.setStatus(tournamentDetails.getStatus());
-            existingTournament.setEdition(tournamentDetails.getEdition());
-            return tournamentService.saveTournament(existingTournament);
-        }).orElseThrow(() -> new RuntimeException("Tournament not found"));
+        Tournament updatedTournament = tournamentService.updateTournament(id, tournamentDetails);
         
         return ResponseEntity.ok(updatedTournament);
     }
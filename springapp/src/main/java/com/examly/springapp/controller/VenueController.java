@@ -58,14 +58,7 @@ public class VenueController {
 
     @PutMapping("/{id}")
     public ResponseEntity<Venue> updateVenue(@PathVariable Long id, @Valid @RequestBody Venue venueDetails) {
-        Venue updatedVenue = venueService.getVenueById(id).map(existingVenue -> {
-            existingVenue.setVenueName(venueDetails.getVenueName());
-            existingVenue.setCity(venueDetails.getCity());
-            existingVenue.setCountry(venueDetails.getCountry());
-            existingVenue.setCapacity(venueDetails.getCapacity());
-            existingVenue.setSurfaceType(venueDetails.getSurfaceType());
-            return venueService.saveVenue(existingVenue);
-        }).orElseThrow(() -> new RuntimeException("Venue not found"));
+        Venue updatedVenue = venueService.updateVenue(id, venueDetails);
         
         return ResponseEntity.ok(updatedVenue);
     }
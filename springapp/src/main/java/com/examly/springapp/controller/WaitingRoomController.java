@@ -0,0 +1,32 @@
+package com.examly.springapp.controller;
+
+import com.examly.springapp.service.waitingroom.WaitingRoomService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/waiting-room")
+public class WaitingRoomController {
+
+    public static final String TOKEN_HEADER = "X-Waiting-Room-Token";
+
+    @Autowired
+    private WaitingRoomService waitingRoomService;
+
+    @PostMapping("/{matchId}/join")
+    public ResponseEntity<Map<String, Object>> join(@PathVariable Long matchId, @AuthenticationPrincipal Jwt jwt) {
+        return ResponseEntity.ok(waitingRoomService.join(matchId, jwt.getSubject()));
+    }
+
+    // Polled by queued buyers: the signed token is the only credential, and nothing here reads the database
+    @GetMapping("/{matchId}/status")
+    public ResponseEntity<Map<String, Object>> status(@PathVariable Long matchId,
+                                                      @RequestHeader(TOKEN_HEADER) String token) {
+        return ResponseEntity.ok(waitingRoomService.status(matchId, token));
+    }
+}
@@ -1,5 +1,6 @@
 package com.examly.springapp.controller.ai;
 
+import com.examly.springapp.configuration.AsyncExecutorMetrics;
 import com.examly.springapp.service.ai.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
@@ -30,6 +31,9 @@ public class AIController {
     @Autowired
     private AnomalyDetectionService anomalyDetectionService;
 
+    @Autowired
+    private AsyncExecutorMetrics asyncExecutorMetrics;
+
     // Tournament Processing Endpoints
     @PostMapping("/tournament/process/{tournamentId}")
     public ResponseEntity<Map<String, Object>> processTournament(@PathVariable Long tournamentId) {
@@ -46,182 +50,174 @@ public class AIController {
 
     // Match Analysis Endpoints
     @PostMapping("/match/analyze/{matchId}")
-    public ResponseEntity<Map<String, Object>> analyzeMatch(@PathVariable Long matchId) {
-        CompletableFuture<Map<String, Object>> future = matchAnalysisService.analyzeMatch(matchId);
-        Map<String, Object> result = future.join();
-        return ResponseEntity.ok(result);
+    public CompletableFuture<ResponseEntity<Map<String, Object>>> analyzeMatch(@PathVariable Long matchId) {
+        return matchAnalysisService.analyzeMatch(matchId)
+                .thenApply(ResponseEntity::ok);
     }
 
     // Machine Learning Endpoints
     @PostMapping("/ml/predict/match/{matchId}")
-    public ResponseEntity<Map<String, Object>> predictMatchOutcome(@PathVariable Long matchId) {
-        CompletableFuture<Map<String, Object>> future = machineLearningService.predictMatchOutcome(matchId);
-        Map<String, Object> result = future.join();
-        return ResponseEntity.ok(result);
+    public CompletableFuture<ResponseEntity<Map<String, Object>>> predictMatchOutcome(@PathVariable Long matchId) {
+        return machineLearningService.predictMatchOutcome(matchId)
+                .thenApply(ResponseEntity::ok);
     }
 
     @PostMapping("/ml/analyze/tournament/{tournamentId}")
-    public ResponseEntity<Map<String, Object>> analyzeTournamentPatterns(@PathVariable Long tournamentId) {
-        CompletableFuture<Map<String, Object>> future = machineLearningService.analyzeTournamentPatterns(tournamentId);
-        Map<String, Object> result = future.join();
-        return ResponseEntity.ok(result);
+    public CompletableFuture<ResponseEntity<Map<String, Object>>> analyzeTournamentPatterns(@PathVariable Long tournamentId) {
+        return machineLearningService.analyzeTournamentPatterns(tournamentId)
+                .thenApply(ResponseEntity::ok);
     }
 
     @PostMapping("/ml/optimize/{entityType}/{entityId}")
-    public ResponseEntity<Map<String, Object>> generateOptimizationRecommendations(
+    public CompletableFuture<ResponseEntity<Map<String, Object>>> generateOptimizationRecommendations(
             @PathVariable String entityType, 
             @PathVariable Long entityId) {
-        CompletableFuture<Map<String, Object>> future = machineLearningService.generateOptimizationRecommendations(entityType, entityId);
-        Map<String, Object> result = future.join();
-        return ResponseEntity.ok(result);
+        return machineLearningService.generateOptimizationRecommendations(entityType, entityId)
+                .thenApply(ResponseEntity::ok);
     }
 
     @PostMapping("/ml/train")
-    public ResponseEntity<Map<String, Object>> trainModel(@RequestBody Map<String, Object> trainingRequest) {
+    public CompletableFuture<ResponseEntity<Map<String, Object>>> trainModel(@RequestBody Map<String, Object> trainingRequest) {
         String modelType = (String) trainingRequest.get("modelType");
         Map<String, Object> trainingData = (Map<String, Object>) trainingRequest.get("trainingData");
         
-        CompletableFuture<Map<String, Object>> future = machineLearningService.trainModel(
-            com.examly.springapp.model.ai.ModelType.valueOf(modelType), trainingData);
-        Map<String, Object> result = future.join();
-        return ResponseEntity.ok(result);
+        return machineLearningService.trainModel(
+            com.examly.springapp.model.ai.ModelType.valueOf(modelType), trainingData)
+                .thenApply(ResponseEntity::ok);
     }
 
     // Natural Language Processing Endpoints
     @PostMapping("/nlp/search")
-    public ResponseEntity<Map<String, Object>> processSearchQuery(@RequestBody Map<String, String> request) {
+    public CompletableFuture<ResponseEntity<Map<String, Object>>> processSearchQuery(@RequestBody Map<String, String> request) {
         String query = request.get("query");
-        CompletableFuture<Map<String, Object>> future = nlpService.processSearchQuery(query);
-        Map<String, Object> result = future.join();
-        return ResponseEntity.ok(result);
+        return nlpService.processSearchQuery(query)
+                .thenApply(ResponseEntity::ok);
     }
 
     @PostMapping("/nlp/report/generate")
-    public ResponseEntity<Map<String, Object>> generateAutomatedReport(@RequestBody Map<String, Object> request) {
+    public CompletableFuture<ResponseEntity<Map<String, Object>>> generateAutomatedReport(@RequestBody Map<String, Object> request) {
         String reportType = (String) request.get("reportType");
         Map<String, Object> data = (Map<String, Object>) request.get("data");
         
-        CompletableFuture<Map<String, Object>> future = nlpService.generateAutomatedReport(reportType, data);
-        Map<String, Object> result = future.join();
-        return ResponseEntity.ok(result);
+        return nlpService.generateAutomatedReport(reportType, data)
+                .thenApply(ResponseEntity::ok);
     }
 
     @PostMapping("/nlp/voice/command")
-    public ResponseEntity<Map<String, Object>> processVoiceCommand(@RequestBody Map<String, String> request) {
+    public CompletableFuture<ResponseEntity<Map<String, Object>>> processVoiceCommand(@RequestBody Map<String, String> request) {
         String voiceCommand = request.get("voiceCommand");
-        CompletableFuture<Map<String, Object>> future = nlpService.processVoiceCommand(voiceCommand);
-        Map<String, Object> result = future.join();
-        return ResponseEntity.ok(result);
+        return nlpService.processVoiceCommand(voiceCommand)
+                .thenApply(ResponseEntity::ok);
     }
 
     @PostMapping("/nlp/sentiment")
-    public ResponseEntity<Map<String, Object>> analyzeSentiment(@RequestBody Map<String, String> request) {
+    public CompletableFuture<ResponseEntity<Map<String, Object>>> analyzeSentiment(@RequestBody Map<String, String> request) {
         String text = request.get("text");
-        CompletableFuture<Map<String, Object>> future = nlpService.analyzeSentiment(text);
-        Map<String, Object> result = future.join();
-        return ResponseEntity.ok(result);
+        return nlpService.analyzeSentiment(text)
+                .thenApply(ResponseEntity::ok);
     }
 
     @PostMapping("/nlp/summarize")
-    public ResponseEntity<Map<String, Object>> generateSummary(@RequestBody Map<String, Object> request) {
+    public CompletableFuture<ResponseEntity<Map<String, Object>>> generateSummary(@RequestBody Map<String, Object> request) {
         String text = (String) request.get("text");
         Integer maxLength = (Integer) request.get("maxLength");
         
-        CompletableFuture<Map<String, Object>> future = nlpService.generateSummary(text, maxLength);
-        Map<String, Object> result = future.join();
-        return ResponseEntity.ok(result);
+        return nlpService.generateSummary(text, maxLength)
+                .thenApply(ResponseEntity::ok);
     }
 
     // Workflow Management Endpoints
     @PostMapping("/workflow/create")
-    public ResponseEntity<Map<String, Object>> createWorkflow(@RequestBody Map<String, Object> request) {
+    public CompletableFuture<ResponseEntity<Map<String, Object>>> createWorkflow(@RequestBody Map<String, Object> request) {
         String workflowName = (String) request.get("workflowName");
         String workflowType = (String) request.get("workflowType");
         Map<String, Object> triggerConditions = (Map<String, Object>) request.get("triggerConditions");
         Map<String, Object> actions = (Map<String, Object>) request.get("actions");
         
-        CompletableFuture<Map<String, Object>> future = workflowManagementService.createWorkflow(
+        return workflowManagementService.createWorkflow(
             workflowName, 
             com.examly.springapp.model.ai.WorkflowType.valueOf(workflowType), 
             triggerConditions, 
-            actions);
-        Map<String, Object> result = future.join();
-        return ResponseEntity.ok(result);
+            actions)
+                .thenApply(ResponseEntity::ok);
     }
 
     @PostMapping("/workflow/route")
-    public ResponseEntity<Map<String, Object>> routeRequest(@RequestBody Map<String, Object> request) {
+    public CompletableFuture<ResponseEntity<Map<String, Object>>> routeRequest(@RequestBody Map<String, Object> request) {
         String requestType = (String) request.get("requestType");
         Map<String, Object> requestData = (Map<String, Object>) request.get("requestData");
         
-        CompletableFuture<Map<String, Object>> future = workflowManagementService.routeRequest(requestType, requestData);
-        Map<String, Object> result = future.join();
-        return ResponseEntity.ok(result);
+        return workflowManagementService.routeRequest(requestType, requestData)
+                .thenApply(ResponseEntity::ok);
     }
 
     @PostMapping("/workflow/notify")
-    public ResponseEntity<Map<String, Object>> triggerNotifications(@RequestBody Map<String, Object> request) {
+    public CompletableFuture<ResponseEntity<Map<String, Object>>> triggerNotifications(@RequestBody Map<String, Object> request) {
         String eventType = (String) request.get("eventType");
         Map<String, Object> eventData = (Map<String, Object>) request.get("eventData");
         
-        CompletableFuture<Map<String, Object>> future = workflowManagementService.triggerNotifications(eventType, eventData);
-        Map<String, Object> result = future.join();
-        return ResponseEntity.ok(result);
+        return workflowManagementService.triggerNotifications(eventType, eventData)
+                .thenApply(ResponseEntity::ok);
     }
 
     @PostMapping("/workflow/optimize")
-    public ResponseEntity<Map<String, Object>> optimizeWorkflows() {
-        CompletableFuture<Map<String, Object>> future = workflowManagementService.optimizeWorkflows();
-        Map<String, Object> result = future.join();
-        return ResponseEntity.ok(result);
+    public CompletableFuture<ResponseEntity<Map<String, Object>>> optimizeWorkflows() {
+        return workflowManagementService.optimizeWorkflows()
+                .thenApply(ResponseEntity::ok);
     }
 
     // Anomaly Detection Endpoints
     @PostMapping("/anomaly/detect/performance")
-    public ResponseEntity<Map<String, Object>> detectPerformanceAnomalies() {
-        CompletableFuture<Map<String, Object>> future = anomalyDetectionService.detectPerformanceAnomalies();
-        Map<String, Object> result = future.join();
-        return ResponseEntity.ok(result);
+    public CompletableFuture<ResponseEntity<Map<String, Object>>> detectPerformanceAnomalies() {
+        return anomalyDetectionService.detectPerformanceAnomalies()
+                .thenApply(ResponseEntity::ok);
     }
 
     @PostMapping("/anomaly/detect/behavior")
-    public ResponseEntity<Map<String, Object>> detectBehavioralAnomalies() {
-        CompletableFuture<Map<String, Object>> future = anomalyDetectionService.detectBehavioralAnomalies();
-        Map<String, Object> result = future.join();
-        return ResponseEntity.ok(result);
+    public CompletableFuture<ResponseEntity<Map<String, Object>>> detectBehavioralAnomalies() {
+        return anomalyDetectionService.detectBehavioralAnomalies()
+                .thenApply(ResponseEntity::ok);
     }
 
     @PostMapping("/anomaly/detect/integrity")
-    public ResponseEntity<Map<String, Object>> detectDataIntegrityAnomalies() {
-        CompletableFuture<Map<String, Object>> future = anomalyDetectionService.detectDataIntegrityAnomalies();
-        Map<String, Object> result = future.join();
-        return ResponseEntity.ok(result);
+    public CompletableFuture<ResponseEntity<Map<String, Object>>> detectDataIntegrityAnomalies() {
+        return anomalyDetectionService.detectDataIntegrityAnomalies()
+                .thenApply(ResponseEntity::ok);
     }
 
     @PostMapping("/anomaly/detect/security")
-    public ResponseEntity<Map<String, Object>> detectSecurityAnomalies() {
-        CompletableFuture<Map<String, Object>> future = anomalyDetectionService.detectSecurityAnomalies();
-        Map<String, Object> result = future.join();
-        return ResponseEntity.ok(result);
+    public CompletableFuture<ResponseEntity<Map<String, Object>>> detectSecurityAnomalies() {
+        return anomalyDetectionService.detectSecurityAnomalies()
+                .thenApply(ResponseEntity::ok);
     }
 
     @PostMapping("/anomaly/detect/compliance")
-    public ResponseEntity<Map<String, Object>> detectComplianceAnomalies() {
-        CompletableFuture<Map<String, Object>> future = anomalyDetectionService.detectComplianceAnomalies();
-        Map<String, Object> result = future.join();
-        return ResponseEntity.ok(result);
+    public CompletableFuture<ResponseEntity<Map<String, Object>>> detectComplianceAnomalies() {
+        return anomalyDetectionService.detectComplianceAnomalies()
+                .thenApply(ResponseEntity::ok);
     }
 
     @PostMapping("/anomaly/resolve/{anomalyId}")
-    public ResponseEntity<Map<String, Object>> resolveAnomaly(
+    public CompletableFuture<ResponseEntity<Map<String, Object>>> resolveAnomaly(
             @PathVariable Long anomalyId,
             @RequestBody Map<String, String> request) {
         String resolvedBy = request.get("resolvedBy");
         String resolutionNotes = request.get("resolutionNotes");
         
-        CompletableFuture<Map<String, Object>> future = anomalyDetectionService.resolveAnomaly(anomalyId, resolvedBy, resolutionNotes);
-        Map<String, Object> result = future.join();
-        return ResponseEntity.ok(result);
+        return anomalyDetectionService.resolveAnomaly(anomalyId, resolvedBy, resolutionNotes)
+                .thenApply(ResponseEntity::ok);
+    }
+
+    @GetMapping("/anomaly")
+    public ResponseEntity<Map<String, Object>> getAnomalies(@RequestParam(required = false) String cursor,
+                                                            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(anomalyDetectionService.getAnomalies(cursor, size));
+    }
+
+    @GetMapping("/match/analyses")
+    public ResponseEntity<Map<String, Object>> getMatchAnalyses(@RequestParam(required = false) String cursor,
+                                                                @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(matchAnalysisService.getAnalyses(cursor, size));
     }
 
     @GetMapping("/anomaly/statistics")
@@ -230,6 +226,12 @@ public class AIController {
         return ResponseEntity.ok(statistics);
     }
 
+    // Async executor pools (size, queue depth, rejections, timings)
+    @GetMapping("/executors")
+    public ResponseEntity<Map<String, Object>> getExecutorMetrics() {
+        return ResponseEntity.ok(asyncExecutorMetrics.snapshot());
+    }
+
     // AI System Status
     @GetMapping("/status")
     public ResponseEntity<Map<String, Object>> getAIStatus() {
@@ -1,10 +1,13 @@
 package com.examly.springapp.controller.security;
 
+import com.examly.springapp.service.security.FieldEncryptionEngine;
 import com.examly.springapp.service.security.SecurityService;
 import com.examly.springapp.service.maintenance.MaintainabilityService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
 
@@ -13,6 +16,8 @@ import java.util.HashMap;
 //@CrossOrigin(origins = "*")
 public class SecurityController {
 
+    private static final int MAX_BATCH_CHECKS = 1000;
+
     @Autowired
     private SecurityService securityService;
     
@@ -72,6 +77,36 @@ public class SecurityController {
         return ResponseEntity.ok(result);
     }
 
+    // Many checks in one call: [{"role", "operation", "resource"}, ...] -> allowed flags in order
+    @PostMapping("/authorize/batch")
+    public ResponseEntity<Map<String, Object>> authorizeOperations(@RequestBody List<Map<String, String>> checks) {
+        Map<String, Object> result = new HashMap<>();
+        if (checks.size() > MAX_BATCH_CHECKS) {
+            result.put("error", "At most " + MAX_BATCH_CHECKS + " checks per request");
+            return ResponseEntity.badRequest().body(result);
+        }
+        if (checks.contains(null)) {
+            result.put("error", "Checks must be objects with role, operation and resource");
+            return ResponseEntity.badRequest().body(result);
+        }
+        
+        boolean[] allowed = securityService.authorizeOperations(checks);
+        List<Boolean> results = new ArrayList<>(allowed.length);
+        int allowedCount = 0;
+        for (boolean value : allowed) {
+            results.add(value);
+            if (value) {
+                allowedCount++;
+            }
+        }
+        
+        result.put("results", results);
+        result.put("count", allowed.length);
+        result.put("allowed", allowedCount);
+        result.put("timestamp", java.time.LocalDateTime.now());
+        return ResponseEntity.ok(result);
+    }
+
     @PostMapping("/encrypt")
     public ResponseEntity<Map<String, Object>> encryptData(@RequestBody Map<String, String> request) {
         Map<String, Object> result = new HashMap<>();
@@ -82,7 +117,7 @@ public class SecurityController {
             
             result.put("encrypted", true);
             result.put("encryptedData", encryptedData);
-            result.put("algorithm", "AES");
+            result.put("algorithm", FieldEncryptionEngine.ALGORITHM);
             result.put("timestamp", java.time.LocalDateTime.now());
             
         } catch (Exception e) {
@@ -0,0 +1,99 @@
+package com.examly.springapp.dto;
+
+import com.examly.springapp.model.MatchStatus;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Read model for match listings: one row per match with both teams, the venue and
+ * the tournament outer-joined in a single constructor query (see MatchRepository.MATCH_VIEW).
+ */
+public class MatchView {
+
+    private final Long id;
+    private final LocalDateTime matchDate;
+    private final LocalDateTime kickoffTime;
+    private final MatchStatus status;
+    private final Integer homeScore;
+    private final Integer awayScore;
+    private final String round;
+    private final TeamSummary homeTeam;
+    private final TeamSummary awayTeam;
+    private final Map<String, Object> venue;
+    private final Map<String, Object> tournament;
+
+    public MatchView(Long id, LocalDateTime matchDate, LocalDateTime kickoffTime, MatchStatus status,
+                     Integer homeScore, Integer awayScore, String round,
+                     Long homeTeamId, String homeTeamName, String homeConfederation, Integer homeRanking,
+                     Long awayTeamId, String awayTeamName, String awayConfederation, Integer awayRanking,
+                     Long venueId, String venueName, String venueCity,
+                     Long tournamentId, String tournamentName) {
+        this.id = id;
+        this.matchDate = matchDate;
+        this.kickoffTime = kickoffTime;
+        this.status = status;
+        this.homeScore = homeScore;
+        this.awayScore = awayScore;
+        this.round = round;
+        this.homeTeam = TeamSummary.of(homeTeamId, homeTeamName, homeConfederation, homeRanking);
+        this.awayTeam = TeamSummary.of(awayTeamId, awayTeamName, awayConfederation, awayRanking);
+        this.venue = venueId == null ? null : reference(venueId, "venueName", venueName, "city", venueCity);
+        this.tournament = tournamentId == null ? null : reference(tournamentId, "tournamentName", tournamentName, null, null);
+    }
+
+    private static Map<String, Object> reference(Long id, String nameKey, String name, String extraKey, Object extra) {
+        Map<String, Object> ref = new HashMap<>();
+        ref.put("id", id);
+        ref.put(nameKey, name);
+        if (extraKey != null) {
+            ref.put(extraKey, extra);
+        }
+        return ref;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public LocalDateTime getMatchDate() {
+        return matchDate;
+    }
+
+    public LocalDateTime getKickoffTime() {
+        return kickoffTime;
+    }
+
+    public MatchStatus getStatus() {
+        return status;
+    }
+
+    public Integer getHomeScore() {
+        return homeScore;
+    }
+
+    public Integer getAwayScore() {
+        return awayScore;
+    }
+
+    public String getRound() {
+        return round;
+    }
+
+    public TeamSummary getHomeTeam() {
+        return homeTeam;
+    }
+
+    public TeamSummary getAwayTeam() {
+        return awayTeam;
+    }
+
+    public Map<String, Object> getVenue() {
+        return venue;
+    }
+
+    public Map<String, Object> getTournament() {
+        return tournament;
+    }
+}
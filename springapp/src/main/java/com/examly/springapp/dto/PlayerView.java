@@ -0,0 +1,121 @@
+package com.examly.springapp.dto;
+
+import java.time.LocalDate;
+
+/**
+ * Read model for player listings, built by a single JPQL constructor query with the
+ * team columns joined in (see PlayerRepository.PLAYER_VIEW). JSON matches the Player
+ * entity's, minus its lazy collections.
+ */
+public class PlayerView {
+
+    private final Long id;
+    private final String firstName;
+    private final String lastName;
+    private final String position;
+    private final TeamSummary team;
+    private final Integer jerseyNumber;
+    private final LocalDate dateOfBirth;
+    private final String nationality;
+    private final Integer capsEarned;
+    private final Integer goalsScored;
+    private final String clubAffiliation;
+    private final Boolean medicalClearance;
+    private final Boolean isAvailable;
+
+    public PlayerView(Long id, String firstName, String lastName, String position,
+                      Long teamId, String teamName, String confederation, Integer fifaRanking,
+                      Integer jerseyNumber, LocalDate dateOfBirth, String nationality,
+                      Integer capsEarned, Integer goalsScored, String clubAffiliation,
+                      Boolean medicalClearance, Boolean isAvailable) {
+        this.id = id;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.position = position;
+        this.team = TeamSummary.of(teamId, teamName, confederation, fifaRanking);
+        this.jerseyNumber = jerseyNumber;
+        this.dateOfBirth = dateOfBirth;
+        this.nationality = nationality;
+        this.capsEarned = capsEarned;
+        this.goalsScored = goalsScored;
+        this.clubAffiliation = clubAffiliation;
+        this.medicalClearance = medicalClearance;
+        this.isAvailable = isAvailable;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public String getPlayerName() {
+        return firstName + " " + lastName;
+    }
+
+    public String getPosition() {
+        return position;
+    }
+
+    public TeamSummary getTeam() {
+        return team;
+    }
+
+    public Long getTeamId() {
+        return team == null ? null : team.getId();
+    }
+
+    public Integer getJerseyNumber() {
+        return jerseyNumber;
+    }
+
+    public LocalDate getDateOfBirth() {
+        return dateOfBirth;
+    }
+
+    public String getNationality() {
+        return nationality;
+    }
+
+    /** Same as Player.getCountry(), which has always serialized the nationality. */
+    public String getCountry() {
+        return nationality;
+    }
+
+    public Integer getCapsEarned() {
+        return capsEarned;
+    }
+
+    public Integer getGoalsScored() {
+        return goalsScored;
+    }
+
+    public int getGoals() {
+        return goalsScored != null ? goalsScored : 0;
+    }
+
+    public int getAge() {
+        if (dateOfBirth != null) {
+            return LocalDate.now().getYear() - dateOfBirth.getYear();
+        }
+        return 0;
+    }
+
+    public String getClubAffiliation() {
+        return clubAffiliation;
+    }
+
+    public Boolean getMedicalClearance() {
+        return medicalClearance;
+    }
+
+    public Boolean getIsAvailable() {
+        return isAvailable;
+    }
+}
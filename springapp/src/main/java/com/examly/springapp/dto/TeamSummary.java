@@ -0,0 +1,41 @@
+package com.examly.springapp.dto;
+
+/**
+ * The few Team columns listings need, nested under "team"/"homeTeam"/"awayTeam"
+ * so responses keep the shape the frontend reads (e.g. player.team.teamName).
+ */
+public class TeamSummary {
+
+    private final Long id;
+    private final String teamName;
+    private final String confederation;
+    private final Integer fifaRanking;
+
+    public TeamSummary(Long id, String teamName, String confederation, Integer fifaRanking) {
+        this.id = id;
+        this.teamName = teamName;
+        this.confederation = confederation;
+        this.fifaRanking = fifaRanking;
+    }
+
+    /** Null when the outer join found no team. */
+    static TeamSummary of(Long id, String teamName, String confederation, Integer fifaRanking) {
+        return id == null ? null : new TeamSummary(id, teamName, confederation, fifaRanking);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getTeamName() {
+        return teamName;
+    }
+
+    public String getConfederation() {
+        return confederation;
+    }
+
+    public Integer getFifaRanking() {
+        return fifaRanking;
+    }
+}
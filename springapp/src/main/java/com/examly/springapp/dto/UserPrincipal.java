@@ -0,0 +1,43 @@
+package com.examly.springapp.dto;
+
+import com.examly.springapp.model.User;
+
+/**
+ * The identity facts request handlers need about the caller. Issued as token claims
+ * at login and cached per username for tokens that do not carry them.
+ */
+public class UserPrincipal {
+
+    private final Long id;
+    private final String username;
+    private final String role;
+    private final String team;
+
+    public UserPrincipal(Long id, String username, String role, String team) {
+        this.id = id;
+        this.username = username;
+        this.role = role;
+        this.team = team;
+    }
+
+    public static UserPrincipal of(User user) {
+        return new UserPrincipal(user.getId(), user.getUsername(),
+                user.getRole() == null ? null : user.getRole().name(), user.getTeam());
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public String getRole() {
+        return role;
+    }
+
+    public String getTeam() {
+        return team;
+    }
+}
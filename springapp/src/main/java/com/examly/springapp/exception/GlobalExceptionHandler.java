@@ -1,13 +1,102 @@
 package com.examly.springapp.exception;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 
+import java.util.Map;
+
 @ControllerAdvice
 public class GlobalExceptionHandler {
     @ExceptionHandler(PlayerNotFoundException.class)
      public ResponseEntity<Void> handlePlayerNotFound(PlayerNotFoundException ex) {
         return ResponseEntity.notFound().build();
      }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<Map<String, String>> handleInvalidCursor(InvalidCursorException ex) {
+        return ResponseEntity.badRequest().body(Map.of("error", ex.getMessage()));
+    }
+
+    @ExceptionHandler(InvalidMatchEventException.class)
+    public ResponseEntity<Map<String, String>> handleInvalidMatchEvent(InvalidMatchEventException ex) {
+        return ResponseEntity.badRequest().body(Map.of("error", ex.getMessage()));
+    }
+
+    @ExceptionHandler(InvalidReservationException.class)
+    public ResponseEntity<Map<String, String>> handleInvalidReservation(InvalidReservationException ex) {
+        return ResponseEntity.badRequest().body(Map.of("error", ex.getMessage()));
+    }
+
+    // Not enough free seats left in the requested category
+    @ExceptionHandler(SeatsUnavailableException.class)
+    public ResponseEntity<Map<String, String>> handleSeatsUnavailable(SeatsUnavailableException ex) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", ex.getMessage()));
+    }
+
+    // Booking a match whose on-sale runs through the waiting room, without an admitted token
+    @ExceptionHandler(NotAdmittedException.class)
+    public ResponseEntity<Map<String, String>> handleNotAdmitted(NotAdmittedException ex) {
+        return ResponseEntity.status(HttpStatus.FORBIDDEN).body(Map.of("error", ex.getMessage()));
+    }
+
+    // A final result while the match's live events could not all be written yet
+    @ExceptionHandler(MatchEventsPendingException.class)
+    public ResponseEntity<Map<String, String>> handleMatchEventsPending(MatchEventsPendingException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header("Retry-After", "5")
+                .body(Map.of("error", ex.getMessage()));
+    }
+
+    // An async pool's queue is full: shed load instead of blocking the request thread
+    @ExceptionHandler(TaskRejectedException.class)
+    public ResponseEntity<Map<String, String>> handleTaskRejected(TaskRejectedException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header("Retry-After", "5")
+                .body(Map.of("error", "Server is busy, please retry shortly"));
+    }
+
+    // Payment provider timed out or returned an error
+    @ExceptionHandler(PaymentGatewayException.class)
+    public ResponseEntity<Map<String, String>> handlePaymentGateway(PaymentGatewayException ex) {
+        return ResponseEntity.status(HttpStatus.BAD_GATEWAY).body(Map.of("error", ex.getMessage()));
+    }
+
+    // Capturing a payment that already failed
+    @ExceptionHandler(PaymentNotCapturableException.class)
+    public ResponseEntity<Map<String, String>> handlePaymentNotCapturable(PaymentNotCapturableException ex) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", ex.getMessage()));
+    }
+
+    // Payment circuit breaker is open: fail fast until the provider gets a trial call
+    @ExceptionHandler(PaymentGatewayUnavailableException.class)
+    public ResponseEntity<Map<String, String>> handlePaymentGatewayUnavailable(PaymentGatewayUnavailableException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header("Retry-After", String.valueOf(ex.getRetryAfterSeconds()))
+                .body(Map.of("error", ex.getMessage()));
+    }
+
+    // Idempotency-Key malformed, or reused with a different request body
+    @ExceptionHandler(InvalidIdempotencyKeyException.class)
+    public ResponseEntity<Map<String, String>> handleInvalidIdempotencyKey(InvalidIdempotencyKeyException ex) {
+        return ResponseEntity.badRequest().body(Map.of("error", ex.getMessage()));
+    }
+
+    // The first request with this Idempotency-Key is still running
+    @ExceptionHandler(IdempotencyKeyInProgressException.class)
+    public ResponseEntity<Map<String, String>> handleIdempotencyKeyInProgress(IdempotencyKeyInProgressException ex) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .header("Retry-After", "1")
+                .body(Map.of("error", ex.getMessage()));
+    }
+
+    // Password hashing pool is saturated (login/registration storm)
+    @ExceptionHandler(PasswordHashingBusyException.class)
+    public ResponseEntity<Map<String, String>> handlePasswordHashingBusy(PasswordHashingBusyException ex) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header("Retry-After", "2")
+                .body(Map.of("error", ex.getMessage()));
+    }
   }
    
@@ -0,0 +1,8 @@
+package com.examly.springapp.exception;
+
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException(String cursor){
+        super("Invalid or expired page cursor: "+cursor);
+    }
+    
+}
@@ -0,0 +1,8 @@
+package com.examly.springapp.exception;
+
+public class InvalidMatchEventException extends RuntimeException {
+    public InvalidMatchEventException(String message){
+        super(message);
+    }
+    
+}
@@ -0,0 +1,7 @@
+package com.examly.springapp.exception;
+
+public class MatchEventsPendingException extends RuntimeException {
+    public MatchEventsPendingException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,15 @@
+package com.examly.springapp.exception;
+
+public class PaymentGatewayUnavailableException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public PaymentGatewayUnavailableException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,7 @@
+package com.examly.springapp.exception;
+
+public class PaymentNotCapturableException extends RuntimeException {
+    public PaymentNotCapturableException(String message) {
+        super(message);
+    }
+}
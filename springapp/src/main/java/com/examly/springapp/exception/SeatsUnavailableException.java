@@ -0,0 +1,7 @@
+package com.examly.springapp.exception;
+
+public class SeatsUnavailableException extends RuntimeException {
+    public SeatsUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -7,14 +7,17 @@ import jakarta.validation.constraints.NotBlank;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "audit_logs")
+@Table(name = "audit_logs", indexes = {
+    @Index(name = "idx_audit_logs_timestamp_id", columnList = "timestamp, id")
+})
 public class AuditLog {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    // No FK constraint: MySQL cannot partition a table that has one (see AuditPartitionManager)
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "user_id")
+    @JoinColumn(name = "user_id", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private User user;
 
     @NotBlank
@@ -34,7 +37,8 @@ public class AuditLog {
     @Column(name = "new_value", columnDefinition = "TEXT")
     private String newValue;
 
-    @Column(name = "timestamp")
+    // Partitioning column, so it is part of the primary key once the table is partitioned
+    @Column(name = "timestamp", nullable = false)
     private LocalDateTime timestamp;
 
     @Size(max = 100)
@@ -0,0 +1,30 @@
+package com.examly.springapp.model;
+
+import com.examly.springapp.service.security.FieldEncryptionEngine;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Stores a String attribute AES-GCM encrypted; apply with @Convert(converter = EncryptedStringConverter.class).
+ *
+ * Hibernate obtains converters from the Spring bean container, so the engine is injected
+ * and the column needs room for Base64 of the value plus 29 bytes of IV, version and tag.
+ * Plaintext already in the column is read as is and encrypted on the next save.
+ */
+@Converter
+public class EncryptedStringConverter implements AttributeConverter<String, String> {
+
+    @Autowired
+    private FieldEncryptionEngine fieldEncryptionEngine;
+
+    @Override
+    public String convertToDatabaseColumn(String attribute) {
+        return fieldEncryptionEngine.encrypt(attribute);
+    }
+
+    @Override
+    public String convertToEntityAttribute(String dbData) {
+        return fieldEncryptionEngine.decryptOrLegacy(dbData);
+    }
+}
@@ -8,7 +8,9 @@ import java.time.LocalDateTime;
 import java.util.Set;
 
 @Entity
-@Table(name = "matches")
+@Table(name = "matches", indexes = {
+    @Index(name = "idx_matches_date_id", columnList = "match_date, id")
+})
 public class Match {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -7,7 +7,9 @@ import jakarta.validation.constraints.NotNull;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "match_events")
+@Table(name = "match_events", indexes = {
+    @Index(name = "idx_match_events_match_id", columnList = "match_id, id")
+})
 public class MatchEvent {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
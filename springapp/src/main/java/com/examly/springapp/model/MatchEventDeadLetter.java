@@ -0,0 +1,67 @@
+package com.examly.springapp.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Accepted live events that could not be persisted (e.g. a row the database rejects),
+ * kept for review instead of being dropped. Written by MatchEventBatchWriter; this
+ * entity only defines the table.
+ */
+@Entity
+@Table(name = "match_event_dead_letters", indexes = {
+    @Index(name = "idx_event_dead_letters_match", columnList = "match_id")
+})
+public class MatchEventDeadLetter {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "match_id", nullable = false)
+    private Long matchId;
+
+    @Column(name = "sequence", nullable = false)
+    private Long sequence;
+
+    @Column(name = "event_type", length = 30, nullable = false)
+    private String eventType;
+
+    @Column(name = "player_id")
+    private Long playerId;
+
+    @Column(name = "team_id")
+    private Long teamId;
+
+    @Column(name = "event_time")
+    private LocalDateTime eventTime;
+
+    @Column(name = "description", length = 255)
+    private String description;
+
+    @Column(name = "error", length = 500)
+    private String error;
+
+    @Column(name = "failed_at", nullable = false)
+    private LocalDateTime failedAt;
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public Long getMatchId() { return matchId; }
+    public void setMatchId(Long matchId) { this.matchId = matchId; }
+    public Long getSequence() { return sequence; }
+    public void setSequence(Long sequence) { this.sequence = sequence; }
+    public String getEventType() { return eventType; }
+    public void setEventType(String eventType) { this.eventType = eventType; }
+    public Long getPlayerId() { return playerId; }
+    public void setPlayerId(Long playerId) { this.playerId = playerId; }
+    public Long getTeamId() { return teamId; }
+    public void setTeamId(Long teamId) { this.teamId = teamId; }
+    public LocalDateTime getEventTime() { return eventTime; }
+    public void setEventTime(LocalDateTime eventTime) { this.eventTime = eventTime; }
+    public String getDescription() { return description; }
+    public void setDescription(String description) { this.description = description; }
+    public String getError() { return error; }
+    public void setError(String error) { this.error = error; }
+    public LocalDateTime getFailedAt() { return failedAt; }
+    public void setFailedAt(LocalDateTime failedAt) { this.failedAt = failedAt; }
+}
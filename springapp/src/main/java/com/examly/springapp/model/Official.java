@@ -1,6 +1,7 @@
 package com.examly.springapp.model;
 
 import jakarta.persistence.*;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import java.util.Set;
@@ -27,6 +28,7 @@ public class Official {
 
     private Integer experience;
 
+    @JsonIgnore
     @OneToMany(mappedBy = "official", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private Set<MatchOfficial> assignedMatches;
 
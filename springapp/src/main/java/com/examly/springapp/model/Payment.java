@@ -23,7 +23,7 @@ public class Payment {
     private String currency;
 
     @Column(name = "status", length = 20, nullable = false)
-    private String status; // INITIATED, AUTHORIZED, CAPTURED, FAILED, REFUNDED
+    private String status; // INITIATED, AUTHORIZED, CAPTURED, REFUND_REQUIRED, FAILED, REFUNDED
 
     @Column(name = "provider", length = 50, nullable = false)
     private String provider; // e.g., RAZORPAY, STRIPE
@@ -41,6 +41,11 @@ public class Payment {
     @Column(name = "meta")
     private String meta;
 
+    // Hosted checkout link: whoever holds it can open the buyer's payment page
+    @Column(name = "checkout_url", length = 2048)
+    @Convert(converter = EncryptedStringConverter.class)
+    private String checkoutUrl;
+
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
     public Long getUserId() { return userId; }
@@ -63,6 +68,8 @@ public class Payment {
     public void setCapturedAt(LocalDateTime capturedAt) { this.capturedAt = capturedAt; }
     public String getMeta() { return meta; }
     public void setMeta(String meta) { this.meta = meta; }
+    public String getCheckoutUrl() { return checkoutUrl; }
+    public void setCheckoutUrl(String checkoutUrl) { this.checkoutUrl = checkoutUrl; }
 }
 
 
@@ -0,0 +1,63 @@
+package com.examly.springapp.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Append-only log of seat inventory changes (HOLD, CONFIRM, RELEASE). Written in batches
+ * by SeatJournalWriter and replayed in id order at startup by SeatInventoryService; this
+ * entity only defines the table. Older confirmations are compacted into one CONFIRM entry
+ * per match and category, whose seats are stored as ranges.
+ */
+@Entity
+@Table(name = "seat_reservation_journal", indexes = {
+    @Index(name = "idx_seat_journal_hold", columnList = "hold_id")
+})
+public class SeatReservationJournalEntry {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "hold_id", length = 36, nullable = false)
+    private String holdId;
+
+    @Column(name = "operation", length = 10, nullable = false)
+    private String operation; // HOLD, CONFIRM, RELEASE
+
+    @Column(name = "match_id", nullable = false)
+    private Long matchId;
+
+    @Column(name = "seat_category", length = 20, nullable = false)
+    private String seatCategory;
+
+    @Column(name = "seats", columnDefinition = "MEDIUMTEXT", nullable = false)
+    private String seats;
+
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "expires_at")
+    private LocalDateTime expiresAt;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public String getHoldId() { return holdId; }
+    public void setHoldId(String holdId) { this.holdId = holdId; }
+    public String getOperation() { return operation; }
+    public void setOperation(String operation) { this.operation = operation; }
+    public Long getMatchId() { return matchId; }
+    public void setMatchId(Long matchId) { this.matchId = matchId; }
+    public String getSeatCategory() { return seatCategory; }
+    public void setSeatCategory(String seatCategory) { this.seatCategory = seatCategory; }
+    public String getSeats() { return seats; }
+    public void setSeats(String seats) { this.seats = seats; }
+    public Long getUserId() { return userId; }
+    public void setUserId(Long userId) { this.userId = userId; }
+    public LocalDateTime getExpiresAt() { return expiresAt; }
+    public void setExpiresAt(LocalDateTime expiresAt) { this.expiresAt = expiresAt; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+}
@@ -0,0 +1,17 @@
+package com.examly.springapp.model;
+
+/** Resources a permission grant can be narrowed to; a grant without one covers them all. */
+public enum SecuredResource {
+    TOURNAMENT,
+    MATCH,
+    TEAM,
+    PLAYER,
+    VENUE,
+    USER,
+    TICKET,
+    PAYMENT,
+    NOTIFICATION,
+    ANALYTICS,
+    AUDIT_LOG,
+    SECURITY
+}
@@ -0,0 +1,19 @@
+package com.examly.springapp.model;
+
+/** Operations checked by the permission matrix (at most 64, one bit each). */
+public enum SecurityOperation {
+    CREATE,
+    READ,
+    UPDATE,
+    DELETE,
+    UPDATE_PROFILE,
+    MANAGE_USERS,
+    MANAGE_TOURNAMENTS,
+    MANAGE_MATCHES,
+    MANAGE_TEAM,
+    MANAGE_PLAYERS,
+    VIEW_ANALYTICS,
+    VIEW_TACTICS,
+    MANAGE_SECURITY,
+    AUDIT_LOGS
+}
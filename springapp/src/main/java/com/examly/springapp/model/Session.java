@@ -7,7 +7,10 @@ import jakarta.validation.constraints.NotBlank;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "sessions")
+@Table(name = "sessions", indexes = {
+    @Index(name = "idx_sessions_session_token", columnList = "session_token"),
+    @Index(name = "idx_sessions_user_active", columnList = "user_id, is_active")
+})
 public class Session {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -10,7 +10,7 @@ public class TeamStats {
     private Long id;
 
     @OneToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "team_id")
+    @JoinColumn(name = "team_id", unique = true)
     private Team team;
 
     @Column(name = "matches_played")
@@ -1,9 +1,14 @@
 package com.examly.springapp.model;
 
 import jakarta.persistence.*;
+import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "tickets")
+@Table(name = "tickets", indexes = {
+    @Index(name = "idx_tickets_hold_id", columnList = "hold_id")
+}, uniqueConstraints = {
+    @UniqueConstraint(name = "uk_tickets_match_gate_sequence", columnNames = {"match_id", "gate_sequence"})
+})
 public class Ticket {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -21,6 +26,24 @@ public class Ticket {
     @Column(name = "quantity")
     private Integer quantity;
 
+    @Column(name = "status", length = 20)
+    private String status; // HELD, CONFIRMED, EXPIRED, CANCELLED
+
+    @Column(name = "hold_id", length = 36)
+    private String holdId; // SeatInventoryService hold behind this ticket
+
+    @Column(name = "seats", length = 1000)
+    private String seats; // seat numbers within the category, e.g. "12,13"
+
+    @Column(name = "gate_sequence")
+    private Integer gateSequence; // first of one sequence per seat, dense per match once confirmed; indexes the gates' bitmap
+
+    @Column(name = "scanned_at")
+    private LocalDateTime scannedAt; // first admission
+
+    @Column(name = "admitted_count")
+    private Integer admittedCount; // seats admitted through the gates so far
+
     public Long getId() {
         return id;
     }
@@ -51,6 +74,40 @@ public class Ticket {
     public void setQuantity(Integer quantity) {
         this.quantity = quantity;
     }
+    public String getStatus() {
+        return status;
+    }
+    public void setStatus(String status) {
+        this.status = status;
+    }
+    public String getHoldId() {
+        return holdId;
+    }
+    public void setHoldId(String holdId) {
+        this.holdId = holdId;
+    }
+    public String getSeats() {
+        return seats;
+    }
+    public void setSeats(String seats) {
+        this.seats = seats;
+    }
+    public Integer getGateSequence() {
+        return gateSequence;
+    }
+    public void setGateSequence(Integer gateSequence) {
+        this.gateSequence = gateSequence;
+    }
+    public LocalDateTime getScannedAt() {
+        return scannedAt;
+    }
+    public void setScannedAt(LocalDateTime scannedAt) {
+        this.scannedAt = scannedAt;
+    }
+    public Integer getAdmittedCount() {
+        return admittedCount;
+    }
+    public void setAdmittedCount(Integer admittedCount) {
+        this.admittedCount = admittedCount;
+    }
 }
-
-
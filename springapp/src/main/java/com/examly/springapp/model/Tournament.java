@@ -1,6 +1,8 @@
 package com.examly.springapp.model;
 
 import jakarta.persistence.*;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import java.time.LocalDate;
@@ -8,6 +10,7 @@ import java.util.Set;
 
 @Entity
 @Table(name = "tournaments")
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 public class Tournament {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -34,6 +37,7 @@ public class Tournament {
     @Size(max = 20)
     private String edition;
 
+    @JsonIgnore
     @OneToMany(mappedBy = "tournament", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private Set<Match> matches;
 
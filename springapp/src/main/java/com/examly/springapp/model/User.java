@@ -34,6 +34,7 @@ public class User {
     private UserRole role;
 
     @Size(max = 20)
+    @Column(unique = true) // NULLs do not collide; registration relies on this as the final check
     private String fifaId;
 
     @Size(max = 50)
@@ -5,7 +5,9 @@ import java.time.LocalDateTime;
 import java.util.Map;
 
 @Entity
-@Table(name = "ai_analyses")
+@Table(name = "ai_analyses", indexes = {
+    @Index(name = "idx_ai_analyses_created_id", columnList = "created_at, id")
+})
 public class AIAnalysis {
     
     @Id
@@ -5,7 +5,10 @@ import java.time.LocalDateTime;
 import java.util.Map;
 
 @Entity
-@Table(name = "anomaly_detections")
+@Table(name = "anomaly_detections", indexes = {
+    @Index(name = "idx_anomaly_detected_id", columnList = "detected_at, id"),
+    @Index(name = "idx_anomaly_severity_resolved_detected", columnList = "severity, is_resolved, detected_at")
+})
 public class AnomalyDetection {
     
     @Id
@@ -0,0 +1,96 @@
+package com.examly.springapp.pagination;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset-paginated listing plus the cursor for the next page.
+ *
+ * Repositories are asked for size + 1 rows; the extra row only tells us whether
+ * another page exists and is dropped before returning.
+ */
+public class CursorPage<T> {
+
+    public static final int DEFAULT_SIZE = 50;
+    public static final int MAX_SIZE = 200;
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private final List<T> items;
+    private final String nextCursor;
+
+    private CursorPage(List<T> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    /** Clamp a client-supplied page size to [1, MAX_SIZE]. */
+    public static int pageSize(Integer requested) {
+        if (requested == null || requested <= 0) {
+            return DEFAULT_SIZE;
+        }
+        return Math.min(requested, MAX_SIZE);
+    }
+
+    /** Limit for the repository query: one row more than the page size. */
+    public static Pageable probe(int size) {
+        return PageRequest.of(0, size + 1);
+    }
+
+    public static <T> CursorPage<T> of(List<T> fetched, int size, Function<T, String> cursorOf) {
+        if (fetched.size() <= size) {
+            return new CursorPage<>(fetched, null);
+        }
+        List<T> page = fetched.subList(0, size);
+        return new CursorPage<>(page, cursorOf.apply(page.get(size - 1)));
+    }
+
+    /** Same page and cursor with every item converted, e.g. to a flattened map. */
+    public <R> CursorPage<R> map(Function<T, R> mapper) {
+        List<R> mapped = new ArrayList<>(items.size());
+        for (T item : items) {
+            mapped.add(mapper.apply(item));
+        }
+        return new CursorPage<>(mapped, nextCursor);
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean hasMore() {
+        return nextCursor != null;
+    }
+
+    /**
+     * Keeps the JSON array body existing clients expect and carries the
+     * continuation token in the X-Next-Cursor header (absent on the last page).
+     */
+    public ResponseEntity<List<T>> toResponse() {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        if (hasMore()) {
+            builder.header(NEXT_CURSOR_HEADER, nextCursor);
+        }
+        return builder.body(items);
+    }
+
+    /** Envelope form for endpoints that already return a JSON object. */
+    public Map<String, Object> toMap() {
+        Map<String, Object> body = new HashMap<>();
+        body.put("items", items);
+        body.put("size", items.size());
+        body.put("nextCursor", nextCursor);
+        body.put("hasMore", hasMore());
+        return body;
+    }
+}
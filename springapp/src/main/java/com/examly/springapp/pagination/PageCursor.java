@@ -0,0 +1,76 @@
+package com.examly.springapp.pagination;
+
+import com.examly.springapp.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Opaque continuation token for keyset pagination.
+ *
+ * A cursor records the sort key and id of the last row of a page; the next page
+ * is fetched with "WHERE (sortKey, id) is after the cursor" instead of an OFFSET,
+ * so every page costs the same index range scan no matter how deep the client is.
+ * The id is always part of the key so rows sharing a sort value are never skipped
+ * or repeated. A null sort key is written as an empty string; MySQL sorts NULLs last
+ * in descending order, so the "after" queries continue into the NULL rows by id.
+ */
+public final class PageCursor {
+
+    private static final String VERSION = "v1";
+
+    private final String sortKey;
+    private final long id;
+
+    private PageCursor(String sortKey, long id) {
+        this.sortKey = sortKey;
+        this.id = id;
+    }
+
+    public static String encode(Long id) {
+        return encode("", id);
+    }
+
+    public static String encode(LocalDateTime sortKey, Long id) {
+        return encode(sortKey == null ? "" : sortKey.toString(), id);
+    }
+
+    private static String encode(String sortKey, Long id) {
+        String raw = VERSION + "|" + sortKey + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** Returns null for a missing cursor (first page). */
+    public static PageCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 3 || !VERSION.equals(parts[0])) {
+                throw new InvalidCursorException(token);
+            }
+            return new PageCursor(parts[1], Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException(token);
+        }
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    /** Sort key as a timestamp; null when the last row of the page had none. */
+    public LocalDateTime getDateTime() {
+        if (sortKey.isEmpty()) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(sortKey);
+        } catch (RuntimeException e) {
+            throw new InvalidCursorException(sortKey);
+        }
+    }
+}
@@ -1,15 +1,35 @@
 package com.examly.springapp.repository;
 
 import com.examly.springapp.model.AuditLog;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 public interface AuditLogRepository extends JpaRepository<AuditLog, Long> {
 
+    // Keyset pagination, newest first; (timestamp, id) is the sort key. Every query is
+    // bounded on timestamp so MySQL only scans the monthly partitions in [from, to).
+    @Query("SELECT a FROM AuditLog a WHERE a.timestamp >= :from AND a.timestamp < :to " +
+           "ORDER BY a.timestamp DESC, a.id DESC")
+    List<AuditLog> findPage(@Param("from") LocalDateTime from,
+                            @Param("to") LocalDateTime to,
+                            Pageable pageable);
+
+    @Query("SELECT a FROM AuditLog a WHERE a.timestamp >= :from " +
+           "AND (a.timestamp < :afterTime OR (a.timestamp = :afterTime AND a.id < :afterId)) " +
+           "ORDER BY a.timestamp DESC, a.id DESC")
+    List<AuditLog> findPageAfter(@Param("from") LocalDateTime from,
+                                 @Param("afterTime") LocalDateTime afterTime,
+                                 @Param("afterId") Long afterId,
+                                 Pageable pageable);
+
+    // Fallback retention for unpartitioned tables; partitioned ones drop whole months
     @Modifying
     @Transactional
     @Query("DELETE FROM AuditLog a WHERE a.timestamp < :cutoff")
@@ -0,0 +1,17 @@
+package com.examly.springapp.repository;
+
+import com.examly.springapp.model.MatchEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface MatchEventRepository extends JpaRepository<MatchEvent, Long> {
+    
+    // Ids are assigned in ingestion order, so they give the match timeline
+    @Query("SELECT e FROM MatchEvent e WHERE e.match.id = :matchId ORDER BY e.id ASC")
+    List<MatchEvent> findTimeline(@Param("matchId") Long matchId);
+}
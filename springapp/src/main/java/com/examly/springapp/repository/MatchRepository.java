@@ -1,9 +1,11 @@
 package com.examly.springapp.repository;
 
+import com.examly.springapp.dto.MatchView;
 import com.examly.springapp.model.Match;
 import com.examly.springapp.model.MatchStatus;
 import com.examly.springapp.model.Team;
 import com.examly.springapp.model.Tournament;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -11,6 +13,7 @@ import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface MatchRepository extends JpaRepository<Match, Long> {
@@ -41,7 +44,47 @@ public interface MatchRepository extends JpaRepository<Match, Long> {
     @Query("SELECT m FROM Match m WHERE m.matchDate < :date ORDER BY m.matchDate DESC")
     List<Match> findPastMatches(@Param("date") LocalDateTime date);
     
-    @Query("SELECT m FROM Match m WHERE m.status = 'IN_PROGRESS'")
-    List<Match> findLiveMatches();
+    @Query("SELECT m FROM Match m LEFT JOIN FETCH m.homeTeam LEFT JOIN FETCH m.awayTeam LEFT JOIN FETCH m.tournament WHERE m.id = :id")
+    Optional<Match> findByIdWithTeams(@Param("id") Long id);
+    
+    // Standings rows: [matchId, round, homeTeamId, homeTeamName, awayTeamId, awayTeamName, homeScore, awayScore]
+    @Query("SELECT m.id, m.round, h.id, h.teamName, a.id, a.teamName, m.homeScore, m.awayScore " +
+           "FROM Match m JOIN m.homeTeam h JOIN m.awayTeam a " +
+           "WHERE m.tournament.id = :tournamentId AND m.status = com.examly.springapp.model.MatchStatus.COMPLETED")
+    List<Object[]> findCompletedResultsByTournament(@Param("tournamentId") Long tournamentId);
+    
+    // Seats to sell for a match: its venue's capacity (empty when the match has no venue)
+    @Query("SELECT v.capacity FROM Match m JOIN m.venue v WHERE m.id = :matchId")
+    Optional<Integer> findVenueCapacity(@Param("matchId") Long matchId);
+    
+    // Listing read model: teams, venue and tournament outer-joined into one row per match
+    String MATCH_VIEW = "SELECT new com.examly.springapp.dto.MatchView(m.id, m.matchDate, m.kickoffTime, m.status, " +
+            "m.homeScore, m.awayScore, m.round, " +
+            "h.id, h.teamName, h.confederation, h.fifaRanking, " +
+            "a.id, a.teamName, a.confederation, a.fifaRanking, " +
+            "v.id, v.venueName, v.city, t.id, t.tournamentName) " +
+            "FROM Match m LEFT JOIN m.homeTeam h LEFT JOIN m.awayTeam a " +
+            "LEFT JOIN m.venue v LEFT JOIN m.tournament t ";
+    
+    @Query(MATCH_VIEW + "ORDER BY m.matchDate ASC, m.id ASC")
+    List<MatchView> findAllViews();
+    
+    @Query(MATCH_VIEW + "WHERE m.status = :status ORDER BY m.matchDate ASC, m.id ASC")
+    List<MatchView> findViewsByStatus(@Param("status") MatchStatus status);
+    
+    @Query(MATCH_VIEW + "WHERE m.matchDate >= :date ORDER BY m.matchDate ASC, m.id ASC")
+    List<MatchView> findUpcomingViews(@Param("date") LocalDateTime date);
+    
+    // Keyset pagination over past matches, newest first; (matchDate, id) is the sort key
+    @Query(MATCH_VIEW + "WHERE m.matchDate < :date ORDER BY m.matchDate DESC, m.id DESC")
+    List<MatchView> findPastViewsPage(@Param("date") LocalDateTime date, Pageable pageable);
+    
+    @Query(MATCH_VIEW + "WHERE m.matchDate < :date " +
+           "AND (m.matchDate < :afterDate OR (m.matchDate = :afterDate AND m.id < :afterId)) " +
+           "ORDER BY m.matchDate DESC, m.id DESC")
+    List<MatchView> findPastViewsPageAfter(@Param("date") LocalDateTime date,
+                                           @Param("afterDate") LocalDateTime afterDate,
+                                           @Param("afterId") Long afterId,
+                                           Pageable pageable);
 }
 
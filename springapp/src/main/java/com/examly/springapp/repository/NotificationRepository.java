@@ -2,6 +2,7 @@ package com.examly.springapp.repository;
 
 import com.examly.springapp.model.Notification;
 import com.examly.springapp.model.NotificationType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -22,6 +23,20 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     @Query("SELECT n FROM Notification n WHERE n.createdDate >= :since")
     List<Notification> findNotificationsSince(@Param("since") LocalDateTime since);
     
+    // Keyset pagination, newest first; (createdDate, id) is the sort key
+    @Query("SELECT n FROM Notification n WHERE n.user.id = :userId ORDER BY n.createdDate DESC, n.id DESC")
+    List<Notification> findPageByUser(@Param("userId") Long userId, Pageable pageable);
+    
+    @Query("SELECT n FROM Notification n WHERE n.user.id = :userId " +
+           "AND ((:afterDate IS NULL AND n.createdDate IS NULL AND n.id < :afterId) " +
+           "OR (:afterDate IS NOT NULL AND (n.createdDate < :afterDate OR (n.createdDate = :afterDate AND n.id < :afterId) " +
+           "OR n.createdDate IS NULL))) " +
+           "ORDER BY n.createdDate DESC, n.id DESC")
+    List<Notification> findPageByUserAfter(@Param("userId") Long userId,
+                                           @Param("afterDate") LocalDateTime afterDate,
+                                           @Param("afterId") Long afterId,
+                                           Pageable pageable);
+    
     @Query("SELECT COUNT(n) FROM Notification n WHERE n.user.id = :userId AND n.isRead = false")
     Long countUnreadNotificationsByUser(@Param("userId") Long userId);
 }
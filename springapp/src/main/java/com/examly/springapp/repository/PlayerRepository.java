@@ -1,55 +1,76 @@
 package com.examly.springapp.repository;
 
+import com.examly.springapp.dto.PlayerView;
 import com.examly.springapp.model.Player;
-import com.examly.springapp.model.Team;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface PlayerRepository extends JpaRepository<Player, Long> {
     
-    List<Player> findByPosition(String position);
+    // Listing read model: player + team columns in one statement, no entity hydration
+    String PLAYER_VIEW = "SELECT new com.examly.springapp.dto.PlayerView(p.id, p.firstName, p.lastName, p.position, " +
+            "t.id, t.teamName, t.confederation, t.fifaRanking, p.jerseyNumber, p.dateOfBirth, p.nationality, " +
+            "p.capsEarned, p.goalsScored, p.clubAffiliation, p.medicalClearance, p.isAvailable) " +
+            "FROM Player p LEFT JOIN p.team t ";
     
-    List<Player> findByNationalityContainingIgnoreCaseOrderByNationalityAsc(String nationality);
+    // Keyset pagination: ids are the stable sort key (pass 0 for the first page)
+    @Query(PLAYER_VIEW + "WHERE p.id > :afterId ORDER BY p.id ASC")
+    List<PlayerView> findViewPageAfter(@Param("afterId") Long afterId, Pageable pageable);
     
-    List<Player> findByTeam(Team team);
+    @Query(PLAYER_VIEW + "WHERE p.position = :position")
+    List<PlayerView> findViewsByPosition(@Param("position") String position);
     
-    List<Player> findByTeamId(Long teamId);
+    @Query(PLAYER_VIEW + "WHERE LOWER(p.nationality) LIKE LOWER(CONCAT('%', :nationality, '%')) ORDER BY p.nationality ASC")
+    List<PlayerView> findViewsByNationality(@Param("nationality") String nationality);
     
-    List<Player> findByJerseyNumberAndTeam(Integer jerseyNumber, Team team);
+    @Query(PLAYER_VIEW + "WHERE t.id = :teamId")
+    List<PlayerView> findViewsByTeamId(@Param("teamId") Long teamId);
     
-    List<Player> findByIsAvailable(Boolean isAvailable);
+    @Query(PLAYER_VIEW + "WHERE p.isAvailable = :isAvailable")
+    List<PlayerView> findViewsByAvailability(@Param("isAvailable") Boolean isAvailable);
     
-    List<Player> findByMedicalClearance(Boolean medicalClearance);
+    @Query(PLAYER_VIEW + "WHERE p.medicalClearance = :medicalClearance")
+    List<PlayerView> findViewsByMedicalClearance(@Param("medicalClearance") Boolean medicalClearance);
     
-    @Query("SELECT p FROM Player p WHERE p.dateOfBirth >= :minDate AND p.dateOfBirth <= :maxDate")
-    List<Player> findByDateOfBirthBetween(@Param("minDate") LocalDate minDate, @Param("maxDate") LocalDate maxDate);
+    @Query(PLAYER_VIEW + "ORDER BY p.goalsScored DESC")
+    List<PlayerView> findTopScorerViews(Pageable pageable);
     
-    @Query("SELECT p FROM Player p WHERE p.goalsScored >= :minGoals")
-    List<Player> findByGoalsScoredGreaterThanEqual(@Param("minGoals") Integer minGoals);
+    @Query(PLAYER_VIEW + "WHERE p.firstName LIKE %:name% OR p.lastName LIKE %:name%")
+    List<PlayerView> searchViews(@Param("name") String name);
     
-    @Query("SELECT p FROM Player p WHERE p.capsEarned >= :minCaps")
-    List<Player> findByCapsEarnedGreaterThanEqual(@Param("minCaps") Integer minCaps);
+    @Query(PLAYER_VIEW + "WHERE p.dateOfBirth >= :minDate AND p.dateOfBirth <= :maxDate")
+    List<PlayerView> findViewsByDateOfBirthBetween(@Param("minDate") LocalDate minDate, @Param("maxDate") LocalDate maxDate);
     
-    @Query("SELECT p FROM Player p ORDER BY p.goalsScored DESC")
-    List<Player> findAllOrderByGoalsScoredDesc();
+    @Query(PLAYER_VIEW + "WHERE p.goalsScored >= :minGoals")
+    List<PlayerView> findViewsByMinGoals(@Param("minGoals") Integer minGoals);
     
-    @Query("SELECT p FROM Player p WHERE p.team.confederation = :confederation")
-    List<Player> findByTeamConfederation(@Param("confederation") String confederation);
+    @Query(PLAYER_VIEW + "WHERE p.capsEarned >= :minCaps")
+    List<PlayerView> findViewsByMinCaps(@Param("minCaps") Integer minCaps);
     
-    @Query("SELECT p FROM Player p WHERE p.firstName LIKE %:name% OR p.lastName LIKE %:name%")
-    List<Player> findByNameContaining(@Param("name") String name);
+    @Query(PLAYER_VIEW + "WHERE t.confederation = :confederation")
+    List<PlayerView> findViewsByTeamConfederation(@Param("confederation") String confederation);
     
-    // Legacy methods for backward compatibility
-    List<Player> findByCountryContainingIgnoreCaseOrderByCountryAsc(String country);
+    // Filters the legacy country column, as findByCountryContainingIgnoreCaseOrderByCountryAsc did;
+    // nationality has its own finder above
+    @Query(PLAYER_VIEW + "WHERE LOWER(p.country) LIKE LOWER(CONCAT('%', :country, '%')) ORDER BY p.country ASC")
+    List<PlayerView> findViewsByCountry(@Param("country") String country);
     
-
-    List<Player> findAllByOrderByNationalityDesc();
-//List<Player> findAllByOrderByCountryDesc();
+    // [playerId, teamId] pairs, for validating live match events in one statement
+    @Query("SELECT p.id, t.id FROM Player p LEFT JOIN p.team t WHERE p.id IN :ids")
+    List<Object[]> findTeamIdsByIds(@Param("ids") Collection<Long> ids);
+    
+    // Single player with its team in one statement (team is lazy)
+    @EntityGraph(attributePaths = "team")
+    @Query("SELECT p FROM Player p WHERE p.id = :id")
+    Optional<Player> findWithTeamById(@Param("id") Long id);
 }
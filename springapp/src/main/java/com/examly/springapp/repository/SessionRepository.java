@@ -0,0 +1,26 @@
+package com.examly.springapp.repository;
+
+import com.examly.springapp.model.Session;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface SessionRepository extends JpaRepository<Session, Long> {
+
+    // sessionToken holds the JWT id (jti), not the token itself
+    Optional<Session> findBySessionToken(String sessionToken);
+
+    @Query("SELECT s FROM Session s WHERE s.user.id = :userId AND s.isActive = true AND s.expiryDate > :now")
+    List<Session> findLiveByUserId(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM Session s WHERE s.expiryDate < :cutoff")
+    int deleteExpiredBefore(@Param("cutoff") LocalDateTime cutoff);
+}
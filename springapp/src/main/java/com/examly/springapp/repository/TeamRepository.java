@@ -2,6 +2,7 @@ package com.examly.springapp.repository;
 
 import com.examly.springapp.model.Team;
 import com.examly.springapp.model.TeamStatus;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -13,27 +14,48 @@ import java.util.Optional;
 
 @Repository
 public interface TeamRepository extends JpaRepository<Team, Long> {
+
+    // Team.teamStats is the inverse side of a one-to-one, which Hibernate cannot proxy:
+    // without fetching it here every listed team costs one more SELECT on team_stats.
+    String WITH_STATS = "teamStats";
+
+    @Override
+    @EntityGraph(attributePaths = WITH_STATS)
+    List<Team> findAll();
+
+    @Override
+    @EntityGraph(attributePaths = WITH_STATS)
+    Optional<Team> findById(Long id);
     
+    @EntityGraph(attributePaths = WITH_STATS)
     Optional<Team> findByTeamName(String teamName);
     
+    @EntityGraph(attributePaths = WITH_STATS)
     List<Team> findByConfederation(String confederation);
     
+    @EntityGraph(attributePaths = WITH_STATS)
     List<Team> findByStatus(TeamStatus status);
     
+    @EntityGraph(attributePaths = WITH_STATS)
     List<Team> findByHeadCoach(String headCoach);
     
+    @EntityGraph(attributePaths = WITH_STATS)
     List<Team> findByTeamManager(String teamManager);
     
     @Query("SELECT t FROM Team t WHERE t.fifaRanking BETWEEN :minRank AND :maxRank")
+    @EntityGraph(attributePaths = WITH_STATS)
     List<Team> findByFifaRankingRange(@Param("minRank") Integer minRank, @Param("maxRank") Integer maxRank);
     
     @Query("SELECT t FROM Team t WHERE t.registrationDate >= :since")
+    @EntityGraph(attributePaths = WITH_STATS)
     List<Team> findTeamsRegisteredSince(@Param("since") LocalDateTime since);
     
     @Query("SELECT t FROM Team t ORDER BY t.fifaRanking ASC")
+    @EntityGraph(attributePaths = WITH_STATS)
     List<Team> findAllOrderByFifaRanking();
     
     @Query("SELECT t FROM Team t WHERE t.confederation = :confederation ORDER BY t.fifaRanking ASC")
+    @EntityGraph(attributePaths = WITH_STATS)
     List<Team> findByConfederationOrderByRanking(@Param("confederation") String confederation);
     
     boolean existsByTeamName(String teamName);
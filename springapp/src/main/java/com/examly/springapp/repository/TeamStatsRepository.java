@@ -0,0 +1,22 @@
+package com.examly.springapp.repository;
+
+import com.examly.springapp.model.TeamStats;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface TeamStatsRepository extends JpaRepository<TeamStats, Long> {
+    
+    Optional<TeamStats> findByTeamId(Long teamId);
+
+    // Row lock until commit: MatchEventBatchWriter's SQL increments wait for the result update and vice versa
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM TeamStats s WHERE s.team.id = :teamId")
+    Optional<TeamStats> findByTeamIdForUpdate(@Param("teamId") Long teamId);
+}
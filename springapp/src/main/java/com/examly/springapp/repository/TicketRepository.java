@@ -2,14 +2,54 @@ package com.examly.springapp.repository;
 
 import com.examly.springapp.model.Ticket;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface TicketRepository extends JpaRepository<Ticket, Long> {
     List<Ticket> findByUserId(Long userId);
     List<Ticket> findByMatchId(Long matchId);
+
+    // A ticket owns gate sequences gateSequence .. gateSequence + quantity - 1
+    @Query("SELECT MAX(t.gateSequence + t.quantity - 1) FROM Ticket t WHERE t.matchId = :matchId")
+    Optional<Integer> findLastGateSequence(@Param("matchId") Long matchId);
+
+    // Seeds GateScanService's bitmap for a match: (gateSequence, admittedCount) pairs
+    @Query("SELECT t.gateSequence, t.admittedCount FROM Ticket t WHERE t.matchId = :matchId AND t.admittedCount > 0")
+    List<Object[]> findAdmissions(@Param("matchId") Long matchId);
+
+    // Only while still unpaid: a capture that confirmed the ticket meanwhile wins
+    @Modifying
+    @Transactional
+    @Query("UPDATE Ticket t SET t.status = 'CANCELLED' WHERE t.id = :id AND t.status = 'HELD'")
+    int cancelHeld(@Param("id") Long id);
+
+    // A held ticket, or one whose hold expired before the capture retook its seats;
+    // a concurrent capture that already confirmed it is left alone
+    @Modifying
+    @Transactional
+    @Query("UPDATE Ticket t SET t.status = 'CONFIRMED', t.holdId = :holdId, t.gateSequence = :gateSequence "
+            + "WHERE t.id = :id AND t.status IN ('HELD', 'EXPIRED')")
+    int confirmUnconfirmed(@Param("id") Long id, @Param("holdId") String holdId,
+                           @Param("gateSequence") Integer gateSequence);
+
+    // Only while still unpaid, like cancelHeld
+    @Modifying
+    @Transactional
+    @Query("UPDATE Ticket t SET t.status = 'EXPIRED' WHERE t.id = :id AND t.status = 'HELD'")
+    int expireHeld(@Param("id") Long id);
+
+    // Holds released by SeatInventoryService's expiry sweep
+    @Modifying
+    @Transactional
+    @Query("UPDATE Ticket t SET t.status = 'EXPIRED' WHERE t.holdId IN :holdIds AND t.status = 'HELD'")
+    int expireHolds(@Param("holdIds") List<String> holdIds);
 }
 
 
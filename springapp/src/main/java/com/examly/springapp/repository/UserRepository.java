@@ -14,6 +14,10 @@ import java.util.Optional;
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByUsername(String username);
+
+    // Current username as stored, e.g. before saving a rename
+    @Query("SELECT u.username FROM User u WHERE u.id = :id")
+    Optional<String> findUsernameById(@Param("id") Long id);
     Optional<User> findByEmail(String email);
     Optional<User> findByFifaId(String fifaId);
     List<User> findByRole(UserRole role);
@@ -32,6 +36,17 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByFifaId(String fifaId);
     boolean existsByTeamIgnoreCase(String team);
 
+    // Identity columns only, to seed UserUniquenessIndex without loading entities
+    @Query("SELECT u.username, u.email, u.fifaId FROM User u")
+    List<Object[]> findAllIdentityKeys();
+
+    // One round trip for all three registration uniqueness checks
+    @Query("SELECT u.username, u.email, u.fifaId FROM User u " +
+           "WHERE u.username = :username OR u.email = :email OR (:fifaId IS NOT NULL AND u.fifaId = :fifaId)")
+    List<Object[]> findIdentityConflicts(@Param("username") String username,
+                                         @Param("email") String email,
+                                         @Param("fifaId") String fifaId);
+
 }
 
  
\ No newline at end of file
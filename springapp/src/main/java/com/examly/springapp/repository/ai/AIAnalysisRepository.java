@@ -2,6 +2,7 @@ package com.examly.springapp.repository.ai;
 
 import com.examly.springapp.model.ai.AIAnalysis;
 import com.examly.springapp.model.ai.AnalysisType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -28,6 +29,19 @@ public interface AIAnalysisRepository extends JpaRepository<AIAnalysis, Long> {
     @Query("SELECT a FROM AIAnalysis a ORDER BY a.confidenceScore DESC")
     List<AIAnalysis> findAllOrderByConfidenceDesc();
     
+    // Keyset pagination, newest first; (createdAt, id) is the sort key
+    @Query("SELECT a FROM AIAnalysis a ORDER BY a.createdAt DESC, a.id DESC")
+    List<AIAnalysis> findPage(Pageable pageable);
+    
+    @Query("SELECT a FROM AIAnalysis a " +
+           "WHERE (:afterTime IS NULL AND a.createdAt IS NULL AND a.id < :afterId) " +
+           "OR (:afterTime IS NOT NULL AND (a.createdAt < :afterTime OR (a.createdAt = :afterTime AND a.id < :afterId) " +
+           "OR a.createdAt IS NULL)) " +
+           "ORDER BY a.createdAt DESC, a.id DESC")
+    List<AIAnalysis> findPageAfter(@Param("afterTime") LocalDateTime afterTime,
+                                   @Param("afterId") Long afterId,
+                                   Pageable pageable);
+    
     @Query("SELECT COUNT(a) FROM AIAnalysis a WHERE a.analysisType = :type AND a.createdAt >= :since")
     Long countByTypeSince(@Param("type") AnalysisType type, @Param("since") LocalDateTime since);
 }
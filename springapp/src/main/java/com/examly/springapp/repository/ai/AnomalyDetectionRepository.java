@@ -3,6 +3,7 @@ package com.examly.springapp.repository.ai;
 import com.examly.springapp.model.ai.AnomalyDetection;
 import com.examly.springapp.model.ai.AnomalyType;
 import com.examly.springapp.model.ai.AnomalySeverity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -33,5 +34,28 @@ public interface AnomalyDetectionRepository extends JpaRepository<AnomalyDetecti
     
     @Query("SELECT COUNT(a) FROM AnomalyDetection a WHERE a.anomalyType = :type AND a.detectedAt >= :since")
     Long countByTypeSince(@Param("type") AnomalyType type, @Param("since") LocalDateTime since);
+    
+    /**
+     * One row per (severity, resolved) group: [severity, isResolved, total, detectedSince].
+     * Replaces loading each bucket as entities just to count it; backed by
+     * idx_anomaly_severity_resolved_detected so it never touches the table rows.
+     */
+    @Query("SELECT a.severity, a.isResolved, COUNT(a), " +
+           "SUM(CASE WHEN a.detectedAt >= :since THEN 1 ELSE 0 END) " +
+           "FROM AnomalyDetection a GROUP BY a.severity, a.isResolved")
+    List<Object[]> aggregateBySeverityAndResolution(@Param("since") LocalDateTime since);
+    
+    // Keyset pagination, newest first; (detectedAt, id) is the sort key
+    @Query("SELECT a FROM AnomalyDetection a ORDER BY a.detectedAt DESC, a.id DESC")
+    List<AnomalyDetection> findPage(Pageable pageable);
+    
+    @Query("SELECT a FROM AnomalyDetection a " +
+           "WHERE (:afterTime IS NULL AND a.detectedAt IS NULL AND a.id < :afterId) " +
+           "OR (:afterTime IS NOT NULL AND (a.detectedAt < :afterTime OR (a.detectedAt = :afterTime AND a.id < :afterId) " +
+           "OR a.detectedAt IS NULL)) " +
+           "ORDER BY a.detectedAt DESC, a.id DESC")
+    List<AnomalyDetection> findPageAfter(@Param("afterTime") LocalDateTime afterTime,
+                                         @Param("afterId") Long afterId,
+                                         Pageable pageable);
 }
 
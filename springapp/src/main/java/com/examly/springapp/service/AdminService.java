@@ -1,10 +1,16 @@
 package com.examly.springapp.service;
 
+import com.examly.springapp.model.AuditLog;
+import com.examly.springapp.pagination.CursorPage;
+import com.examly.springapp.pagination.PageCursor;
 import com.examly.springapp.repository.*;
+import com.examly.springapp.service.audit.AuditPartitionManager;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @Service
@@ -24,6 +30,12 @@ public class AdminService {
     
     @Autowired
     private TournamentRepository tournamentRepository;
+    
+    @Autowired
+    private AuditLogRepository auditLogRepository;
+
+    @Autowired
+    private AuditPartitionManager auditPartitionManager;
 
     public Map<String, Object> getSystemAnalytics() {
         Map<String, Object> analytics = new HashMap<>();
@@ -48,15 +60,29 @@ public class AdminService {
         return reports;
     }
 
-    public Map<String, Object> getAuditLogs(int page, int size) {
-        Map<String, Object> auditLogs = new HashMap<>();
-        
-        // Implementation for audit logs with pagination
-        auditLogs.put("page", page);
-        auditLogs.put("size", size);
-        auditLogs.put("message", "Audit logs retrieved");
-        
-        return auditLogs;
+    public Map<String, Object> getAuditLogs(String cursor, Integer size, LocalDateTime from, LocalDateTime to) {
+        PageCursor after = PageCursor.decode(cursor);
+        int pageSize = CursorPage.pageSize(size);
+        // Default window is the retention period, which is all the data there is
+        LocalDateTime lower = from != null ? from : auditPartitionManager.retentionCutoff();
+        LocalDateTime upper = to != null ? to : LocalDateTime.now().plusDays(1);
+        List<AuditLog> rows = after == null
+                ? auditLogRepository.findPage(lower, upper, CursorPage.probe(pageSize))
+                : auditLogRepository.findPageAfter(lower, after.getDateTime(), after.getId(), CursorPage.probe(pageSize));
+        CursorPage<AuditLog> page = CursorPage.of(rows, pageSize, a -> PageCursor.encode(a.getTimestamp(), a.getId()));
+        // Flatten rows so the lazy user association is never serialized
+        return page.map(log -> {
+            Map<String, Object> item = new HashMap<>();
+            item.put("id", log.getId());
+            item.put("action", log.getAction());
+            item.put("entityType", log.getEntityType());
+            item.put("entityId", log.getEntityId());
+            item.put("description", log.getDescription());
+            item.put("severity", log.getSeverity());
+            item.put("ipAddress", log.getIpAddress());
+            item.put("timestamp", log.getTimestamp());
+            return item;
+        }).toMap();
     }
 
     public void sendSystemNotification(String message, String type) {
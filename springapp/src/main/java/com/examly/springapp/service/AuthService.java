@@ -4,19 +4,24 @@ import com.examly.springapp.configuration.JWTUtil;
 import com.examly.springapp.model.User;
 import com.examly.springapp.model.UserRole;
 import com.examly.springapp.repository.UserRepository;
+import com.examly.springapp.service.security.PasswordHashingService;
+import com.examly.springapp.service.security.UserPrincipalService;
+import com.examly.springapp.service.security.TokenRevocationService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.ArrayList;
 
@@ -27,11 +32,20 @@ public class AuthService implements UserDetailsService {
     private UserRepository userRepository;
 
     @Autowired
-    private PasswordEncoder passwordEncoder;
+    private PasswordHashingService passwordHashingService;
 
     @Autowired
     private JWTUtil jwtUtil;
 
+    @Autowired
+    private UserPrincipalService userPrincipalService;
+
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
+    @Autowired
+    private UserUniquenessIndex userUniquenessIndex;
+
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         User user = userRepository.findByUsername(username)
@@ -53,30 +67,43 @@ public class AuthService implements UserDetailsService {
     }
 
     public String authenticate(String username, String password) {
-        UserDetails userDetails = loadUserByUsername(username);
+        // One lookup serves the password check, the last-login update and the token claims
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
         
-        if (passwordEncoder.matches(password, userDetails.getPassword())) {
-            User user = userRepository.findByUsername(username).orElseThrow();
+        if (passwordHashingService.matches(password, user.getPasswordHash())) {
+            // Re-encode at the current cost while the raw password is at hand
+            if (passwordHashingService.needsRehash(user.getPasswordHash())) {
+                user.setPasswordHash(passwordHashingService.encode(password));
+                passwordHashingService.recordRehash();
+            }
             user.setLastLogin(LocalDateTime.now());
             userRepository.save(user);
             
-            return jwtUtil.generateToken(username, userDetails.getAuthorities());
+            String token = jwtUtil.generateToken(username, getAuthorities(user.getRole()), identityClaims(user));
+            tokenRevocationService.recordSession(user, jwtUtil.extractTokenId(token), jwtUtil.extractExpiration(token));
+            return token;
         }
         
         throw new RuntimeException("Invalid credentials");
     }
 
-       public User register(User user) {
-    if (userRepository.existsByUsername(user.getUsername())) {
-        throw new RuntimeException("Username already exists");
+    private Map<String, Object> identityClaims(User user) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(JWTUtil.USER_ID_CLAIM, user.getId());
+        claims.put(JWTUtil.ROLE_CLAIM, user.getRole() == null ? null : user.getRole().name());
+        claims.put(JWTUtil.TEAM_CLAIM, user.getTeam());
+        return claims;
     }
 
-    if (userRepository.existsByEmail(user.getEmail())) {
-        throw new RuntimeException("Email already exists");
+       public User register(User user) {
+    if (user.getFifaId() != null && user.getFifaId().isBlank()) {
+        user.setFifaId(null); // fifaId is unique; blanks would collide where NULLs do not
     }
-
-    if (user.getFifaId() != null && userRepository.existsByFifaId(user.getFifaId())) {
-        throw new RuntimeException("FIFA ID already exists");
+    // Usually answered by the in-memory filters alone; at most one query otherwise
+    String conflict = userUniquenessIndex.findConflict(user.getUsername(), user.getEmail(), user.getFifaId());
+    if (conflict != null) {
+        throw new RuntimeException(conflict + " already exists");
     }
   //  if (!isValidTeamName(user.getTeam())) {
     //    throw new RuntimeException("Team name must contain only letters and cannot be empty");
@@ -93,7 +120,7 @@ public class AuthService implements UserDetailsService {
     //    throw new RuntimeException("Password does not meet policy requirements");
     //}
 
-    String encodedPassword = passwordEncoder.encode(user.getPasswordHash());
+    String encodedPassword = passwordHashingService.encode(user.getPasswordHash());
     user.setPasswordHash(encodedPassword);
     user.setPasswordChangedDate(LocalDateTime.now());
 
@@ -102,7 +129,16 @@ public class AuthService implements UserDetailsService {
     user.setCreatedDate(LocalDateTime.now());
     user.setIsActive(true);
 
-    return userRepository.save(user);
+    User saved;
+    try {
+        saved = userRepository.save(user);
+    } catch (DataIntegrityViolationException e) {
+        // Lost a race, or the value was registered on another instance: the unique index decides
+        String taken = userUniquenessIndex.findConflictInDatabase(user.getUsername(), user.getEmail(), user.getFifaId());
+        throw new RuntimeException((taken != null ? taken : "Username or email") + " already exists");
+    }
+    userUniquenessIndex.add(saved);
+    return saved;
 }
 private boolean isValidFifaId(String fifaId) {
     return fifaId != null && fifaId.matches("^(?=.[A-Za-z])(?=.\\d)[A-Za-z\\d]+$");
@@ -136,7 +172,7 @@ private boolean isValidPassword(String password, User user, List<String> prevEnc
 
     if (prevEncodedPasswords != null && !prevEncodedPasswords.isEmpty()) {
         for (String prev : prevEncodedPasswords) {
-            if (passwordEncoder.matches(password, prev)) {
+            if (passwordHashingService.matches(password, prev)) {
                 return false; // Reused password
             }
         }
@@ -152,7 +188,7 @@ public void updatePassword(String username, String newPassword) {
         throw new RuntimeException("Password does not meet policy or was used recently");
     }
 
-    String encoded = passwordEncoder.encode(newPassword);
+    String encoded = passwordHashingService.encode(newPassword);
     List<String> history = new ArrayList<>(user.getPreviousPasswords());
 
     history.add(0, encoded); // Add to beginning
@@ -165,6 +201,9 @@ public void updatePassword(String username, String newPassword) {
     user.setPasswordChangedDate(LocalDateTime.now());
 
     userRepository.save(user);
+    userPrincipalService.invalidate(username);
+    // Tokens issued under the old password stop working now, not at their expiry
+    tokenRevocationService.revokeAllForUser(user.getId());
 }
 public boolean isPasswordExpired(User user) {
     if (user.getPasswordChangedDate() == null) return true;
@@ -190,6 +229,10 @@ private boolean isValidTeamName(String team) {
 
 
 
+    public Optional<User> findById(Long userId) {
+        return userRepository.findById(userId);
+    }
+
     public Optional<User> findByUsername(String username) {
         return userRepository.findByUsername(username);
     }
@@ -203,11 +246,23 @@ private boolean isValidTeamName(String team) {
     }
 
     public User updateUser(User user) {
-        return userRepository.save(user);
+        // A rename must also drop the principal cached under the old username
+        String previousUsername = user.getId() == null ? null
+                : userRepository.findUsernameById(user.getId()).orElse(null);
+        User saved = userRepository.save(user);
+        userPrincipalService.invalidate(previousUsername);
+        userPrincipalService.invalidate(saved.getUsername());
+        userUniquenessIndex.add(saved);
+        return saved;
     }
 
     public void deleteUser(Long userId) {
+        // Before the delete: the revocations land in revoked_tokens, which outlives the
+        // session rows that cascade away with the user
+        tokenRevocationService.revokeAllForUser(userId);
         userRepository.deleteById(userId);
+        // Callers only know the id; deletions are rare enough to drop every cached principal
+        userPrincipalService.invalidateAll();
     }
 
     public List<User> getAllUsers() {
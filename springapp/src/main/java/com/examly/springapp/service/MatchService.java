@@ -1,15 +1,31 @@
 package com.examly.springapp.service;
 
+import com.examly.springapp.dto.MatchView;
+import com.examly.springapp.exception.MatchEventsPendingException;
 import com.examly.springapp.model.Match;
+import com.examly.springapp.model.MatchEvent;
 import com.examly.springapp.model.MatchStatus;
 import com.examly.springapp.model.Team;
+import com.examly.springapp.model.TeamStats;
 import com.examly.springapp.model.Tournament;
+import com.examly.springapp.pagination.CursorPage;
+import com.examly.springapp.pagination.PageCursor;
+import com.examly.springapp.repository.MatchEventRepository;
 import com.examly.springapp.repository.MatchRepository;
+import com.examly.springapp.repository.TeamStatsRepository;
+import com.examly.springapp.service.live.LiveScoreBroadcaster;
+import com.examly.springapp.service.live.MatchEventIngestionService;
+import com.examly.springapp.service.standings.StandingsEngine;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
@@ -18,16 +34,42 @@ public class MatchService {
     @Autowired
     private MatchRepository matchRepository;
 
+    @Autowired
+    private TeamStatsRepository teamStatsRepository;
+
+    @Autowired
+    private MatchEventRepository matchEventRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private StandingsEngine standingsEngine;
+
+    @Autowired
+    private MatchEventIngestionService matchEventIngestionService;
+
+    @Autowired
+    private LiveScoreBroadcaster liveScoreBroadcaster;
+
     public Match saveMatch(Match match) {
-        return matchRepository.save(match);
+        Match saved = matchRepository.save(match);
+        // Generic saves may change teams, round or score: rebuild that tournament's table lazily
+        if (saved.getId() != null) {
+            standingsEngine.forgetMatch(saved.getId());
+        }
+        if (saved.getTournament() != null) {
+            standingsEngine.evict(saved.getTournament().getId());
+        }
+        return saved;
     }
 
-    public List<Match> getAllMatches() {
-        return matchRepository.findAll();
+    public List<MatchView> getAllMatches() {
+        return matchRepository.findAllViews();
     }
 
-    public List<Match> getMatchesByStatus(MatchStatus status) {
-        return matchRepository.findByStatus(status);
+    public List<MatchView> getMatchesByStatus(MatchStatus status) {
+        return matchRepository.findViewsByStatus(status);
     }
 
     public List<Match> getMatchesByTeam(Team team) {
@@ -38,16 +80,50 @@ public class MatchService {
         return matchRepository.findByTournament(tournament);
     }
 
-    public List<Match> getUpcomingMatches() {
-        return matchRepository.findUpcomingMatches(LocalDateTime.now());
+    public List<MatchView> getUpcomingMatches() {
+        return matchRepository.findUpcomingViews(LocalDateTime.now());
+    }
+
+    public List<MatchView> getLiveMatches() {
+        return matchRepository.findViewsByStatus(MatchStatus.LIVE);
+    }
+
+    public CursorPage<MatchView> getPastMatches(String cursor, Integer size) {
+        PageCursor after = PageCursor.decode(cursor);
+        int pageSize = CursorPage.pageSize(size);
+        List<MatchView> rows = after == null
+                ? matchRepository.findPastViewsPage(LocalDateTime.now(), CursorPage.probe(pageSize))
+                : matchRepository.findPastViewsPageAfter(LocalDateTime.now(), after.getDateTime(), after.getId(),
+                        CursorPage.probe(pageSize));
+        return CursorPage.of(rows, pageSize, m -> PageCursor.encode(m.getMatchDate(), m.getId()));
     }
 
-    public List<Match> getLiveMatches() {
-        return matchRepository.findLiveMatches();
+    public SseEmitter streamLiveScore(Long matchId) {
+        Match match = liveScoreBroadcaster.hasScore(matchId) ? null : matchRepository.findByIdWithTeams(matchId)
+                .orElseThrow(() -> new RuntimeException("Match not found"));
+        SseEmitter emitter = liveScoreBroadcaster.subscribe(matchId);
+        // Seed the current score once the match has a subscriber to hold it; later
+        // subscribers are served from the broadcaster until the last one leaves
+        if (match != null && !liveScoreBroadcaster.hasScore(matchId)) {
+            liveScoreBroadcaster.publishScore(matchId, LiveScoreBroadcaster.scorePayload(matchId,
+                    teamIdOf(match.getHomeTeam()), teamIdOf(match.getAwayTeam()),
+                    scoreOf(match.getHomeScore()), scoreOf(match.getAwayScore()), String.valueOf(match.getStatus())));
+        }
+        return emitter;
     }
 
-    public List<Match> getPastMatches() {
-        return matchRepository.findPastMatches(LocalDateTime.now());
+    public List<Map<String, Object>> getMatchEvents(Long matchId) {
+        List<Map<String, Object>> timeline = new ArrayList<>();
+        for (MatchEvent event : matchEventRepository.findTimeline(matchId)) {
+            Map<String, Object> item = new HashMap<>();
+            item.put("id", event.getId());
+            item.put("eventType", event.getEventType());
+            item.put("playerId", event.getPlayer() == null ? null : event.getPlayer().getId());
+            item.put("eventTime", event.getEventTime());
+            item.put("description", event.getDescription());
+            timeline.add(item);
+        }
+        return timeline;
     }
 
     public Optional<Match> getMatchById(Long id) {
@@ -56,17 +132,96 @@ public class MatchService {
 
     public void deleteMatch(Long id) {
         matchRepository.deleteById(id);
+        standingsEngine.forgetMatch(id);
     }
 
     public Match updateMatchResult(Long matchId, Integer homeScore, Integer awayScore) {
-        Match match = matchRepository.findById(matchId)
-                .orElseThrow(() -> new RuntimeException("Match not found"));
+        // Flush buffered live events first so their score increments land before the final result
+        if (!matchEventIngestionService.closeMatch(matchId)) {
+            throw new MatchEventsPendingException("Live events of match " + matchId
+                    + " are still being saved; retry the result shortly");
+        }
+        
+        // The result and both teams' stats commit together or not at all
+        Match saved = transactionTemplate.execute(status -> {
+            Match match = matchRepository.findByIdWithTeams(matchId)
+                    .orElseThrow(() -> new RuntimeException("Match not found"));
+            
+            boolean wasCompleted = match.getStatus() == MatchStatus.COMPLETED;
+            int previousHome = scoreOf(match.getHomeScore());
+            int previousAway = scoreOf(match.getAwayScore());
+            
+            match.setHomeScore(homeScore);
+            match.setAwayScore(awayScore);
+            match.setStatus(MatchStatus.COMPLETED);
+            
+            // Both rows are locked in team id order, so two results touching the same teams
+            // cannot deadlock; concurrent updates of a team's stats wait for this commit
+            Team home = match.getHomeTeam();
+            Team away = match.getAwayTeam();
+            boolean homeFirst = home == null || away == null || home.getId() <= away.getId();
+            TeamStats homeStats = homeFirst ? lockStats(home) : null;
+            TeamStats awayStats = lockStats(away);
+            if (!homeFirst) {
+                homeStats = lockStats(home);
+            }
+            
+            // Goals already counted (live events or an earlier result) are only topped up by the
+            // difference; the outcome of a corrected result replaces the previous one
+            applyToTeamStats(homeStats, previousHome, previousAway, scoreOf(homeScore), scoreOf(awayScore), wasCompleted);
+            applyToTeamStats(awayStats, previousAway, previousHome, scoreOf(awayScore), scoreOf(homeScore), wasCompleted);
+            return matchRepository.save(match);
+        });
         
-        match.setHomeScore(homeScore);
-        match.setAwayScore(awayScore);
-        match.setStatus(MatchStatus.COMPLETED);
+        // In-memory standings and live subscribers only ever see a committed result
+        standingsEngine.recordResult(saved);
+        liveScoreBroadcaster.publishFinal(matchId, LiveScoreBroadcaster.scorePayload(matchId,
+                teamIdOf(saved.getHomeTeam()), teamIdOf(saved.getAwayTeam()),
+                scoreOf(homeScore), scoreOf(awayScore), MatchStatus.COMPLETED.name()));
+        return saved;
+    }
+
+    private TeamStats lockStats(Team team) {
+        if (team == null) {
+            return null;
+        }
+        return teamStatsRepository.findByTeamIdForUpdate(team.getId()).orElseGet(() -> new TeamStats(team));
+    }
+
+    private void applyToTeamStats(TeamStats stats, int previousScored, int previousConceded,
+                                  int scored, int conceded, boolean wasCompleted) {
+        if (stats == null) {
+            return;
+        }
         
-        return matchRepository.save(match);
+        stats.setGoalsFor(scoreOf(stats.getGoalsFor()) + scored - previousScored);
+        stats.setGoalsAgainst(scoreOf(stats.getGoalsAgainst()) + conceded - previousConceded);
+        if (wasCompleted) {
+            applyOutcome(stats, previousScored, previousConceded, -1);
+        }
+        applyOutcome(stats, scored, conceded, 1);
+        stats.setPoints(scoreOf(stats.getWins()) * 3 + scoreOf(stats.getDraws()));
+        
+        teamStatsRepository.save(stats);
+    }
+
+    private void applyOutcome(TeamStats stats, int scored, int conceded, int sign) {
+        stats.setMatchesPlayed(scoreOf(stats.getMatchesPlayed()) + sign);
+        if (scored > conceded) {
+            stats.setWins(scoreOf(stats.getWins()) + sign);
+        } else if (scored == conceded) {
+            stats.setDraws(scoreOf(stats.getDraws()) + sign);
+        } else {
+            stats.setLosses(scoreOf(stats.getLosses()) + sign);
+        }
+    }
+
+    private static Long teamIdOf(Team team) {
+        return team == null ? null : team.getId();
+    }
+
+    private static int scoreOf(Integer value) {
+        return value == null ? 0 : value;
     }
 }
 
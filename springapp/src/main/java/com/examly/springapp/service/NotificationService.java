@@ -2,6 +2,8 @@ package com.examly.springapp.service;
 
 import com.examly.springapp.model.Notification;
 import com.examly.springapp.model.NotificationType;
+import com.examly.springapp.pagination.CursorPage;
+import com.examly.springapp.pagination.PageCursor;
 import com.examly.springapp.repository.NotificationRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -18,8 +20,14 @@ public class NotificationService {
         return notificationRepository.save(notification);
     }
 
-    public List<Notification> getNotificationsByUser(Long userId) {
-        return notificationRepository.findByUserIdOrderByCreatedDateDesc(userId);
+    public CursorPage<Notification> getNotificationsByUser(Long userId, String cursor, Integer size) {
+        PageCursor after = PageCursor.decode(cursor);
+        int pageSize = CursorPage.pageSize(size);
+        List<Notification> rows = after == null
+                ? notificationRepository.findPageByUser(userId, CursorPage.probe(pageSize))
+                : notificationRepository.findPageByUserAfter(userId, after.getDateTime(), after.getId(),
+                        CursorPage.probe(pageSize));
+        return CursorPage.of(rows, pageSize, n -> PageCursor.encode(n.getCreatedDate(), n.getId()));
     }
 
     public List<Notification> getUnreadNotificationsByUser(Long userId) {
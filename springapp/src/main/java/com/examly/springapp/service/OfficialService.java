@@ -3,8 +3,12 @@ package com.examly.springapp.service;
 import com.examly.springapp.model.Official;
 import com.examly.springapp.model.OfficialType;
 import com.examly.springapp.repository.OfficialRepository;
+import com.examly.springapp.configuration.CacheConfiguration;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -15,30 +19,49 @@ public class OfficialService {
     @Autowired
     private OfficialRepository officialRepository;
 
+    @CacheEvict(cacheNames = {CacheConfiguration.OFFICIALS, CacheConfiguration.OFFICIAL_QUERIES}, allEntries = true)
     public Official saveOfficial(Official official) {
         return officialRepository.save(official);
     }
 
+    @Transactional
+    @CacheEvict(cacheNames = {CacheConfiguration.OFFICIALS, CacheConfiguration.OFFICIAL_QUERIES}, allEntries = true)
+    public Official updateOfficial(Long id, Official details) {
+        Official official = officialRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Official not found"));
+        official.setOfficialName(details.getOfficialName());
+        official.setOfficialType(details.getOfficialType());
+        official.setNationality(details.getNationality());
+        official.setExperience(details.getExperience());
+        return officialRepository.save(official);
+    }
+
+    @Cacheable(cacheNames = CacheConfiguration.OFFICIAL_QUERIES, key = "'all'")
     public List<Official> getAllOfficials() {
         return officialRepository.findAll();
     }
 
+    @Cacheable(cacheNames = CacheConfiguration.OFFICIAL_QUERIES, key = "'type:' + #type")
     public List<Official> getOfficialsByType(OfficialType type) {
         return officialRepository.findByOfficialType(type);
     }
 
+    @Cacheable(cacheNames = CacheConfiguration.OFFICIAL_QUERIES, key = "'nationality:' + #nationality")
     public List<Official> getOfficialsByNationality(String nationality) {
         return officialRepository.findByNationality(nationality);
     }
 
+    @Cacheable(cacheNames = CacheConfiguration.OFFICIAL_QUERIES, key = "'experience:' + #minExperience")
     public List<Official> getOfficialsByExperience(int minExperience) {
         return officialRepository.findByExperienceGreaterThanEqual(minExperience);
     }
 
+    @Cacheable(cacheNames = CacheConfiguration.OFFICIALS, key = "#id")
     public Optional<Official> getOfficialById(Long id) {
         return officialRepository.findById(id);
     }
 
+    @CacheEvict(cacheNames = {CacheConfiguration.OFFICIALS, CacheConfiguration.OFFICIAL_QUERIES}, allEntries = true)
     public void deleteOfficial(Long id) {
         officialRepository.deleteById(id);
     }
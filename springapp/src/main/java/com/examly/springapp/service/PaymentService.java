@@ -1,18 +1,19 @@
 package com.examly.springapp.service;
 
+import com.examly.springapp.exception.PaymentNotCapturableException;
 import com.examly.springapp.model.Payment;
 import com.examly.springapp.repository.PaymentRepository;
+import com.examly.springapp.service.payment.CheckoutRequest;
+import com.examly.springapp.service.payment.PaymentGatewayClient;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
-import com.stripe.Stripe;
-import com.stripe.exception.StripeException;
-import com.stripe.model.checkout.Session;
-import com.stripe.param.checkout.SessionCreateParams;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 public class PaymentService {
@@ -20,6 +21,12 @@ public class PaymentService {
     @Autowired
     private PaymentRepository paymentRepository;
 
+    @Autowired
+    private TicketService ticketService;
+
+    @Autowired
+    private PaymentGatewayClient paymentGatewayClient;
+
     public Payment initiate(Long userId, Long ticketId, double amount, String currency, String provider) {
         Payment p = new Payment();
         p.setUserId(userId);
@@ -33,41 +40,73 @@ public class PaymentService {
         return paymentRepository.save(p);
     }
 
-    public String createStripeCheckoutSession(String apiKey, long amountMinor, String currency, String successUrl, String cancelUrl, String productName, String reference) throws StripeException {
-        Stripe.apiKey = apiKey;
-        SessionCreateParams params = SessionCreateParams.builder()
-            .addLineItem(
-                SessionCreateParams.LineItem.builder()
-                    .setQuantity(1L)
-                    .setPriceData(
-                        SessionCreateParams.LineItem.PriceData.builder()
-                            .setCurrency(currency.toLowerCase())
-                            .setUnitAmount(amountMinor)
-                            .setProductData(
-                                SessionCreateParams.LineItem.PriceData.ProductData.builder()
-                                    .setName(productName)
-                                    .build()
-                            )
-                            .build()
-                    )
-                    .build()
-            )
-            .setMode(SessionCreateParams.Mode.PAYMENT)
-            .setSuccessUrl(successUrl + "?ref=" + reference)
-            .setCancelUrl(cancelUrl)
-            .putMetadata("reference", reference)
-            .build();
-        Session session = Session.create(params);
-        return session.getUrl();
+    public boolean isCheckoutConfigured() {
+        return paymentGatewayClient.isConfigured();
+    }
+
+    /**
+     * Records the payment and opens a hosted checkout for it through the gateway client,
+     * which runs the provider call on its own pool. Fails fast, without recording
+     * anything, while the gateway's circuit breaker is open; a checkout that times out
+     * or errors leaves the payment FAILED. The checkout URL is kept on the payment,
+     * encrypted at rest.
+     */
+    public CompletableFuture<Map<String, String>> checkout(Long userId, Long ticketId, double amount, String currency,
+                                                           String successUrl, String cancelUrl) {
+        paymentGatewayClient.checkAvailable();
+        Payment p = initiate(userId, ticketId, amount, currency, paymentGatewayClient.gatewayName());
+        CheckoutRequest request = new CheckoutRequest(Math.round(amount * 100), currency, successUrl, cancelUrl,
+                "FIFA Ticket", p.getReference());
+        CompletableFuture<String> session;
+        try {
+            session = paymentGatewayClient.createCheckoutSession(request);
+        } catch (RuntimeException e) {
+            markFailed(p);
+            throw e;
+        }
+        // Async: these save the payment, which must not happen on whatever thread completed the future
+        return session.whenCompleteAsync((url, error) -> {
+            if (error != null) {
+                markFailed(p);
+            }
+        }, paymentGatewayClient.completionExecutor()).thenApply(url -> {
+            p.setCheckoutUrl(url);
+            paymentRepository.save(p);
+            return Map.of("checkoutUrl", url, "reference", p.getReference());
+        });
     }
 
     public Optional<Payment> findByReference(String reference) {
         return paymentRepository.findByReference(reference);
     }
 
+    /**
+     * Records the capture and turns the ticket's seat hold into a sale. When the hold
+     * lapsed and its seats went to someone else, the payment is returned as
+     * REFUND_REQUIRED instead of CAPTURED. A FAILED payment (e.g. its checkout timed
+     * out) cannot be captured.
+     */
     public Payment markCaptured(Payment p) {
+        if ("FAILED".equals(p.getStatus())) {
+            throw new PaymentNotCapturableException("Payment " + p.getReference() + " failed and cannot be captured");
+        }
+        if ("REFUND_REQUIRED".equals(p.getStatus())) {
+            return p;
+        }
         p.setStatus("CAPTURED");
         p.setCapturedAt(LocalDateTime.now());
+        Payment saved = paymentRepository.save(p);
+        if (saved.getTicketId() != null && !ticketService.confirmTicket(saved.getTicketId())) {
+            System.err.println("Payment " + saved.getReference() + " captured but ticket "
+                    + saved.getTicketId() + " could not be confirmed; refund required");
+            saved.setStatus("REFUND_REQUIRED");
+            saved = paymentRepository.save(saved);
+        }
+        return saved;
+    }
+
+    public Payment markFailed(Payment p) {
+        p.setStatus("FAILED");
         return paymentRepository.save(p);
     }
 
@@ -1,9 +1,13 @@
 package com.examly.springapp.service;
 
+import com.examly.springapp.dto.PlayerView;
 import com.examly.springapp.model.Player;
 import com.examly.springapp.model.Team;
+import com.examly.springapp.pagination.CursorPage;
+import com.examly.springapp.pagination.PageCursor;
 import com.examly.springapp.repository.PlayerRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
@@ -20,58 +24,62 @@ public class PlayerService {
         return playerRepository.save(player);
     }
 
-    public List<Player> getAllPlayers() {
-        return playerRepository.findAll();
+    public CursorPage<PlayerView> getAllPlayers(String cursor, Integer size) {
+        PageCursor after = PageCursor.decode(cursor);
+        int pageSize = CursorPage.pageSize(size);
+        List<PlayerView> rows = playerRepository.findViewPageAfter(after == null ? 0L : after.getId(),
+                CursorPage.probe(pageSize));
+        return CursorPage.of(rows, pageSize, p -> PageCursor.encode(p.getId()));
     }
 
-    public List<Player> getPlayersByPosition(String position) {
-        return playerRepository.findByPosition(position);
+    public List<PlayerView> getPlayersByPosition(String position) {
+        return playerRepository.findViewsByPosition(position);
     }
 
-    public List<Player> getPlayersByNationality(String nationality) {
-        return playerRepository.findByNationalityContainingIgnoreCaseOrderByNationalityAsc(nationality);
+    public List<PlayerView> getPlayersByNationality(String nationality) {
+        return playerRepository.findViewsByNationality(nationality);
     }
 
-    public List<Player> getPlayersByTeam(Long teamId) {
-        return playerRepository.findByTeamId(teamId);
+    public List<PlayerView> getPlayersByTeam(Long teamId) {
+        return playerRepository.findViewsByTeamId(teamId);
     }
 
-    public List<Player> getAvailablePlayers() {
-        return playerRepository.findByIsAvailable(true);
+    public List<PlayerView> getAvailablePlayers() {
+        return playerRepository.findViewsByAvailability(true);
     }
 
-    public List<Player> getPlayersWithMedicalClearance() {
-        return playerRepository.findByMedicalClearance(true);
+    public List<PlayerView> getPlayersWithMedicalClearance() {
+        return playerRepository.findViewsByMedicalClearance(true);
     }
 
-    public List<Player> getTopScorers() {
-        return playerRepository.findAllOrderByGoalsScoredDesc();
+    public List<PlayerView> getTopScorers(Integer limit) {
+        return playerRepository.findTopScorerViews(PageRequest.of(0, CursorPage.pageSize(limit)));
     }
 
-    public List<Player> searchPlayers(String name) {
-        return playerRepository.findByNameContaining(name);
+    public List<PlayerView> searchPlayers(String name) {
+        return playerRepository.searchViews(name);
     }
 
-    public List<Player> getPlayersByAgeRange(int minAge, int maxAge) {
+    public List<PlayerView> getPlayersByAgeRange(int minAge, int maxAge) {
         LocalDate maxDate = LocalDate.now().minusYears(minAge);
         LocalDate minDate = LocalDate.now().minusYears(maxAge + 1);
-        return playerRepository.findByDateOfBirthBetween(minDate, maxDate);
+        return playerRepository.findViewsByDateOfBirthBetween(minDate, maxDate);
     }
 
-    public List<Player> getPlayersByGoals(int minGoals) {
-        return playerRepository.findByGoalsScoredGreaterThanEqual(minGoals);
+    public List<PlayerView> getPlayersByGoals(int minGoals) {
+        return playerRepository.findViewsByMinGoals(minGoals);
     }
 
-    public List<Player> getPlayersByCaps(int minCaps) {
-        return playerRepository.findByCapsEarnedGreaterThanEqual(minCaps);
+    public List<PlayerView> getPlayersByCaps(int minCaps) {
+        return playerRepository.findViewsByMinCaps(minCaps);
     }
 
-    public List<Player> getPlayersByConfederation(String confederation) {
-        return playerRepository.findByTeamConfederation(confederation);
+    public List<PlayerView> getPlayersByConfederation(String confederation) {
+        return playerRepository.findViewsByTeamConfederation(confederation);
     }
 
     public Optional<Player> getPlayerById(Long id) {
-        return playerRepository.findById(id);
+        return playerRepository.findWithTeamById(id);
     }
 
     public void deletePlayer(Long id) {
@@ -79,7 +87,7 @@ public class PlayerService {
     }
 
     // Legacy methods for backward compatibility
-    public List<Player> getplayersbyCountry(String country) {
-        return playerRepository.findByCountryContainingIgnoreCaseOrderByCountryAsc(country);
+    public List<PlayerView> getplayersbyCountry(String country) {
+        return playerRepository.findViewsByCountry(country);
     }
 }
@@ -3,8 +3,12 @@ package com.examly.springapp.service;
 import com.examly.springapp.model.Team;
 import com.examly.springapp.model.TeamStatus;
 import com.examly.springapp.repository.TeamRepository;
+import com.examly.springapp.configuration.CacheConfiguration;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -16,22 +20,45 @@ public class TeamService {
     @Autowired
     private TeamRepository teamRepository;
 
+    @CacheEvict(cacheNames = {CacheConfiguration.TEAMS, CacheConfiguration.TEAM_QUERIES}, allEntries = true)
     public Team saveTeam(Team team) {
         return teamRepository.save(team);
     }
 
+    /**
+     * Applies details to a freshly loaded team, never to the instance held by the
+     * teams cache, so readers cannot see a half-applied or failed update.
+     */
+    @Transactional
+    @CacheEvict(cacheNames = {CacheConfiguration.TEAMS, CacheConfiguration.TEAM_QUERIES}, allEntries = true)
+    public Team updateTeam(Long id, Team details) {
+        Team team = teamRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Team not found"));
+        team.setTeamName(details.getTeamName());
+        team.setConfederation(details.getConfederation());
+        team.setFifaRanking(details.getFifaRanking());
+        team.setHeadCoach(details.getHeadCoach());
+        team.setTeamManager(details.getTeamManager());
+        team.setStatus(details.getStatus());
+        return teamRepository.save(team);
+    }
+
+    @Cacheable(cacheNames = CacheConfiguration.TEAM_QUERIES, key = "'all'")
     public List<Team> getAllTeams() {
         return teamRepository.findAll();
     }
 
+    @Cacheable(cacheNames = CacheConfiguration.TEAM_QUERIES, key = "'confederation:' + #confederation")
     public List<Team> getTeamsByConfederation(String confederation) {
         return teamRepository.findByConfederation(confederation);
     }
 
+    @Cacheable(cacheNames = CacheConfiguration.TEAM_QUERIES, key = "'status:' + #status")
     public List<Team> getTeamsByStatus(TeamStatus status) {
         return teamRepository.findByStatus(status);
     }
 
+    @Cacheable(cacheNames = CacheConfiguration.TEAM_QUERIES, key = "'ranking:' + #minRank + '-' + #maxRank")
     public List<Team> getTeamsByRankingRange(int minRank, int maxRank) {
         return teamRepository.findByFifaRankingRange(minRank, maxRank);
     }
@@ -40,22 +67,27 @@ public class TeamService {
         return teamRepository.findTeamsRegisteredSince(since);
     }
 
+    @Cacheable(cacheNames = CacheConfiguration.TEAM_QUERIES, key = "'orderByRanking'")
     public List<Team> getAllTeamsOrderByRanking() {
         return teamRepository.findAllOrderByFifaRanking();
     }
 
+    @Cacheable(cacheNames = CacheConfiguration.TEAM_QUERIES, key = "'orderByRanking:' + #confederation")
     public List<Team> getTeamsByConfederationOrderByRanking(String confederation) {
         return teamRepository.findByConfederationOrderByRanking(confederation);
     }
 
+    @Cacheable(cacheNames = CacheConfiguration.TEAMS, key = "#id")
     public Optional<Team> getTeamById(Long id) {
         return teamRepository.findById(id);
     }
 
+    @Cacheable(cacheNames = CacheConfiguration.TEAM_QUERIES, key = "'name:' + #teamName")
     public Optional<Team> getTeamByName(String teamName) {
         return teamRepository.findByTeamName(teamName);
     }
 
+    @CacheEvict(cacheNames = {CacheConfiguration.TEAMS, CacheConfiguration.TEAM_QUERIES}, allEntries = true)
     public void deleteTeam(Long id) {
         teamRepository.deleteById(id);
     }
@@ -64,6 +96,8 @@ public class TeamService {
         return teamRepository.existsByTeamName(teamName);
     }
 
+    @Transactional
+    @CacheEvict(cacheNames = {CacheConfiguration.TEAMS, CacheConfiguration.TEAM_QUERIES}, allEntries = true)
     public Team updateTeamStatus(Long teamId, TeamStatus status) {
         Team team = teamRepository.findById(teamId)
                 .orElseThrow(() -> new RuntimeException("Team not found"));
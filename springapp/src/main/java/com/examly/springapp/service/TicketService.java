@@ -2,24 +2,108 @@ package com.examly.springapp.service;
 
 import com.examly.springapp.model.Ticket;
 import com.examly.springapp.repository.TicketRepository;
+import com.examly.springapp.service.gate.TicketCredentialService;
+import com.examly.springapp.service.inventory.SeatHold;
+import com.examly.springapp.service.inventory.SeatInventoryService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 @Service
 public class TicketService {
 
+    public static final String HELD = "HELD";
+    public static final String CONFIRMED = "CONFIRMED";
+    public static final String EXPIRED = "EXPIRED";
+    public static final String CANCELLED = "CANCELLED";
+
     @Autowired
     private TicketRepository ticketRepository;
 
+    @Autowired
+    private SeatInventoryService seatInventoryService;
+
+    @Autowired
+    private TicketCredentialService ticketCredentialService;
+
+    // Seats are held in the inventory first; the ticket stays HELD until its payment is captured
     public Ticket bookTicket(Ticket ticket, Long userId) {
+        SeatHold hold = seatInventoryService.hold(ticket.getMatchId(), ticket.getSeatCategory(), ticket.getQuantity(), userId);
+        ticket.setId(null);
         ticket.setUserId(userId);
-        // Ticket ID will be auto-generated by the database (IDENTITY strategy)
-        return ticketRepository.save(ticket);
+        ticket.setSeatCategory(hold.getCategory());
+        ticket.setHoldId(hold.getHoldId());
+        ticket.setSeats(hold.seatList());
+        ticket.setStatus(HELD);
+        try {
+            // Ticket ID will be auto-generated by the database (IDENTITY strategy)
+            return ticketRepository.save(ticket);
+        } catch (RuntimeException e) {
+            seatInventoryService.release(hold.getHoldId());
+            throw e;
+        }
+    }
+
+    /**
+     * Called when the ticket's payment is captured. Returns false when the hold expired
+     * and its seats were sold to someone else; the payment then needs a refund.
+     */
+    public boolean confirmTicket(Long ticketId) {
+        Ticket ticket = ticketRepository.findById(ticketId).orElse(null);
+        if (ticket == null || CANCELLED.equals(ticket.getStatus())) {
+            return false;
+        }
+        if (CONFIRMED.equals(ticket.getStatus())) {
+            return true;
+        }
+        SeatHold hold = seatInventoryService.confirm(ticket.getHoldId(), ticket.getMatchId(),
+                ticket.getSeatCategory(), ticket.getSeats());
+        // Conditional updates: a duplicate capture running alongside must not overwrite the
+        // status the other one wrote, as a full save of this stale copy would
+        if (hold == null) {
+            ticketRepository.expireHeld(ticketId);
+            return false;
+        }
+        int gateSequence = ticketCredentialService.nextSequence(ticket.getMatchId(), hold.getSeats().length);
+        if (ticketRepository.confirmUnconfirmed(ticketId, hold.getHoldId(), gateSequence) == 1) {
+            return true;
+        }
+        // Confirmed by the other capture (its gate sequence stands, this one is left unused)
+        return ticketRepository.findById(ticketId).map(t -> CONFIRMED.equals(t.getStatus())).orElse(false);
+    }
+
+    /** Cancels an unpaid ticket and frees its seats; false if it is not the user's held ticket. */
+    public boolean cancelTicket(Long ticketId, Long userId) {
+        Ticket ticket = ticketRepository.findById(ticketId).orElse(null);
+        if (ticket == null || !ticket.getUserId().equals(userId) || !HELD.equals(ticket.getStatus())) {
+            return false;
+        }
+        // The hold may have been confirmed by a capture or expired since the ticket was read
+        if (!seatInventoryService.release(ticket.getHoldId())) {
+            return false;
+        }
+        return ticketRepository.cancelHeld(ticketId) == 1;
+    }
+
+    /** Signed gate credential for the user's confirmed ticket; empty if not theirs or not confirmed. */
+    public Optional<String> getCredential(Long ticketId, Long userId) {
+        return ticketRepository.findById(ticketId)
+                .filter(ticket -> ticket.getUserId().equals(userId) && CONFIRMED.equals(ticket.getStatus()))
+                .map(ticketCredentialService::credentialFor);
+    }
+
+    public Map<String, Object> getAvailability(Long matchId) {
+        return seatInventoryService.availability(matchId);
+    }
+
+    public Optional<Ticket> findById(Long ticketId) {
+        return ticketRepository.findById(ticketId);
     }
 
     public List<Ticket> getMyTickets(Long userId) {
         return ticketRepository.findByUserId(userId);
     }
-}
\ No newline at end of file
+}
@@ -3,8 +3,13 @@ package com.examly.springapp.service;
 import com.examly.springapp.model.Tournament;
 import com.examly.springapp.model.TournamentStatus;
 import com.examly.springapp.repository.TournamentRepository;
+import com.examly.springapp.service.standings.StandingsEngine;
+import com.examly.springapp.configuration.CacheConfiguration;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -18,40 +23,61 @@ public class TournamentService {
     @Autowired
     private TournamentRepository tournamentRepository;
 
+    @Autowired
+    private StandingsEngine standingsEngine;
+
+    @CacheEvict(cacheNames = {CacheConfiguration.TOURNAMENTS, CacheConfiguration.TOURNAMENT_QUERIES}, allEntries = true)
     public Tournament saveTournament(Tournament tournament) {
         return tournamentRepository.save(tournament);
     }
 
+    @Transactional
+    @CacheEvict(cacheNames = {CacheConfiguration.TOURNAMENTS, CacheConfiguration.TOURNAMENT_QUERIES}, allEntries = true)
+    public Tournament updateTournament(Long id, Tournament details) {
+        Tournament tournament = tournamentRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Tournament not found"));
+        tournament.setTournamentName(details.getTournamentName());
+        tournament.setStartDate(details.getStartDate());
+        tournament.setEndDate(details.getEndDate());
+        tournament.setHostCountry(details.getHostCountry());
+        tournament.setStatus(details.getStatus());
+        tournament.setEdition(details.getEdition());
+        return tournamentRepository.save(tournament);
+    }
+
+    @Cacheable(cacheNames = CacheConfiguration.TOURNAMENT_QUERIES, key = "'all'")
     public List<Tournament> getAllTournaments() {
         return tournamentRepository.findAll();
     }
 
+    @Cacheable(cacheNames = CacheConfiguration.TOURNAMENT_QUERIES, key = "'status:' + #status")
     public List<Tournament> getTournamentsByStatus(TournamentStatus status) {
         return tournamentRepository.findByStatus(status);
     }
 
+    @Cacheable(cacheNames = CacheConfiguration.TOURNAMENT_QUERIES, key = "'active:' + #date")
     public List<Tournament> getActiveTournaments(LocalDate date) {
         return tournamentRepository.findActiveTournaments(date);
     }
 
+    @Cacheable(cacheNames = CacheConfiguration.TOURNAMENT_QUERIES, key = "'upcoming:' + #date")
     public List<Tournament> getUpcomingTournaments(LocalDate date) {
         return tournamentRepository.findUpcomingTournaments(date);
     }
 
+    @Cacheable(cacheNames = CacheConfiguration.TOURNAMENTS, key = "#id")
     public Optional<Tournament> getTournamentById(Long id) {
         return tournamentRepository.findById(id);
     }
 
+    @CacheEvict(cacheNames = {CacheConfiguration.TOURNAMENTS, CacheConfiguration.TOURNAMENT_QUERIES}, allEntries = true)
     public void deleteTournament(Long id) {
         tournamentRepository.deleteById(id);
+        standingsEngine.evict(id);
     }
 
     public Map<String, Object> getTournamentStandings(Long tournamentId) {
-        // Implementation for tournament standings
-        Map<String, Object> standings = new HashMap<>();
-        standings.put("tournamentId", tournamentId);
-        standings.put("message", "Standings calculation in progress");
-        return standings;
+        return standingsEngine.getStandings(tournamentId);
     }
 
     public Map<String, Object> getTournamentBracket(Long tournamentId) {
@@ -62,6 +88,8 @@ public class TournamentService {
         return bracket;
     }
 
+    @Transactional
+    @CacheEvict(cacheNames = {CacheConfiguration.TOURNAMENTS, CacheConfiguration.TOURNAMENT_QUERIES}, allEntries = true)
     public Tournament advanceTournament(Long tournamentId) {
         Tournament tournament = tournamentRepository.findById(tournamentId)
                 .orElseThrow(() -> new RuntimeException("Tournament not found"));
@@ -0,0 +1,154 @@
+package com.examly.springapp.service;
+
+import com.examly.springapp.configuration.BloomFilter;
+import com.examly.springapp.model.User;
+import com.examly.springapp.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.text.Normalizer;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Answers "is this username / email / FIFA id taken?" for registration, mostly without SQL.
+ *
+ * One Bloom filter per column is seeded from the users table at startup and updated
+ * after every insert. If none of the filters has seen the candidate values they are
+ * definitely new and no query runs; otherwise one combined query settles all three.
+ * Keys are compared case- and accent-insensitively, like MySQL's default collation, so
+ * the filters never report "new" for a value the unique index would reject.
+ *
+ * The filters only see this instance's inserts. A value registered elsewhere can pass
+ * the filter, and the unique constraints on users are the final arbiter: AuthService
+ * maps a constraint violation back through findConflictInDatabase().
+ */
+@Service
+public class UserUniquenessIndex {
+
+    public static final String USERNAME = "Username";
+    public static final String EMAIL = "Email";
+    public static final String FIFA_ID = "FIFA ID";
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Value("${app.registration.expected-users:1000000}")
+    private int expectedUsers;
+
+    @Value("${app.registration.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    private BloomFilter usernames;
+    private BloomFilter emails;
+    private BloomFilter fifaIds;
+
+    private final LongAdder checks = new LongAdder();
+    private final LongAdder databaseChecks = new LongAdder();
+    private final LongAdder conflicts = new LongAdder();
+
+    @PostConstruct
+    public void seed() {
+        List<Object[]> keys = userRepository.findAllIdentityKeys();
+        int size = Math.max(expectedUsers, keys.size() * 2);
+        usernames = new BloomFilter(size, falsePositiveRate);
+        emails = new BloomFilter(size, falsePositiveRate);
+        fifaIds = new BloomFilter(size, falsePositiveRate);
+        for (Object[] row : keys) {
+            add((String) row[0], (String) row[1], (String) row[2]);
+        }
+    }
+
+    /**
+     * Label of the first value already taken (USERNAME, EMAIL or FIFA_ID), or null when
+     * all are free. Costs no query unless a filter reports a possible match.
+     */
+    public String findConflict(String username, String email, String fifaId) {
+        checks.increment();
+        boolean maybe = mightContain(usernames, username)
+                || mightContain(emails, email)
+                || mightContain(fifaIds, fifaId);
+        if (!maybe) {
+            return null;
+        }
+        return findConflictInDatabase(username, email, fifaId);
+    }
+
+    /** The single combined query, also used after a unique constraint violation. */
+    public String findConflictInDatabase(String username, String email, String fifaId) {
+        databaseChecks.increment();
+        List<Object[]> rows = userRepository.findIdentityConflicts(username, email, fifaId);
+        String conflict = matchColumn(rows, 0, username) ? USERNAME
+                : matchColumn(rows, 1, email) ? EMAIL
+                : matchColumn(rows, 2, fifaId) ? FIFA_ID
+                : null;
+        if (conflict != null) {
+            conflicts.increment();
+        }
+        return conflict;
+    }
+
+    /** Records a saved user's keys; also call after an update that may change them. */
+    public void add(User user) {
+        add(user.getUsername(), user.getEmail(), user.getFifaId());
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("checks", checks.sum());
+        stats.put("databaseChecks", databaseChecks.sum());
+        stats.put("conflicts", conflicts.sum());
+        stats.put("usernames", usernames.snapshot());
+        stats.put("emails", emails.snapshot());
+        stats.put("fifaIds", fifaIds.snapshot());
+        return stats;
+    }
+
+    private void add(String username, String email, String fifaId) {
+        put(usernames, username);
+        put(emails, email);
+        put(fifaIds, fifaId);
+    }
+
+    private static void put(BloomFilter filter, String value) {
+        if (value != null) {
+            filter.put(normalize(value));
+        }
+    }
+
+    private static boolean matchColumn(List<Object[]> rows, int column, String value) {
+        if (value == null) {
+            return false;
+        }
+        String key = normalize(value);
+        for (Object[] row : rows) {
+            if (row[column] != null && key.equals(normalize((String) row[column]))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean mightContain(BloomFilter filter, String value) {
+        return value != null && filter.mightContain(normalize(value));
+    }
+
+    // Case- and accent-folded, trailing spaces dropped: values the unique index treats as equal
+    private static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        String folded = value.strip().toLowerCase(Locale.ROOT);
+        for (int i = 0; i < folded.length(); i++) {
+            if (folded.charAt(i) > 0x7f) {
+                return Normalizer.normalize(folded, Normalizer.Form.NFD).replaceAll("\\p{M}", "");
+            }
+        }
+        return folded;
+    }
+}
@@ -2,8 +2,12 @@ package com.examly.springapp.service;
 
 import com.examly.springapp.model.Venue;
 import com.examly.springapp.repository.VenueRepository;
+import com.examly.springapp.configuration.CacheConfiguration;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -14,34 +18,55 @@ public class VenueService {
     @Autowired
     private VenueRepository venueRepository;
 
+    @CacheEvict(cacheNames = {CacheConfiguration.VENUES, CacheConfiguration.VENUE_QUERIES}, allEntries = true)
     public Venue saveVenue(Venue venue) {
         return venueRepository.save(venue);
     }
 
+    @Transactional
+    @CacheEvict(cacheNames = {CacheConfiguration.VENUES, CacheConfiguration.VENUE_QUERIES}, allEntries = true)
+    public Venue updateVenue(Long id, Venue details) {
+        Venue venue = venueRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Venue not found"));
+        venue.setVenueName(details.getVenueName());
+        venue.setCity(details.getCity());
+        venue.setCountry(details.getCountry());
+        venue.setCapacity(details.getCapacity());
+        venue.setSurfaceType(details.getSurfaceType());
+        return venueRepository.save(venue);
+    }
+
+    @Cacheable(cacheNames = CacheConfiguration.VENUE_QUERIES, key = "'all'")
     public List<Venue> getAllVenues() {
         return venueRepository.findAll();
     }
 
+    @Cacheable(cacheNames = CacheConfiguration.VENUE_QUERIES, key = "'city:' + #city")
     public List<Venue> getVenuesByCity(String city) {
         return venueRepository.findByCity(city);
     }
 
+    @Cacheable(cacheNames = CacheConfiguration.VENUE_QUERIES, key = "'country:' + #country")
     public List<Venue> getVenuesByCountry(String country) {
         return venueRepository.findByCountry(country);
     }
 
+    @Cacheable(cacheNames = CacheConfiguration.VENUE_QUERIES, key = "'capacity:' + #minCapacity + '-' + #maxCapacity")
     public List<Venue> getVenuesByCapacityRange(int minCapacity, int maxCapacity) {
         return venueRepository.findByCapacityBetween(minCapacity, maxCapacity);
     }
 
+    @Cacheable(cacheNames = CacheConfiguration.VENUE_QUERIES, key = "'surface:' + #surfaceType")
     public List<Venue> getVenuesBySurfaceType(String surfaceType) {
         return venueRepository.findBySurfaceType(surfaceType);
     }
 
+    @Cacheable(cacheNames = CacheConfiguration.VENUES, key = "#id")
     public Optional<Venue> getVenueById(Long id) {
         return venueRepository.findById(id);
     }
 
+    @CacheEvict(cacheNames = {CacheConfiguration.VENUES, CacheConfiguration.VENUE_QUERIES}, allEntries = true)
     public void deleteVenue(Long id) {
         venueRepository.deleteById(id);
     }
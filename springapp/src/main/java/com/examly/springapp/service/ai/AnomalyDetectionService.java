@@ -4,7 +4,11 @@ import com.examly.springapp.model.ai.AnomalyDetection;
 import com.examly.springapp.model.ai.AnomalyType;
 import com.examly.springapp.model.ai.AnomalySeverity;
 import com.examly.springapp.repository.ai.AnomalyDetectionRepository;
+import com.examly.springapp.configuration.AsyncConfiguration;
+import com.examly.springapp.pagination.CursorPage;
+import com.examly.springapp.pagination.PageCursor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -12,6 +16,8 @@ import org.springframework.scheduling.annotation.Scheduled;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.concurrent.CompletableFuture;
 
@@ -21,6 +27,14 @@ public class AnomalyDetectionService {
     @Autowired
     private AnomalyDetectionRepository anomalyDetectionRepository;
 
+    // Dashboard polls /api/ai/anomaly/statistics; serve a snapshot for this long
+    @Value("${app.ai.anomaly.statistics-ttl-ms:10000}")
+    private long statisticsTtlMs;
+
+    private volatile Map<String, Object> statisticsSnapshot;
+    private volatile long statisticsSnapshotAt;
+    private final Object statisticsLock = new Object();
+
     /**
      * Anomaly detection - identifies unusual patterns, potential integrity issues, 
      * and compliance violations
@@ -55,7 +69,7 @@ public class AnomalyDetectionService {
     /**
      * Detect performance anomalies
      */
-    @Async
+    @Async(AsyncConfiguration.ANOMALY_EXECUTOR)
     public CompletableFuture<Map<String, Object>> detectPerformanceAnomalies() {
         Map<String, Object> result = new HashMap<>();
         
@@ -93,7 +107,7 @@ public class AnomalyDetectionService {
     /**
      * Detect behavioral anomalies
      */
-    @Async
+    @Async(AsyncConfiguration.ANOMALY_EXECUTOR)
     public CompletableFuture<Map<String, Object>> detectBehavioralAnomalies() {
         Map<String, Object> result = new HashMap<>();
         
@@ -131,7 +145,7 @@ public class AnomalyDetectionService {
     /**
      * Detect data integrity anomalies
      */
-    @Async
+    @Async(AsyncConfiguration.ANOMALY_EXECUTOR)
     public CompletableFuture<Map<String, Object>> detectDataIntegrityAnomalies() {
         Map<String, Object> result = new HashMap<>();
         
@@ -169,7 +183,7 @@ public class AnomalyDetectionService {
     /**
      * Detect security anomalies
      */
-    @Async
+    @Async(AsyncConfiguration.ANOMALY_EXECUTOR)
     public CompletableFuture<Map<String, Object>> detectSecurityAnomalies() {
         Map<String, Object> result = new HashMap<>();
         
@@ -207,7 +221,7 @@ public class AnomalyDetectionService {
     /**
      * Detect compliance anomalies
      */
-    @Async
+    @Async(AsyncConfiguration.ANOMALY_EXECUTOR)
     public CompletableFuture<Map<String, Object>> detectComplianceAnomalies() {
         Map<String, Object> result = new HashMap<>();
         
@@ -245,7 +259,7 @@ public class AnomalyDetectionService {
     /**
      * Resolve anomaly
      */
-    @Async
+    @Async(AsyncConfiguration.ANOMALY_EXECUTOR)
     public CompletableFuture<Map<String, Object>> resolveAnomaly(Long anomalyId, 
                                                                String resolvedBy, 
                                                                String resolutionNotes) {
@@ -261,6 +275,7 @@ public class AnomalyDetectionService {
             anomaly.setResolutionNotes(resolutionNotes);
             
             anomalyDetectionRepository.save(anomaly);
+            invalidateAnomalyStatistics();
             
             result.put("anomalyId", anomalyId);
             result.put("resolvedBy", resolvedBy);
@@ -277,27 +292,93 @@ public class AnomalyDetectionService {
     }
 
     /**
-     * Get anomaly statistics
+     * List detected anomalies, newest first, one keyset page at a time
+     */
+    public Map<String, Object> getAnomalies(String cursor, Integer size) {
+        PageCursor after = PageCursor.decode(cursor);
+        int pageSize = CursorPage.pageSize(size);
+        List<AnomalyDetection> rows = after == null
+                ? anomalyDetectionRepository.findPage(CursorPage.probe(pageSize))
+                : anomalyDetectionRepository.findPageAfter(after.getDateTime(), after.getId(), CursorPage.probe(pageSize));
+        return CursorPage.of(rows, pageSize, a -> PageCursor.encode(a.getDetectedAt(), a.getId())).toMap();
+    }
+    
+    /**
+     * Get anomaly statistics.
+     * Served from a snapshot refreshed at most once per statisticsTtlMs; a refresh is
+     * a single grouped aggregate query and only one caller runs it at a time.
      */
     public Map<String, Object> getAnomalyStatistics() {
-        Map<String, Object> statistics = new HashMap<>();
+        Map<String, Object> snapshot = statisticsSnapshot;
+        if (snapshot != null && System.currentTimeMillis() - statisticsSnapshotAt < statisticsTtlMs) {
+            return snapshot;
+        }
+        synchronized (statisticsLock) {
+            if (statisticsSnapshot != null && System.currentTimeMillis() - statisticsSnapshotAt < statisticsTtlMs) {
+                return statisticsSnapshot;
+            }
+            try {
+                Map<String, Object> statistics = computeAnomalyStatistics();
+                statisticsSnapshot = statistics;
+                statisticsSnapshotAt = System.currentTimeMillis();
+                return statistics;
+            } catch (Exception e) {
+                Map<String, Object> statistics = new HashMap<>();
+                statistics.put("error", e.getMessage());
+                return statistics;
+            }
+        }
+    }
+
+    /** Drop the cached statistics so the next read reflects a write made by this node. */
+    public void invalidateAnomalyStatistics() {
+        statisticsSnapshot = null;
+    }
+
+    private Map<String, Object> computeAnomalyStatistics() {
+        LocalDateTime last24Hours = LocalDateTime.now().minusHours(24);
+        
+        long total = 0;
+        long unresolved = 0;
+        long last24 = 0;
+        Map<AnomalySeverity, Long> bySeverity = new EnumMap<>(AnomalySeverity.class);
+        Map<String, Long> unresolvedBySeverity = new HashMap<>();
+        for (AnomalySeverity severity : AnomalySeverity.values()) {
+            bySeverity.put(severity, 0L);
+            unresolvedBySeverity.put(severity.name(), 0L);
+        }
         
-        try {
-            LocalDateTime last24Hours = LocalDateTime.now().minusHours(24);
+        for (Object[] row : anomalyDetectionRepository.aggregateBySeverityAndResolution(last24Hours)) {
+            AnomalySeverity severity = (AnomalySeverity) row[0];
+            boolean resolved = Boolean.TRUE.equals(row[1]);
+            long count = ((Number) row[2]).longValue();
+            long recent = row[3] == null ? 0 : ((Number) row[3]).longValue();
             
-            statistics.put("totalAnomalies", anomalyDetectionRepository.count());
-            statistics.put("unresolvedAnomalies", anomalyDetectionRepository.findByIsResolved(false).size());
-            statistics.put("anomaliesLast24Hours", anomalyDetectionRepository.findDetectedSince(last24Hours).size());
-            statistics.put("criticalAnomalies", anomalyDetectionRepository.findBySeverity(AnomalySeverity.CRITICAL).size());
-            statistics.put("highAnomalies", anomalyDetectionRepository.findBySeverity(AnomalySeverity.HIGH).size());
-            statistics.put("mediumAnomalies", anomalyDetectionRepository.findBySeverity(AnomalySeverity.MEDIUM).size());
-            statistics.put("lowAnomalies", anomalyDetectionRepository.findBySeverity(AnomalySeverity.LOW).size());
-            
-        } catch (Exception e) {
-            statistics.put("error", e.getMessage());
+            total += count;
+            last24 += recent;
+            if (severity != null) {
+                bySeverity.merge(severity, count, Long::sum);
+            }
+            if (!resolved) {
+                unresolved += count;
+                if (severity != null) {
+                    unresolvedBySeverity.merge(severity.name(), count, Long::sum);
+                }
+            }
         }
         
-        return statistics;
+        Map<String, Object> statistics = new HashMap<>();
+        statistics.put("totalAnomalies", total);
+        statistics.put("unresolvedAnomalies", unresolved);
+        statistics.put("resolvedAnomalies", total - unresolved);
+        statistics.put("anomaliesLast24Hours", last24);
+        statistics.put("criticalAnomalies", bySeverity.get(AnomalySeverity.CRITICAL));
+        statistics.put("highAnomalies", bySeverity.get(AnomalySeverity.HIGH));
+        statistics.put("mediumAnomalies", bySeverity.get(AnomalySeverity.MEDIUM));
+        statistics.put("lowAnomalies", bySeverity.get(AnomalySeverity.LOW));
+        statistics.put("unresolvedBySeverity", unresolvedBySeverity);
+        statistics.put("generatedAt", LocalDateTime.now());
+        return Collections.unmodifiableMap(statistics);
     }
 
     // Helper methods
@@ -309,6 +390,7 @@ public class AnomalyDetectionService {
         anomaly.setModelUsed("AnomalyDetectionModel_v1.0");
         
         anomalyDetectionRepository.save(anomaly);
+        invalidateAnomalyStatistics();
     }
 
     private double calculateConfidenceScore(Map<String, Object> detectedData) {
@@ -9,6 +9,7 @@ import com.examly.springapp.repository.ai.AutomatedWorkflowRepository;
 import com.examly.springapp.service.TournamentService;
 import com.examly.springapp.service.TeamService;
 import com.examly.springapp.service.MatchService;
+import com.examly.springapp.configuration.AsyncConfiguration;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.scheduling.annotation.Async;
@@ -42,7 +43,7 @@ public class AutomatedTournamentProcessingService {
      * Automated tournament processing - handles routine data validation, 
      * scheduling optimization, and workflow coordination
      */
-    @Async
+    @Async(AsyncConfiguration.WORKFLOW_EXECUTOR)
     @Scheduled(fixedRate = 300000) // Every 5 minutes
     public CompletableFuture<Void> processTournamentData() {
         try {
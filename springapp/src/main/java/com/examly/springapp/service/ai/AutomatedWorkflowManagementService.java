@@ -3,6 +3,7 @@ package com.examly.springapp.service.ai;
 import com.examly.springapp.model.ai.AutomatedWorkflow;
 import com.examly.springapp.model.ai.WorkflowType;
 import com.examly.springapp.repository.ai.AutomatedWorkflowRepository;
+import com.examly.springapp.configuration.AsyncConfiguration;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.scheduling.annotation.Async;
@@ -45,7 +46,7 @@ public class AutomatedWorkflowManagementService {
     /**
      * Create and configure automated workflow
      */
-    @Async
+    @Async(AsyncConfiguration.WORKFLOW_EXECUTOR)
     public CompletableFuture<Map<String, Object>> createWorkflow(String workflowName, 
                                                                WorkflowType workflowType, 
                                                                Map<String, Object> triggerConditions, 
@@ -81,7 +82,7 @@ public class AutomatedWorkflowManagementService {
     /**
      * Route request through automated workflow
      */
-    @Async
+    @Async(AsyncConfiguration.WORKFLOW_EXECUTOR)
     public CompletableFuture<Map<String, Object>> routeRequest(String requestType, 
                                                              Map<String, Object> requestData) {
         Map<String, Object> result = new HashMap<>();
@@ -112,7 +113,7 @@ public class AutomatedWorkflowManagementService {
     /**
      * Trigger notifications based on workflow rules
      */
-    @Async
+    @Async(AsyncConfiguration.WORKFLOW_EXECUTOR)
     public CompletableFuture<Map<String, Object>> triggerNotifications(String eventType, 
                                                                      Map<String, Object> eventData) {
         Map<String, Object> result = new HashMap<>();
@@ -145,7 +146,7 @@ public class AutomatedWorkflowManagementService {
     /**
      * Manage process workflows
      */
-    @Async
+    @Async(AsyncConfiguration.WORKFLOW_EXECUTOR)
     public CompletableFuture<Map<String, Object>> manageProcess(String processType, 
                                                               Map<String, Object> processData) {
         Map<String, Object> result = new HashMap<>();
@@ -176,7 +177,7 @@ public class AutomatedWorkflowManagementService {
     /**
      * Optimize workflow performance
      */
-    @Async
+    @Async(AsyncConfiguration.WORKFLOW_EXECUTOR)
     public CompletableFuture<Map<String, Object>> optimizeWorkflows() {
         Map<String, Object> result = new HashMap<>();
         
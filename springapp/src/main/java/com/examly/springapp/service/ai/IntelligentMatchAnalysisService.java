@@ -6,6 +6,9 @@ import com.examly.springapp.repository.ai.AIAnalysisRepository;
 import com.examly.springapp.service.MatchService;
 import com.examly.springapp.service.PlayerService;
 import com.examly.springapp.service.TeamService;
+import com.examly.springapp.configuration.AsyncConfiguration;
+import com.examly.springapp.pagination.CursorPage;
+import com.examly.springapp.pagination.PageCursor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.scheduling.annotation.Async;
@@ -35,7 +38,7 @@ public class IntelligentMatchAnalysisService {
      * Intelligent match analysis - provides automated performance assessment, 
      * tactical analysis, and strategic insights
      */
-    @Async
+    @Async(AsyncConfiguration.ML_EXECUTOR)
     public CompletableFuture<Map<String, Object>> analyzeMatch(Long matchId) {
         Map<String, Object> analysis = new HashMap<>();
         
@@ -398,4 +401,16 @@ public class IntelligentMatchAnalysisService {
         
         aiAnalysisRepository.save(aiAnalysis);
     }
+
+    /**
+     * List stored analyses, newest first, one keyset page at a time
+     */
+    public Map<String, Object> getAnalyses(String cursor, Integer size) {
+        PageCursor after = PageCursor.decode(cursor);
+        int pageSize = CursorPage.pageSize(size);
+        List<AIAnalysis> rows = after == null
+                ? aiAnalysisRepository.findPage(CursorPage.probe(pageSize))
+                : aiAnalysisRepository.findPageAfter(after.getDateTime(), after.getId(), CursorPage.probe(pageSize));
+        return CursorPage.of(rows, pageSize, a -> PageCursor.encode(a.getCreatedAt(), a.getId())).toMap();
+    }
 }
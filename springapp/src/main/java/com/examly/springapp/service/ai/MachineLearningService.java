@@ -3,6 +3,7 @@ package com.examly.springapp.service.ai;
 import com.examly.springapp.model.ai.MLModel;
 import com.examly.springapp.model.ai.ModelType;
 import com.examly.springapp.repository.ai.MLModelRepository;
+import com.examly.springapp.configuration.AsyncConfiguration;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.scheduling.annotation.Async;
@@ -27,7 +28,7 @@ public class MachineLearningService {
     /**
      * Predict match outcomes using ML models
      */
-    @Async
+    @Async(AsyncConfiguration.ML_EXECUTOR)
     public CompletableFuture<Map<String, Object>> predictMatchOutcome(Long matchId) {
         Map<String, Object> prediction = new HashMap<>();
         
@@ -63,7 +64,7 @@ public class MachineLearningService {
     /**
      * Analyze tournament patterns and trends
      */
-    @Async
+    @Async(AsyncConfiguration.ML_EXECUTOR)
     public CompletableFuture<Map<String, Object>> analyzeTournamentPatterns(Long tournamentId) {
         Map<String, Object> analysis = new HashMap<>();
         
@@ -93,7 +94,7 @@ public class MachineLearningService {
     /**
      * Provide optimization recommendations
      */
-    @Async
+    @Async(AsyncConfiguration.ML_EXECUTOR)
     public CompletableFuture<Map<String, Object>> generateOptimizationRecommendations(String entityType, Long entityId) {
         Map<String, Object> recommendations = new HashMap<>();
         
@@ -123,7 +124,7 @@ public class MachineLearningService {
     /**
      * Train and update ML models
      */
-    @Async
+    @Async(AsyncConfiguration.ML_EXECUTOR)
     public CompletableFuture<Map<String, Object>> trainModel(ModelType modelType, Map<String, Object> trainingData) {
         Map<String, Object> trainingResult = new HashMap<>();
         
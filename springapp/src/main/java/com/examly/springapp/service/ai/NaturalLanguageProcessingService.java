@@ -3,6 +3,7 @@ package com.examly.springapp.service.ai;
 import com.examly.springapp.model.ai.AIAnalysis;
 import com.examly.springapp.model.ai.AnalysisType;
 import com.examly.springapp.repository.ai.AIAnalysisRepository;
+import com.examly.springapp.configuration.AsyncConfiguration;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.scheduling.annotation.Async;
@@ -29,7 +30,7 @@ public class NaturalLanguageProcessingService {
     /**
      * Process intelligent search queries
      */
-    @Async
+    @Async(AsyncConfiguration.NLP_EXECUTOR)
     public CompletableFuture<Map<String, Object>> processSearchQuery(String query) {
         Map<String, Object> result = new HashMap<>();
         
@@ -67,7 +68,7 @@ public class NaturalLanguageProcessingService {
     /**
      * Generate automated reports using NLP
      */
-    @Async
+    @Async(AsyncConfiguration.NLP_EXECUTOR)
     public CompletableFuture<Map<String, Object>> generateAutomatedReport(String reportType, Map<String, Object> data) {
         Map<String, Object> report = new HashMap<>();
         
@@ -106,7 +107,7 @@ public class NaturalLanguageProcessingService {
     /**
      * Process voice commands
      */
-    @Async
+    @Async(AsyncConfiguration.NLP_EXECUTOR)
     public CompletableFuture<Map<String, Object>> processVoiceCommand(String voiceCommand) {
         Map<String, Object> result = new HashMap<>();
         
@@ -141,7 +142,7 @@ public class NaturalLanguageProcessingService {
     /**
      * Extract sentiment from text
      */
-    @Async
+    @Async(AsyncConfiguration.NLP_EXECUTOR)
     public CompletableFuture<Map<String, Object>> analyzeSentiment(String text) {
         Map<String, Object> sentiment = new HashMap<>();
         
@@ -174,7 +175,7 @@ public class NaturalLanguageProcessingService {
     /**
      * Generate natural language summaries
      */
-    @Async
+    @Async(AsyncConfiguration.NLP_EXECUTOR)
     public CompletableFuture<Map<String, Object>> generateSummary(String text, int maxLength) {
         Map<String, Object> summary = new HashMap<>();
         
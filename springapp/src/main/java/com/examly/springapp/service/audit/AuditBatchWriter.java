@@ -0,0 +1,39 @@
+package com.examly.springapp.service.audit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/** Inserts one drained batch of audit events as a single JDBC batch in one transaction. */
+@Component
+public class AuditBatchWriter {
+
+    private static final String INSERT_AUDIT_LOG =
+            "INSERT INTO audit_logs (user_id, action, entity_type, entity_id, description, severity, timestamp) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Transactional
+    public void write(List<AuditEvent> batch) {
+        jdbcTemplate.batchUpdate(INSERT_AUDIT_LOG, batch, batch.size(), (ps, event) -> {
+            ps.setObject(1, event.getUserId());
+            ps.setString(2, truncate(event.getAction(), 100));
+            ps.setString(3, truncate(event.getEntityType(), 50));
+            ps.setObject(4, event.getEntityId());
+            ps.setString(5, truncate(event.getDescription(), 255));
+            ps.setString(6, truncate(event.getSeverity(), 50));
+            ps.setTimestamp(7, Timestamp.valueOf(event.getTimestamp()));
+        });
+    }
+
+    // Same limits as the AuditLog @Size constraints, which a JDBC insert bypasses
+    private static String truncate(String value, int max) {
+        return value == null || value.length() <= max ? value : value.substring(0, max);
+    }
+}
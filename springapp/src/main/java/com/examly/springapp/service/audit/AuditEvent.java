@@ -0,0 +1,58 @@
+package com.examly.springapp.service.audit;
+
+import java.time.LocalDateTime;
+
+/** One audit_logs row, captured on the caller's thread and written later in a batch. */
+public final class AuditEvent {
+
+    private final String action;
+    private final String entityType;
+    private final Long entityId;
+    private final Long userId;
+    private final String description;
+    private final String severity;
+    private final LocalDateTime timestamp;
+
+    public AuditEvent(String action, String entityType, Long entityId, Long userId,
+                      String description, String severity, LocalDateTime timestamp) {
+        this.action = action;
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.userId = userId;
+        this.description = description;
+        this.severity = severity;
+        this.timestamp = timestamp;
+    }
+
+    public static AuditEvent of(String action, String entityType, String description, String severity) {
+        return new AuditEvent(action, entityType, null, null, description, severity, LocalDateTime.now());
+    }
+
+    public String getAction() {
+        return action;
+    }
+
+    public String getEntityType() {
+        return entityType;
+    }
+
+    public Long getEntityId() {
+        return entityId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public String getSeverity() {
+        return severity;
+    }
+
+    public LocalDateTime getTimestamp() {
+        return timestamp;
+    }
+}
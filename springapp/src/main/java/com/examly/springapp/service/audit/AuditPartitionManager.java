@@ -0,0 +1,236 @@
+package com.examly.springapp.service.audit;
+
+import com.examly.springapp.repository.AuditLogRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps audit_logs range-partitioned by month so retention is a metadata operation.
+ *
+ * On MySQL the table is converted once at startup to PARTITION BY RANGE (TO_DAYS(timestamp))
+ * with one partition per month (pYYYYMM) and a catch-all pmax. MySQL requires the
+ * partitioning column in every unique key and does not allow foreign keys on partitioned
+ * tables, so the primary key becomes (id, timestamp) and the user_id foreign key is dropped.
+ * A daily task splits app.audit.partitions-ahead future months off the (empty) pmax and
+ * drops whole months older than app.audit.retention-months; DROP PARTITION replaces the
+ * old bulk DELETE, so nothing is row-locked and no space is left to purge.
+ *
+ * Other databases keep an unpartitioned table and fall back to the bulk delete.
+ */
+@Service
+public class AuditPartitionManager {
+
+    static final String TABLE = "audit_logs";
+    static final String MAX_PARTITION = "pmax";
+
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'yyyyMM");
+
+    private static final String LIST_PARTITIONS =
+            "SELECT PARTITION_NAME, TABLE_ROWS FROM information_schema.PARTITIONS " +
+            "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL " +
+            "ORDER BY PARTITION_ORDINAL_POSITION";
+
+    private static final String LIST_FOREIGN_KEYS =
+            "SELECT CONSTRAINT_NAME FROM information_schema.REFERENTIAL_CONSTRAINTS " +
+            "WHERE CONSTRAINT_SCHEMA = DATABASE() AND TABLE_NAME = ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private AuditLogRepository auditLogRepository;
+
+    @Value("${app.audit.retention-months:6}")
+    private int retentionMonths;
+
+    @Value("${app.audit.partitions-ahead:3}")
+    private int partitionsAhead;
+
+    private volatile boolean partitioned;
+    private volatile LocalDateTime lastMaintenance;
+    private volatile long partitionsDropped;
+    private volatile long rowsDeleted;
+
+    private ScheduledExecutorService maintenance;
+
+    // After startup so Hibernate has already created audit_logs
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        maintenance = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "audit-partitions");
+            thread.setDaemon(true);
+            return thread;
+        });
+        maintenance.scheduleAtFixedRate(this::maintain, 0, 1, TimeUnit.DAYS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (maintenance != null) {
+            maintenance.shutdownNow();
+        }
+    }
+
+    /** Oldest timestamp still kept; queries use it as their default lower bound. */
+    public LocalDateTime retentionCutoff() {
+        return YearMonth.now().minusMonths(retentionMonths).atDay(1).atStartOfDay();
+    }
+
+    /**
+     * Removes audit rows older than the retention window: whole partitions on MySQL,
+     * a bulk delete elsewhere. Returns the number of partitions (or rows) removed.
+     */
+    public synchronized int applyRetention() {
+        LocalDateTime cutoff = retentionCutoff();
+        if (!partitioned) {
+            int deleted = auditLogRepository.deleteOldLogs(cutoff);
+            rowsDeleted += deleted;
+            return deleted;
+        }
+
+        List<String> expired = new ArrayList<>();
+        List<String> names = monthPartitions();
+        for (String name : names) {
+            // A month partition holds rows strictly before the first day of the next month
+            if (!monthOf(name).plusMonths(1).atDay(1).atStartOfDay().isAfter(cutoff)) {
+                expired.add(name);
+            }
+        }
+        if (expired.isEmpty()) {
+            return 0;
+        }
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " DROP PARTITION " + String.join(", ", expired));
+        partitionsDropped += expired.size();
+        System.out.println("Dropped audit partitions " + expired + " (cutoff " + cutoff.toLocalDate() + ")");
+        return expired.size();
+    }
+
+    public Map<String, Object> getPartitionStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("partitioned", partitioned);
+        stats.put("retentionMonths", retentionMonths);
+        stats.put("partitionsAhead", partitionsAhead);
+        stats.put("retentionCutoff", retentionCutoff().toString());
+        stats.put("lastMaintenance", lastMaintenance != null ? lastMaintenance.toString() : null);
+        stats.put("partitionsDropped", partitionsDropped);
+        stats.put("rowsDeleted", rowsDeleted);
+        if (partitioned) {
+            // TABLE_ROWS is InnoDB's estimate, good enough to see where the data sits
+            Map<String, Object> partitions = new LinkedHashMap<>();
+            jdbcTemplate.query(LIST_PARTITIONS, rs -> {
+                partitions.put(rs.getString(1), rs.getLong(2));
+            }, TABLE);
+            stats.put("partitions", partitions);
+        }
+        return stats;
+    }
+
+    synchronized void maintain() {
+        try {
+            if (!partitioned) {
+                if (!isMySql()) {
+                    applyRetention();
+                    lastMaintenance = LocalDateTime.now();
+                    return;
+                }
+                if (partitionNames().isEmpty()) {
+                    partitionTable();
+                }
+                partitioned = true;
+            }
+            addFuturePartitions();
+            applyRetention();
+            lastMaintenance = LocalDateTime.now();
+        } catch (Exception e) {
+            System.err.println("Audit partition maintenance failed: " + e.getMessage());
+        }
+    }
+
+    private void partitionTable() {
+        for (String foreignKey : jdbcTemplate.queryForList(LIST_FOREIGN_KEYS, String.class, TABLE)) {
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " DROP FOREIGN KEY " + foreignKey);
+        }
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " MODIFY timestamp DATETIME(6) NOT NULL, " +
+                "DROP PRIMARY KEY, ADD PRIMARY KEY (id, timestamp)");
+
+        // Start at the oldest existing row so every row lands in a month partition
+        LocalDateTime oldest = jdbcTemplate.queryForObject(
+                "SELECT MIN(timestamp) FROM " + TABLE, LocalDateTime.class);
+        YearMonth first = oldest != null ? YearMonth.from(oldest) : YearMonth.now();
+        YearMonth last = YearMonth.now().plusMonths(partitionsAhead);
+
+        List<String> definitions = new ArrayList<>();
+        for (YearMonth month = first; !month.isAfter(last); month = month.plusMonths(1)) {
+            definitions.add(definition(month));
+        }
+        definitions.add("PARTITION " + MAX_PARTITION + " VALUES LESS THAN MAXVALUE");
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " PARTITION BY RANGE (TO_DAYS(timestamp)) (" +
+                String.join(", ", definitions) + ")");
+        System.out.println("Partitioned " + TABLE + " by month from " + first + " to " + last);
+    }
+
+    private void addFuturePartitions() {
+        List<String> names = monthPartitions();
+        YearMonth next = names.isEmpty() ? YearMonth.now() : monthOf(names.get(names.size() - 1)).plusMonths(1);
+        YearMonth last = YearMonth.now().plusMonths(partitionsAhead);
+        if (next.isAfter(last)) {
+            return;
+        }
+        // pmax only ever holds rows dated past the last month, so reorganizing it is cheap
+        List<String> definitions = new ArrayList<>();
+        for (YearMonth month = next; !month.isAfter(last); month = month.plusMonths(1)) {
+            definitions.add(definition(month));
+        }
+        definitions.add("PARTITION " + MAX_PARTITION + " VALUES LESS THAN MAXVALUE");
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " REORGANIZE PARTITION " + MAX_PARTITION + " INTO (" +
+                String.join(", ", definitions) + ")");
+    }
+
+    private List<String> partitionNames() {
+        List<String> names = new ArrayList<>();
+        jdbcTemplate.query(LIST_PARTITIONS, rs -> {
+            names.add(rs.getString(1));
+        }, TABLE);
+        return names;
+    }
+
+    private List<String> monthPartitions() {
+        List<String> names = partitionNames();
+        names.remove(MAX_PARTITION);
+        return names;
+    }
+
+    private boolean isMySql() {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        return product != null && product.toLowerCase().contains("mysql");
+    }
+
+    private static String definition(YearMonth month) {
+        LocalDate upper = month.plusMonths(1).atDay(1);
+        return "PARTITION " + month.format(PARTITION_NAME) + " VALUES LESS THAN (TO_DAYS('" + upper + "'))";
+    }
+
+    private static YearMonth monthOf(String partitionName) {
+        return YearMonth.parse(partitionName, PARTITION_NAME);
+    }
+}
@@ -0,0 +1,96 @@
+package com.examly.springapp.service.audit;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded lock-free multi-producer/multi-consumer ring buffer (Vyukov's sequenced
+ * array queue). Every slot carries a sequence number that says whether it is free
+ * for the producer at a given position or holds an element for the consumer there,
+ * so offer and poll are a CAS on the tail or head plus two volatile writes, and
+ * neither ever blocks. A full buffer makes offer return false immediately.
+ */
+final class AuditRingBuffer {
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<AuditEvent> slots;
+    private final AtomicLongArray sequences;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+
+    AuditRingBuffer(int requestedCapacity) {
+        int size = 2;
+        while (size < requestedCapacity) {
+            size <<= 1;
+        }
+        this.capacity = size;
+        this.mask = size - 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    boolean offer(AuditEvent event) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots.set(index, event);
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return false; // the consumer has not freed this slot yet: full
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    AuditEvent poll() {
+        long position = head.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - (position + 1);
+            if (difference == 0) {
+                if (head.compareAndSet(position, position + 1)) {
+                    AuditEvent event = slots.getAndSet(index, null);
+                    sequences.set(index, position + capacity);
+                    return event;
+                }
+                position = head.get();
+            } else if (difference < 0) {
+                return null; // nothing published at this position yet: empty
+            } else {
+                position = head.get();
+            }
+        }
+    }
+
+    /** Moves up to max events into the list; returns how many were moved. */
+    int drainTo(List<AuditEvent> target, int max) {
+        int drained = 0;
+        AuditEvent event;
+        while (drained < max && (event = poll()) != null) {
+            target.add(event);
+            drained++;
+        }
+        return drained;
+    }
+
+    int size() {
+        return (int) Math.max(0, tail.get() - head.get());
+    }
+
+    int capacity() {
+        return capacity;
+    }
+}
@@ -0,0 +1,168 @@
+package com.examly.springapp.service.audit;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Write-behind audit trail.
+ *
+ * record() only offers the event to a bounded lock-free ring buffer, so callers pay
+ * an allocation and a CAS instead of a transaction. A single writer thread drains the
+ * buffer every app.audit.flush-interval-ms, and as soon as app.audit.batch-size events
+ * are waiting (the producer that fills a batch wakes it, at most one wake-up pending),
+ * inserting up to batch-size rows per JDBC batch (AuditBatchWriter). Whatever is
+ * still buffered is written on shutdown.
+ *
+ * When the buffer (app.audit.buffer-capacity) is full, app.audit.overflow-policy
+ * decides:
+ *   DROP_NEWEST  (default) discard the new event and count it
+ *   DROP_OLDEST  discard the oldest buffered event to make room
+ *   WRITE_THROUGH insert the new event on the caller's thread, like before
+ * A batch that fails to insert is logged and counted, not retried, so a database
+ * outage cannot grow memory without bound.
+ */
+@Service
+public class AuditTrailService {
+
+    public enum OverflowPolicy {
+        DROP_NEWEST, DROP_OLDEST, WRITE_THROUGH
+    }
+
+    @Autowired
+    private AuditBatchWriter auditBatchWriter;
+
+    @Value("${app.audit.buffer-capacity:8192}")
+    private int bufferCapacity;
+
+    @Value("${app.audit.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.audit.flush-interval-ms:200}")
+    private long flushIntervalMs;
+
+    @Value("${app.audit.overflow-policy:DROP_NEWEST}")
+    private OverflowPolicy overflowPolicy;
+
+    private AuditRingBuffer buffer;
+    private ScheduledExecutorService writer;
+
+    private final LongAdder recorded = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder writtenThrough = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder wakeups = new LongAdder();
+    private final AtomicBoolean wakeupPending = new AtomicBoolean();
+
+    @PostConstruct
+    public void start() {
+        buffer = new AuditRingBuffer(bufferCapacity);
+        writer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "audit-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        writer.scheduleWithFixedDelay(this::drain, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        writer.shutdown();
+        try {
+            writer.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        drain();
+    }
+
+    public void record(AuditEvent event) {
+        recorded.increment();
+        if (buffer.offer(event)) {
+            // A full batch is waiting: write it now instead of at the next tick
+            if (buffer.size() >= batchSize && wakeupPending.compareAndSet(false, true)) {
+                wakeWriter();
+            }
+            return;
+        }
+        switch (overflowPolicy) {
+            case DROP_OLDEST:
+                // Another producer may take the freed slot first; then this event is dropped
+                if (buffer.poll() != null) {
+                    dropped.increment();
+                }
+                if (!buffer.offer(event)) {
+                    dropped.increment();
+                }
+                break;
+            case WRITE_THROUGH:
+                writtenThrough.increment();
+                write(List.of(event));
+                break;
+            default:
+                dropped.increment();
+        }
+    }
+
+    public Map<String, Object> getPipelineStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("buffered", buffer.size());
+        stats.put("capacity", buffer.capacity());
+        stats.put("overflowPolicy", overflowPolicy.name());
+        stats.put("recorded", recorded.sum());
+        stats.put("written", written.sum());
+        stats.put("batches", batches.sum());
+        stats.put("dropped", dropped.sum());
+        stats.put("writtenThrough", writtenThrough.sum());
+        stats.put("failed", failed.sum());
+        stats.put("wakeups", wakeups.sum());
+        return stats;
+    }
+
+    private void wakeWriter() {
+        try {
+            writer.execute(() -> {
+                wakeupPending.set(false);
+                drain();
+            });
+            wakeups.increment();
+        } catch (RejectedExecutionException e) {
+            wakeupPending.set(false); // shutting down; shutdown() drains what is left
+        }
+    }
+
+    // Only ever runs on the writer thread, or after it has stopped (shutdown)
+    private void drain() {
+        List<AuditEvent> batch = new ArrayList<>(Math.min(batchSize, buffer.capacity()));
+        while (buffer.drainTo(batch, batchSize) > 0) {
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    private void write(List<AuditEvent> batch) {
+        try {
+            auditBatchWriter.write(batch);
+            written.add(batch.size());
+            batches.increment();
+        } catch (RuntimeException e) {
+            failed.add(batch.size());
+            System.err.println("Failed to write " + batch.size() + " audit events: " + e.getMessage());
+        }
+    }
+}
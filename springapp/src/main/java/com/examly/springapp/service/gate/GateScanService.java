@@ -0,0 +1,221 @@
+package com.examly.springapp.service.gate;
+
+import com.examly.springapp.repository.MatchRepository;
+import com.examly.springapp.repository.TicketRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Gate validation: a credential signature check plus an atomic bit flip.
+ *
+ * Each match has an "admitted" bitmap indexed by gate sequence (bit n - 1 for sequence
+ * n), sized from the venue capacity and seeded from tickets.admitted_count on first
+ * use. A ticket for k seats owns k consecutive sequences, so one credential admits k
+ * people: each scan sets the first clear bit of the ticket's block with
+ * getAndAccumulate and admits one seat. Once every bit is set, later scans of the same
+ * credential, at any gate, see ALREADY_SCANNED.
+ *
+ * The database is not on this path. Admissions queue up and a background task writes
+ * them to tickets.scanned_at and admitted_count every app.gates.sync-interval-ms, up to
+ * app.gates.sync-batch-size rows per JDBC batch. Offline gates upload what they scanned
+ * through scanAll() when they reconnect, which settles duplicates the same way.
+ */
+@Service
+public class GateScanService {
+
+    public static final String ADMITTED = "ADMITTED";
+    public static final String ALREADY_SCANNED = "ALREADY_SCANNED";
+    public static final String WRONG_MATCH = "WRONG_MATCH";
+    public static final String INVALID = "INVALID";
+
+    // Matches without a venue capacity still get a bitmap; sequences past it are rejected
+    private static final int DEFAULT_CAPACITY = 100_000;
+
+    @Autowired
+    private TicketCredentialService ticketCredentialService;
+
+    @Autowired
+    private GateScanWriter gateScanWriter;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private MatchRepository matchRepository;
+
+    @Value("${app.gates.sync-interval-ms:2000}")
+    private long syncIntervalMs;
+
+    @Value("${app.gates.sync-batch-size:1000}")
+    private int syncBatchSize;
+
+    private final ConcurrentHashMap<Long, AtomicLongArray> scanned = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<GateScanWriter.Scan> pending = new ConcurrentLinkedQueue<>();
+
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder duplicates = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder synced = new LongAdder();
+    private final LongAdder syncFailures = new LongAdder();
+
+    private ScheduledExecutorService syncer;
+
+    @PostConstruct
+    public void start() {
+        syncer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "gate-scan-sync");
+            thread.setDaemon(true);
+            return thread;
+        });
+        syncer.scheduleWithFixedDelay(this::sync, syncIntervalMs, syncIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        syncer.shutdown();
+        try {
+            syncer.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        sync();
+    }
+
+    /** Validates one credential at a gate of the given match. */
+    public Map<String, Object> scan(Long matchId, String credential) {
+        Map<String, Object> result = new HashMap<>();
+        TicketCredential ticket = ticketCredentialService.verify(credential);
+        if (ticket == null) {
+            rejected.increment();
+            result.put("status", INVALID);
+            return result;
+        }
+        result.put("ticketId", ticket.getTicketId());
+        result.put("category", ticket.getCategory());
+        result.put("seats", ticket.getSeats());
+        if (!ticket.getMatchId().equals(matchId)) {
+            rejected.increment();
+            result.put("status", WRONG_MATCH);
+            return result;
+        }
+        AtomicLongArray bits = bitmap(matchId);
+        int first = ticket.getGateSequence() - 1;
+        int seatCount = ticket.getSeatCount();
+        if (first < 0 || (long) first + seatCount > (long) bits.length() * 64) {
+            rejected.increment();
+            result.put("status", INVALID);
+            return result;
+        }
+        result.put("seatCount", seatCount);
+        for (int i = 0; i < seatCount; i++) {
+            int bit = first + i;
+            long mask = 1L << bit;
+            long before = bits.getAndAccumulate(bit >>> 6, mask, (current, m) -> current | m);
+            if ((before & mask) == 0) {
+                admitted.increment();
+                pending.add(new GateScanWriter.Scan(ticket.getTicketId(), i + 1, LocalDateTime.now()));
+                result.put("status", ADMITTED);
+                result.put("admittedCount", i + 1);
+                return result;
+            }
+        }
+        duplicates.increment();
+        result.put("status", ALREADY_SCANNED);
+        result.put("admittedCount", seatCount);
+        return result;
+    }
+
+    /** Batch upload from a gate that scanned offline; one result per credential, in order. */
+    public List<Map<String, Object>> scanAll(Long matchId, List<String> credentials) {
+        List<Map<String, Object>> results = new ArrayList<>(credentials.size());
+        for (String credential : credentials) {
+            results.add(scan(matchId, credential));
+        }
+        return results;
+    }
+
+    public Map<String, Object> getStats(Long matchId) {
+        Map<String, Object> stats = new HashMap<>();
+        AtomicLongArray bits = scanned.get(matchId);
+        long count = 0;
+        if (bits != null) {
+            for (int w = 0; w < bits.length(); w++) {
+                count += Long.bitCount(bits.get(w));
+            }
+        }
+        stats.put("matchId", matchId);
+        stats.put("admitted", count); // people, not tickets
+        // Counters below cover every match
+        Map<String, Object> totals = new HashMap<>();
+        totals.put("admitted", admitted.sum());
+        totals.put("duplicates", duplicates.sum());
+        totals.put("rejected", rejected.sum());
+        totals.put("pendingSync", pending.size());
+        totals.put("synced", synced.sum());
+        totals.put("syncFailures", syncFailures.sum());
+        stats.put("totals", totals);
+        return stats;
+    }
+
+    private AtomicLongArray bitmap(Long matchId) {
+        AtomicLongArray bits = scanned.get(matchId);
+        if (bits != null) {
+            return bits;
+        }
+        int capacity = matchRepository.findVenueCapacity(matchId).orElse(DEFAULT_CAPACITY);
+        AtomicLongArray created = new AtomicLongArray((Math.max(capacity, 1) + 63) >>> 6);
+        // Admissions already written to the database (earlier run, or synced before a restart)
+        for (Object[] row : ticketRepository.findAdmissions(matchId)) {
+            int first = ((Number) row[0]).intValue() - 1;
+            int count = ((Number) row[1]).intValue();
+            for (int bit = first; bit < first + count; bit++) {
+                if (bit >= 0 && bit < created.length() * 64) {
+                    created.getAndAccumulate(bit >>> 6, 1L << bit, (current, m) -> current | m);
+                }
+            }
+        }
+        AtomicLongArray existing = scanned.putIfAbsent(matchId, created);
+        return existing != null ? existing : created;
+    }
+
+    // Single sync thread, or shutdown after it has stopped
+    private void sync() {
+        List<GateScanWriter.Scan> batch = new ArrayList<>(syncBatchSize);
+        GateScanWriter.Scan scan;
+        while (true) {
+            while (batch.size() < syncBatchSize && (scan = pending.poll()) != null) {
+                batch.add(scan);
+            }
+            if (batch.isEmpty()) {
+                return;
+            }
+            try {
+                gateScanWriter.markScanned(batch);
+                synced.add(batch.size());
+            } catch (RuntimeException e) {
+                // Kept for the next round: the bitmap already admitted these tickets
+                syncFailures.increment();
+                pending.addAll(batch);
+                System.err.println("Failed to sync " + batch.size() + " gate scans: " + e.getMessage());
+                return;
+            }
+            batch.clear();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.examly.springapp.service.gate;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/** Writes a batch of gate admissions to tickets.scanned_at and admitted_count as one JDBC batch. */
+@Component
+public class GateScanWriter {
+
+    // The first scan keeps its timestamp and the count only grows, so replayed or reordered batches are harmless
+    private static final String MARK_SCANNED =
+            "UPDATE tickets SET scanned_at = COALESCE(scanned_at, ?), " +
+            "admitted_count = GREATEST(COALESCE(admitted_count, 0), ?) WHERE id = ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Transactional
+    public void markScanned(List<Scan> batch) {
+        jdbcTemplate.batchUpdate(MARK_SCANNED, batch, batch.size(), (ps, scan) -> {
+            ps.setTimestamp(1, Timestamp.valueOf(scan.scannedAt));
+            ps.setInt(2, scan.admittedCount);
+            ps.setLong(3, scan.ticketId);
+        });
+    }
+
+    public static final class Scan {
+        final Long ticketId;
+        final int admittedCount;
+        final LocalDateTime scannedAt;
+
+        public Scan(Long ticketId, int admittedCount, LocalDateTime scannedAt) {
+            this.ticketId = ticketId;
+            this.admittedCount = admittedCount;
+            this.scannedAt = scannedAt;
+        }
+    }
+}
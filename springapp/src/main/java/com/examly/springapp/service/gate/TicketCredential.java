@@ -0,0 +1,32 @@
+package com.examly.springapp.service.gate;
+
+import com.examly.springapp.service.inventory.SeatHold;
+
+/** Contents of a verified ticket credential. */
+public class TicketCredential {
+
+    private final Long ticketId;
+    private final Long matchId;
+    private final int gateSequence;
+    private final String category;
+    private final String seats;
+
+    public TicketCredential(Long ticketId, Long matchId, int gateSequence, String category, String seats) {
+        this.ticketId = ticketId;
+        this.matchId = matchId;
+        this.gateSequence = gateSequence;
+        this.category = category;
+        this.seats = seats;
+    }
+
+    public Long getTicketId() { return ticketId; }
+    public Long getMatchId() { return matchId; }
+    public int getGateSequence() { return gateSequence; }
+    public String getCategory() { return category; }
+    public String getSeats() { return seats; }
+
+    /** People this credential admits: one per seat, at least one. */
+    public int getSeatCount() {
+        return Math.max(1, SeatHold.parseSeats(seats).length);
+    }
+}
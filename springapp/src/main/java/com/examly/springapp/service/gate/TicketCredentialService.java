@@ -0,0 +1,159 @@
+package com.examly.springapp.service.gate;
+
+import com.examly.springapp.model.Ticket;
+import com.examly.springapp.repository.TicketRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Self-verifying ticket credentials for stadium gates.
+ *
+ * A confirmed ticket gets a block of gate sequences, one per seat and dense per match
+ * (a ticket for 3 seats after one for 2 gets 3, 4 and 5), and its credential is "payload.signature" in base64url, where the payload is
+ * "v1|ticketId|matchId|gateSequence|category|seats" and the signature is Ed25519 over it.
+ * Gates need only the public key to check a credential, so they can validate offline;
+ * a gate device cannot mint tickets. Ed25519 is deterministic, so a credential is not
+ * stored: credentialFor() returns the same string for the same ticket every time.
+ * Verifying costs up to about a millisecond of CPU; that is the price of gates not
+ * holding a signing secret, and with offline gates most checks never reach the server.
+ *
+ *   app.tickets.credential.private-key=<base64 PKCS#8 Ed25519 key>
+ *   app.tickets.credential.public-key=<base64 X.509 Ed25519 key>
+ *
+ * The keys are required unless the dev or test profile is active; there a key pair is
+ * generated at startup, and credentials issued before a restart stop verifying.
+ */
+@Service
+public class TicketCredentialService {
+
+    public static final String ALGORITHM = "Ed25519";
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private Environment environment;
+
+    @Value("${app.tickets.credential.private-key:}")
+    private String privateKeyBase64;
+
+    @Value("${app.tickets.credential.public-key:}")
+    private String publicKeyBase64;
+
+    private PrivateKey privateKey;
+    private PublicKey publicKey;
+
+    // Last gate sequence handed out per match, seeded from the highest one already assigned
+    private final ConcurrentHashMap<Long, AtomicInteger> sequences = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void loadKeys() throws GeneralSecurityException {
+        if (privateKeyBase64.isBlank() || publicKeyBase64.isBlank()) {
+            if (!environment.acceptsProfiles(Profiles.of("dev", "test"))) {
+                // Generated keys would void every issued credential at each restart
+                throw new IllegalStateException("app.tickets.credential.private-key and public-key must be set "
+                        + "outside the dev and test profiles");
+            }
+            KeyPair pair = KeyPairGenerator.getInstance(ALGORITHM).generateKeyPair();
+            privateKey = pair.getPrivate();
+            publicKey = pair.getPublic();
+            System.err.println("app.tickets.credential keys not set: generated a temporary Ed25519 key pair; "
+                    + "ticket credentials will not survive a restart");
+            return;
+        }
+        KeyFactory factory = KeyFactory.getInstance(ALGORITHM);
+        privateKey = factory.generatePrivate(new PKCS8EncodedKeySpec(Base64.getDecoder().decode(privateKeyBase64.trim())));
+        publicKey = factory.generatePublic(new X509EncodedKeySpec(Base64.getDecoder().decode(publicKeyBase64.trim())));
+    }
+
+    /**
+     * Reserves one gate sequence per seat for the match and returns the first; call once
+     * per ticket as it is confirmed.
+     */
+    public int nextSequence(Long matchId, int seatCount) {
+        AtomicInteger counter = sequences.get(matchId);
+        if (counter == null) {
+            int highest = ticketRepository.findLastGateSequence(matchId).orElse(0);
+            AtomicInteger seeded = new AtomicInteger(highest);
+            counter = sequences.putIfAbsent(matchId, seeded);
+            if (counter == null) {
+                counter = seeded;
+            }
+        }
+        return counter.getAndAdd(seatCount) + 1;
+    }
+
+    /** The ticket's credential, or null if it has no gate sequence (not confirmed). */
+    public String credentialFor(Ticket ticket) {
+        if (ticket.getGateSequence() == null) {
+            return null;
+        }
+        String payload = "v1|" + ticket.getId() + "|" + ticket.getMatchId() + "|" + ticket.getGateSequence()
+                + "|" + ticket.getSeatCategory() + "|" + (ticket.getSeats() == null ? "" : ticket.getSeats());
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return encoder.encodeToString(payload.getBytes(StandardCharsets.UTF_8)) + "." + encoder.encodeToString(sign(payload));
+    }
+
+    /** Verifies the signature and decodes the credential; null when forged or malformed. */
+    public TicketCredential verify(String credential) {
+        if (credential == null) {
+            return null;
+        }
+        int dot = credential.indexOf('.');
+        if (dot <= 0) {
+            return null;
+        }
+        try {
+            Base64.Decoder decoder = Base64.getUrlDecoder();
+            byte[] payload = decoder.decode(credential.substring(0, dot));
+            Signature verifier = Signature.getInstance(ALGORITHM);
+            verifier.initVerify(publicKey);
+            verifier.update(payload);
+            if (!verifier.verify(decoder.decode(credential.substring(dot + 1)))) {
+                return null;
+            }
+            String[] parts = new String(payload, StandardCharsets.UTF_8).split("\\|", -1);
+            if (parts.length != 6 || !"v1".equals(parts[0])) {
+                return null;
+            }
+            return new TicketCredential(Long.parseLong(parts[1]), Long.parseLong(parts[2]),
+                    Integer.parseInt(parts[3]), parts[4], parts[5]);
+        } catch (IllegalArgumentException | GeneralSecurityException e) {
+            return null;
+        }
+    }
+
+    /** X.509 public key, base64, for gate devices that validate offline. */
+    public String publicKey() {
+        return Base64.getEncoder().encodeToString(publicKey.getEncoded());
+    }
+
+    private byte[] sign(String payload) {
+        try {
+            Signature signer = Signature.getInstance(ALGORITHM);
+            signer.initSign(privateKey);
+            signer.update(payload.getBytes(StandardCharsets.UTF_8));
+            return signer.sign();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Could not sign ticket credential", e);
+        }
+    }
+}
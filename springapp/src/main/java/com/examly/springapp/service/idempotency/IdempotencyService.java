@@ -0,0 +1,282 @@
+package com.examly.springapp.service.idempotency;
+
+import com.examly.springapp.exception.IdempotencyKeyInProgressException;
+import com.examly.springapp.exception.InvalidIdempotencyKeyException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key handling for create endpoints (ticket booking, payment initiation).
+ *
+ * A key is scoped to the user and the endpoint. The first request with a key registers
+ * an in-flight entry and runs the action; duplicates that arrive meanwhile wait on that
+ * entry's future (up to app.idempotency.wait-timeout-ms) and get the same response, or
+ * the same error. A successful response is kept as JSON: in memory for
+ * app.idempotency.cache-ttl-seconds and in idempotency_keys (one insert per key) for
+ * app.idempotency.retention-hours, so later retries replay it without running the
+ * service again. Failures are not stored; the client may retry with the same key.
+ *
+ * Reusing a key with a different request body is rejected (SHA-256 of the body is kept
+ * with the response). Replays carry an Idempotent-Replayed: true header.
+ *
+ * In-flight coordination is in this instance's memory, like the seat inventory behind
+ * booking; the table makes replays survive restarts.
+ */
+@Service
+public class IdempotencyService {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    public static final String TICKET_BOOKING = "TICKET_BOOKING";
+    public static final String PAYMENT_INITIATION = "PAYMENT_INITIATION";
+
+    private static final int MAX_KEY_LENGTH = 64;
+
+    @Autowired
+    private IdempotencyStore idempotencyStore;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${app.idempotency.cache-ttl-seconds:600}")
+    private long cacheTtlSeconds;
+
+    @Value("${app.idempotency.retention-hours:24}")
+    private long retentionHours;
+
+    @Value("${app.idempotency.max-cached-keys:100000}")
+    private int maxCachedKeys;
+
+    @Value("${app.idempotency.wait-timeout-ms:10000}")
+    private long waitTimeoutMs;
+
+    @Value("${app.idempotency.sweep-interval-seconds:60}")
+    private long sweepIntervalSeconds;
+
+    @Value("${app.idempotency.purge-batch-size:10000}")
+    private int purgeBatchSize;
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private final LongAdder executed = new LongAdder();
+    private final LongAdder replayedFromMemory = new LongAdder();
+    private final LongAdder replayedFromStore = new LongAdder();
+    private final LongAdder waitedOnInFlight = new LongAdder();
+    private final LongAdder mismatched = new LongAdder();
+    private final LongAdder storeFailures = new LongAdder();
+    private final LongAdder purged = new LongAdder();
+
+    private ScheduledExecutorService sweeper;
+
+    @PostConstruct
+    public void start() {
+        sweeper = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "idempotency-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sweeper.scheduleWithFixedDelay(this::sweep, sweepIntervalSeconds, sweepIntervalSeconds, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sweeper.shutdownNow();
+    }
+
+    /**
+     * Runs the action once per (scope, user, key) and returns its result as 200, or the
+     * stored result of the earlier run. Without a key the action simply runs.
+     */
+    public <T> ResponseEntity<T> execute(String scope, Long userId, String key, Object request,
+                                         Class<T> type, Supplier<T> action) {
+        if (key == null) {
+            return ResponseEntity.ok(action.get());
+        }
+        key = key.trim();
+        if (key.isEmpty() || key.length() > MAX_KEY_LENGTH) {
+            throw new InvalidIdempotencyKeyException(HEADER + " must be 1 to " + MAX_KEY_LENGTH + " characters");
+        }
+        String requestHash = fingerprint(request);
+        String cacheKey = scope + ":" + userId + ":" + key;
+
+        Entry fresh = new Entry(requestHash);
+        Entry entry;
+        while (true) {
+            entry = entries.putIfAbsent(cacheKey, fresh);
+            if (entry == null || !entry.isExpired(System.currentTimeMillis())) {
+                break;
+            }
+            entries.remove(cacheKey, entry);
+        }
+
+        if (entry != null) {
+            // Someone else owns the key: replay their response, or wait for it
+            if (!entry.requestHash.equals(requestHash)) {
+                mismatched.increment();
+                throw reused();
+            }
+            if (entry.response.isDone()) {
+                replayedFromMemory.increment();
+            } else {
+                waitedOnInFlight.increment();
+            }
+            return replay(await(entry), type);
+        }
+
+        try {
+            Optional<IdempotencyStore.Stored> stored = idempotencyStore.find(scope, userId, key);
+            if (stored.isPresent()) {
+                if (!stored.get().requestHash.equals(requestHash)) {
+                    mismatched.increment();
+                    throw reused();
+                }
+                replayedFromStore.increment();
+                complete(cacheKey, fresh, stored.get().responseBody);
+                return replay(stored.get().responseBody, type);
+            }
+
+            T result = action.get();
+            executed.increment();
+            String body = toJson(result);
+            try {
+                idempotencyStore.insert(scope, userId, key, requestHash, body,
+                        LocalDateTime.now().plusHours(retentionHours));
+            } catch (RuntimeException e) {
+                // The action has already happened; the in-memory entry still covers retries for the TTL
+                storeFailures.increment();
+                System.err.println("Failed to store idempotent response for " + cacheKey + ": " + e.getMessage());
+            }
+            complete(cacheKey, fresh, body);
+            return ResponseEntity.ok(result);
+        } catch (RuntimeException e) {
+            // Waiters get the same error; the next retry with this key runs the action again
+            entries.remove(cacheKey, fresh);
+            fresh.response.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        long inFlight = entries.values().stream().filter(e -> !e.response.isDone()).count();
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("cachedKeys", entries.size());
+        stats.put("inFlight", inFlight);
+        stats.put("executed", executed.sum());
+        stats.put("replayedFromMemory", replayedFromMemory.sum());
+        stats.put("replayedFromStore", replayedFromStore.sum());
+        stats.put("waitedOnInFlight", waitedOnInFlight.sum());
+        stats.put("mismatchedRequests", mismatched.sum());
+        stats.put("storeFailures", storeFailures.sum());
+        stats.put("purgedRows", purged.sum());
+        stats.put("cacheTtlSeconds", cacheTtlSeconds);
+        stats.put("retentionHours", retentionHours);
+        return stats;
+    }
+
+    private void complete(String cacheKey, Entry entry, String body) {
+        entry.expiresAtMs = System.currentTimeMillis() + cacheTtlSeconds * 1000;
+        entry.response.complete(body);
+        if (entries.size() > maxCachedKeys) {
+            // Over the memory budget: later replays of this key come from the table
+            entries.remove(cacheKey, entry);
+        }
+    }
+
+    private String await(Entry entry) {
+        try {
+            return entry.response.get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new IdempotencyKeyInProgressException("A request with this " + HEADER
+                    + " is still being processed, please retry shortly");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for an idempotent request", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new RuntimeException("Idempotent request failed", cause);
+        }
+    }
+
+    private <T> ResponseEntity<T> replay(String body, Class<T> type) {
+        try {
+            return ResponseEntity.ok().header(REPLAYED_HEADER, "true").body(objectMapper.readValue(body, type));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Stored idempotent response is not readable", e);
+        }
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize idempotent response", e);
+        }
+    }
+
+    // Map keys are sorted so the same payload hashes the same whatever the client's field order
+    private String fingerprint(Object request) {
+        try {
+            byte[] json = objectMapper.writer().with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS).writeValueAsBytes(request);
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(json));
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Could not fingerprint request", e);
+        }
+    }
+
+    private InvalidIdempotencyKeyException reused() {
+        return new InvalidIdempotencyKeyException(HEADER + " was already used with a different request");
+    }
+
+    // Sweeper thread only
+    private void sweep() {
+        long now = System.currentTimeMillis();
+        entries.entrySet().removeIf(e -> e.getValue().isExpired(now));
+        try {
+            purged.add(idempotencyStore.purgeExpired(purgeBatchSize));
+        } catch (RuntimeException e) {
+            System.err.println("Failed to purge expired idempotency keys: " + e.getMessage());
+        }
+    }
+
+    private static final class Entry {
+        final String requestHash;
+        final CompletableFuture<String> response = new CompletableFuture<>();
+        volatile long expiresAtMs = Long.MAX_VALUE; // set when the response is complete
+
+        Entry(String requestHash) {
+            this.requestHash = requestHash;
+        }
+
+        boolean isExpired(long now) {
+            return now > expiresAtMs;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.examly.springapp.service.idempotency;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/** JDBC side of the idempotency_keys table: lookup, insert-once and batched purge. */
+@Component
+public class IdempotencyStore {
+
+    private static final String SELECT_RESPONSE =
+            "SELECT request_hash, response_body FROM idempotency_keys " +
+            "WHERE user_id = ? AND scope = ? AND idem_key = ? AND expires_at > ?";
+
+    private static final String INSERT_RESPONSE =
+            "INSERT INTO idempotency_keys (user_id, scope, idem_key, request_hash, response_body, created_at, expires_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String DELETE_EXPIRED =
+            "DELETE FROM idempotency_keys WHERE expires_at < ? LIMIT ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    public Optional<Stored> find(String scope, Long userId, String key) {
+        List<Stored> rows = jdbcTemplate.query(SELECT_RESPONSE,
+                (rs, i) -> new Stored(rs.getString("request_hash"), rs.getString("response_body")),
+                userId, scope, key, Timestamp.valueOf(LocalDateTime.now()));
+        return rows.stream().findFirst();
+    }
+
+    /** False when a row for the key already exists; the first stored response is kept. */
+    public boolean insert(String scope, Long userId, String key, String requestHash, String responseBody,
+                          LocalDateTime expiresAt) {
+        try {
+            jdbcTemplate.update(INSERT_RESPONSE, userId, scope, key, requestHash, responseBody,
+                    Timestamp.valueOf(LocalDateTime.now()), Timestamp.valueOf(expiresAt));
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    /** Deletes expired rows in batches of batchSize so no single statement holds locks for long. */
+    public int purgeExpired(int batchSize) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int total = 0;
+        int deleted;
+        do {
+            deleted = jdbcTemplate.update(DELETE_EXPIRED, now, batchSize);
+            total += deleted;
+        } while (deleted == batchSize);
+        return total;
+    }
+
+    public static final class Stored {
+        final String requestHash;
+        final String responseBody;
+
+        Stored(String requestHash, String responseBody) {
+            this.requestHash = requestHash;
+            this.responseBody = responseBody;
+        }
+    }
+}
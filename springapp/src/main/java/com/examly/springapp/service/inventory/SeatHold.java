@@ -0,0 +1,89 @@
+package com.examly.springapp.service.inventory;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+import java.util.stream.Collectors;
+
+/**
+ * Seats claimed for one booking. A hold starts HELD and moves exactly once, by CAS, to
+ * CONFIRMED (payment captured) or RELEASED (cancelled, expired or failed to journal),
+ * so a confirmation and an expiry racing on the same hold cannot both win.
+ */
+public class SeatHold {
+
+    public enum State {
+        HELD, CONFIRMED, RELEASED
+    }
+
+    private final String holdId;
+    private final Long matchId;
+    private final String category;
+    private final int[] seats;
+    private final Long userId;
+    private final long expiresAtMs;
+    private final AtomicReference<State> state = new AtomicReference<>(State.HELD);
+
+    public SeatHold(String holdId, Long matchId, String category, int[] seats, Long userId, long expiresAtMs) {
+        this.holdId = holdId;
+        this.matchId = matchId;
+        this.category = category;
+        this.seats = seats;
+        this.userId = userId;
+        this.expiresAtMs = expiresAtMs;
+    }
+
+    public String getHoldId() { return holdId; }
+    public Long getMatchId() { return matchId; }
+    public String getCategory() { return category; }
+    public int[] getSeats() { return seats; }
+    public Long getUserId() { return userId; }
+    public long getExpiresAtMs() { return expiresAtMs; }
+    public State getState() { return state.get(); }
+
+    boolean transition(State from, State to) {
+        return state.compareAndSet(from, to);
+    }
+
+    /** Seat numbers as stored on tickets and in the journal, e.g. "12,13,14". */
+    public String seatList() {
+        return formatSeats(seats);
+    }
+
+    public static String formatSeats(int[] seats) {
+        return Arrays.stream(seats).mapToObj(String::valueOf).collect(Collectors.joining(","));
+    }
+
+    /** Sorted seat numbers with consecutive runs collapsed, e.g. "1-250,252,260-300". */
+    public static String formatRanges(int[] sortedSeats) {
+        StringBuilder out = new StringBuilder();
+        for (int i = 0; i < sortedSeats.length; i++) {
+            int first = sortedSeats[i];
+            while (i + 1 < sortedSeats.length && sortedSeats[i + 1] == sortedSeats[i] + 1) {
+                i++;
+            }
+            if (out.length() > 0) {
+                out.append(',');
+            }
+            out.append(first);
+            if (sortedSeats[i] != first) {
+                out.append('-').append(sortedSeats[i]);
+            }
+        }
+        return out.toString();
+    }
+
+    /** Reads both the plain list and the range form of formatRanges. */
+    public static int[] parseSeats(String seats) {
+        if (seats == null || seats.isBlank()) {
+            return new int[0];
+        }
+        return Arrays.stream(seats.split(",")).map(String::trim).flatMapToInt(part -> {
+            int dash = part.indexOf('-', 1);
+            if (dash < 0) {
+                return IntStream.of(Integer.parseInt(part));
+            }
+            return IntStream.rangeClosed(Integer.parseInt(part.substring(0, dash)), Integer.parseInt(part.substring(dash + 1)));
+        }).toArray();
+    }
+}
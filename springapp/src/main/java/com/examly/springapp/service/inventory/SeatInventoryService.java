@@ -0,0 +1,361 @@
+package com.examly.springapp.service.inventory;
+
+import com.examly.springapp.exception.InvalidReservationException;
+import com.examly.springapp.exception.SeatsUnavailableException;
+import com.examly.springapp.repository.MatchRepository;
+import com.examly.springapp.repository.TicketRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Seat inventory per match and seat category, held in memory and journaled.
+ *
+ * Each (match, category) is a SeatSection sized from the venue's capacity and the
+ * category's share (app.inventory.categories, percent). A booking takes seats with CAS
+ * on the section bitmap and becomes a HELD SeatHold for app.inventory.hold-ttl-seconds;
+ * PaymentService.markCaptured confirms it (through TicketService), a cancellation or the
+ * expiry sweep releases it. No database row is locked or updated per reservation:
+ * every change is appended to the seat_reservation_journal through group commit
+ * (SeatReservationJournal), and holds and confirmations return only once durable.
+ *
+ * At startup the journal is replayed in order to rebuild every section and open hold.
+ * Released holds are purged after app.inventory.journal.retention-days and confirmations
+ * older than app.inventory.journal.compact-after-minutes are folded into one entry per
+ * section, so the journal tracks open holds and sections rather than every sale.
+ * The inventory assumes one application instance sells a given match.
+ */
+@Service
+public class SeatInventoryService {
+
+    @Autowired
+    private MatchRepository matchRepository;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private SeatReservationJournal seatReservationJournal;
+
+    @Autowired
+    private SeatJournalWriter seatJournalWriter;
+
+    @Value("${app.inventory.categories:VIP:10,GENERAL:90}")
+    private String categorySpec;
+
+    @Value("${app.inventory.hold-ttl-seconds:600}")
+    private long holdTtlSeconds;
+
+    @Value("${app.inventory.max-seats-per-hold:10}")
+    private int maxSeatsPerHold;
+
+    @Value("${app.inventory.sweep-interval-seconds:5}")
+    private long sweepIntervalSeconds;
+
+    @Value("${app.inventory.journal.retention-days:7}")
+    private int journalRetentionDays;
+
+    @Value("${app.inventory.journal.compact-after-minutes:60}")
+    private long journalCompactAfterMinutes;
+
+    private final Map<String, Integer> categoryShares = new LinkedHashMap<>();
+    private final ConcurrentHashMap<String, SeatSection> sections = new ConcurrentHashMap<>();
+    // Open (HELD) holds only; confirmed and released holds are dropped
+    private final ConcurrentHashMap<String, SeatHold> holds = new ConcurrentHashMap<>();
+    // Requested hold id -> confirmed hold, kept for a hold TTL past expiry so a duplicate
+    // capture finds the confirmation instead of trying to retake seats it already owns
+    private final ConcurrentHashMap<String, SeatHold> confirmedHolds = new ConcurrentHashMap<>();
+
+    private final LongAdder held = new LongAdder();
+    private final LongAdder confirmed = new LongAdder();
+    private final LongAdder reclaimed = new LongAdder();
+    private final LongAdder released = new LongAdder();
+    private final LongAdder expired = new LongAdder();
+    private final LongAdder soldOut = new LongAdder();
+    private final LongAdder compacted = new LongAdder();
+
+    private ScheduledExecutorService sweeper;
+    private volatile LocalDateTime lastPurge = LocalDateTime.now();
+
+    @PostConstruct
+    public void start() {
+        int total = 0;
+        for (String part : categorySpec.split(",")) {
+            String[] pair = part.trim().split(":");
+            int share = Integer.parseInt(pair[1].trim());
+            categoryShares.put(pair[0].trim().toUpperCase(Locale.ROOT), share);
+            total += share;
+        }
+        if (total > 100) {
+            throw new IllegalStateException("app.inventory.categories shares exceed 100%");
+        }
+        maxSeatsPerHold = Math.min(maxSeatsPerHold, 64);
+
+        recover();
+
+        sweeper = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "seat-hold-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sweeper.scheduleWithFixedDelay(this::sweep, sweepIntervalSeconds, sweepIntervalSeconds, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sweeper.shutdownNow();
+    }
+
+    /** Claims quantity seats and journals the hold; throws SeatsUnavailableException when sold out. */
+    public SeatHold hold(Long matchId, String category, Integer quantity, Long userId) {
+        if (matchId == null) {
+            throw new InvalidReservationException("matchId is required");
+        }
+        if (quantity == null || quantity < 1 || quantity > maxSeatsPerHold) {
+            throw new InvalidReservationException("Quantity must be between 1 and " + maxSeatsPerHold);
+        }
+        String normalized = normalizeCategory(category);
+        SeatSection section = section(matchId, normalized);
+        int[] seats = section.take(quantity);
+        if (seats == null) {
+            soldOut.increment();
+            throw new SeatsUnavailableException("Only " + section.available() + " " + normalized
+                    + " seats left for match " + matchId);
+        }
+        SeatHold hold = new SeatHold(UUID.randomUUID().toString(), matchId, normalized, seats, userId,
+                System.currentTimeMillis() + holdTtlSeconds * 1000);
+        try {
+            seatReservationJournal.append(SeatReservationJournal.Operation.HOLD, hold);
+        } catch (RuntimeException e) {
+            // Not durable, so not given out; a late commit is undone by this RELEASE or by expiry
+            hold.transition(SeatHold.State.HELD, SeatHold.State.RELEASED);
+            section.free(seats);
+            submitQuietly(SeatReservationJournal.Operation.RELEASE, hold);
+            throw e;
+        }
+        holds.put(hold.getHoldId(), hold);
+        held.increment();
+        return hold;
+    }
+
+    /**
+     * Makes a hold permanent once paid. If it already expired, the same seats are taken
+     * back when still free, under a new hold id. Returns the confirmed hold, or null when
+     * the seats have gone to someone else. A repeated confirm of the same hold id (a
+     * duplicate capture) returns the hold the first one confirmed.
+     */
+    public SeatHold confirm(String holdId, Long matchId, String category, String seats) {
+        SeatHold hold = holdId == null ? null : holds.get(holdId);
+        if (hold == null && holdId != null) {
+            SeatHold done = confirmedHolds.get(holdId);
+            if (done != null) {
+                return done;
+            }
+        }
+        if (hold != null && hold.transition(SeatHold.State.HELD, SeatHold.State.CONFIRMED)) {
+            try {
+                seatReservationJournal.append(SeatReservationJournal.Operation.CONFIRM, hold);
+            } catch (RuntimeException e) {
+                // Still only held as far as the journal knows; a retried capture can confirm it
+                hold.transition(SeatHold.State.CONFIRMED, SeatHold.State.HELD);
+                throw e;
+            }
+            confirmedHolds.put(holdId, hold);
+            holds.remove(holdId);
+            confirmed.increment();
+            return hold;
+        }
+        if (hold != null && hold.getState() == SeatHold.State.CONFIRMED) {
+            return hold;
+        }
+        int[] seatNumbers = SeatHold.parseSeats(seats);
+        String normalized = normalizeCategory(category);
+        SeatSection section = section(matchId, normalized);
+        if (seatNumbers.length == 0 || !section.takeExact(seatNumbers)) {
+            return null;
+        }
+        SeatHold retaken = new SeatHold(UUID.randomUUID().toString(), matchId, normalized, seatNumbers, null,
+                System.currentTimeMillis());
+        try {
+            seatReservationJournal.append(SeatReservationJournal.Operation.CONFIRM, retaken);
+        } catch (RuntimeException e) {
+            section.free(seatNumbers);
+            throw e;
+        }
+        if (holdId != null) {
+            confirmedHolds.put(holdId, retaken);
+        }
+        confirmed.increment();
+        reclaimed.increment();
+        return retaken;
+    }
+
+    /** Gives a held (unpaid) hold's seats back; false when it is no longer held. */
+    public boolean release(String holdId) {
+        SeatHold hold = holdId == null ? null : holds.get(holdId);
+        if (hold == null || !hold.transition(SeatHold.State.HELD, SeatHold.State.RELEASED)) {
+            return false;
+        }
+        holds.remove(holdId);
+        sections.get(key(hold.getMatchId(), hold.getCategory())).free(hold.getSeats());
+        released.increment();
+        // Seats are already free here; if this entry is lost, replay releases the hold at expiry
+        submitQuietly(SeatReservationJournal.Operation.RELEASE, hold);
+        return true;
+    }
+
+    /** Capacity and free seats per category for one match. */
+    public Map<String, Object> availability(Long matchId) {
+        Map<String, Object> categories = new LinkedHashMap<>();
+        for (String category : categoryShares.keySet()) {
+            SeatSection section = section(matchId, category);
+            Map<String, Object> counts = new HashMap<>();
+            counts.put("capacity", section.capacity());
+            counts.put("available", section.available());
+            categories.put(category, counts);
+        }
+        Map<String, Object> result = new HashMap<>();
+        result.put("matchId", matchId);
+        result.put("categories", categories);
+        return result;
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("sections", sections.size());
+        stats.put("openHolds", holds.size());
+        stats.put("held", held.sum());
+        stats.put("confirmed", confirmed.sum());
+        stats.put("reclaimedAfterExpiry", reclaimed.sum());
+        stats.put("released", released.sum());
+        stats.put("expired", expired.sum());
+        stats.put("soldOut", soldOut.sum());
+        stats.put("compactedConfirmations", compacted.sum());
+        stats.put("holdTtlSeconds", holdTtlSeconds);
+        stats.put("categories", categoryShares);
+        stats.put("journal", seatReservationJournal.getStats());
+        return stats;
+    }
+
+    private SeatSection section(Long matchId, String category) {
+        String key = key(matchId, category);
+        SeatSection section = sections.get(key);
+        if (section != null) {
+            return section;
+        }
+        Integer share = categoryShares.get(category);
+        if (share == null) {
+            throw new InvalidReservationException("Unknown seat category: " + category);
+        }
+        // Loaded outside the map so a slow query does not block other sections
+        int venueCapacity = matchRepository.findVenueCapacity(matchId)
+                .orElseThrow(() -> new InvalidReservationException("Match " + matchId + " has no venue capacity"));
+        int seats = (int) ((long) venueCapacity * share / 100);
+        if (seats <= 0) {
+            throw new SeatsUnavailableException("No " + category + " seats for match " + matchId);
+        }
+        SeatSection created = new SeatSection(seats);
+        SeatSection existing = sections.putIfAbsent(key, created);
+        return existing != null ? existing : created;
+    }
+
+    private static String key(Long matchId, String category) {
+        return matchId + ":" + category;
+    }
+
+    private String normalizeCategory(String category) {
+        if (category == null || category.isBlank()) {
+            throw new InvalidReservationException("seatCategory is required");
+        }
+        return category.trim().toUpperCase(Locale.ROOT);
+    }
+
+    private void submitQuietly(SeatReservationJournal.Operation operation, SeatHold hold) {
+        try {
+            seatReservationJournal.submit(operation, hold);
+        } catch (RuntimeException e) {
+            System.err.println("Could not journal " + operation + " of hold " + hold.getHoldId() + ": " + e.getMessage());
+        }
+    }
+
+    // Replays the journal in write order; open holds that have expired meanwhile go at the first sweep
+    private void recover() {
+        long[] entries = {0, 0};
+        seatJournalWriter.replay(entry -> {
+            entries[0]++;
+            SeatHold hold = entry.getHold();
+            try {
+                SeatSection section = section(hold.getMatchId(), hold.getCategory());
+                switch (entry.getOperation()) {
+                    case HOLD:
+                        if (section.takeExact(hold.getSeats())) {
+                            holds.put(hold.getHoldId(), hold);
+                        } else {
+                            entries[1]++;
+                        }
+                        break;
+                    case CONFIRM:
+                        // Confirmed from an open hold keeps its seats; a retaken hold claims them now
+                        if (holds.remove(hold.getHoldId()) == null && !section.takeExact(hold.getSeats())) {
+                            entries[1]++;
+                        }
+                        break;
+                    default:
+                        SeatHold open = holds.remove(hold.getHoldId());
+                        if (open != null) {
+                            section.free(open.getSeats());
+                        }
+                }
+            } catch (RuntimeException e) {
+                entries[1]++;
+            }
+        });
+        System.out.println("Seat inventory recovered from " + entries[0] + " journal entries: "
+                + sections.size() + " sections, " + holds.size() + " open holds"
+                + (entries[1] > 0 ? ", " + entries[1] + " entries skipped" : ""));
+    }
+
+    private void sweep() {
+        try {
+            long now = System.currentTimeMillis();
+            List<String> expiredIds = new ArrayList<>();
+            for (SeatHold hold : holds.values()) {
+                if (hold.getExpiresAtMs() <= now && hold.transition(SeatHold.State.HELD, SeatHold.State.RELEASED)) {
+                    holds.remove(hold.getHoldId());
+                    sections.get(key(hold.getMatchId(), hold.getCategory())).free(hold.getSeats());
+                    submitQuietly(SeatReservationJournal.Operation.RELEASE, hold);
+                    expiredIds.add(hold.getHoldId());
+                }
+            }
+            long tombstoneTtlMs = holdTtlSeconds * 1000;
+            confirmedHolds.values().removeIf(hold -> hold.getExpiresAtMs() + tombstoneTtlMs <= now);
+            expired.add(expiredIds.size());
+            for (int from = 0; from < expiredIds.size(); from += 1000) {
+                ticketRepository.expireHolds(expiredIds.subList(from, Math.min(from + 1000, expiredIds.size())));
+            }
+            if (lastPurge.isBefore(LocalDateTime.now().minusHours(1))) {
+                seatJournalWriter.purgeReleasedBefore(LocalDateTime.now().minusDays(journalRetentionDays));
+                compacted.add(seatJournalWriter.compactConfirmedBefore(LocalDateTime.now().minusMinutes(journalCompactAfterMinutes)));
+                lastPurge = LocalDateTime.now();
+            }
+        } catch (Exception e) {
+            System.err.println("Seat hold sweep failed: " + e.getMessage());
+        }
+    }
+}
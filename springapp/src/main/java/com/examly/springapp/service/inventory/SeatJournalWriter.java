@@ -0,0 +1,124 @@
+package com.examly.springapp.service.inventory;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/** JDBC side of the seat reservation journal: batch append, ordered replay and purge. */
+@Component
+public class SeatJournalWriter {
+
+    private static final String INSERT_ENTRY =
+            "INSERT INTO seat_reservation_journal (hold_id, operation, match_id, seat_category, seats, user_id, expires_at, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String SELECT_ALL =
+            "SELECT hold_id, operation, match_id, seat_category, seats, user_id, expires_at " +
+            "FROM seat_reservation_journal ORDER BY id";
+
+    private static final String SELECT_CONFIRMED_BEFORE =
+            "SELECT hold_id, match_id, seat_category, seats FROM seat_reservation_journal " +
+            "WHERE operation = 'CONFIRM' AND created_at < ?";
+
+    private static final String DELETE_HOLD = "DELETE FROM seat_reservation_journal WHERE hold_id = ?";
+
+    // The extra derived table lets MySQL delete from the table the subquery reads
+    private static final String DELETE_RELEASED =
+            "DELETE FROM seat_reservation_journal WHERE hold_id IN (" +
+            "SELECT hold_id FROM (SELECT hold_id FROM seat_reservation_journal " +
+            "WHERE operation = 'RELEASE' AND created_at < ?) released)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Transactional
+    public void write(List<SeatReservationJournal.Entry> batch) {
+        jdbcTemplate.batchUpdate(INSERT_ENTRY, batch, batch.size(), (ps, entry) -> {
+            SeatHold hold = entry.hold;
+            ps.setString(1, hold.getHoldId());
+            ps.setString(2, entry.operation.name());
+            ps.setLong(3, hold.getMatchId());
+            ps.setString(4, hold.getCategory());
+            ps.setString(5, hold.seatList());
+            ps.setObject(6, hold.getUserId());
+            ps.setTimestamp(7, new Timestamp(hold.getExpiresAtMs()));
+            ps.setTimestamp(8, Timestamp.valueOf(entry.createdAt));
+        });
+    }
+
+    /** Streams every entry in write order, as (operation, hold) pairs. */
+    public void replay(Consumer<SeatReservationJournal.Entry> consumer) {
+        jdbcTemplate.query(SELECT_ALL, rs -> {
+            Timestamp expiresAt = rs.getTimestamp("expires_at");
+            SeatHold hold = new SeatHold(
+                    rs.getString("hold_id"),
+                    rs.getLong("match_id"),
+                    rs.getString("seat_category"),
+                    SeatHold.parseSeats(rs.getString("seats")),
+                    rs.getObject("user_id", Long.class),
+                    expiresAt == null ? 0 : expiresAt.getTime());
+            consumer.accept(new SeatReservationJournal.Entry(
+                    SeatReservationJournal.Operation.valueOf(rs.getString("operation")), hold));
+        });
+    }
+
+    /**
+     * Folds the confirmations written before the cutoff into one CONFIRM entry per match
+     * and category, and drops every entry of the folded holds (their HOLD entries
+     * included). Confirmed seats are never freed again, so replaying the combined entry
+     * after later ones claims the same seats. Returns the number of holds folded.
+     */
+    @Transactional
+    public int compactConfirmedBefore(LocalDateTime cutoff) {
+        Map<String, List<String[]>> groups = new HashMap<>();
+        jdbcTemplate.query(SELECT_CONFIRMED_BEFORE, rs -> {
+            String[] row = {rs.getString("hold_id"), rs.getString("match_id"), rs.getString("seat_category"), rs.getString("seats")};
+            groups.computeIfAbsent(row[1] + ":" + row[2], k -> new ArrayList<>()).add(row);
+        }, Timestamp.valueOf(cutoff));
+
+        List<SeatReservationJournal.Entry> combined = new ArrayList<>();
+        List<String> folded = new ArrayList<>();
+        for (List<String[]> rows : groups.values()) {
+            if (rows.size() < 2) {
+                continue; // already compact
+            }
+            int[] seats = rows.stream().flatMapToInt(row -> Arrays.stream(SeatHold.parseSeats(row[3]))).sorted().toArray();
+            SeatHold hold = new SeatHold(UUID.randomUUID().toString(), Long.valueOf(rows.get(0)[1]), rows.get(0)[2],
+                    seats, null, 0);
+            combined.add(new SeatReservationJournal.Entry(SeatReservationJournal.Operation.CONFIRM, hold));
+            rows.forEach(row -> folded.add(row[0]));
+        }
+        if (folded.isEmpty()) {
+            return 0;
+        }
+        jdbcTemplate.batchUpdate(DELETE_HOLD, folded, 1000, (ps, holdId) -> ps.setString(1, holdId));
+        jdbcTemplate.batchUpdate(INSERT_ENTRY, combined, combined.size(), (ps, entry) -> {
+            SeatHold hold = entry.hold;
+            ps.setString(1, hold.getHoldId());
+            ps.setString(2, entry.operation.name());
+            ps.setLong(3, hold.getMatchId());
+            ps.setString(4, hold.getCategory());
+            ps.setString(5, SeatHold.formatRanges(hold.getSeats()));
+            ps.setObject(6, null);
+            ps.setTimestamp(7, null);
+            ps.setTimestamp(8, Timestamp.valueOf(entry.createdAt));
+        });
+        return folded.size();
+    }
+
+    /** Drops every entry of holds released before the cutoff; they no longer affect replay. */
+    public int purgeReleasedBefore(LocalDateTime cutoff) {
+        return jdbcTemplate.update(DELETE_RELEASED, Timestamp.valueOf(cutoff));
+    }
+}
@@ -0,0 +1,158 @@
+package com.examly.springapp.service.inventory;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Group commit for seat inventory changes.
+ *
+ * append() queues an entry and blocks until a transaction containing it has committed,
+ * so a hold is durable before the caller sees it. One writer thread takes whatever has
+ * queued up (at most app.inventory.journal.batch-size entries) and inserts it as one JDBC
+ * batch in one transaction: under load many reservations share each commit, instead of
+ * each paying for its own. A full queue (app.inventory.journal.queue-capacity) rejects
+ * new entries with TaskRejectedException, which surfaces as 503.
+ */
+@Component
+public class SeatReservationJournal {
+
+    public enum Operation {
+        HOLD, CONFIRM, RELEASE
+    }
+
+    @Autowired
+    private SeatJournalWriter seatJournalWriter;
+
+    @Value("${app.inventory.journal.queue-capacity:65536}")
+    private int queueCapacity;
+
+    @Value("${app.inventory.journal.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${app.inventory.journal.commit-timeout-ms:5000}")
+    private long commitTimeoutMs;
+
+    private BlockingQueue<Entry> queue;
+    private Thread writer;
+    private volatile boolean running = true;
+
+    private final LongAdder appended = new LongAdder();
+    private final LongAdder committed = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    @PostConstruct
+    public void start() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        writer = new Thread(this::run, "seat-journal-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false; // the writer drains the queue, then exits
+        try {
+            writer.join(10_000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /** Queues the entry and waits for its commit; throws if it could not be made durable. */
+    public void append(Operation operation, SeatHold hold) {
+        CompletableFuture<Void> done = submit(operation, hold);
+        try {
+            done.get(commitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while recording seat reservation");
+        } catch (Exception e) {
+            throw new RuntimeException("Seat reservation could not be recorded", e);
+        }
+    }
+
+    /** Queues the entry without waiting; for changes that replay would redo anyway (expiry). */
+    public CompletableFuture<Void> submit(Operation operation, SeatHold hold) {
+        Entry entry = new Entry(operation, hold);
+        if (!queue.offer(entry)) {
+            throw new TaskRejectedException("Seat reservation journal is full");
+        }
+        appended.increment();
+        return entry.done;
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("queued", queue.size());
+        stats.put("appended", appended.sum());
+        stats.put("committed", committed.sum());
+        stats.put("batches", batches.sum());
+        long batchCount = batches.sum();
+        stats.put("averageBatchSize", batchCount == 0 ? 0 : (double) committed.sum() / batchCount);
+        stats.put("failed", failed.sum());
+        return stats;
+    }
+
+    private void run() {
+        List<Entry> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Entry first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<Entry> batch) {
+        try {
+            seatJournalWriter.write(batch);
+            committed.add(batch.size());
+            batches.increment();
+            batch.forEach(entry -> entry.done.complete(null));
+        } catch (RuntimeException e) {
+            failed.add(batch.size());
+            System.err.println("Failed to journal " + batch.size() + " seat reservation entries: " + e.getMessage());
+            batch.forEach(entry -> entry.done.completeExceptionally(e));
+        }
+    }
+
+    public static final class Entry {
+        final Operation operation;
+        final SeatHold hold;
+        final LocalDateTime createdAt = LocalDateTime.now();
+        final CompletableFuture<Void> done = new CompletableFuture<>();
+
+        Entry(Operation operation, SeatHold hold) {
+            this.operation = operation;
+            this.hold = hold;
+        }
+
+        public Operation getOperation() { return operation; }
+        public SeatHold getHold() { return hold; }
+    }
+}
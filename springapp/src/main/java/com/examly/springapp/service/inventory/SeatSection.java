@@ -0,0 +1,215 @@
+package com.examly.springapp.service.inventory;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Seats of one (match, category) as a two-level bitmap: bit n of taken is seat n + 1
+ * (1 = held or sold), and bit w of full says taken word w has no free seat left.
+ *
+ * Seats are claimed with a compareAndSet on the 64-seat word that holds them, so there is
+ * no lock and no single counter every reservation has to update. Searches start at a
+ * random word, which spreads concurrent buyers across the section, and skip full words
+ * 64 at a time through the summary level. A hold's seats are taken as one run within a
+ * word when possible (seated together), otherwise one by one.
+ *
+ * The full level is only a hint and may briefly lag the seat bits; a word marked full
+ * is always re-checked against taken when it is cleared again, so it never hides free
+ * seats for longer than a concurrent release.
+ */
+public class SeatSection {
+
+    private final int capacity;
+    private final AtomicLongArray taken;
+    private final AtomicLongArray full;
+
+    public SeatSection(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Section capacity must be positive");
+        }
+        this.capacity = capacity;
+        int words = (capacity + 63) >>> 6;
+        this.taken = new AtomicLongArray(words);
+        this.full = new AtomicLongArray((words + 63) >>> 6);
+        // Bits past the last seat are permanently taken so they are never handed out
+        int tail = capacity & 63;
+        if (tail != 0) {
+            taken.set(words - 1, -1L << tail);
+        }
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    /** Seats currently free; a scan, meant for stats and availability pages. */
+    public int available() {
+        long set = 0;
+        for (int w = 0; w < taken.length(); w++) {
+            set += Long.bitCount(taken.get(w));
+        }
+        return (int) ((long) taken.length() * 64 - set);
+    }
+
+    /**
+     * Claims quantity free seats (1..64) and returns their numbers, or null when the
+     * section cannot supply them all; nothing is left claimed in that case.
+     */
+    public int[] take(int quantity) {
+        if (quantity <= 0 || quantity > 64) {
+            throw new IllegalArgumentException("Quantity must be between 1 and 64");
+        }
+        int words = taken.length();
+        int start = ThreadLocalRandom.current().nextInt(words);
+        for (int i = 0; i < words; i++) {
+            int w = (start + i) % words;
+            if (isMarkedFull(w)) {
+                continue;
+            }
+            int first = takeRun(w, quantity);
+            if (first >= 0) {
+                int[] seats = new int[quantity];
+                for (int s = 0; s < quantity; s++) {
+                    seats[s] = first + s;
+                }
+                return seats;
+            }
+        }
+        return takeScattered(quantity, start);
+    }
+
+    /** Claims exactly these seats, all or none (recovery and late confirmation). */
+    public boolean takeExact(int[] seats) {
+        for (int i = 0; i < seats.length; i++) {
+            if (!claim(seats[i])) {
+                free(seats, i);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public void free(int[] seats) {
+        free(seats, seats.length);
+    }
+
+    private void free(int[] seats, int count) {
+        for (int i = 0; i < count; i++) {
+            int bit = seats[i] - 1;
+            int w = bit >>> 6;
+            long mask = 1L << bit;
+            long current = taken.get(w);
+            while ((current & mask) != 0 && !taken.compareAndSet(w, current, current & ~mask)) {
+                current = taken.get(w);
+            }
+            clearFull(w);
+        }
+    }
+
+    // Run of quantity free bits within word w; returns the first seat number or -1
+    private int takeRun(int w, int quantity) {
+        long run = quantity == 64 ? -1L : (1L << quantity) - 1;
+        while (true) {
+            long current = taken.get(w);
+            long free = ~current;
+            long starts = free;
+            for (int i = 1; i < quantity && starts != 0; i++) {
+                starts &= free >>> i;
+            }
+            if (starts == 0) {
+                if (current == -1L) {
+                    markFull(w);
+                }
+                return -1;
+            }
+            int shift = Long.numberOfTrailingZeros(starts);
+            long next = current | (run << shift);
+            if (taken.compareAndSet(w, current, next)) {
+                if (next == -1L) {
+                    markFull(w);
+                }
+                return (w << 6) + shift + 1;
+            }
+        }
+    }
+
+    private int[] takeScattered(int quantity, int start) {
+        int[] seats = new int[quantity];
+        int got = 0;
+        int words = taken.length();
+        for (int i = 0; i < words && got < quantity; i++) {
+            int w = (start + i) % words;
+            while (got < quantity && !isMarkedFull(w)) {
+                long current = taken.get(w);
+                if (current == -1L) {
+                    markFull(w);
+                    break;
+                }
+                int bit = Long.numberOfTrailingZeros(~current);
+                long next = current | (1L << bit);
+                if (taken.compareAndSet(w, current, next)) {
+                    seats[got++] = (w << 6) + bit + 1;
+                    if (next == -1L) {
+                        markFull(w);
+                    }
+                }
+            }
+        }
+        if (got < quantity) {
+            free(seats, got);
+            return null;
+        }
+        return seats;
+    }
+
+    private boolean claim(int seat) {
+        if (seat < 1 || seat > capacity) {
+            return false;
+        }
+        int bit = seat - 1;
+        int w = bit >>> 6;
+        long mask = 1L << bit;
+        while (true) {
+            long current = taken.get(w);
+            if ((current & mask) != 0) {
+                return false;
+            }
+            if (taken.compareAndSet(w, current, current | mask)) {
+                if ((current | mask) == -1L) {
+                    markFull(w);
+                }
+                return true;
+            }
+        }
+    }
+
+    private boolean isMarkedFull(int w) {
+        return (full.get(w >>> 6) & (1L << w)) != 0;
+    }
+
+    // Set, then re-check: a release that slipped in between is not hidden behind the hint
+    private void markFull(int w) {
+        setFull(w, true);
+        if (taken.get(w) != -1L) {
+            setFull(w, false);
+        }
+    }
+
+    private void clearFull(int w) {
+        if (isMarkedFull(w)) {
+            setFull(w, false);
+        }
+    }
+
+    private void setFull(int w, boolean value) {
+        int s = w >>> 6;
+        long mask = 1L << w;
+        while (true) {
+            long current = full.get(s);
+            long next = value ? current | mask : current & ~mask;
+            if (current == next || full.compareAndSet(s, current, next)) {
+                return;
+            }
+        }
+    }
+}
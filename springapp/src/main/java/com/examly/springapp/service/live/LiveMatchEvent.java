@@ -0,0 +1,53 @@
+package com.examly.springapp.service.live;
+
+import com.examly.springapp.model.EventType;
+
+import java.time.LocalDateTime;
+
+/**
+ * An accepted, validated event waiting in its match's ingestion queue.
+ * teamId is the side credited with the event (resolved from the player if omitted).
+ */
+public final class LiveMatchEvent {
+
+    private final long sequence;
+    private final EventType eventType;
+    private final Long playerId;
+    private final Long teamId;
+    private final LocalDateTime eventTime;
+    private final String description;
+
+    public LiveMatchEvent(long sequence, EventType eventType, Long playerId, Long teamId,
+                          LocalDateTime eventTime, String description) {
+        this.sequence = sequence;
+        this.eventType = eventType;
+        this.playerId = playerId;
+        this.teamId = teamId;
+        this.eventTime = eventTime;
+        this.description = description;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public EventType getEventType() {
+        return eventType;
+    }
+
+    public Long getPlayerId() {
+        return playerId;
+    }
+
+    public Long getTeamId() {
+        return teamId;
+    }
+
+    public LocalDateTime getEventTime() {
+        return eventTime;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
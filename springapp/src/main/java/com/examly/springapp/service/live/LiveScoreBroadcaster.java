@@ -0,0 +1,387 @@
+package com.examly.springapp.service.live;
+
+import com.examly.springapp.configuration.AsyncConfiguration;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fan-out of live score and match event deltas to SSE subscribers.
+ *
+ * Publishers (MatchEventIngestionService, MatchService) never touch a connection:
+ * a message is serialized to JSON once and offered to every subscriber's bounded
+ * buffer, which is O(subscribers) and never blocks. Each subscriber has at most one
+ * write task in flight on the liveStreamExecutor pool draining its buffer, so a
+ * stalled client only stalls its own task. A subscriber is a slow consumer, and is
+ * disconnected, when its buffer (app.live-stream.subscriber-buffer) is full or a single
+ * send has been blocked longer than app.live-stream.send-timeout-ms (checked on every
+ * heartbeat); clients reconnect and resume from the current score, which every new
+ * subscription receives first.
+ *
+ * Only the subscriber's own writer task ever ends its response. SseEmitter.send()
+ * holds the emitter's monitor for the whole (possibly blocked) write and complete()
+ * needs the same monitor, so the heartbeat and publishers only mark a subscriber dead,
+ * unregister it and clear its buffer. The writer completes the emitter once its send
+ * returns or fails, which for a client that never reads is Tomcat's write timeout
+ * (server.tomcat.connection-timeout).
+ *
+ * The latest score per match is kept here while the match has subscribers, so further
+ * subscriptions do not hit the database; it goes with the last subscriber.
+ */
+@Service
+public class LiveScoreBroadcaster {
+
+    public static final String SCORE_EVENT = "score";
+    public static final String MATCH_EVENTS_EVENT = "events";
+
+    @Autowired
+    @Qualifier(AsyncConfiguration.LIVE_STREAM_EXECUTOR)
+    private ThreadPoolTaskExecutor liveStreamExecutor;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${app.live-stream.subscriber-buffer:64}")
+    private int subscriberBuffer;
+
+    @Value("${app.live-stream.emitter-timeout-ms:1800000}")
+    private long emitterTimeoutMs;
+
+    @Value("${app.live-stream.send-timeout-ms:5000}")
+    private long sendTimeoutMs;
+
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final Map<Long, Message> latestScores = new ConcurrentHashMap<>();
+    private final AtomicLong messageIds = new AtomicLong();
+
+    private final LongAdder published = new LongAdder();
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder droppedSlowConsumers = new LongAdder();
+    private final LongAdder disconnected = new LongAdder();
+    private final LongAdder sendTimeouts = new LongAdder();
+
+    @PreDestroy
+    public void shutdown() {
+        for (Set<Subscriber> matchSubscribers : subscribers.values()) {
+            for (Subscriber subscriber : matchSubscribers) {
+                subscriber.dead = true;
+                complete(subscriber);
+            }
+        }
+        subscribers.clear();
+    }
+
+    public boolean hasScore(Long matchId) {
+        return latestScores.containsKey(matchId);
+    }
+
+    public SseEmitter subscribe(Long matchId) {
+        SseEmitter emitter = createEmitter();
+        Subscriber subscriber = new Subscriber(matchId, emitter, subscriberBuffer);
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+
+        // compute() so a concurrent remove() cannot discard the set this subscriber joins
+        subscribers.compute(matchId, (id, set) -> {
+            Set<Subscriber> target = set != null ? set : ConcurrentHashMap.newKeySet();
+            target.add(subscriber);
+            return target;
+        });
+        Message score = latestScores.get(matchId);
+        if (score != null) {
+            enqueue(subscriber, score);
+        }
+        return emitter;
+    }
+
+    /**
+     * Absolute score for a match; also becomes the first message new subscribers get,
+     * as long as anyone is subscribed to the match.
+     */
+    public void publishScore(Long matchId, Map<String, Object> score) {
+        Message message = toMessage(SCORE_EVENT, score);
+        if (message == null) {
+            return;
+        }
+        // Under the subscribers entry so it cannot outlive a concurrent last unsubscribe
+        subscribers.computeIfPresent(matchId, (id, set) -> {
+            latestScores.put(id, message);
+            return set;
+        });
+        fanOut(matchId, message);
+    }
+
+    public void publishEvents(Long matchId, Object events) {
+        Message message = toMessage(MATCH_EVENTS_EVENT, events);
+        if (message != null) {
+            fanOut(matchId, message);
+        }
+    }
+
+    /** Final result is out: send it, then close every stream for the match. */
+    public void publishFinal(Long matchId, Map<String, Object> score) {
+        publishScore(matchId, score);
+        latestScores.remove(matchId);
+        Set<Subscriber> matchSubscribers = subscribers.get(matchId);
+        if (matchSubscribers != null) {
+            for (Subscriber subscriber : matchSubscribers) {
+                subscriber.closeAfterDrain = true;
+                schedule(subscriber);
+            }
+        }
+    }
+
+    public static Map<String, Object> scorePayload(Long matchId, Long homeTeamId, Long awayTeamId,
+                                                   int homeScore, int awayScore, String status) {
+        Map<String, Object> score = new HashMap<>();
+        score.put("matchId", matchId);
+        score.put("homeTeamId", homeTeamId);
+        score.put("awayTeamId", awayTeamId);
+        score.put("homeScore", homeScore);
+        score.put("awayScore", awayScore);
+        score.put("status", status);
+        score.put("updatedAt", LocalDateTime.now().toString());
+        return score;
+    }
+
+    public Map<String, Object> getStreamStats() {
+        int total = 0;
+        for (Set<Subscriber> matchSubscribers : subscribers.values()) {
+            total += matchSubscribers.size();
+        }
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("matchesStreaming", subscribers.size());
+        stats.put("subscribers", total);
+        stats.put("messagesPublished", published.sum());
+        stats.put("messagesDelivered", delivered.sum());
+        stats.put("droppedSlowConsumers", droppedSlowConsumers.sum());
+        stats.put("sendTimeouts", sendTimeouts.sum());
+        stats.put("cachedScores", latestScores.size());
+        stats.put("disconnected", disconnected.sum());
+        stats.put("subscriberBuffer", subscriberBuffer);
+        return stats;
+    }
+
+    SseEmitter createEmitter() {
+        return new SseEmitter(emitterTimeoutMs);
+    }
+
+    private Message toMessage(String name, Object payload) {
+        try {
+            return new Message(messageIds.incrementAndGet(), name, objectMapper.writeValueAsString(payload));
+        } catch (JsonProcessingException e) {
+            System.err.println("Could not serialize live " + name + " update: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private void fanOut(Long matchId, Message message) {
+        published.increment();
+        Set<Subscriber> matchSubscribers = subscribers.get(matchId);
+        if (matchSubscribers == null) {
+            return;
+        }
+        for (Subscriber subscriber : matchSubscribers) {
+            enqueue(subscriber, message);
+        }
+    }
+
+    private void enqueue(Subscriber subscriber, Message message) {
+        if (!subscriber.buffer.offer(message)) {
+            droppedSlowConsumers.increment();
+            drop(subscriber);
+            return;
+        }
+        schedule(subscriber);
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (!subscriber.writing.compareAndSet(false, true)) {
+            return; // the running writer will see the new message
+        }
+        try {
+            liveStreamExecutor.execute(() -> write(subscriber));
+        } catch (TaskRejectedException e) {
+            subscriber.writing.set(false);
+            droppedSlowConsumers.increment();
+            drop(subscriber);
+        }
+    }
+
+    private void write(Subscriber subscriber) {
+        try {
+            Message message;
+            while (!subscriber.dead && (message = subscriber.buffer.poll()) != null) {
+                subscriber.sendStartedMs = System.currentTimeMillis();
+                subscriber.emitter.send(SseEmitter.event()
+                        .id(Long.toString(message.id))
+                        .name(message.name)
+                        .data(message.json, MediaType.APPLICATION_JSON));
+                subscriber.sendStartedMs = 0;
+                delivered.increment();
+            }
+            if (subscriber.closeAfterDrain) {
+                subscriber.dead = true;
+                remove(subscriber);
+            }
+        } catch (IOException | IllegalStateException e) {
+            // Client went away or the emitter already completed
+            drop(subscriber);
+        } finally {
+            subscriber.sendStartedMs = 0;
+            subscriber.writing.set(false);
+        }
+        afterWrite(subscriber);
+    }
+
+    // Writer threads, after releasing the writing flag: finish a dead subscriber or pick up new messages
+    private void afterWrite(Subscriber subscriber) {
+        if (subscriber.dead) {
+            finish(subscriber);
+        } else if (!subscriber.buffer.isEmpty()) {
+            schedule(subscriber);
+        }
+    }
+
+    /**
+     * Keeps idle connections open through proxies, reaps clients that went away and
+     * disconnects subscribers stuck in a send.
+     */
+    @Scheduled(fixedRateString = "${app.live-stream.heartbeat-seconds:15}",
+            initialDelayString = "${app.live-stream.heartbeat-seconds:15}", timeUnit = TimeUnit.SECONDS)
+    public void sendHeartbeats() {
+        long stuckSince = System.currentTimeMillis() - sendTimeoutMs;
+        for (Set<Subscriber> matchSubscribers : subscribers.values()) {
+            for (Subscriber subscriber : matchSubscribers) {
+                long started = subscriber.sendStartedMs;
+                if (started != 0 && started < stuckSince) {
+                    // Unregistered here; the blocked writer completes the emitter when its send fails
+                    sendTimeouts.increment();
+                    droppedSlowConsumers.increment();
+                    drop(subscriber);
+                    continue;
+                }
+                // Only idle subscribers; a busy writer already proves the connection is alive
+                if (subscriber.buffer.isEmpty() && subscriber.writing.compareAndSet(false, true)) {
+                    try {
+                        liveStreamExecutor.execute(() -> {
+                            try {
+                                subscriber.sendStartedMs = System.currentTimeMillis();
+                                subscriber.emitter.send(SseEmitter.event().comment("heartbeat"));
+                            } catch (IOException | IllegalStateException e) {
+                                drop(subscriber);
+                            } finally {
+                                subscriber.sendStartedMs = 0;
+                                subscriber.writing.set(false);
+                            }
+                            afterWrite(subscriber);
+                        });
+                    } catch (TaskRejectedException e) {
+                        subscriber.writing.set(false);
+                    }
+                }
+            }
+        }
+    }
+
+    /** Any thread: never blocks on the connection. */
+    private void drop(Subscriber subscriber) {
+        subscriber.dead = true;
+        if (remove(subscriber)) {
+            subscriber.buffer.clear();
+        }
+        finish(subscriber);
+    }
+
+    // Completes a dead subscriber's emitter on a pool thread that owns the writing flag;
+    // when a writer is running it gets here itself once its send is over
+    private void finish(Subscriber subscriber) {
+        if (!subscriber.writing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            // The flag is never released again: nothing may write to a dead subscriber
+            liveStreamExecutor.execute(() -> complete(subscriber));
+        } catch (TaskRejectedException e) {
+            // Pool saturated: the emitter timeout ends the response instead
+            subscriber.writing.set(false);
+        }
+    }
+
+    private void complete(Subscriber subscriber) {
+        if (subscriber.completed.compareAndSet(false, true)) {
+            try {
+                subscriber.emitter.complete();
+            } catch (RuntimeException ignored) {
+                // already closed
+            }
+        }
+    }
+
+    private boolean remove(Subscriber subscriber) {
+        Set<Subscriber> matchSubscribers = subscribers.get(subscriber.matchId);
+        if (matchSubscribers == null || !matchSubscribers.remove(subscriber)) {
+            return false;
+        }
+        disconnected.increment();
+        subscribers.computeIfPresent(subscriber.matchId, (id, set) -> {
+            if (!set.isEmpty()) {
+                return set;
+            }
+            latestScores.remove(id);
+            return null;
+        });
+        return true;
+    }
+
+    private static final class Message {
+        final long id;
+        final String name;
+        final String json;
+
+        Message(long id, String name, String json) {
+            this.id = id;
+            this.name = name;
+            this.json = json;
+        }
+    }
+
+    private static final class Subscriber {
+        final Long matchId;
+        final SseEmitter emitter;
+        final ArrayBlockingQueue<Message> buffer;
+        final AtomicBoolean writing = new AtomicBoolean();
+        final AtomicBoolean completed = new AtomicBoolean();
+        volatile boolean closeAfterDrain;
+        volatile boolean dead; // unregistered; only its emitter is left to complete
+        volatile long sendStartedMs; // 0 when no send is in progress
+
+        Subscriber(Long matchId, SseEmitter emitter, int capacity) {
+            this.matchId = matchId;
+            this.emitter = emitter;
+            this.buffer = new ArrayBlockingQueue<>(capacity);
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.examly.springapp.service.live;
+
+import com.examly.springapp.model.EventType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Persists one drained batch of a match's events in a single transaction:
+ * the match_events rows as one JDBC batch insert, plus the score, player_stats and
+ * team_stats increments those events imply, each folded into one statement per row.
+ *
+ * Goals are credited from GOAL (to the scorer's team) and OWN_GOAL (to the opponent);
+ * a converted penalty is posted as GOAL. Team stats only track goals here - wins,
+ * draws, losses and points are applied when the result is recorded (MatchService).
+ * Player stats are only credited to players of either side; ingestion validates that
+ * up front and fills the queue's player-to-team map.
+ *
+ * Events that cannot be written at all go to match_event_dead_letters.
+ */
+@Component
+public class MatchEventBatchWriter {
+
+    private static final String INSERT_EVENT =
+            "INSERT INTO match_events (match_id, player_id, event_type, event_time, description) VALUES (?, ?, ?, ?, ?)";
+
+    private static final String UPDATE_SCORE =
+            "UPDATE matches SET home_score = COALESCE(home_score, 0) + ?, away_score = COALESCE(away_score, 0) + ? " +
+            "WHERE id = ?";
+
+    // <=> is MySQL's null-safe equality: player stats may not be tied to a tournament
+    private static final String UPDATE_PLAYER_STATS =
+            "UPDATE player_stats SET goals_scored = COALESCE(goals_scored, 0) + ?, assists = COALESCE(assists, 0) + ?, " +
+            "yellow_cards = COALESCE(yellow_cards, 0) + ?, red_cards = COALESCE(red_cards, 0) + ? " +
+            "WHERE player_id = ? AND tournament_id <=> ?";
+
+    private static final String INSERT_PLAYER_STATS =
+            "INSERT INTO player_stats (player_id, tournament_id, matches_played, goals_scored, assists, " +
+            "yellow_cards, red_cards, minutes_played) VALUES (?, ?, 0, ?, ?, ?, ?, 0)";
+
+    private static final String UPDATE_TEAM_STATS =
+            "UPDATE team_stats SET goals_for = COALESCE(goals_for, 0) + ?, goals_against = COALESCE(goals_against, 0) + ? " +
+            "WHERE team_id = ?";
+
+    private static final String INSERT_TEAM_STATS =
+            "INSERT INTO team_stats (team_id, matches_played, wins, draws, losses, goals_for, goals_against, points) " +
+            "VALUES (?, 0, 0, 0, 0, ?, ?, 0)";
+
+    private static final String INSERT_DEAD_LETTER =
+            "INSERT INTO match_event_dead_letters (match_id, sequence, event_type, player_id, team_id, " +
+            "event_time, description, error, failed_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    // Seeds a new queue's sequence so numbering continues after an idle queue was evicted
+    private static final String COUNT_STORED =
+            "SELECT (SELECT COUNT(*) FROM match_events WHERE match_id = ?) + " +
+            "(SELECT COUNT(*) FROM match_event_dead_letters WHERE match_id = ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /** Returns the [home, away] goals this batch added to the score. */
+    @Transactional
+    public int[] write(MatchEventQueue queue, List<LiveMatchEvent> batch) {
+        jdbcTemplate.batchUpdate(INSERT_EVENT, batch, batch.size(), (ps, event) -> {
+            ps.setLong(1, queue.matchId);
+            ps.setObject(2, event.getPlayerId());
+            ps.setString(3, event.getEventType().name());
+            ps.setTimestamp(4, Timestamp.valueOf(event.getEventTime()));
+            ps.setString(5, event.getDescription());
+        });
+
+        int homeGoals = 0;
+        int awayGoals = 0;
+        Map<Long, int[]> playerDeltas = new LinkedHashMap<>(); // goals, assists, yellow, red
+        for (LiveMatchEvent event : batch) {
+            Long teamId = teamOf(queue, event);
+            EventType type = event.getEventType();
+            boolean participant = queue.isParticipant(teamId);
+            if (type == EventType.GOAL || type == EventType.OWN_GOAL) {
+                if (!participant) {
+                    System.err.println("Match " + queue.matchId + ": cannot credit " + type + " #" + event.getSequence()
+                            + ", player " + event.getPlayerId() + " is not on either team");
+                    continue;
+                }
+                boolean home = queue.homeTeamId.equals(teamId);
+                // An own goal counts for the other side
+                if (home == (type == EventType.GOAL)) {
+                    homeGoals++;
+                } else {
+                    awayGoals++;
+                }
+            }
+            if (event.getPlayerId() == null || !participant) {
+                continue;
+            }
+            int column = statColumn(type);
+            if (column >= 0) {
+                playerDeltas.computeIfAbsent(event.getPlayerId(), id -> new int[4])[column]++;
+            }
+        }
+
+        if (homeGoals > 0 || awayGoals > 0) {
+            jdbcTemplate.update(UPDATE_SCORE, homeGoals, awayGoals, queue.matchId);
+            upsertTeamStats(queue.homeTeamId, homeGoals, awayGoals);
+            upsertTeamStats(queue.awayTeamId, awayGoals, homeGoals);
+        }
+        if (!playerDeltas.isEmpty()) {
+            upsertPlayerStats(queue.tournamentId, playerDeltas);
+        }
+        return new int[] {homeGoals, awayGoals};
+    }
+
+    private static int statColumn(EventType type) {
+        switch (type) {
+            case GOAL:
+                return 0;
+            case ASSIST:
+                return 1;
+            case YELLOW_CARD:
+                return 2;
+            case RED_CARD:
+                return 3;
+            default:
+                return -1;
+        }
+    }
+
+    private static Long teamOf(MatchEventQueue queue, LiveMatchEvent event) {
+        if (event.getTeamId() != null) {
+            return event.getTeamId();
+        }
+        return event.getPlayerId() == null ? null : queue.playerTeams.get(event.getPlayerId());
+    }
+
+    /** Parks an event that could not be written; throws if the database is unreachable too. */
+    public void deadLetter(MatchEventQueue queue, LiveMatchEvent event, String error) {
+        jdbcTemplate.update(INSERT_DEAD_LETTER, queue.matchId, event.getSequence(), event.getEventType().name(),
+                event.getPlayerId(), event.getTeamId(), Timestamp.valueOf(event.getEventTime()), event.getDescription(),
+                error == null ? null : error.substring(0, Math.min(error.length(), 500)),
+                Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    /** Events of the match already written or dead-lettered. */
+    public long storedEventCount(Long matchId) {
+        Long count = jdbcTemplate.queryForObject(COUNT_STORED, Long.class, matchId, matchId);
+        return count == null ? 0 : count;
+    }
+
+    private void upsertTeamStats(Long teamId, int goalsFor, int goalsAgainst) {
+        if (jdbcTemplate.update(UPDATE_TEAM_STATS, goalsFor, goalsAgainst, teamId) == 0) {
+            jdbcTemplate.update(INSERT_TEAM_STATS, teamId, goalsFor, goalsAgainst);
+        }
+    }
+
+    private void upsertPlayerStats(Long tournamentId, Map<Long, int[]> deltas) {
+        List<Object[]> updates = new ArrayList<>(deltas.size());
+        List<Long> playerIds = new ArrayList<>(deltas.keySet());
+        for (Long playerId : playerIds) {
+            int[] d = deltas.get(playerId);
+            updates.add(new Object[] {d[0], d[1], d[2], d[3], playerId, tournamentId});
+        }
+        int[] counts = jdbcTemplate.batchUpdate(UPDATE_PLAYER_STATS, updates);
+
+        List<Object[]> inserts = new ArrayList<>();
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == 0) {
+                int[] d = deltas.get(playerIds.get(i));
+                inserts.add(new Object[] {playerIds.get(i), tournamentId, d[0], d[1], d[2], d[3]});
+            }
+        }
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_PLAYER_STATS, inserts);
+        }
+    }
+}
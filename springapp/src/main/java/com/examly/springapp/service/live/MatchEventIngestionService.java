@@ -0,0 +1,537 @@
+package com.examly.springapp.service.live;
+
+import com.examly.springapp.configuration.AsyncConfiguration;
+import com.examly.springapp.exception.InvalidMatchEventException;
+import com.examly.springapp.model.EventType;
+import com.examly.springapp.model.Match;
+import com.examly.springapp.model.MatchStatus;
+import com.examly.springapp.repository.MatchRepository;
+import com.examly.springapp.repository.PlayerRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Live match event ingestion.
+ *
+ * POSTed events are validated, stamped with a per-match sequence number and appended
+ * to that match's lock-free queue; the request returns immediately (202). A drain task
+ * on the liveEventExecutor pool then persists the queue in batches through
+ * MatchEventBatchWriter. Only one drain runs per match at a time, so each match's
+ * events hit the database in the order they were accepted, while different matches
+ * drain in parallel.
+ *
+ * Each match queue is capped (app.live-events.max-queued-per-match); beyond that, or
+ * when the pool itself is saturated, ingestion fails fast with 503 so feeds back off.
+ *
+ * A 202 is a promise, so everything the writer could reject is checked up front (players
+ * must exist and play for one of the two teams). A batch that still fails is retried
+ * (app.live-events.write-attempts), then written event by event; events that fail on
+ * their own go to match_event_dead_letters. If even that fails the events are held at
+ * the head of the queue and retried by the housekeeper, which also evicts queues idle
+ * for app.live-events.idle-evict-minutes.
+ */
+@Service
+public class MatchEventIngestionService {
+
+    @Autowired
+    private MatchRepository matchRepository;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private MatchEventBatchWriter batchWriter;
+
+    @Autowired
+    private LiveScoreBroadcaster liveScoreBroadcaster;
+
+    @Autowired
+    @Qualifier(AsyncConfiguration.LIVE_EVENT_EXECUTOR)
+    private ThreadPoolTaskExecutor liveEventExecutor;
+
+    @Value("${app.live-events.batch-size:200}")
+    private int batchSize;
+
+    @Value("${app.live-events.max-queued-per-match:5000}")
+    private int maxQueuedPerMatch;
+
+    @Value("${app.live-events.write-attempts:3}")
+    private int writeAttempts;
+
+    @Value("${app.live-events.retry-backoff-ms:500}")
+    private long retryBackoffMs;
+
+    @Value("${app.live-events.idle-evict-minutes:30}")
+    private long idleEvictMinutes;
+
+    @Value("${app.live-events.housekeeping-interval-seconds:60}")
+    private long housekeepingIntervalSeconds;
+
+    private final Map<Long, MatchEventQueue> queues = new ConcurrentHashMap<>();
+
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder persisted = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder failedEvents = new LongAdder();
+    private final LongAdder rejectedEvents = new LongAdder();
+    private final LongAdder retriedBatches = new LongAdder();
+    private final LongAdder deadLettered = new LongAdder();
+    private final LongAdder evictedQueues = new LongAdder();
+
+    private ScheduledExecutorService housekeeper;
+
+    @PostConstruct
+    public void start() {
+        housekeeper = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "live-events-housekeeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        housekeeper.scheduleWithFixedDelay(this::housekeep, housekeepingIntervalSeconds,
+                housekeepingIntervalSeconds, TimeUnit.SECONDS);
+    }
+
+    public Map<String, Object> ingest(Long matchId, List<Map<String, Object>> payload) {
+        if (payload == null || payload.isEmpty()) {
+            throw new InvalidMatchEventException("No events supplied");
+        }
+        MatchEventQueue queue;
+        List<Object[]> parsed;
+        long firstSequence = 0;
+        long lastSequence = 0;
+        while (true) {
+            queue = queueFor(matchId);
+            if (queue.isClosed()) {
+                throw closed(matchId);
+            }
+
+            // Validate the whole request before accepting any of it
+            parsed = new ArrayList<>(payload.size());
+            for (Map<String, Object> raw : payload) {
+                parsed.add(parse(queue, raw));
+            }
+            validatePlayers(queue, parsed);
+
+            if (!queue.reserve(parsed.size(), maxQueuedPerMatch)) {
+                rejectedEvents.add(parsed.size());
+                throw new TaskRejectedException("Event queue full for match " + matchId);
+            }
+            synchronized (queue) {
+                if (queue.isClosed() || queue.isRetired()) {
+                    queue.release(parsed.size());
+                    if (queue.isClosed()) {
+                        throw closed(matchId);
+                    }
+                    continue; // evicted meanwhile: start over on a fresh queue
+                }
+                // Sequence numbers and queue order must agree when requests race
+                for (Object[] p : parsed) {
+                    long sequence = queue.nextSequence();
+                    if (firstSequence == 0) {
+                        firstSequence = sequence;
+                    }
+                    lastSequence = sequence;
+                    queue.offer(new LiveMatchEvent(sequence, (EventType) p[0], (Long) p[1], (Long) p[2],
+                            (LocalDateTime) p[3], (String) p[4]));
+                }
+            }
+            break;
+        }
+        accepted.add(parsed.size());
+        scheduleDrain(queue);
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("matchId", matchId);
+        result.put("accepted", parsed.size());
+        result.put("firstSequence", firstSequence);
+        result.put("lastSequence", lastSequence);
+        result.put("queued", queue.depth());
+        return result;
+    }
+
+    public Map<String, Object> getIngestionStats() {
+        Map<String, Object> stats = new HashMap<>();
+        int queued = 0;
+        int held = 0;
+        for (MatchEventQueue queue : queues.values()) {
+            queued += queue.depth();
+            if (queue.hasHeld()) {
+                held++;
+            }
+        }
+        stats.put("activeMatches", queues.size());
+        stats.put("queuedEvents", queued);
+        stats.put("acceptedEvents", accepted.sum());
+        stats.put("persistedEvents", persisted.sum());
+        stats.put("batches", batches.sum());
+        stats.put("failedEvents", failedEvents.sum());
+        stats.put("rejectedEvents", rejectedEvents.sum());
+        stats.put("retriedBatches", retriedBatches.sum());
+        stats.put("deadLetteredEvents", deadLettered.sum());
+        stats.put("matchesWithHeldEvents", held);
+        stats.put("evictedQueues", evictedQueues.sum());
+        stats.put("batchSize", batchSize);
+        return stats;
+    }
+
+    /**
+     * Stop accepting events for a match and persist what is still buffered, so a final
+     * result recorded afterwards is not overwritten by late goal increments.
+     *
+     * The closed queue stays mapped (a placeholder if nothing was buffered), so an ingest
+     * racing with this cannot start a fresh queue; the housekeeper evicts it later, by
+     * which time the match is COMPLETED and queueFor refuses it from the database.
+     *
+     * Returns false when buffered events could not all be written (the drain did not
+     * finish in time, or events are held for the housekeeper); the caller must not record
+     * a final result then, or the held events' increments would land on top of it. Calling
+     * again retries the drain.
+     */
+    public boolean closeMatch(Long matchId) {
+        MatchEventQueue queue;
+        while (true) {
+            queue = queues.computeIfAbsent(matchId, MatchEventQueue::closedPlaceholder);
+            synchronized (queue) {
+                if (!queue.isRetired()) {
+                    queue.close();
+                    break;
+                }
+            }
+            queues.remove(matchId, queue);
+        }
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!queue.tryStartDraining()) {
+            if (System.currentTimeMillis() > deadline) {
+                System.err.println("Timed out waiting for match " + matchId + " event drain to finish");
+                return false;
+            }
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        try {
+            if (!drainInline(queue)) {
+                System.err.println("Match " + matchId + " closed with events still held; the housekeeper will retry them");
+                return false;
+            }
+            return true;
+        } finally {
+            queue.stopDraining();
+        }
+    }
+
+    private MatchEventQueue queueFor(Long matchId) {
+        MatchEventQueue queue = queues.get(matchId);
+        if (queue != null) {
+            return queue;
+        }
+        Match match = matchRepository.findByIdWithTeams(matchId)
+                .orElseThrow(() -> new RuntimeException("Match not found"));
+        if (match.getStatus() == MatchStatus.COMPLETED || match.getStatus() == MatchStatus.CANCELLED) {
+            throw new InvalidMatchEventException("Match " + matchId + " is " + match.getStatus() + "; events are closed");
+        }
+        if (match.getHomeTeam() == null || match.getAwayTeam() == null) {
+            throw new InvalidMatchEventException("Match " + matchId + " has no teams assigned");
+        }
+        MatchEventQueue created = new MatchEventQueue(matchId, match.getHomeTeam().getId(), match.getAwayTeam().getId(),
+                match.getTournament() == null ? null : match.getTournament().getId(),
+                match.getHomeScore() == null ? 0 : match.getHomeScore(),
+                match.getAwayScore() == null ? 0 : match.getAwayScore(),
+                batchWriter.storedEventCount(matchId));
+        MatchEventQueue existing = queues.putIfAbsent(matchId, created);
+        return existing != null ? existing : created;
+    }
+
+    /** [eventType, playerId, teamId, eventTime, description] */
+    private Object[] parse(MatchEventQueue queue, Map<String, Object> raw) {
+        Object type = raw.get("eventType");
+        if (type == null) {
+            throw new InvalidMatchEventException("eventType is required");
+        }
+        EventType eventType;
+        try {
+            eventType = EventType.valueOf(type.toString().trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidMatchEventException("Unknown eventType: " + type);
+        }
+        Long playerId = toLong(raw.get("playerId"), "playerId");
+        Long teamId = toLong(raw.get("teamId"), "teamId");
+        if (teamId != null && !queue.isParticipant(teamId)) {
+            throw new InvalidMatchEventException("Team " + teamId + " is not playing match " + queue.matchId);
+        }
+        if ((eventType == EventType.GOAL || eventType == EventType.OWN_GOAL) && playerId == null && teamId == null) {
+            throw new InvalidMatchEventException(eventType + " needs a playerId or teamId");
+        }
+
+        LocalDateTime eventTime = LocalDateTime.now();
+        if (raw.get("eventTime") != null) {
+            try {
+                eventTime = LocalDateTime.parse(raw.get("eventTime").toString());
+            } catch (RuntimeException e) {
+                throw new InvalidMatchEventException("Invalid eventTime: " + raw.get("eventTime"));
+            }
+        }
+        String description = raw.get("description") == null ? null : raw.get("description").toString();
+        if (description != null && description.length() > 255) {
+            description = description.substring(0, 255);
+        }
+        return new Object[] {eventType, playerId, teamId, eventTime, description};
+    }
+
+    /**
+     * Every referenced player must exist and play for one of the two teams (and for the
+     * given team, if any); unknown players are looked up in one query and cached on the queue.
+     */
+    private void validatePlayers(MatchEventQueue queue, List<Object[]> parsed) {
+        Set<Long> unknown = new HashSet<>();
+        for (Object[] p : parsed) {
+            Long playerId = (Long) p[1];
+            if (playerId != null && !queue.playerTeams.containsKey(playerId)) {
+                unknown.add(playerId);
+            }
+        }
+        Set<Long> found = new HashSet<>();
+        if (!unknown.isEmpty()) {
+            for (Object[] row : playerRepository.findTeamIdsByIds(unknown)) {
+                found.add((Long) row[0]);
+                if (row[1] != null && queue.isParticipant((Long) row[1])) {
+                    queue.playerTeams.put((Long) row[0], (Long) row[1]);
+                }
+            }
+        }
+        for (Object[] p : parsed) {
+            Long playerId = (Long) p[1];
+            if (playerId == null) {
+                continue;
+            }
+            Long playerTeam = queue.playerTeams.get(playerId);
+            if (playerTeam == null) {
+                throw new InvalidMatchEventException(unknown.contains(playerId) && !found.contains(playerId)
+                        ? "Player " + playerId + " not found"
+                        : "Player " + playerId + " does not play for either team in match " + queue.matchId);
+            }
+            Long teamId = (Long) p[2];
+            if (teamId != null && !teamId.equals(playerTeam)) {
+                throw new InvalidMatchEventException("Player " + playerId + " does not play for team " + teamId);
+            }
+        }
+    }
+
+    private static InvalidMatchEventException closed(Long matchId) {
+        return new InvalidMatchEventException("Match " + matchId + " is closed for events");
+    }
+
+    private static Long toLong(Object value, String field) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return value instanceof Number ? ((Number) value).longValue() : Long.parseLong(value.toString());
+        } catch (NumberFormatException e) {
+            throw new InvalidMatchEventException("Invalid " + field + ": " + value);
+        }
+    }
+
+    private void scheduleDrain(MatchEventQueue queue) {
+        if (!queue.tryStartDraining()) {
+            return; // the running drain will pick these events up
+        }
+        try {
+            liveEventExecutor.execute(() -> drain(queue));
+        } catch (TaskRejectedException e) {
+            // Events stay queued; the next ingest for this match retries the drain
+            queue.stopDraining();
+            System.err.println("Live event pool saturated, match " + queue.matchId + " drain deferred");
+        }
+    }
+
+    private void drain(MatchEventQueue queue) {
+        try {
+            drainInline(queue);
+        } finally {
+            queue.stopDraining();
+        }
+        // An event may have been offered after the last poll but before the flag was cleared.
+        // Held events wait for the housekeeper rather than spinning against a failing database.
+        if (!queue.isEmpty() && !queue.hasHeld()) {
+            scheduleDrain(queue);
+        }
+    }
+
+    /**
+     * Persists a batch, retrying it whole first, then event by event so one bad row does
+     * not sink the rest; events that fail alone are dead-lettered. Returns false if some
+     * events could not even be dead-lettered: they are held back for a later drain.
+     */
+    private boolean writeBatch(MatchEventQueue queue, List<LiveMatchEvent> batch) {
+        RuntimeException failure = null;
+        for (int attempt = 1; attempt <= writeAttempts; attempt++) {
+            try {
+                int[] goals = batchWriter.write(queue, batch);
+                persisted.add(batch.size());
+                batches.increment();
+                publish(queue, batch, goals);
+                return true;
+            } catch (RuntimeException e) {
+                failure = e;
+                if (attempt < writeAttempts) {
+                    retriedBatches.increment();
+                    if (!backOff(attempt)) {
+                        break;
+                    }
+                }
+            }
+        }
+        System.err.println("Failed to persist " + batch.size() + " events for match " + queue.matchId
+                + " (sequence " + batch.get(0).getSequence() + "-" + batch.get(batch.size() - 1).getSequence()
+                + "), writing them one by one: " + failure.getMessage());
+
+        List<LiveMatchEvent> written = new ArrayList<>(batch.size());
+        int[] goals = new int[2];
+        for (int i = 0; i < batch.size(); i++) {
+            LiveMatchEvent event = batch.get(i);
+            try {
+                int[] single = batchWriter.write(queue, List.of(event));
+                goals[0] += single[0];
+                goals[1] += single[1];
+                written.add(event);
+                persisted.increment();
+                continue;
+            } catch (RuntimeException e) {
+                failure = e;
+            }
+            try {
+                batchWriter.deadLetter(queue, event, failure.getMessage());
+                deadLettered.increment();
+                failedEvents.increment();
+                System.err.println("Dead-lettered event #" + event.getSequence() + " for match " + queue.matchId
+                        + ": " + failure.getMessage());
+            } catch (RuntimeException e) {
+                queue.holdBack(batch.subList(i, batch.size()));
+                System.err.println("Holding " + (batch.size() - i) + " events for match " + queue.matchId
+                        + ", database unavailable: " + e.getMessage());
+                break;
+            }
+        }
+        if (!written.isEmpty()) {
+            batches.increment();
+            publish(queue, written, goals);
+        }
+        return !queue.hasHeld();
+    }
+
+    private boolean backOff(int attempt) {
+        try {
+            Thread.sleep(retryBackoffMs * attempt);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /** Push what was just persisted to live subscribers; only committed state is broadcast. */
+    private void publish(MatchEventQueue queue, List<LiveMatchEvent> batch, int[] goals) {
+        List<Map<String, Object>> events = new ArrayList<>(batch.size());
+        for (LiveMatchEvent event : batch) {
+            Map<String, Object> item = new HashMap<>();
+            item.put("sequence", event.getSequence());
+            item.put("eventType", event.getEventType());
+            item.put("playerId", event.getPlayerId());
+            item.put("teamId", event.getTeamId());
+            item.put("eventTime", event.getEventTime().toString());
+            item.put("description", event.getDescription());
+            events.add(item);
+        }
+        liveScoreBroadcaster.publishEvents(queue.matchId, events);
+        if (goals[0] > 0 || goals[1] > 0) {
+            liveScoreBroadcaster.publishScore(queue.matchId, LiveScoreBroadcaster.scorePayload(queue.matchId,
+                    queue.homeTeamId, queue.awayTeamId, queue.homeScore.addAndGet(goals[0]),
+                    queue.awayScore.addAndGet(goals[1]), MatchStatus.LIVE.name()));
+        }
+    }
+
+    /** Caller must hold the queue's draining flag. Returns false if events were held back. */
+    private boolean drainInline(MatchEventQueue queue) {
+        List<LiveMatchEvent> batch;
+        while (!(batch = queue.pollBatch(batchSize)).isEmpty()) {
+            if (!writeBatch(queue, batch)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Housekeeper thread only: retry held events, evict queues that have gone quiet
+    private void housekeep() {
+        long idleBefore = System.currentTimeMillis() - TimeUnit.MINUTES.toMillis(idleEvictMinutes);
+        for (MatchEventQueue queue : queues.values()) {
+            if (queue.hasHeld()) {
+                scheduleDrain(queue);
+                continue;
+            }
+            if (queue.lastActivityMs() > idleBefore || !queue.isEmpty() || !queue.tryStartDraining()) {
+                continue;
+            }
+            try {
+                synchronized (queue) {
+                    // A reserved but not yet offered request sees the retired flag and starts over
+                    if (queue.isEmpty()) {
+                        queue.retire();
+                        queues.remove(queue.matchId, queue);
+                        evictedQueues.increment();
+                    }
+                }
+            } finally {
+                queue.stopDraining();
+            }
+        }
+    }
+
+    /**
+     * Persist whatever is still buffered before the datasource goes away. Queues with a
+     * drain in flight are left to it: the pool waits for running tasks on shutdown.
+     */
+    @PreDestroy
+    public void flush() {
+        housekeeper.shutdownNow();
+        for (MatchEventQueue queue : queues.values()) {
+            synchronized (queue) {
+                queue.close();
+            }
+            if (!queue.tryStartDraining()) {
+                continue;
+            }
+            try {
+                if (!drainInline(queue)) {
+                    System.err.println("Shutting down with " + queue.depth() + " unpersisted events for match "
+                            + queue.matchId);
+                }
+            } finally {
+                queue.stopDraining();
+            }
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.examly.springapp.service.live;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-match buffer between the ingestion endpoint and the batch writer.
+ *
+ * Producers append to a lock-free queue; at most one drainer runs per match (guarded
+ * by the draining flag), so events are persisted in exactly the order they were
+ * accepted. Also carries the match facts the writer needs to credit goals to a side.
+ *
+ * A queue ends either closed (the match is being finalized: no more events, ever) or
+ * retired (evicted while idle: a later ingest starts a fresh queue). Both are set,
+ * and offers made, under the queue's monitor, so no event lands after either.
+ */
+class MatchEventQueue {
+
+    final Long matchId;
+    final Long homeTeamId;
+    final Long awayTeamId;
+    final Long tournamentId;
+
+    /** playerId -> teamId of validated players, filled at ingest time. */
+    final Map<Long, Long> playerTeams = new ConcurrentHashMap<>();
+
+    private final ConcurrentLinkedQueue<LiveMatchEvent> events = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger depth = new AtomicInteger();
+    private final AtomicLong sequence = new AtomicLong();
+    /** Running score as seen by this node, for live score pushes without a read-back. */
+    final AtomicInteger homeScore = new AtomicInteger();
+    final AtomicInteger awayScore = new AtomicInteger();
+
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private volatile boolean closed;
+    private volatile boolean retired;
+    private volatile long lastActivityMs = System.currentTimeMillis();
+    // Events that could neither be written nor dead-lettered; polled first (drainer only)
+    private volatile List<LiveMatchEvent> held = List.of();
+
+    MatchEventQueue(Long matchId, Long homeTeamId, Long awayTeamId, Long tournamentId,
+                    int homeScore, int awayScore, long lastSequence) {
+        this.matchId = matchId;
+        this.homeTeamId = homeTeamId;
+        this.awayTeamId = awayTeamId;
+        this.tournamentId = tournamentId;
+        this.homeScore.set(homeScore);
+        this.awayScore.set(awayScore);
+        this.sequence.set(lastSequence);
+    }
+
+    /** Stand-in mapped while a match with nothing buffered is finalized; rejects all events. */
+    static MatchEventQueue closedPlaceholder(Long matchId) {
+        MatchEventQueue queue = new MatchEventQueue(matchId, null, null, null, 0, 0, 0);
+        queue.closed = true;
+        return queue;
+    }
+
+    long nextSequence() {
+        return sequence.incrementAndGet();
+    }
+
+    /** Reserve room for count events; false if that would exceed the limit. */
+    boolean reserve(int count, int limit) {
+        while (true) {
+            int current = depth.get();
+            if (current + count > limit) {
+                return false;
+            }
+            if (depth.compareAndSet(current, current + count)) {
+                return true;
+            }
+        }
+    }
+
+    /** Gives back a reservation whose events were not offered. */
+    void release(int count) {
+        depth.addAndGet(-count);
+    }
+
+    void offer(LiveMatchEvent event) {
+        events.offer(event);
+        lastActivityMs = System.currentTimeMillis();
+    }
+
+    List<LiveMatchEvent> pollBatch(int max) {
+        if (!held.isEmpty()) {
+            List<LiveMatchEvent> batch = held;
+            held = List.of();
+            depth.addAndGet(-batch.size());
+            return batch;
+        }
+        List<LiveMatchEvent> batch = new ArrayList<>(Math.min(max, Math.max(depth.get(), 1)));
+        LiveMatchEvent event;
+        while (batch.size() < max && (event = events.poll()) != null) {
+            batch.add(event);
+        }
+        depth.addAndGet(-batch.size());
+        return batch;
+    }
+
+    /** Puts events the drainer could not persist back in front of the queue, in order. */
+    void holdBack(List<LiveMatchEvent> batch) {
+        held = new ArrayList<>(batch);
+        depth.addAndGet(batch.size());
+    }
+
+    boolean hasHeld() {
+        return !held.isEmpty();
+    }
+
+    boolean isEmpty() {
+        return events.isEmpty() && held.isEmpty();
+    }
+
+    long lastActivityMs() {
+        return lastActivityMs;
+    }
+
+    int depth() {
+        return depth.get();
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    void close() {
+        closed = true;
+    }
+
+    boolean isRetired() {
+        return retired;
+    }
+
+    void retire() {
+        retired = true;
+    }
+
+    boolean tryStartDraining() {
+        return draining.compareAndSet(false, true);
+    }
+
+    void stopDraining() {
+        draining.set(false);
+    }
+
+    boolean isParticipant(Long teamId) {
+        return teamId != null && (teamId.equals(homeTeamId) || teamId.equals(awayTeamId));
+    }
+}
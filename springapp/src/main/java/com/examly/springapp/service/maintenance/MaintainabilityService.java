@@ -1,12 +1,14 @@
 package com.examly.springapp.service.maintenance;
 
 import com.examly.springapp.repository.*;
+import com.examly.springapp.service.audit.AuditEvent;
+import com.examly.springapp.service.audit.AuditPartitionManager;
+import com.examly.springapp.service.audit.AuditTrailService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
@@ -32,6 +34,12 @@ public class MaintainabilityService {
     @Autowired
     private AuditLogRepository auditLogRepository;
 
+    @Autowired
+    private AuditTrailService auditTrailService;
+
+    @Autowired
+    private AuditPartitionManager auditPartitionManager;
+
     /**
      * 3.6.4 Maintainability Implementation
      */
@@ -72,13 +80,12 @@ public class MaintainabilityService {
     @Scheduled(cron = "0 0 2 * * ?") // Daily at 2 AM
     public void performDataCleanup() {
         try {
-            // Clean up old audit logs (keep last 6 months)
-            LocalDateTime cutoffDate = LocalDateTime.now().minusMonths(6);
-            int deletedLogs = auditLogRepository.deleteOldLogs(cutoffDate);
+            // Expire old audit logs (app.audit.retention-months); drops whole monthly partitions
+            int removed = auditPartitionManager.applyRetention();
             
-            if (deletedLogs > 0) {
+            if (removed > 0) {
                 logMaintenanceEvent("DATA_CLEANUP", 
-                    "Cleaned up " + deletedLogs + " old audit log entries", "INFO");
+                    "Cleaned up " + removed + " expired audit log partitions or entries", "INFO");
             }
             
             // Optimize database tables
@@ -381,8 +388,9 @@ public class MaintainabilityService {
 
     private void logMaintenanceEvent(String eventType, String description, String severity) {
         try {
-            // Log maintenance events
+            // Log maintenance events; the audit row is batched by AuditTrailService
             System.out.println("MAINTENANCE: " + eventType + " - " + description + " [" + severity + "]");
+            auditTrailService.record(AuditEvent.of(eventType, "MAINTENANCE", description, severity));
         } catch (Exception e) {
             System.err.println("Failed to log maintenance event: " + e.getMessage());
         }
@@ -0,0 +1,29 @@
+package com.examly.springapp.service.payment;
+
+/** What a gateway needs to open a hosted checkout for one payment. */
+public class CheckoutRequest {
+
+    private final long amountMinor;
+    private final String currency;
+    private final String successUrl;
+    private final String cancelUrl;
+    private final String productName;
+    private final String reference;
+
+    public CheckoutRequest(long amountMinor, String currency, String successUrl, String cancelUrl,
+                           String productName, String reference) {
+        this.amountMinor = amountMinor;
+        this.currency = currency;
+        this.successUrl = successUrl;
+        this.cancelUrl = cancelUrl;
+        this.productName = productName;
+        this.reference = reference;
+    }
+
+    public long getAmountMinor() { return amountMinor; }
+    public String getCurrency() { return currency; }
+    public String getSuccessUrl() { return successUrl; }
+    public String getCancelUrl() { return cancelUrl; }
+    public String getProductName() { return productName; }
+    public String getReference() { return reference; }
+}
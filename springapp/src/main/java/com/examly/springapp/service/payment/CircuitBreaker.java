@@ -0,0 +1,151 @@
+package com.examly.springapp.service.payment;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Count-based circuit breaker.
+ *
+ * CLOSED: outcomes of the last windowSize calls are kept in a ring; once at least
+ * minimumCalls are recorded and the failure share reaches failureRateThreshold the
+ * breaker opens. OPEN: calls are refused without touching the provider until
+ * openDurationMs has passed. HALF_OPEN: trialCalls calls are let through; all of them
+ * succeeding closes the breaker with a fresh window, any failure opens it again.
+ *
+ * State changes are rare and the critical sections are a few field updates, so a
+ * monitor is used rather than a lock-free scheme.
+ */
+public class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int windowSize;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long openDurationMs;
+    private final int trialCalls;
+
+    // Guarded by this
+    private State state = State.CLOSED;
+    private final boolean[] window;
+    private int next;
+    private int recorded;
+    private int failuresInWindow;
+    private long openedAt;
+    private int trialsStarted;
+    private int trialsSucceeded;
+
+    private final LongAdder successes = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder notPermitted = new LongAdder();
+    private final LongAdder timesOpened = new LongAdder();
+
+    public CircuitBreaker(int windowSize, int minimumCalls, double failureRateThreshold,
+                          long openDurationMs, int trialCalls) {
+        this.windowSize = Math.max(1, windowSize);
+        this.minimumCalls = Math.max(1, Math.min(minimumCalls, this.windowSize));
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationMs = openDurationMs;
+        this.trialCalls = Math.max(1, trialCalls);
+        this.window = new boolean[this.windowSize];
+    }
+
+    /** Whether a call may go out now; every true must be followed by exactly one on*() call. */
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (System.currentTimeMillis() - openedAt < openDurationMs) {
+                notPermitted.increment();
+                return false;
+            }
+            state = State.HALF_OPEN;
+            trialsStarted = 0;
+            trialsSucceeded = 0;
+        }
+        if (state == State.HALF_OPEN) {
+            if (trialsStarted >= trialCalls) {
+                notPermitted.increment();
+                return false;
+            }
+            trialsStarted++;
+        }
+        return true;
+    }
+
+    public synchronized void onSuccess() {
+        successes.increment();
+        if (state == State.HALF_OPEN) {
+            if (++trialsSucceeded >= trialCalls) {
+                state = State.CLOSED;
+                next = 0;
+                recorded = 0;
+                failuresInWindow = 0;
+            }
+        } else if (state == State.CLOSED) {
+            record(false);
+        }
+    }
+
+    public synchronized void onFailure() {
+        failures.increment();
+        if (state == State.HALF_OPEN) {
+            open();
+        } else if (state == State.CLOSED) {
+            record(true);
+            if (recorded >= minimumCalls && failuresInWindow >= failureRateThreshold * recorded) {
+                open();
+            }
+        }
+    }
+
+    /** The permitted call never reached the provider (e.g. the pool refused it). */
+    public synchronized void onNotAttempted() {
+        if (state == State.HALF_OPEN && trialsStarted > 0) {
+            trialsStarted--;
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    /** Milliseconds until an open breaker lets a trial call through; 0 when not open. */
+    public synchronized long retryAfterMs() {
+        return state == State.OPEN ? Math.max(0, openedAt + openDurationMs - System.currentTimeMillis()) : 0;
+    }
+
+    public synchronized Map<String, Object> snapshot() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("state", state.name());
+        stats.put("windowCalls", recorded);
+        stats.put("windowFailures", failuresInWindow);
+        stats.put("failureRateThreshold", failureRateThreshold);
+        stats.put("retryAfterMs", retryAfterMs());
+        stats.put("successes", successes.sum());
+        stats.put("failures", failures.sum());
+        stats.put("notPermitted", notPermitted.sum());
+        stats.put("timesOpened", timesOpened.sum());
+        return stats;
+    }
+
+    private void record(boolean failed) {
+        if (recorded == windowSize) {
+            if (window[next]) {
+                failuresInWindow--;
+            }
+        } else {
+            recorded++;
+        }
+        window[next] = failed;
+        if (failed) {
+            failuresInWindow++;
+        }
+        next = (next + 1) % windowSize;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = System.currentTimeMillis();
+        timesOpened.increment();
+    }
+}
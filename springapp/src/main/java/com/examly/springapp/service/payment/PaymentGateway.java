@@ -0,0 +1,21 @@
+package com.examly.springapp.service.payment;
+
+/**
+ * A hosted-checkout provider. Implementations make a blocking remote call and are
+ * only invoked through PaymentGatewayClient, on the payment gateway pool.
+ */
+public interface PaymentGateway {
+
+    /** Provider name stored on the Payment, e.g. "STRIPE". */
+    String name();
+
+    /** False when the gateway lacks credentials; checkout is refused up front. */
+    boolean isConfigured();
+
+    /**
+     * Creates a checkout session and returns the URL the buyer is sent to. timeoutMs is
+     * what is left of the client's deadline when the call starts (time spent queued in
+     * the bulkhead is already gone); the call must end within it.
+     */
+    String createCheckoutSession(CheckoutRequest request, long timeoutMs) throws Exception;
+}
@@ -0,0 +1,170 @@
+package com.examly.springapp.service.payment;
+
+import com.examly.springapp.configuration.AsyncConfiguration;
+import com.examly.springapp.exception.PaymentGatewayException;
+import com.examly.springapp.exception.PaymentGatewayUnavailableException;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Calls the configured PaymentGateway off the request thread.
+ *
+ *  - bulkhead: calls run on paymentGatewayExecutor (app.async.payment-gateway.*); when
+ *    its threads and queue are full the call is refused with TaskRejectedException (503)
+ *    instead of tying up Tomcat threads behind a slow provider
+ *  - timeout: the returned future fails after app.payments.gateway-timeout-ms, counted
+ *    from submission; the gateway gets what is left of it when its call starts, and a
+ *    call whose deadline passed while queued is not made at all
+ *  - circuit breaker: timeouts and provider errors count as failures; once the failure
+ *    rate over the last app.payments.breaker.window-size calls reaches the threshold,
+ *    checkouts fail fast with PaymentGatewayUnavailableException (503 + Retry-After)
+ *    for app.payments.breaker.open-duration-ms, then a few trial calls decide whether
+ *    to close it again
+ *
+ * Completion handling runs on paymentCompletionExecutor, never on the thread that
+ * completes the future: on a timeout that is the JDK's shared delay scheduler.
+ *
+ * The gateway is picked by app.payments.gateway: stripe (default) or stub.
+ */
+@Service
+public class PaymentGatewayClient {
+
+    @Autowired
+    private PaymentGateway paymentGateway;
+
+    @Autowired
+    @Qualifier(AsyncConfiguration.PAYMENT_GATEWAY_EXECUTOR)
+    private ThreadPoolTaskExecutor paymentGatewayExecutor;
+
+    @Autowired
+    @Qualifier(AsyncConfiguration.PAYMENT_COMPLETION_EXECUTOR)
+    private ThreadPoolTaskExecutor paymentCompletionExecutor;
+
+    @Value("${app.payments.gateway-timeout-ms:8000}")
+    private long timeoutMs;
+
+    @Value("${app.payments.breaker.window-size:50}")
+    private int windowSize;
+
+    @Value("${app.payments.breaker.minimum-calls:10}")
+    private int minimumCalls;
+
+    @Value("${app.payments.breaker.failure-rate-threshold:0.5}")
+    private double failureRateThreshold;
+
+    @Value("${app.payments.breaker.open-duration-ms:30000}")
+    private long openDurationMs;
+
+    @Value("${app.payments.breaker.trial-calls:3}")
+    private int trialCalls;
+
+    private CircuitBreaker breaker;
+
+    private final LongAdder timedOut = new LongAdder();
+    private final LongAdder bulkheadRejected = new LongAdder();
+
+    @PostConstruct
+    public void init() {
+        breaker = new CircuitBreaker(windowSize, minimumCalls, failureRateThreshold, openDurationMs, trialCalls);
+        System.out.println("Payment gateway: " + paymentGateway.name()
+                + (paymentGateway.isConfigured() ? "" : " (not configured, checkout disabled)"));
+    }
+
+    public String gatewayName() {
+        return paymentGateway.name();
+    }
+
+    public boolean isConfigured() {
+        return paymentGateway.isConfigured();
+    }
+
+    /** Throws PaymentGatewayUnavailableException while the breaker is open. */
+    public void checkAvailable() {
+        long retryAfterMs = breaker.retryAfterMs();
+        if (retryAfterMs > 0) {
+            throw unavailable(retryAfterMs);
+        }
+    }
+
+    /**
+     * Starts a checkout session. Throws at once when the breaker is open or the pool is
+     * full; otherwise the future completes with the checkout URL or fails with
+     * PaymentGatewayException.
+     */
+    public CompletableFuture<String> createCheckoutSession(CheckoutRequest request) {
+        if (!breaker.tryAcquire()) {
+            throw unavailable(breaker.retryAfterMs());
+        }
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        CompletableFuture<String> call;
+        try {
+            call = CompletableFuture.supplyAsync(() -> {
+                long remainingMs = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remainingMs <= 0) {
+                    throw new CompletionException(new TimeoutException("Deadline passed while queued"));
+                }
+                try {
+                    return paymentGateway.createCheckoutSession(request, remainingMs);
+                } catch (Exception e) {
+                    throw new CompletionException(e);
+                }
+            }, paymentGatewayExecutor);
+        } catch (TaskRejectedException e) {
+            breaker.onNotAttempted();
+            bulkheadRejected.increment();
+            throw e;
+        }
+        return call.orTimeout(timeoutMs, TimeUnit.MILLISECONDS).handleAsync((url, error) -> {
+            if (error == null) {
+                breaker.onSuccess();
+                return url;
+            }
+            breaker.onFailure();
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            if (cause instanceof TimeoutException) {
+                timedOut.increment();
+                throw new PaymentGatewayException("Payment provider did not respond within " + timeoutMs + " ms");
+            }
+            System.err.println("Payment gateway " + paymentGateway.name() + " failed for "
+                    + request.getReference() + ": " + cause.getMessage());
+            throw new PaymentGatewayException("Payment provider error, please retry");
+        }, paymentCompletionExecutor);
+    }
+
+    /** Where callers should run their own follow-up work on a checkout future. */
+    public ThreadPoolTaskExecutor completionExecutor() {
+        return paymentCompletionExecutor;
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("gateway", paymentGateway.name());
+        stats.put("configured", paymentGateway.isConfigured());
+        stats.put("timeoutMs", timeoutMs);
+        stats.put("breaker", breaker.snapshot());
+        stats.put("timedOut", timedOut.sum());
+        stats.put("bulkheadRejected", bulkheadRejected.sum());
+        stats.put("poolSize", paymentGatewayExecutor.getPoolSize());
+        stats.put("active", paymentGatewayExecutor.getActiveCount());
+        stats.put("queued", paymentGatewayExecutor.getThreadPoolExecutor().getQueue().size());
+        return stats;
+    }
+
+    private PaymentGatewayUnavailableException unavailable(long retryAfterMs) {
+        return new PaymentGatewayUnavailableException("Payment provider is unavailable, please retry shortly",
+                Math.max(1, (retryAfterMs + 999) / 1000));
+    }
+}
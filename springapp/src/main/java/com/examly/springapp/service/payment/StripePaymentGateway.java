@@ -0,0 +1,101 @@
+package com.examly.springapp.service.payment;
+
+import com.stripe.exception.StripeException;
+import com.stripe.model.checkout.Session;
+import com.stripe.net.RequestOptions;
+import com.stripe.param.checkout.SessionCreateParams;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Stripe Checkout. The API key and timeouts go on each request through RequestOptions
+ * instead of the global Stripe.apiKey. Both timeouts come from the budget
+ * PaymentGatewayClient passes in, which is what is left of its deadline once the call
+ * leaves the bulkhead queue: the connect timeout (capped to the budget) and then the
+ * rest as read timeout, less a small margin, so the SDK call ends (and frees its pool
+ * thread) before the caller gives up on it. Without enough budget left for a read the
+ * call is not made.
+ */
+@Component
+@ConditionalOnProperty(name = "app.payments.gateway", havingValue = "stripe", matchIfMissing = true)
+public class StripePaymentGateway implements PaymentGateway {
+
+    // Request setup and response parsing around the two network timeouts
+    private static final int DEADLINE_MARGIN_MS = 250;
+
+    @Value("${app.payments.stripe.secret:${STRIPE_SECRET:}}")
+    private String apiKey;
+
+    @Value("${app.payments.stripe.connect-timeout-ms:2000}")
+    private int connectTimeoutMs;
+
+    @Value("${app.payments.gateway-timeout-ms:8000}")
+    private int deadlineMs;
+
+    @PostConstruct
+    public void init() {
+        if (connectTimeoutMs <= 0 || deadlineMs - connectTimeoutMs - DEADLINE_MARGIN_MS <= 0) {
+            throw new IllegalStateException("app.payments.stripe.connect-timeout-ms (" + connectTimeoutMs
+                    + ") must be positive and leave room for a read within app.payments.gateway-timeout-ms ("
+                    + deadlineMs + ")");
+        }
+    }
+
+    @Override
+    public String name() {
+        return "STRIPE";
+    }
+
+    @Override
+    public boolean isConfigured() {
+        return apiKey != null && !apiKey.isBlank();
+    }
+
+    @Override
+    public String createCheckoutSession(CheckoutRequest request, long timeoutMs)
+            throws StripeException, TimeoutException {
+        long budgetMs = timeoutMs - DEADLINE_MARGIN_MS;
+        int connectMs = (int) Math.min(connectTimeoutMs, budgetMs);
+        int readMs = (int) Math.min(Integer.MAX_VALUE, budgetMs - connectMs);
+        if (connectMs <= 0 || readMs <= 0) {
+            throw new TimeoutException("Only " + timeoutMs + " ms of the payment deadline left");
+        }
+        SessionCreateParams params = SessionCreateParams.builder()
+            .addLineItem(
+                SessionCreateParams.LineItem.builder()
+                    .setQuantity(1L)
+                    .setPriceData(
+                        SessionCreateParams.LineItem.PriceData.builder()
+                            .setCurrency(request.getCurrency().toLowerCase())
+                            .setUnitAmount(request.getAmountMinor())
+                            .setProductData(
+                                SessionCreateParams.LineItem.PriceData.ProductData.builder()
+                                    .setName(request.getProductName())
+                                    .build()
+                            )
+                            .build()
+                    )
+                    .build()
+            )
+            .setMode(SessionCreateParams.Mode.PAYMENT)
+            .setSuccessUrl(request.getSuccessUrl() + "?ref=" + request.getReference())
+            .setCancelUrl(request.getCancelUrl())
+            .putMetadata("reference", request.getReference())
+            .build();
+        RequestOptions options = RequestOptions.builder()
+            .setApiKey(apiKey)
+            .setConnectTimeout(connectMs)
+            .setReadTimeout(readMs)
+            // Retrying is the circuit breaker's call, not the SDK's
+            .setMaxNetworkRetries(0)
+            // Same reference, same session: a retried checkout does not open a second one
+            .setIdempotencyKey("checkout-" + request.getReference())
+            .build();
+        Session session = Session.create(params, options);
+        return session.getUrl();
+    }
+}
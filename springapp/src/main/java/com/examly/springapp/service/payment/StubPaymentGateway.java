@@ -0,0 +1,55 @@
+package com.examly.springapp.service.payment;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Offline stand-in for load tests (app.payments.gateway=stub). Holds the pool thread
+ * for a configurable latency, fails a configurable fraction of calls, and "redirects"
+ * straight to the success URL with the payment reference, so a test can go on to
+ * /api/payments/capture/{reference} without any network access.
+ */
+@Component
+@ConditionalOnProperty(name = "app.payments.gateway", havingValue = "stub")
+public class StubPaymentGateway implements PaymentGateway {
+
+    @Value("${app.payments.stub.latency-ms:150}")
+    private long latencyMs;
+
+    @Value("${app.payments.stub.latency-jitter-ms:100}")
+    private long latencyJitterMs;
+
+    @Value("${app.payments.stub.failure-rate:0.0}")
+    private double failureRate;
+
+    @Override
+    public String name() {
+        return "STUB";
+    }
+
+    @Override
+    public boolean isConfigured() {
+        return true;
+    }
+
+    @Override
+    public String createCheckoutSession(CheckoutRequest request, long timeoutMs)
+            throws InterruptedException, TimeoutException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long latency = latencyMs + (latencyJitterMs > 0 ? random.nextLong(latencyJitterMs + 1) : 0);
+        if (latency > timeoutMs) {
+            // Like a provider read timeout: give the thread back at the deadline
+            Thread.sleep(timeoutMs);
+            throw new TimeoutException("Stub gateway: no response within " + timeoutMs + " ms");
+        }
+        Thread.sleep(latency);
+        if (random.nextDouble() < failureRate) {
+            throw new IllegalStateException("Stub gateway: simulated provider failure");
+        }
+        return request.getSuccessUrl() + "?ref=" + request.getReference();
+    }
+}
@@ -0,0 +1,217 @@
+package com.examly.springapp.service.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * AES-256-GCM encryption of individual column values.
+ *
+ * Ciphertext is Base64 of [version (1 byte) | IV (12 bytes) | data + 128-bit tag], so a
+ * tampered or truncated value fails to decrypt instead of yielding garbage. Each thread
+ * keeps its own Cipher and SecureRandom: Cipher.getInstance() is a provider lookup that
+ * costs more than encrypting a short field, and neither object is thread-safe. Only
+ * init() runs per value, which GCM needs anyway for a fresh random IV.
+ *
+ * The bulk methods take one thread-local lookup for a whole list, which is what
+ * EncryptedStringConverter and bulk reads spend their time in.
+ *
+ * decryptOrLegacy() reads columns that may still hold values written before they were
+ * encrypted: anything not in the versioned format above comes back unchanged (and is
+ * counted), and is encrypted the next time the row is saved. A value in the format
+ * that fails authentication still throws.
+ *
+ * Configuration:
+ *   app.security.field-encryption.key=<base64 128/192/256-bit key, or a passphrase hashed to 256 bits>
+ *
+ * The key is required unless the dev or test profile is active (application-dev.properties
+ * carries a dev-only key); under test without one a random key is generated at startup,
+ * and values encrypted before a restart stop decrypting.
+ */
+@Component
+public class FieldEncryptionEngine {
+
+    public static final String ALGORITHM = "AES/GCM/NoPadding";
+
+    private static final byte VERSION = 1;
+    private static final int IV_BYTES = 12;
+    private static final int TAG_BITS = 128;
+    private static final int HEADER_BYTES = 1 + IV_BYTES;
+
+    private final SecretKey key;
+    private final ThreadLocal<Worker> workers = ThreadLocal.withInitial(Worker::new);
+
+    private final LongAdder encrypted = new LongAdder();
+    private final LongAdder decrypted = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder legacyReads = new LongAdder();
+
+    public FieldEncryptionEngine(@Value("${app.security.field-encryption.key:}") String secret,
+                                 Environment environment) {
+        if (secret.isBlank()) {
+            if (!environment.acceptsProfiles(Profiles.of("dev", "test"))) {
+                // A generated or well-known key would leave every encrypted column unreadable or exposed
+                throw new IllegalStateException("app.security.field-encryption.key must be set "
+                        + "outside the dev and test profiles");
+            }
+            byte[] generated = new byte[32];
+            new SecureRandom().nextBytes(generated);
+            this.key = new SecretKeySpec(generated, "AES");
+            System.err.println("app.security.field-encryption.key not set: generated a temporary AES-256 key; "
+                    + "encrypted columns will not survive a restart");
+            return;
+        }
+        this.key = buildKey(secret);
+    }
+
+    public String encrypt(String plainText) {
+        if (plainText == null || plainText.isEmpty()) {
+            return plainText;
+        }
+        return workers.get().encrypt(plainText);
+    }
+
+    public String decrypt(String cipherText) {
+        if (cipherText == null || cipherText.isEmpty()) {
+            return cipherText;
+        }
+        return workers.get().decrypt(cipherText);
+    }
+
+    /** Like decrypt(), but a value that is not a field ciphertext is returned as stored. */
+    public String decryptOrLegacy(String stored) {
+        if (stored == null || stored.isEmpty()) {
+            return stored;
+        }
+        if (!isCipherText(stored)) {
+            legacyReads.increment();
+            return stored;
+        }
+        return workers.get().decrypt(stored);
+    }
+
+    /** Encrypts every value in order; null and empty values pass through unchanged. */
+    public List<String> encryptAll(List<String> plainTexts) {
+        Worker worker = workers.get();
+        List<String> result = new ArrayList<>(plainTexts.size());
+        for (String plainText : plainTexts) {
+            result.add(plainText == null || plainText.isEmpty() ? plainText : worker.encrypt(plainText));
+        }
+        return result;
+    }
+
+    /** Decrypts every value in order; null and empty values pass through unchanged. */
+    public List<String> decryptAll(List<String> cipherTexts) {
+        Worker worker = workers.get();
+        List<String> result = new ArrayList<>(cipherTexts.size());
+        for (String cipherText : cipherTexts) {
+            result.add(cipherText == null || cipherText.isEmpty() ? cipherText : worker.decrypt(cipherText));
+        }
+        return result;
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("algorithm", ALGORITHM);
+        stats.put("keyBits", key.getEncoded().length * 8);
+        stats.put("encrypted", encrypted.sum());
+        stats.put("decrypted", decrypted.sum());
+        stats.put("failures", failures.sum());
+        stats.put("legacyReads", legacyReads.sum());
+        return stats;
+    }
+
+    private static boolean isCipherText(String value) {
+        byte[] input;
+        try {
+            input = Base64.getDecoder().decode(value);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        return input.length >= HEADER_BYTES + TAG_BITS / 8 && input[0] == VERSION;
+    }
+
+    private static SecretKey buildKey(String secret) {
+        // Base64 key of a valid AES length first, otherwise derive 256 bits from the passphrase
+        if (secret != null && !secret.isBlank()) {
+            try {
+                byte[] decoded = Base64.getDecoder().decode(secret);
+                if (decoded.length == 16 || decoded.length == 24 || decoded.length == 32) {
+                    return new SecretKeySpec(decoded, "AES");
+                }
+            } catch (IllegalArgumentException ignored) {
+                // not base64, derive below
+            }
+        }
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                    .digest((secret == null ? "" : secret).getBytes(StandardCharsets.UTF_8));
+            return new SecretKeySpec(hash, "AES");
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private final class Worker {
+        private final Cipher cipher;
+        private final SecureRandom random = new SecureRandom();
+        private final byte[] iv = new byte[IV_BYTES];
+
+        Worker() {
+            try {
+                cipher = Cipher.getInstance(ALGORITHM);
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException(ALGORITHM + " is not available", e);
+            }
+        }
+
+        String encrypt(String plainText) {
+            try {
+                random.nextBytes(iv);
+                cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(TAG_BITS, iv));
+                byte[] input = plainText.getBytes(StandardCharsets.UTF_8);
+                ByteBuffer output = ByteBuffer.allocate(HEADER_BYTES + cipher.getOutputSize(input.length));
+                output.put(VERSION).put(iv);
+                cipher.doFinal(ByteBuffer.wrap(input), output);
+                encrypted.increment();
+                return Base64.getEncoder().encodeToString(output.array());
+            } catch (GeneralSecurityException e) {
+                failures.increment();
+                throw new RuntimeException("Encryption failed", e);
+            }
+        }
+
+        String decrypt(String cipherText) {
+            try {
+                byte[] input = Base64.getDecoder().decode(cipherText);
+                if (input.length < HEADER_BYTES + TAG_BITS / 8 || input[0] != VERSION) {
+                    throw new IllegalArgumentException("not a field ciphertext");
+                }
+                cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(TAG_BITS, input, 1, IV_BYTES));
+                byte[] plain = cipher.doFinal(input, HEADER_BYTES, input.length - HEADER_BYTES);
+                decrypted.increment();
+                return new String(plain, StandardCharsets.UTF_8);
+            } catch (GeneralSecurityException | IllegalArgumentException e) {
+                failures.increment();
+                throw new RuntimeException("Decryption failed", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.examly.springapp.service.security;
+
+import com.examly.springapp.configuration.AsyncConfiguration;
+import com.examly.springapp.exception.PasswordHashingBusyException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Runs BCrypt on the passwordHashExecutor instead of the request thread.
+ *
+ * The pool is sized to part of the CPU (app.async.password-hash.*) with a short
+ * queue, so a login storm can only occupy those cores; everything beyond the queue
+ * is rejected at once with PasswordHashingBusyException (429) rather than piling up
+ * behind BCrypt. The calling thread waits for its own hash, bounded by
+ * app.security.password-hash.timeout-ms.
+ *
+ * needsRehash lets AuthService re-encode a password at login when the stored hash
+ * was made with a lower cost than the encoder is configured for
+ * (app.security.bcrypt.strength), so the cost can be raised without resets.
+ */
+@Service
+public class PasswordHashingService {
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    @Qualifier(AsyncConfiguration.PASSWORD_HASH_EXECUTOR)
+    private ThreadPoolTaskExecutor passwordHashExecutor;
+
+    @Value("${app.security.password-hash.timeout-ms:5000}")
+    private long timeoutMs;
+
+    private final Timing encodeTiming = new Timing();
+    private final Timing matchTiming = new Timing();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+    private final LongAdder rehashed = new LongAdder();
+
+    public String encode(String rawPassword) {
+        return run(encodeTiming, () -> passwordEncoder.encode(rawPassword));
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        if (rawPassword == null || encodedPassword == null) {
+            return false;
+        }
+        return run(matchTiming, () -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /** Cheap (no hashing): whether the stored hash is weaker than the current setting. */
+    public boolean needsRehash(String encodedPassword) {
+        return encodedPassword != null && passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    public void recordRehash() {
+        rehashed.increment();
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("encode", encodeTiming.snapshot());
+        stats.put("matches", matchTiming.snapshot());
+        stats.put("rejected", rejected.sum());
+        stats.put("timedOut", timedOut.sum());
+        stats.put("rehashedOnLogin", rehashed.sum());
+        stats.put("poolSize", passwordHashExecutor.getPoolSize());
+        stats.put("active", passwordHashExecutor.getActiveCount());
+        stats.put("queued", passwordHashExecutor.getThreadPoolExecutor().getQueue().size());
+        return stats;
+    }
+
+    private <T> T run(Timing timing, Supplier<T> hashing) {
+        long submitted = System.nanoTime();
+        Future<T> future;
+        try {
+            future = passwordHashExecutor.submit(() -> {
+                long started = System.nanoTime();
+                try {
+                    return hashing.get();
+                } finally {
+                    timing.record(started - submitted, System.nanoTime() - started);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            rejected.increment();
+            throw new PasswordHashingBusyException("Too many sign-in requests, please retry shortly");
+        }
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            timedOut.increment();
+            throw new PasswordHashingBusyException("Too many sign-in requests, please retry shortly");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while hashing password", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new RuntimeException("Password hashing failed", cause);
+        }
+    }
+
+    /** Queue wait and hashing time, tracked separately: waits grow first under load. */
+    private static final class Timing {
+        final LongAdder count = new LongAdder();
+        final LongAdder waitNanos = new LongAdder();
+        final LongAdder hashNanos = new LongAdder();
+        final LongAccumulator maxWaitNanos = new LongAccumulator(Math::max, 0);
+        final LongAccumulator maxHashNanos = new LongAccumulator(Math::max, 0);
+
+        void record(long waited, long hashed) {
+            count.increment();
+            waitNanos.add(waited);
+            hashNanos.add(hashed);
+            maxWaitNanos.accumulate(waited);
+            maxHashNanos.accumulate(hashed);
+        }
+
+        Map<String, Object> snapshot() {
+            long n = count.sum();
+            Map<String, Object> stats = new HashMap<>();
+            stats.put("count", n);
+            stats.put("avgWaitMs", n == 0 ? 0.0 : waitNanos.sum() / (double) n / 1_000_000);
+            stats.put("avgHashMs", n == 0 ? 0.0 : hashNanos.sum() / (double) n / 1_000_000);
+            stats.put("maxWaitMs", maxWaitNanos.get() / 1_000_000.0);
+            stats.put("maxHashMs", maxHashNanos.get() / 1_000_000.0);
+            return stats;
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.examly.springapp.service.security;
+
+import com.examly.springapp.model.SecuredResource;
+import com.examly.springapp.model.SecurityOperation;
+import com.examly.springapp.model.UserRole;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Role x resource x operation permissions compiled into a flat long[] bitset.
+ *
+ * Each (role, resource) pair owns one long whose bit n is SecurityOperation n, plus one
+ * extra slot per role for checks that name no (or an unknown) resource. A check is one
+ * array read and a shift, with no locking or allocation; string operation and resource
+ * names are resolved through prebuilt maps rather than Enum.valueOf, so a denial does
+ * not cost an exception either.
+ *
+ * Grants per role are "OP" (every resource) or "OP@RESOURCE", comma-separated:
+ *
+ *   app.security.permissions.MATCH_OFFICIAL=READ,UPDATE@MATCH
+ *
+ * Roles without a property keep the built-in defaults below. reload() recompiles from
+ * the environment and update() replaces the grants of individual roles; either builds
+ * a new array and publishes it with one volatile write, so checks never see a partial matrix.
+ */
+@Service
+public class PermissionMatrix {
+
+    public static final String PROPERTY_PREFIX = "app.security.permissions.";
+
+    private static final int OPERATIONS = SecurityOperation.values().length;
+    private static final int SLOTS = SecuredResource.values().length + 1;
+    private static final int ANY_RESOURCE = SLOTS - 1;
+
+    private static final Map<String, SecurityOperation> OPERATION_NAMES = new HashMap<>();
+    private static final Map<String, SecuredResource> RESOURCE_NAMES = new HashMap<>();
+    private static final Map<String, UserRole> ROLE_NAMES = new HashMap<>();
+
+    private static final Map<UserRole, String> DEFAULT_GRANTS = new EnumMap<>(UserRole.class);
+
+    static {
+        if (OPERATIONS > Long.SIZE) {
+            throw new IllegalStateException("SecurityOperation no longer fits in a long");
+        }
+        for (SecurityOperation operation : SecurityOperation.values()) {
+            OPERATION_NAMES.put(operation.name(), operation);
+        }
+        for (SecuredResource resource : SecuredResource.values()) {
+            RESOURCE_NAMES.put(resource.name(), resource);
+        }
+        for (UserRole role : UserRole.values()) {
+            ROLE_NAMES.put(role.name(), role);
+        }
+
+        DEFAULT_GRANTS.put(UserRole.FIFA_ADMIN,
+                "CREATE,READ,UPDATE,DELETE,MANAGE_USERS,MANAGE_TOURNAMENTS,VIEW_ANALYTICS,MANAGE_SECURITY,AUDIT_LOGS");
+        DEFAULT_GRANTS.put(UserRole.TOURNAMENT_DIRECTOR,
+                "READ,UPDATE,MANAGE_TOURNAMENTS,MANAGE_MATCHES,VIEW_ANALYTICS");
+        DEFAULT_GRANTS.put(UserRole.TEAM_MANAGER, "READ,UPDATE,MANAGE_TEAM,MANAGE_PLAYERS");
+        DEFAULT_GRANTS.put(UserRole.COACH, "READ,UPDATE,MANAGE_PLAYERS,VIEW_TACTICS");
+        DEFAULT_GRANTS.put(UserRole.PLAYER, "READ,UPDATE_PROFILE");
+    }
+
+    private final Environment environment;
+
+    private volatile Compiled compiled;
+
+    public PermissionMatrix(Environment environment) {
+        this.environment = environment;
+        reload();
+    }
+
+    public boolean isAllowed(UserRole role, SecurityOperation operation, SecuredResource resource) {
+        if (role == null || operation == null) {
+            return false;
+        }
+        int slot = role.ordinal() * SLOTS + (resource == null ? ANY_RESOURCE : resource.ordinal());
+        return (compiled.bits[slot] & (1L << operation.ordinal())) != 0;
+    }
+
+    /** Same check by name; unknown operations are denied, unknown resources need a role-wide grant. */
+    public boolean isAllowed(UserRole role, String operation, String resource) {
+        SecurityOperation op = operation == null ? null : OPERATION_NAMES.get(operation);
+        SecuredResource res = resource == null ? null : RESOURCE_NAMES.get(resource);
+        return isAllowed(role, op, res);
+    }
+
+    /** Role by name, or null (which every check denies) when unknown. */
+    public static UserRole role(String name) {
+        return name == null ? null : ROLE_NAMES.get(name);
+    }
+
+    /** Recompiles every role from app.security.permissions.* (or the defaults). */
+    public synchronized void reload() {
+        Map<UserRole, String> grants = new EnumMap<>(UserRole.class);
+        for (UserRole role : UserRole.values()) {
+            String configured = environment.getProperty(PROPERTY_PREFIX + role.name());
+            grants.put(role, configured != null ? configured : DEFAULT_GRANTS.getOrDefault(role, ""));
+        }
+        compiled = compile(grants);
+    }
+
+    /** Replaces the grants of the given roles; nothing changes if any spec is invalid. */
+    public synchronized void update(Map<String, String> roleGrants) {
+        Map<UserRole, String> grants = new EnumMap<>(compiled.grants);
+        for (Map.Entry<String, String> entry : roleGrants.entrySet()) {
+            grants.put(UserRole.valueOf(entry.getKey()), entry.getValue() == null ? "" : entry.getValue());
+        }
+        compiled = compile(grants);
+    }
+
+    /** Current grants per role as configured, e.g. for the admin endpoint. */
+    public Map<String, Object> snapshot() {
+        Compiled current = compiled;
+        Map<String, Object> roles = new LinkedHashMap<>();
+        for (UserRole role : UserRole.values()) {
+            List<String> grants = new ArrayList<>();
+            for (String grant : current.grants.get(role).split(",")) {
+                if (!grant.isBlank()) {
+                    grants.add(grant.trim());
+                }
+            }
+            roles.put(role.name(), grants);
+        }
+        return roles;
+    }
+
+    private static Compiled compile(Map<UserRole, String> grants) {
+        long[] bits = new long[UserRole.values().length * SLOTS];
+        for (Map.Entry<UserRole, String> entry : grants.entrySet()) {
+            int base = entry.getKey().ordinal() * SLOTS;
+            for (String grant : entry.getValue().split(",")) {
+                grant = grant.trim();
+                if (grant.isEmpty()) {
+                    continue;
+                }
+                int at = grant.indexOf('@');
+                SecurityOperation operation = SecurityOperation.valueOf(at < 0 ? grant : grant.substring(0, at).trim());
+                long bit = 1L << operation.ordinal();
+                if (at < 0) {
+                    for (int slot = 0; slot < SLOTS; slot++) {
+                        bits[base + slot] |= bit;
+                    }
+                } else {
+                    bits[base + SecuredResource.valueOf(grant.substring(at + 1).trim()).ordinal()] |= bit;
+                }
+            }
+        }
+        return new Compiled(bits, new EnumMap<>(grants));
+    }
+
+    private static final class Compiled {
+        final long[] bits;
+        final Map<UserRole, String> grants;
+
+        Compiled(long[] bits, Map<UserRole, String> grants) {
+            this.bits = bits;
+            this.grants = grants;
+        }
+    }
+}
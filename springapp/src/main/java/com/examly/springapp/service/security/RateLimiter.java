@@ -0,0 +1,314 @@
+package com.examly.springapp.service.security;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Token-bucket admission control per route and caller (JWT subject or client IP).
+ *
+ * Quotas come from configuration as "[METHOD] pattern=limit/period", first match wins:
+ *
+ *   app.rate-limit.routes=GET /api/players/**=120/60s, GET /api/matches/**=120/60s, POST /api/auth/**=20/60s
+ *   app.rate-limit.default=600/60s        applies to any other /api/** request; "off" disables it
+ *
+ * A bucket holds `limit` tokens and refills evenly over `period`. It is stored as a single
+ * long, the time at which it will be full again (GCRA), and updated with one CAS, so a
+ * request costs a map lookup and no locks or allocation once its caller has a bucket.
+ * Buckets live in a ConcurrentHashMap per route, which is lock-striped by bin. A bucket
+ * that has refilled completely is indistinguishable from a new one, so a daemon sweeper
+ * drops those every app.rate-limit.idle-sweep-seconds. A route that reaches
+ * app.rate-limit.max-keys callers sweeps itself early (at most once a second) to make
+ * room; a new caller that still finds no room is rejected with 429 rather than put in a
+ * bucket shared with others, so a client rotating keys cannot throttle anyone who already
+ * has a bucket, and new callers get in as soon as those one-off keys refill.
+ */
+@Service
+public class RateLimiter {
+
+    private static final AntPathMatcher PATHS = new AntPathMatcher();
+
+    @Value("${app.rate-limit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.rate-limit.routes:}")
+    private String routeSpec;
+
+    @Value("${app.rate-limit.default:600/60s}")
+    private String defaultSpec;
+
+    @Value("${app.rate-limit.max-keys:100000}")
+    private int maxKeys;
+
+    @Value("${app.rate-limit.idle-sweep-seconds:60}")
+    private long idleSweepSeconds;
+
+    private final long origin = System.nanoTime();
+    private final List<Route> routes = new ArrayList<>();
+    private final LongAdder sweptBuckets = new LongAdder();
+
+    private static final long INLINE_SWEEP_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private ScheduledExecutorService sweeper;
+
+    @PostConstruct
+    public void start() {
+        for (String entry : routeSpec.split(",")) {
+            if (!entry.isBlank()) {
+                routes.add(Route.parse(entry.trim()));
+            }
+        }
+        if (!defaultSpec.isBlank() && !"off".equalsIgnoreCase(defaultSpec.trim())) {
+            routes.add(Route.parse("/api/**=" + defaultSpec.trim()));
+        }
+
+        sweeper = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "rate-limit-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sweeper.scheduleAtFixedRate(this::sweepIdle, idleSweepSeconds, idleSweepSeconds, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sweeper.shutdownNow();
+    }
+
+    /**
+     * Takes one token for the caller on the first route matching the request.
+     * Returns null when rate limiting is off or no route applies.
+     */
+    public Decision tryAcquire(String method, String path, String subject, String clientIp) {
+        if (!enabled) {
+            return null;
+        }
+        for (Route route : routes) {
+            if (route.matches(method, path)) {
+                return acquire(route, subject, clientIp, now());
+            }
+        }
+        return null;
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        Map<String, Object> perRoute = new LinkedHashMap<>();
+        long allowed = 0;
+        long rejected = 0;
+        for (Route route : routes) {
+            Map<String, Object> routeStats = new HashMap<>();
+            routeStats.put("limit", route.limit);
+            routeStats.put("periodSeconds", TimeUnit.NANOSECONDS.toSeconds(route.periodNanos));
+            routeStats.put("allowed", route.allowed.sum());
+            routeStats.put("rejected", route.rejected.sum());
+            routeStats.put("shed", route.shed.sum());
+            routeStats.put("subjects", route.subjects.size());
+            routeStats.put("clientIps", route.clientIps.size());
+            perRoute.put(route.name, routeStats);
+            allowed += route.allowed.sum();
+            rejected += route.rejected.sum();
+        }
+        stats.put("enabled", enabled);
+        stats.put("routes", perRoute);
+        stats.put("allowed", allowed);
+        stats.put("rejected", rejected);
+        stats.put("sweptBuckets", sweptBuckets.sum());
+        return stats;
+    }
+
+    private Decision acquire(Route route, String subject, String clientIp, long now) {
+        ConcurrentHashMap<String, Bucket> buckets = subject != null ? route.subjects : route.clientIps;
+        String key = subject != null ? subject : clientIp;
+        Bucket bucket = buckets.get(key);
+        if (bucket == null) {
+            if (buckets.size() >= maxKeys && !makeRoom(route, buckets, now)) {
+                return route.shed();
+            }
+            bucket = buckets.computeIfAbsent(key, k -> new Bucket());
+        }
+        return route.acquire(bucket, now);
+    }
+
+    /** Sweeps a full key table ahead of schedule; only one caller a second pays for the scan. */
+    private boolean makeRoom(Route route, ConcurrentHashMap<String, Bucket> buckets, long now) {
+        long last = route.lastInlineSweep.get();
+        if (now - last >= INLINE_SWEEP_INTERVAL_NANOS && route.lastInlineSweep.compareAndSet(last, now)) {
+            sweep(buckets, now);
+        }
+        return buckets.size() < maxKeys;
+    }
+
+    void sweepIdle() {
+        long now = now();
+        for (Route route : routes) {
+            sweep(route.subjects, now);
+            sweep(route.clientIps, now);
+        }
+    }
+
+    private void sweep(ConcurrentHashMap<String, Bucket> buckets, long now) {
+        // Removing a full bucket is safe even if it is in use: a new one starts full too
+        buckets.values().removeIf(bucket -> {
+            if (bucket.fullAt <= now) {
+                sweptBuckets.increment();
+                return true;
+            }
+            return false;
+        });
+    }
+
+    private long now() {
+        return System.nanoTime() - origin;
+    }
+
+    /** Outcome of one acquire, with what the RateLimit-* response headers need. */
+    public static final class Decision {
+        private final boolean allowed;
+        private final int limit;
+        private final long remaining;
+        private final long resetSeconds;
+        private final long retryAfterSeconds;
+
+        Decision(boolean allowed, int limit, long remaining, long resetSeconds, long retryAfterSeconds) {
+            this.allowed = allowed;
+            this.limit = limit;
+            this.remaining = remaining;
+            this.resetSeconds = resetSeconds;
+            this.retryAfterSeconds = retryAfterSeconds;
+        }
+
+        public boolean isAllowed() {
+            return allowed;
+        }
+
+        public int getLimit() {
+            return limit;
+        }
+
+        public long getRemaining() {
+            return remaining;
+        }
+
+        public long getResetSeconds() {
+            return resetSeconds;
+        }
+
+        public long getRetryAfterSeconds() {
+            return retryAfterSeconds;
+        }
+    }
+
+    private static final class Route {
+        final String name;
+        final String method;
+        final String pattern;
+        final int limit;
+        final long periodNanos;
+        final long intervalNanos;
+        final ConcurrentHashMap<String, Bucket> subjects = new ConcurrentHashMap<>();
+        final ConcurrentHashMap<String, Bucket> clientIps = new ConcurrentHashMap<>();
+        final AtomicLong lastInlineSweep = new AtomicLong(Long.MIN_VALUE / 2);
+        final LongAdder allowed = new LongAdder();
+        final LongAdder rejected = new LongAdder();
+        final LongAdder shed = new LongAdder();
+
+        Route(String name, String method, String pattern, int limit, long periodNanos) {
+            this.name = name;
+            this.method = method;
+            this.pattern = pattern;
+            this.limit = limit;
+            this.periodNanos = periodNanos;
+            this.intervalNanos = Math.max(1, periodNanos / limit);
+        }
+
+        /** "[METHOD ]pattern=limit/period", period like 60s, 5m or 1h. */
+        static Route parse(String spec) {
+            int eq = spec.lastIndexOf('=');
+            int slash = spec.lastIndexOf('/');
+            if (eq < 0 || slash < eq) {
+                throw new IllegalArgumentException("Invalid rate limit route: " + spec);
+            }
+            String target = spec.substring(0, eq).trim();
+            String method = null;
+            int space = target.indexOf(' ');
+            if (space > 0) {
+                method = target.substring(0, space).toUpperCase();
+                target = target.substring(space + 1).trim();
+            }
+            int limit = Integer.parseInt(spec.substring(eq + 1, slash).trim());
+            String period = spec.substring(slash + 1).trim();
+            long amount = Long.parseLong(period.substring(0, period.length() - 1));
+            TimeUnit unit;
+            switch (period.charAt(period.length() - 1)) {
+                case 's': unit = TimeUnit.SECONDS; break;
+                case 'm': unit = TimeUnit.MINUTES; break;
+                case 'h': unit = TimeUnit.HOURS; break;
+                default: throw new IllegalArgumentException("Invalid rate limit period: " + spec);
+            }
+            if (limit <= 0 || amount <= 0) {
+                throw new IllegalArgumentException("Invalid rate limit quota: " + spec);
+            }
+            return new Route(spec.substring(0, eq).trim(), method, target, limit, unit.toNanos(amount));
+        }
+
+        boolean matches(String requestMethod, String path) {
+            return (method == null || method.equals(requestMethod)) && PATHS.match(pattern, path);
+        }
+
+        /** No room for another caller's bucket: turn the new caller away for a second. */
+        Decision shed() {
+            shed.increment();
+            rejected.increment();
+            return new Decision(false, limit, 0, 1, 1);
+        }
+
+        Decision acquire(Bucket bucket, long now) {
+            // GCRA: fullAt - now is the debt; admit while one more interval fits in the burst
+            long capacity = intervalNanos * limit;
+            while (true) {
+                long fullAt = bucket.fullAt;
+                long base = Math.max(fullAt, now);
+                long next = base + intervalNanos;
+                long debt = next - now;
+                if (debt > capacity) {
+                    rejected.increment();
+                    long wait = debt - capacity;
+                    return new Decision(false, limit, 0, seconds(base - now), Math.max(1, seconds(wait)));
+                }
+                if (Bucket.FULL_AT.compareAndSet(bucket, fullAt, next)) {
+                    allowed.increment();
+                    long remaining = (capacity - debt) / intervalNanos;
+                    return new Decision(true, limit, remaining, seconds(debt), 0);
+                }
+            }
+        }
+
+        private static long seconds(long nanos) {
+            return (nanos + 999_999_999L) / 1_000_000_000L;
+        }
+    }
+
+    private static final class Bucket {
+        static final AtomicLongFieldUpdater<Bucket> FULL_AT =
+                AtomicLongFieldUpdater.newUpdater(Bucket.class, "fullAt");
+
+        // 0 is in the past for every caller, i.e. a new bucket starts full
+        volatile long fullAt;
+    }
+}
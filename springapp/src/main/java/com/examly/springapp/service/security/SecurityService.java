@@ -1,24 +1,18 @@
 package com.examly.springapp.service.security;
 
+import com.examly.springapp.configuration.JWTUtil;
 import com.examly.springapp.model.User;
 import com.examly.springapp.model.UserRole;
 import com.examly.springapp.repository.UserRepository;
-import com.examly.springapp.repository.AuditLogRepository;
-import com.examly.springapp.model.AuditLog;
+import com.examly.springapp.service.audit.AuditEvent;
+import com.examly.springapp.service.audit.AuditTrailService;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import javax.crypto.Cipher;
-import javax.crypto.KeyGenerator;
-import javax.crypto.SecretKey;
-import javax.crypto.spec.SecretKeySpec;
-import java.nio.charset.StandardCharsets;
 import java.security.SecureRandom;
-import java.time.LocalDateTime;
-import java.util.Base64;
-import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.regex.Pattern;
 
@@ -29,15 +23,19 @@ public class SecurityService {
     private UserRepository userRepository;
     
     @Autowired
-    private AuditLogRepository auditLogRepository;
+    private AuditTrailService auditTrailService;
+
+    @Autowired
+    private FieldEncryptionEngine fieldEncryptionEngine;
+
+    @Autowired
+    private PermissionMatrix permissionMatrix;
+
+    @Autowired
+    private JWTUtil jwtUtil;
     
-    private final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder(12);
     private final SecureRandom secureRandom = new SecureRandom();
     
-    // Encryption key for sensitive data
-    private static final String ENCRYPTION_ALGORITHM = "AES";
-    private static final String SECRET_KEY = "FIFA2024TournamentSecurityKey"; // In production, use environment variable
-    
     // Input validation patterns
     private static final Pattern EMAIL_PATTERN = Pattern.compile("^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$");
     private static final Pattern PASSWORD_PATTERN = Pattern.compile("^(?=.*[a-z])(?=.*[A-Z])(?=.*\\d)(?=.*[@$!%*?&])[A-Za-z\\d@$!%*?&]{8,}$");
@@ -59,20 +57,20 @@ public class SecurityService {
                 return false;
             }
             
-            // Validate token format and signature
-            if (!isValidJWTFormat(token)) {
-                logSecurityEvent("INVALID_TOKEN_FORMAT", "Malformed JWT token", "HIGH");
-                return false;
-            }
-            
-            // Check token expiration
-            if (isTokenExpired(token)) {
+            // One signature/expiry check, shared with request authentication via JWTUtil's cache
+            List<String> roles;
+            try {
+                roles = jwtUtil.extractRoles(token);
+            } catch (ExpiredJwtException e) {
                 logSecurityEvent("TOKEN_EXPIRED", "JWT token has expired", "MEDIUM");
                 return false;
+            } catch (JwtException | IllegalArgumentException e) {
+                logSecurityEvent("INVALID_TOKEN_FORMAT", "Malformed JWT token", "HIGH");
+                return false;
             }
             
             // Validate role-based access
-            if (!hasRequiredRole(token, requiredRole)) {
+            if (requiredRole == null || !roles.contains("ROLE_" + requiredRole.name())) {
                 logSecurityEvent("INSUFFICIENT_PERMISSIONS", 
                     "User lacks required role: " + requiredRole, "HIGH");
                 return false;
@@ -90,17 +88,14 @@ public class SecurityService {
      */
     public boolean authorizeOperation(UserRole userRole, String operation, String resource) {
         try {
-            // Define role-based permissions matrix
-            Map<String, String[]> rolePermissions = getRolePermissions();
-            
-            String[] allowedOperations = rolePermissions.get(userRole.name());
-            if (allowedOperations == null) {
+            if (userRole == null) {
                 logSecurityEvent("UNAUTHORIZED_ACCESS", 
-                    "Unknown role attempting operation: " + userRole, "HIGH");
+                    "Unknown role attempting operation: " + operation, "HIGH");
                 return false;
             }
             
-            boolean isAuthorized = java.util.Arrays.asList(allowedOperations).contains(operation);
+            // Compiled role x resource x operation bitset (PermissionMatrix)
+            boolean isAuthorized = permissionMatrix.isAllowed(userRole, operation, resource);
             
             if (!isAuthorized) {
                 logSecurityEvent("UNAUTHORIZED_OPERATION", 
@@ -114,43 +109,65 @@ public class SecurityService {
         }
     }
 
+    /**
+     * Evaluates many checks at once; one summary audit event instead of one per denial.
+     */
+    public boolean[] authorizeOperations(List<Map<String, String>> checks) {
+        boolean[] results = new boolean[checks.size()];
+        int denied = 0;
+        for (int i = 0; i < results.length; i++) {
+            Map<String, String> check = checks.get(i);
+            results[i] = permissionMatrix.isAllowed(
+                PermissionMatrix.role(check.get("role")), check.get("operation"), check.get("resource"));
+            if (!results[i]) {
+                denied++;
+            }
+        }
+        if (denied > 0) {
+            logSecurityEvent("UNAUTHORIZED_OPERATION", 
+                denied + " of " + results.length + " batched permission checks denied", "MEDIUM");
+        }
+        return results;
+    }
+
     /**
      * Data protection: Encryption at rest and in transit for sensitive tournament data
+     * (AES-GCM via FieldEncryptionEngine; key from app.security.field-encryption.key)
      */
     public String encryptSensitiveData(String data) {
         try {
-            if (data == null || data.isEmpty()) {
-                return data;
-            }
-            
-            SecretKeySpec secretKey = new SecretKeySpec(SECRET_KEY.getBytes(), ENCRYPTION_ALGORITHM);
-            Cipher cipher = Cipher.getInstance(ENCRYPTION_ALGORITHM);
-            cipher.init(Cipher.ENCRYPT_MODE, secretKey);
-            
-            byte[] encryptedData = cipher.doFinal(data.getBytes(StandardCharsets.UTF_8));
-            return Base64.getEncoder().encodeToString(encryptedData);
-        } catch (Exception e) {
+            return fieldEncryptionEngine.encrypt(data);
+        } catch (RuntimeException e) {
+            // The engine's exception already says what failed; log it and let it through
             logSecurityEvent("ENCRYPTION_ERROR", "Failed to encrypt sensitive data: " + e.getMessage(), "CRITICAL");
-            throw new RuntimeException("Encryption failed", e);
+            throw e;
+        }
+    }
+
+    public List<String> encryptSensitiveData(List<String> values) {
+        try {
+            return fieldEncryptionEngine.encryptAll(values);
+        } catch (RuntimeException e) {
+            logSecurityEvent("ENCRYPTION_ERROR", "Failed to encrypt sensitive data: " + e.getMessage(), "CRITICAL");
+            throw e;
+        }
+    }
+
+    public List<String> decryptSensitiveData(List<String> values) {
+        try {
+            return fieldEncryptionEngine.decryptAll(values);
+        } catch (RuntimeException e) {
+            logSecurityEvent("DECRYPTION_ERROR", "Failed to decrypt sensitive data: " + e.getMessage(), "CRITICAL");
+            throw e;
         }
     }
 
     public String decryptSensitiveData(String encryptedData) {
         try {
-            if (encryptedData == null || encryptedData.isEmpty()) {
-                return encryptedData;
-            }
-            
-            SecretKeySpec secretKey = new SecretKeySpec(SECRET_KEY.getBytes(), ENCRYPTION_ALGORITHM);
-            Cipher cipher = Cipher.getInstance(ENCRYPTION_ALGORITHM);
-            cipher.init(Cipher.DECRYPT_MODE, secretKey);
-            
-            byte[] decodedData = Base64.getDecoder().decode(encryptedData);
-            byte[] decryptedData = cipher.doFinal(decodedData);
-            return new String(decryptedData, StandardCharsets.UTF_8);
-        } catch (Exception e) {
+            return fieldEncryptionEngine.decrypt(encryptedData);
+        } catch (RuntimeException e) {
             logSecurityEvent("DECRYPTION_ERROR", "Failed to decrypt sensitive data: " + e.getMessage(), "CRITICAL");
-            throw new RuntimeException("Decryption failed", e);
+            throw e;
         }
     }
 
@@ -231,21 +248,14 @@ public class SecurityService {
     }
 
     /**
-     * Audit trail: Complete logging of security-relevant events
+     * Audit trail: Complete logging of security-relevant events.
+     * Buffered and written in batches by AuditTrailService, off the request thread.
      */
-    @Transactional
     public void logSecurityEvent(String eventType, String description, String severity) {
         try {
-            AuditLog auditLog = new AuditLog();
-            auditLog.setAction(eventType);
-            auditLog.setEntityType("SECURITY");
-            auditLog.setDescription(description);
-            auditLog.setTimestamp(LocalDateTime.now());
-            auditLog.setSeverity(severity);
-            
-            auditLogRepository.save(auditLog);
+            auditTrailService.record(AuditEvent.of(eventType, "SECURITY", description, severity));
         } catch (Exception e) {
-            // Log to system log if database logging fails
+            // Log to system log if the audit pipeline is unavailable
             System.err.println("Failed to log security event: " + e.getMessage());
         }
     }
@@ -273,47 +283,6 @@ public class SecurityService {
     }
 
     // Helper methods
-    private boolean isValidJWTFormat(String token) {
-        return token.split("\\.").length == 3;
-    }
-
-    private boolean isTokenExpired(String token) {
-        // Implement JWT expiration check
-        return false; // Simplified for example
-    }
-
-    private boolean hasRequiredRole(String token, UserRole requiredRole) {
-        // Implement role extraction from JWT
-        return true; // Simplified for example
-    }
-
-    private Map<String, String[]> getRolePermissions() {
-        Map<String, String[]> permissions = new HashMap<>();
-        
-        permissions.put("FIFA_ADMIN", new String[]{
-            "CREATE", "READ", "UPDATE", "DELETE", "MANAGE_USERS", "MANAGE_TOURNAMENTS", 
-            "VIEW_ANALYTICS", "MANAGE_SECURITY", "AUDIT_LOGS"
-        });
-        
-        permissions.put("TOURNAMENT_DIRECTOR", new String[]{
-            "READ", "UPDATE", "MANAGE_TOURNAMENTS", "MANAGE_MATCHES", "VIEW_ANALYTICS"
-        });
-        
-        permissions.put("TEAM_MANAGER", new String[]{
-            "READ", "UPDATE", "MANAGE_TEAM", "MANAGE_PLAYERS"
-        });
-        
-        permissions.put("COACH", new String[]{
-            "READ", "UPDATE", "MANAGE_PLAYERS", "VIEW_TACTICS"
-        });
-        
-        permissions.put("PLAYER", new String[]{
-            "READ", "UPDATE_PROFILE"
-        });
-        
-        return permissions;
-    }
-
     private String sanitizeInput(String input) {
         // Remove potentially dangerous characters
         return input.replaceAll("[<>\"'&]", "")
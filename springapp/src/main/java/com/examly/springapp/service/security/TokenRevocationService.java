@@ -0,0 +1,237 @@
+package com.examly.springapp.service.security;
+
+import com.examly.springapp.configuration.BloomFilter;
+import com.examly.springapp.model.RevokedToken;
+import com.examly.springapp.model.Session;
+import com.examly.springapp.model.User;
+import com.examly.springapp.repository.RevokedTokenRepository;
+import com.examly.springapp.repository.SessionRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Server-side sessions and revocation of issued JWTs before their "exp".
+ *
+ * Every login records a Session row keyed by the token's jti. Logout, a password change
+ * or an admin kill marks rows inactive, writes the jti to revoked_tokens and adds it to an
+ * in-memory exact map (jti -> expiry) fronted by a Bloom filter. SecurityConfig's JwtDecoder asks
+ * isRevoked() on every request: almost every token is not revoked, which the filter
+ * answers from a few bit reads, and a "maybe" is settled by the exact map, so neither
+ * case touches the database.
+ *
+ * Both structures are rebuilt from revoked_tokens at startup and every
+ * app.security.revocation.refresh-seconds, which picks up revocations made on other
+ * instances and lets expired entries (and their filter bits) fall away. revoked_tokens
+ * has no foreign key to users, so revocations survive the session rows that cascade away
+ * when a user is deleted.
+ */
+@Service
+public class TokenRevocationService {
+
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    @Autowired
+    private SessionRepository sessionRepository;
+
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @Value("${app.security.revocation.expected-revocations:100000}")
+    private int expectedRevocations;
+
+    @Value("${app.security.revocation.false-positive-rate:0.001}")
+    private double falsePositiveRate;
+
+    @Value("${app.security.revocation.refresh-seconds:30}")
+    private long refreshSeconds;
+
+    // Set by rebuild() at startup, then swapped whole by every refresh
+    private volatile Index index;
+
+    private final LongAdder checks = new LongAdder();
+    private final LongAdder filterMaybes = new LongAdder();
+    private final LongAdder revokedHits = new LongAdder();
+    private final LongAdder revocations = new LongAdder();
+    private volatile LocalDateTime lastRebuild;
+    private volatile LocalDateTime lastPurge = LocalDateTime.now();
+
+    private ScheduledExecutorService refresher;
+
+    @PostConstruct
+    public void start() {
+        rebuild();
+        refresher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "token-revocation-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        refresher.scheduleWithFixedDelay(this::refresh, refreshSeconds, refreshSeconds, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdownNow();
+    }
+
+    /** Hot path: no locks and no database access. Tokens without a jti cannot be revoked. */
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null) {
+            return false;
+        }
+        checks.increment();
+        Index current = index;
+        if (!current.filter.mightContain(tokenId)) {
+            return false;
+        }
+        filterMaybes.increment();
+        Long expiresAt = current.revoked.get(tokenId);
+        if (expiresAt != null && expiresAt > System.currentTimeMillis()) {
+            revokedHits.increment();
+            return true;
+        }
+        return false;
+    }
+
+    /** Records the session for a newly issued token. */
+    public void recordSession(User user, String tokenId, Instant expiresAt) {
+        sessionRepository.save(new Session(user, tokenId, LocalDateTime.ofInstant(expiresAt, ZONE)));
+    }
+
+    /** Logout: revokes the presented token. */
+    public void revoke(String tokenId, Instant expiresAt) {
+        Session session = sessionRepository.findBySessionToken(tokenId).orElse(null);
+        Long userId = null;
+        if (session != null) {
+            session.setIsActive(false);
+            sessionRepository.save(session);
+            userId = session.getUser() != null ? session.getUser().getId() : null;
+        }
+        persist(tokenId, userId, LocalDateTime.ofInstant(expiresAt, ZONE));
+    }
+
+    /** Admin kill of one session by its id; false when it does not exist. */
+    public boolean revokeSession(Long sessionId) {
+        Session session = sessionRepository.findById(sessionId).orElse(null);
+        if (session == null) {
+            return false;
+        }
+        deactivate(session);
+        return true;
+    }
+
+    /** Revokes every live session of a user (password change, admin kill, account removal). */
+    public int revokeAllForUser(Long userId) {
+        List<Session> live = sessionRepository.findLiveByUserId(userId, LocalDateTime.now());
+        for (Session session : live) {
+            deactivate(session);
+        }
+        return live.size();
+    }
+
+    public Map<String, Object> getStats() {
+        Index current = index;
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("revokedTokens", current.revoked.size());
+        stats.put("checks", checks.sum());
+        stats.put("filterMaybes", filterMaybes.sum());
+        stats.put("revokedHits", revokedHits.sum());
+        // Filter said "maybe" but the exact map did not have a live entry
+        stats.put("falsePositives", filterMaybes.sum() - revokedHits.sum());
+        stats.put("revocations", revocations.sum());
+        stats.put("filter", current.filter.snapshot());
+        stats.put("lastRebuild", lastRebuild != null ? lastRebuild.toString() : null);
+        return stats;
+    }
+
+    private void deactivate(Session session) {
+        session.setIsActive(false);
+        sessionRepository.save(session);
+        if (session.getExpiryDate() != null) {
+            persist(session.getSessionToken(), session.getUser() != null ? session.getUser().getId() : null,
+                    session.getExpiryDate());
+        }
+    }
+
+    // The row is what other instances (and this one after a restart) rebuild from
+    private void persist(String tokenId, Long userId, LocalDateTime expiresAt) {
+        if (!expiresAt.isAfter(LocalDateTime.now())) {
+            return; // already unusable
+        }
+        revokedTokenRepository.save(new RevokedToken(tokenId, userId, expiresAt));
+        add(tokenId, expiresAt.atZone(ZONE).toInstant().toEpochMilli());
+    }
+
+    private synchronized void add(String tokenId, long expiresAtMs) {
+        Index current = index;
+        current.revoked.put(tokenId, expiresAtMs);
+        current.filter.put(tokenId);
+        revocations.increment();
+    }
+
+    private void refresh() {
+        try {
+            rebuild();
+            // Sessions a day past expiry are no longer useful for anything; revocations of
+            // expired tokens protect nothing
+            if (lastPurge.isBefore(LocalDateTime.now().minusHours(1))) {
+                sessionRepository.deleteExpiredBefore(LocalDateTime.now().minusDays(1));
+                revokedTokenRepository.deleteExpiredBefore(LocalDateTime.now());
+                lastPurge = LocalDateTime.now();
+            }
+        } catch (Exception e) {
+            System.err.println("Token revocation refresh failed: " + e.getMessage());
+        }
+    }
+
+    private void rebuild() {
+        List<RevokedToken> rows = revokedTokenRepository.findUnexpired(LocalDateTime.now());
+        long now = System.currentTimeMillis();
+        synchronized (this) {
+            ConcurrentHashMap<String, Long> revoked = new ConcurrentHashMap<>();
+            for (RevokedToken row : rows) {
+                revoked.put(row.getTokenId(), row.getExpiresAt().atZone(ZONE).toInstant().toEpochMilli());
+            }
+            // Added here between the query and the swap
+            if (index != null) {
+                index.revoked.forEach((tokenId, expiresAt) -> {
+                    if (expiresAt > now) {
+                        revoked.putIfAbsent(tokenId, expiresAt);
+                    }
+                });
+            }
+            index = new Index(revoked, newFilter(revoked));
+        }
+        lastRebuild = LocalDateTime.now();
+    }
+
+    private BloomFilter newFilter(Map<String, Long> revoked) {
+        BloomFilter filter = new BloomFilter(Math.max(expectedRevocations, revoked.size() * 2), falsePositiveRate);
+        revoked.keySet().forEach(filter::put);
+        return filter;
+    }
+
+    private static final class Index {
+        final ConcurrentHashMap<String, Long> revoked;
+        final BloomFilter filter;
+
+        Index(ConcurrentHashMap<String, Long> revoked, BloomFilter filter) {
+            this.revoked = revoked;
+            this.filter = filter;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.examly.springapp.service.security;
+
+import com.examly.springapp.configuration.CacheConfiguration;
+import com.examly.springapp.configuration.JWTUtil;
+import com.examly.springapp.dto.UserPrincipal;
+import com.examly.springapp.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.InvalidBearerTokenException;
+import org.springframework.stereotype.Service;
+
+/**
+ * Resolves the authenticated caller from the bearer token.
+ *
+ * Tokens issued by AuthService.authenticate carry the user id, role and team as
+ * claims, so the common case needs no database access. Older tokens (and any other
+ * issuer) fall back to a username lookup cached in the "principals" cache, which
+ * AuthService evicts whenever it changes or deletes a user.
+ *
+ * Claim-carrying tokens of a deleted user are not checked here: deleting a user revokes
+ * all of its tokens (TokenRevocationService), so they are refused before any handler
+ * runs; other instances pick that up within app.security.revocation.refresh-seconds.
+ */
+@Service
+public class UserPrincipalService {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    public Long userId(Jwt jwt) {
+        Object claim = jwt.getClaim(JWTUtil.USER_ID_CLAIM);
+        if (claim instanceof Number) {
+            return ((Number) claim).longValue();
+        }
+        return resolve(jwt.getSubject()).getId();
+    }
+
+    public UserPrincipal resolve(String username) {
+        Cache cache = principals();
+        UserPrincipal cached = cache.get(username, UserPrincipal.class);
+        if (cached != null) {
+            return cached;
+        }
+        // The account was deleted or renamed after the token was issued: 401, not a 500
+        UserPrincipal principal = userRepository.findByUsername(username)
+                .map(UserPrincipal::of)
+                .orElseThrow(() -> new InvalidBearerTokenException("Token subject no longer exists"));
+        cache.put(username, principal);
+        return principal;
+    }
+
+    public void invalidate(String username) {
+        if (username != null) {
+            principals().evict(username);
+        }
+    }
+
+    public void invalidateAll() {
+        principals().clear();
+    }
+
+    private Cache principals() {
+        return cacheManager.getCache(CacheConfiguration.PRINCIPALS);
+    }
+}
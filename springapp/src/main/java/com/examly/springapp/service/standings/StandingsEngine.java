@@ -0,0 +1,292 @@
+package com.examly.springapp.service.standings;
+
+import com.examly.springapp.model.Match;
+import com.examly.springapp.model.MatchStatus;
+import com.examly.springapp.repository.MatchRepository;
+import com.examly.springapp.repository.TournamentRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Materialized group tables per tournament.
+ *
+ * A tournament's table is built once, on first read, from a single projection query
+ * over its completed matches. After that MatchService pushes every result change in
+ * through recordResult, so reads only sort the (already cached) rows of each group and
+ * never go back to the matches table.
+ *
+ * Grouping uses Match.round: rounds starting with "Group" form their own table, matches
+ * without a round go into a single "League" table, and any other round (Round of 16,
+ * Final, ...) is knockout and does not count towards standings.
+ *
+ * Ranking: points (3/1/0), goal difference, goals scored, then head-to-head points and
+ * goal difference among the teams still level, then wins, then team name.
+ *
+ * Results are tracked per match id, so applying the same result twice (or a corrected
+ * score) replaces the earlier one instead of counting it again.
+ */
+@Service
+public class StandingsEngine {
+
+    static final String LEAGUE_GROUP = "League";
+
+    @Autowired
+    private MatchRepository matchRepository;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    private final Map<Long, TournamentTable> tables = new ConcurrentHashMap<>();
+
+    /** The tournament's tables, or null when there is no such tournament. */
+    public Map<String, Object> getStandings(Long tournamentId) {
+        TournamentTable table = tables.get(tournamentId);
+        if (table == null) {
+            // Any id can be asked for through the public GET; only real tournaments get a table
+            if (!tournamentRepository.existsById(tournamentId)) {
+                return null;
+            }
+            table = tables.computeIfAbsent(tournamentId, id -> new TournamentTable());
+        }
+        Map<String, Object> snapshot = table.snapshot;
+        if (snapshot != null) {
+            return snapshot;
+        }
+        synchronized (table) {
+            if (!table.loaded) {
+                load(tournamentId, table);
+            }
+            if (table.snapshot == null) {
+                table.snapshot = table.render(tournamentId);
+            }
+            return table.snapshot;
+        }
+    }
+
+    /**
+     * Record the current result of a match whose teams (and tournament) are loaded.
+     * Call after the match has been saved.
+     */
+    public void recordResult(Match match) {
+        if (match.getTournament() == null) {
+            return;
+        }
+        TournamentTable table = tables.get(match.getTournament().getId());
+        if (table == null) {
+            return;
+        }
+        synchronized (table) {
+            // Not loaded yet: the pending load will read this result from the database
+            if (!table.loaded) {
+                return;
+            }
+            table.retract(match.getId());
+            if (match.getStatus() == MatchStatus.COMPLETED) {
+                String group = groupOf(match.getRound());
+                if (group != null) {
+                    table.apply(new AppliedResult(match.getId(), group,
+                            match.getHomeTeam().getId(), match.getHomeTeam().getTeamName(),
+                            match.getAwayTeam().getId(), match.getAwayTeam().getTeamName(),
+                            scoreOf(match.getHomeScore()), scoreOf(match.getAwayScore())));
+                }
+            }
+            table.snapshot = null;
+        }
+    }
+
+    /** Remove a match's result wherever it was counted (e.g. the match was deleted). */
+    public void forgetMatch(Long matchId) {
+        for (TournamentTable table : tables.values()) {
+            synchronized (table) {
+                if (table.retract(matchId)) {
+                    table.snapshot = null;
+                }
+            }
+        }
+    }
+
+    /** Drop a tournament's table; it is rebuilt from the database on the next read. */
+    public void evict(Long tournamentId) {
+        tables.remove(tournamentId);
+    }
+
+    private void load(Long tournamentId, TournamentTable table) {
+        for (Object[] row : matchRepository.findCompletedResultsByTournament(tournamentId)) {
+            String group = groupOf((String) row[1]);
+            if (group == null) {
+                continue;
+            }
+            table.apply(new AppliedResult((Long) row[0], group,
+                    (Long) row[2], (String) row[3],
+                    (Long) row[4], (String) row[5],
+                    scoreOf((Integer) row[6]), scoreOf((Integer) row[7])));
+        }
+        table.loaded = true;
+    }
+
+    static String groupOf(String round) {
+        if (round == null || round.isBlank()) {
+            return LEAGUE_GROUP;
+        }
+        return round.trim().toLowerCase().startsWith("group") ? round.trim() : null;
+    }
+
+    private static int scoreOf(Integer score) {
+        return score == null ? 0 : score;
+    }
+
+    private static final class AppliedResult {
+        final Long matchId;
+        final String group;
+        final Long homeTeamId;
+        final String homeTeamName;
+        final Long awayTeamId;
+        final String awayTeamName;
+        final int homeScore;
+        final int awayScore;
+
+        AppliedResult(Long matchId, String group, Long homeTeamId, String homeTeamName,
+                      Long awayTeamId, String awayTeamName, int homeScore, int awayScore) {
+            this.matchId = matchId;
+            this.group = group;
+            this.homeTeamId = homeTeamId;
+            this.homeTeamName = homeTeamName;
+            this.awayTeamId = awayTeamId;
+            this.awayTeamName = awayTeamName;
+            this.homeScore = homeScore;
+            this.awayScore = awayScore;
+        }
+    }
+
+    /** All state is guarded by the table's monitor except the volatile snapshot. */
+    private static final class TournamentTable {
+        boolean loaded;
+        volatile Map<String, Object> snapshot;
+        final Map<Long, AppliedResult> results = new HashMap<>();
+        final Map<String, Map<Long, TeamStanding>> groups = new TreeMap<>();
+
+        void apply(AppliedResult result) {
+            retract(result.matchId);
+            Map<Long, TeamStanding> group = groups.computeIfAbsent(result.group, g -> new LinkedHashMap<>());
+            group.computeIfAbsent(result.homeTeamId, id -> new TeamStanding(id, result.homeTeamName))
+                    .apply(result.homeScore, result.awayScore, 1);
+            group.computeIfAbsent(result.awayTeamId, id -> new TeamStanding(id, result.awayTeamName))
+                    .apply(result.awayScore, result.homeScore, 1);
+            results.put(result.matchId, result);
+        }
+
+        boolean retract(Long matchId) {
+            AppliedResult previous = results.remove(matchId);
+            if (previous == null) {
+                return false;
+            }
+            Map<Long, TeamStanding> group = groups.get(previous.group);
+            retractFrom(group, previous.homeTeamId, previous.homeScore, previous.awayScore);
+            retractFrom(group, previous.awayTeamId, previous.awayScore, previous.homeScore);
+            if (group.isEmpty()) {
+                groups.remove(previous.group);
+            }
+            return true;
+        }
+
+        private void retractFrom(Map<Long, TeamStanding> group, Long teamId, int scored, int conceded) {
+            TeamStanding standing = group.get(teamId);
+            standing.apply(scored, conceded, -1);
+            if (standing.isEmpty()) {
+                group.remove(teamId);
+            }
+        }
+
+        Map<String, Object> render(Long tournamentId) {
+            Map<String, Object> rendered = new LinkedHashMap<>();
+            for (Map.Entry<String, Map<Long, TeamStanding>> entry : groups.entrySet()) {
+                List<TeamStanding> ranked = rank(entry.getKey(), entry.getValue().values());
+                List<Map<String, Object>> rows = new ArrayList<>(ranked.size());
+                for (int i = 0; i < ranked.size(); i++) {
+                    rows.add(ranked.get(i).toMap(i + 1));
+                }
+                rendered.put(entry.getKey(), rows);
+            }
+            Map<String, Object> standings = new HashMap<>();
+            standings.put("tournamentId", tournamentId);
+            standings.put("groups", rendered);
+            standings.put("matchesCounted", results.size());
+            standings.put("generatedAt", LocalDateTime.now());
+            return Collections.unmodifiableMap(standings);
+        }
+
+        private List<TeamStanding> rank(String group, Iterable<TeamStanding> standings) {
+            List<TeamStanding> ranked = new ArrayList<>();
+            standings.forEach(ranked::add);
+            Comparator<TeamStanding> overall = Comparator
+                    .comparingInt(TeamStanding::getPoints)
+                    .thenComparingInt(TeamStanding::getGoalDifference)
+                    .thenComparingInt(TeamStanding::getGoalsFor)
+                    .reversed();
+            ranked.sort(overall);
+
+            // Break remaining ties on the matches played among the tied teams only
+            int start = 0;
+            while (start < ranked.size()) {
+                int end = start + 1;
+                while (end < ranked.size() && overall.compare(ranked.get(start), ranked.get(end)) == 0) {
+                    end++;
+                }
+                if (end - start > 1) {
+                    List<TeamStanding> tied = ranked.subList(start, end);
+                    Map<Long, int[]> headToHead = headToHead(group, tied);
+                    tied.sort(Comparator
+                            .comparingInt((TeamStanding s) -> headToHead.get(s.getTeamId())[0])
+                            .thenComparingInt(s -> headToHead.get(s.getTeamId())[1])
+                            .thenComparingInt(TeamStanding::getWins)
+                            .reversed()
+                            .thenComparing(TeamStanding::getTeamName, Comparator.nullsLast(String::compareTo)));
+                }
+                start = end;
+            }
+            return ranked;
+        }
+
+        /** teamId -> [points, goal difference] from matches between the given teams. */
+        private Map<Long, int[]> headToHead(String group, List<TeamStanding> tied) {
+            Set<Long> ids = new HashSet<>();
+            Map<Long, int[]> table = new HashMap<>();
+            for (TeamStanding standing : tied) {
+                ids.add(standing.getTeamId());
+                table.put(standing.getTeamId(), new int[2]);
+            }
+            for (AppliedResult result : results.values()) {
+                if (!result.group.equals(group)
+                        || !ids.contains(result.homeTeamId) || !ids.contains(result.awayTeamId)) {
+                    continue;
+                }
+                int[] home = table.get(result.homeTeamId);
+                int[] away = table.get(result.awayTeamId);
+                home[1] += result.homeScore - result.awayScore;
+                away[1] += result.awayScore - result.homeScore;
+                if (result.homeScore > result.awayScore) {
+                    home[0] += 3;
+                } else if (result.homeScore < result.awayScore) {
+                    away[0] += 3;
+                } else {
+                    home[0]++;
+                    away[0]++;
+                }
+            }
+            return table;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.examly.springapp.service.standings;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Mutable table row for one team in one group. Only touched while the owning
+ * tournament table is locked by StandingsEngine.
+ */
+class TeamStanding {
+
+    private final Long teamId;
+    private final String teamName;
+    private int played;
+    private int wins;
+    private int draws;
+    private int losses;
+    private int goalsFor;
+    private int goalsAgainst;
+
+    TeamStanding(Long teamId, String teamName) {
+        this.teamId = teamId;
+        this.teamName = teamName;
+    }
+
+    /** Apply (sign = 1) or retract (sign = -1) a result from this team's point of view. */
+    void apply(int scored, int conceded, int sign) {
+        played += sign;
+        goalsFor += sign * scored;
+        goalsAgainst += sign * conceded;
+        if (scored > conceded) {
+            wins += sign;
+        } else if (scored == conceded) {
+            draws += sign;
+        } else {
+            losses += sign;
+        }
+    }
+
+    boolean isEmpty() {
+        return played == 0;
+    }
+
+    Long getTeamId() {
+        return teamId;
+    }
+
+    String getTeamName() {
+        return teamName;
+    }
+
+    int getPoints() {
+        return wins * 3 + draws;
+    }
+
+    int getGoalDifference() {
+        return goalsFor - goalsAgainst;
+    }
+
+    int getGoalsFor() {
+        return goalsFor;
+    }
+
+    int getWins() {
+        return wins;
+    }
+
+    Map<String, Object> toMap(int position) {
+        Map<String, Object> row = new HashMap<>();
+        row.put("position", position);
+        row.put("teamId", teamId);
+        row.put("teamName", teamName);
+        row.put("played", played);
+        row.put("wins", wins);
+        row.put("draws", draws);
+        row.put("losses", losses);
+        row.put("goalsFor", goalsFor);
+        row.put("goalsAgainst", goalsAgainst);
+        row.put("goalDifference", getGoalDifference());
+        row.put("points", getPoints());
+        return row;
+    }
+}
@@ -0,0 +1,330 @@
+package com.examly.springapp.service.waitingroom;
+
+import com.examly.springapp.exception.NotAdmittedException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Virtual waiting room for high-demand on-sales.
+ *
+ * An admin opens a room for a match with an admission rate. While it is open, buyers
+ * join() and get a signed position token: HMAC-SHA256 over (match, room, username,
+ * sequence), so it cannot be forged, moved to another account or reused in a later room.
+ * Every TICK_MS the room advances its "admitted through" sequence by admitPerSecond, never
+ * past the last position handed out. A token whose sequence is admitted may book
+ * (requireAdmission) for app.waiting-room.admission-ttl-seconds from its first use, so at
+ * most rate x ttl buyers are in the booking flow at once.
+ *
+ * join() is idempotent per user and status() only verifies the token against in-memory
+ * counters: polling never touches the database. Rooms live in this instance's memory,
+ * like the seat inventory they protect.
+ *
+ * app.waiting-room.secret is required unless the dev or test profile is active; without
+ * it there a random secret is generated, which is enough since rooms do not outlive the
+ * process either.
+ */
+@Service
+public class WaitingRoomService {
+
+    private static final long TICK_MS = 100;
+
+    @Autowired
+    private Environment environment;
+
+    @Value("${app.waiting-room.secret:}")
+    private String secret;
+
+    @Value("${app.waiting-room.default-admit-per-second:50}")
+    private double defaultAdmitPerSecond;
+
+    @Value("${app.waiting-room.max-admit-per-second:1000}")
+    private double maxAdmitPerSecond;
+
+    @Value("${app.waiting-room.admission-ttl-seconds:600}")
+    private long admissionTtlSeconds;
+
+    @Value("${app.waiting-room.max-queue-size:500000}")
+    private int maxQueueSize;
+
+    private SecretKeySpec key;
+    private ThreadLocal<Mac> macs;
+
+    private final ConcurrentHashMap<Long, Room> rooms = new ConcurrentHashMap<>();
+    private final LongAdder invalidTokens = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private ScheduledExecutorService ticker;
+
+    @PostConstruct
+    public void start() throws GeneralSecurityException {
+        byte[] keyBytes;
+        if (secret.isBlank()) {
+            if (!environment.acceptsProfiles(Profiles.of("dev", "test"))) {
+                // A committed or guessable secret lets anyone mint an admitted position
+                throw new IllegalStateException("app.waiting-room.secret must be set outside the dev and test profiles");
+            }
+            keyBytes = new byte[32];
+            new SecureRandom().nextBytes(keyBytes);
+            System.err.println("app.waiting-room.secret not set: generated a temporary secret");
+        } else {
+            keyBytes = MessageDigest.getInstance("SHA-256").digest(secret.getBytes(StandardCharsets.UTF_8));
+        }
+        key = new SecretKeySpec(keyBytes, "HmacSHA256");
+        macs = ThreadLocal.withInitial(() -> {
+            try {
+                Mac mac = Mac.getInstance("HmacSHA256");
+                mac.init(key);
+                return mac;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("HmacSHA256 not available", e);
+            }
+        });
+        ticker = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "waiting-room-admission");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(this::admit, TICK_MS, TICK_MS, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        ticker.shutdownNow();
+    }
+
+    /** Opens a room for the match, or changes the rate of the open one. */
+    public Map<String, Object> open(Long matchId, Double admitPerSecond) {
+        double rate = admitPerSecond != null ? admitPerSecond : defaultAdmitPerSecond;
+        if (!isValidRate(rate)) {
+            throw new IllegalArgumentException("admitPerSecond must be above 0 and at most " + maxAdmitPerSecond);
+        }
+        Room room = rooms.computeIfAbsent(matchId, id -> new Room(id, System.currentTimeMillis()));
+        room.admitPerSecond = rate;
+        return room.snapshot();
+    }
+
+    /** Positive and at most app.waiting-room.max-admit-per-second; a huge rate would open the gate entirely. */
+    public boolean isValidRate(double admitPerSecond) {
+        return admitPerSecond > 0 && admitPerSecond <= maxAdmitPerSecond;
+    }
+
+    public double getMaxAdmitPerSecond() {
+        return maxAdmitPerSecond;
+    }
+
+    /** Closes the room: booking for the match is no longer gated. */
+    public boolean close(Long matchId) {
+        return rooms.remove(matchId) != null;
+    }
+
+    public boolean isOpen(Long matchId) {
+        return matchId != null && rooms.containsKey(matchId);
+    }
+
+    /** Places the user in the queue (or returns their existing place) with a signed token. */
+    public Map<String, Object> join(Long matchId, String username) {
+        Room room = rooms.get(matchId);
+        if (room == null) {
+            Map<String, Object> result = new HashMap<>();
+            result.put("matchId", matchId);
+            result.put("open", false);
+            return result;
+        }
+        Long sequence = room.positions.get(username);
+        Long firstUse = sequence == null ? null : room.firstUse.get(sequence);
+        if (firstUse != null && System.currentTimeMillis() > firstUse + admissionTtlSeconds * 1000) {
+            // Booking window used up: back of the queue with a new position
+            room.positions.remove(username, sequence);
+            room.firstUse.remove(sequence);
+            sequence = null;
+        }
+        if (sequence == null) {
+            if (room.positions.size() >= maxQueueSize) {
+                rejected.increment();
+                throw new TaskRejectedException("Waiting room is full, please retry shortly");
+            }
+            sequence = room.positions.computeIfAbsent(username, u -> room.issued.incrementAndGet());
+        }
+        Map<String, Object> result = status(room, sequence, username);
+        result.put("token", sign(matchId, room.openedAt, username, sequence));
+        return result;
+    }
+
+    /** Queue position and estimated wait for a token; in-memory only. */
+    public Map<String, Object> status(Long matchId, String token) {
+        Room room = rooms.get(matchId);
+        if (room == null) {
+            Map<String, Object> result = new HashMap<>();
+            result.put("matchId", matchId);
+            result.put("open", false);
+            return result;
+        }
+        Position position = verify(room, token);
+        if (position == null) {
+            throw new NotAdmittedException("Invalid waiting room token");
+        }
+        return status(room, position.sequence, position.username);
+    }
+
+    /**
+     * Booking gate: passes when the match has no open room, or the token is the user's,
+     * admitted and within its admission window. Throws NotAdmittedException otherwise.
+     */
+    public void requireAdmission(Long matchId, String username, String token) {
+        Room room = matchId == null ? null : rooms.get(matchId);
+        if (room == null) {
+            return;
+        }
+        Position position = token == null ? null : verify(room, token);
+        if (position == null || !position.username.equals(username)) {
+            throw new NotAdmittedException("This match is on sale through its waiting room: join /api/waiting-room/"
+                    + matchId + "/join and book with the X-Waiting-Room-Token header once admitted");
+        }
+        if (position.sequence > room.admittedThrough) {
+            throw new NotAdmittedException("Not admitted yet: queue position " + (position.sequence - room.admittedThrough));
+        }
+        long admittedAt = room.firstUse.computeIfAbsent(position.sequence, s -> System.currentTimeMillis());
+        if (System.currentTimeMillis() > admittedAt + admissionTtlSeconds * 1000) {
+            throw new NotAdmittedException("Your booking window has expired; join the waiting room again");
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        List<Map<String, Object>> open = new ArrayList<>();
+        rooms.values().forEach(room -> open.add(room.snapshot()));
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("rooms", open);
+        stats.put("invalidTokens", invalidTokens.sum());
+        stats.put("rejectedJoins", rejected.sum());
+        stats.put("admissionTtlSeconds", admissionTtlSeconds);
+        return stats;
+    }
+
+    private Map<String, Object> status(Room room, long sequence, String username) {
+        long admittedThrough = room.admittedThrough;
+        long ahead = Math.max(0, sequence - admittedThrough);
+        Map<String, Object> result = new HashMap<>();
+        result.put("matchId", room.matchId);
+        result.put("open", true);
+        result.put("position", ahead);
+        result.put("admitted", ahead == 0);
+        long waitSeconds = (long) Math.ceil(ahead / room.admitPerSecond);
+        result.put("estimatedWaitSeconds", waitSeconds);
+        // Poll less often the further back in the queue, between 1 and 30 seconds
+        result.put("pollAfterSeconds", Math.max(1, Math.min(30, waitSeconds / 4)));
+        if (ahead == 0) {
+            Long admittedAt = room.firstUse.get(sequence);
+            long expiresAt = (admittedAt != null ? admittedAt : System.currentTimeMillis()) + admissionTtlSeconds * 1000;
+            result.put("admissionExpiresAtMs", expiresAt);
+        }
+        return result;
+    }
+
+    // Runs every TICK_MS on the ticker thread only
+    private void admit() {
+        for (Room room : rooms.values()) {
+            room.credit += room.admitPerSecond * TICK_MS / 1000.0;
+            long whole = (long) room.credit;
+            if (whole == 0) {
+                continue;
+            }
+            room.credit -= whole;
+            // Unused capacity is not banked: an empty queue admits newcomers at the rate, not in a burst
+            room.admittedThrough = Math.min(room.admittedThrough + whole, room.issued.get());
+        }
+    }
+
+    private String sign(Long matchId, long roomId, String username, long sequence) {
+        String payload = matchId + "|" + roomId + "|" + sequence + "|" + username;
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return encoder.encodeToString(payload.getBytes(StandardCharsets.UTF_8)) + "."
+                + encoder.encodeToString(mac(payload));
+    }
+
+    private Position verify(Room room, String token) {
+        try {
+            int dot = token.indexOf('.');
+            if (dot > 0) {
+                Base64.Decoder decoder = Base64.getUrlDecoder();
+                String payload = new String(decoder.decode(token.substring(0, dot)), StandardCharsets.UTF_8);
+                byte[] signature = decoder.decode(token.substring(dot + 1));
+                if (MessageDigest.isEqual(signature, mac(payload))) {
+                    String[] parts = payload.split("\\|", 4);
+                    if (Long.parseLong(parts[0]) == room.matchId && Long.parseLong(parts[1]) == room.openedAt) {
+                        return new Position(Long.parseLong(parts[2]), parts[3]);
+                    }
+                }
+            }
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            // malformed: treated like a bad signature
+        }
+        invalidTokens.increment();
+        return null;
+    }
+
+    private byte[] mac(String payload) {
+        return macs.get().doFinal(payload.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static final class Position {
+        final long sequence;
+        final String username;
+
+        Position(long sequence, String username) {
+            this.sequence = sequence;
+            this.username = username;
+        }
+    }
+
+    private static final class Room {
+        final long matchId;
+        final long openedAt; // also the room id signed into tokens
+        final AtomicLong issued = new AtomicLong();
+        final ConcurrentHashMap<String, Long> positions = new ConcurrentHashMap<>();
+        // Sequence -> first time it was used to book, for the admission window
+        final ConcurrentHashMap<Long, Long> firstUse = new ConcurrentHashMap<>();
+        volatile double admitPerSecond;
+        volatile long admittedThrough;
+        double credit; // ticker thread only
+
+        Room(long matchId, long openedAt) {
+            this.matchId = matchId;
+            this.openedAt = openedAt;
+        }
+
+        Map<String, Object> snapshot() {
+            Map<String, Object> stats = new HashMap<>();
+            stats.put("matchId", matchId);
+            stats.put("openedAt", openedAt);
+            stats.put("admitPerSecond", admitPerSecond);
+            stats.put("queued", issued.get());
+            stats.put("admittedThrough", admittedThrough);
+            stats.put("waiting", issued.get() - admittedThrough);
+            stats.put("admissionsUsed", firstUse.size());
+            return stats;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.examly.springapp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.examly.springapp.configuration.SqlStatementCounter;
+import com.examly.springapp.model.Match;
+import com.examly.springapp.model.Player;
+import com.examly.springapp.model.Team;
+import com.examly.springapp.model.TeamStats;
+import com.examly.springapp.repository.MatchRepository;
+import com.examly.springapp.repository.PlayerRepository;
+import com.examly.springapp.repository.TeamRepository;
+import com.examly.springapp.repository.TeamStatsRepository;
+
+/**
+ * Listing endpoints must cost a fixed number of SQL statements: the count is taken
+ * once, more rows are added, and the same request must not issue more statements.
+ */
+@ActiveProfiles("test")
+@SpringBootTest(classes = SpringappApplication.class, properties = "app.sql.statement-count.enabled=true")
+@AutoConfigureMockMvc
+class ListingStatementCountTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private TeamStatsRepository teamStatsRepository;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private MatchRepository matchRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private int sequence;
+
+    @Test
+    void ListingsIssueConstantStatementCounts() throws Exception {
+        seed(3);
+        int players = statementsFor("/api/players");
+        int topScorers = statementsFor("/api/players/top-scorers");
+        int teams = statementsFor("/api/teams");
+        int matches = statementsFor("/api/matches");
+
+        seed(10);
+        assertEquals(players, statementsFor("/api/players"), "/api/players");
+        assertEquals(topScorers, statementsFor("/api/players/top-scorers"), "/api/players/top-scorers");
+        assertEquals(teams, statementsFor("/api/teams"), "/api/teams");
+        assertEquals(matches, statementsFor("/api/matches"), "/api/matches");
+    }
+
+    private int statementsFor(String url) throws Exception {
+        // Team reads are cached; clear so every request really goes to the database
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        SqlStatementCounter.reset();
+        mockMvc.perform(get(url)
+                        .with(jwt())
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").isArray());
+        return SqlStatementCounter.count();
+    }
+
+    private void seed(int teams) {
+        Team previous = null;
+        for (int i = 0; i < teams; i++) {
+            int n = ++sequence;
+            Team team = new Team();
+            team.setTeamName("Count Team " + n);
+            team.setConfederation("UEFA");
+            team.setFifaRanking(n);
+            team.setRegistrationDate(LocalDateTime.now());
+            team = teamRepository.save(team);
+            teamStatsRepository.save(new TeamStats(team));
+
+            for (int j = 0; j < 2; j++) {
+                Player player = new Player();
+                player.setFirstName("Player" + j);
+                player.setLastName("Count" + n);
+                player.setPosition("Forward");
+                player.setNationality("Testland");
+                player.setGoalsScored(n + j);
+                player.setTeam(team);
+                playerRepository.save(player);
+            }
+
+            if (previous != null) {
+                Match match = new Match();
+                match.setHomeTeam(previous);
+                match.setAwayTeam(team);
+                match.setMatchDate(LocalDateTime.now().plusDays(n));
+                matchRepository.save(match);
+            }
+            previous = team;
+        }
+    }
+}
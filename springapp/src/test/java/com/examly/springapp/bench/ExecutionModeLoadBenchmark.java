@@ -0,0 +1,126 @@
+package com.examly.springapp.bench;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Closed-loop HTTP load driver used to compare app.execution.mode=platform vs virtual.
+ *
+ * Start the app once per mode, then run (from springapp/, after mvn test-compile):
+ *
+ *   java -cp target/test-classes com.examly.springapp.bench.ExecutionModeLoadBenchmark \
+ *        http://localhost:8080 /api/players 400 30 platform
+ *
+ * Arguments: baseUrl path concurrency durationSeconds label.
+ * Prints a human-readable summary followed by one JSON line (throughput, p50/p99/max
+ * latency, error count) so runs for both modes can be diffed or fed into a pipeline.
+ * Not a unit test: surefire does not pick it up.
+ */
+public class ExecutionModeLoadBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = args.length > 0 ? args[0] : "http://localhost:8080";
+        String path = args.length > 1 ? args[1] : "/api/players";
+        int concurrency = args.length > 2 ? Integer.parseInt(args[2]) : 200;
+        int durationSeconds = args.length > 3 ? Integer.parseInt(args[3]) : 30;
+        String label = args.length > 4 ? args[4] : "run";
+
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+
+        // Short warm-up so JIT and connection pools settle before measuring
+        runFor(client, request, Math.min(concurrency, 16), 5);
+
+        long start = System.nanoTime();
+        List<long[]> perWorker = runFor(client, request, concurrency, durationSeconds);
+        double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        long errors = 0;
+        int total = 0;
+        for (long[] worker : perWorker) {
+            errors += worker[0];
+            total += worker.length - 1;
+        }
+        long[] latencies = new long[total];
+        int offset = 0;
+        for (long[] worker : perWorker) {
+            System.arraycopy(worker, 1, latencies, offset, worker.length - 1);
+            offset += worker.length - 1;
+        }
+        Arrays.sort(latencies);
+
+        double throughput = total / elapsedSeconds;
+        double p50 = percentileMs(latencies, 0.50);
+        double p99 = percentileMs(latencies, 0.99);
+        double max = latencies.length == 0 ? 0 : latencies[latencies.length - 1] / 1_000_000.0;
+
+        System.out.printf("%s: %d requests in %.1fs, %.1f req/s, p50=%.2fms p99=%.2fms max=%.2fms errors=%d%n",
+                label, total, elapsedSeconds, throughput, p50, p99, max, errors);
+        System.out.printf("{\"label\":\"%s\",\"path\":\"%s\",\"concurrency\":%d,\"requests\":%d,"
+                        + "\"throughput\":%.2f,\"p50Ms\":%.3f,\"p99Ms\":%.3f,\"maxMs\":%.3f,\"errors\":%d}%n",
+                label, path, concurrency, total, throughput, p50, p99, max, errors);
+    }
+
+    /** Each worker returns [errorCount, latencyNanos...]. */
+    private static List<long[]> runFor(HttpClient client, HttpRequest request, int concurrency, int seconds)
+            throws Exception {
+        long deadline = System.nanoTime() + seconds * 1_000_000_000L;
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        try {
+            List<Future<long[]>> futures = new ArrayList<>();
+            for (int i = 0; i < concurrency; i++) {
+                futures.add(workers.submit(() -> {
+                    long[] samples = new long[1024];
+                    int count = 1;
+                    long errors = 0;
+                    while (System.nanoTime() < deadline) {
+                        long t0 = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() >= 400) {
+                                errors++;
+                            }
+                        } catch (Exception e) {
+                            errors++;
+                        }
+                        if (count == samples.length) {
+                            samples = Arrays.copyOf(samples, samples.length * 2);
+                        }
+                        samples[count++] = System.nanoTime() - t0;
+                    }
+                    samples[0] = errors;
+                    return Arrays.copyOf(samples, count);
+                }));
+            }
+            List<long[]> results = new ArrayList<>();
+            for (Future<long[]> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    private static double percentileMs(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,61 @@
+package com.examly.springapp.configuration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class BoundedCacheTest {
+
+    @Test
+    void LeastRecentlyUsedEntryIsEvicted() {
+        BoundedCache cache = new BoundedCache("test", 2);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.get("a");
+        cache.put("c", 3);
+        assertNotNull(cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals(1L, cache.snapshot().get("evictions"));
+    }
+
+    @Test
+    void EntryExpiresAfterTimeToLive() throws InterruptedException {
+        BoundedCache cache = new BoundedCache("test", 10, 1);
+        cache.put("a", 1);
+        assertNotNull(cache.get("a"));
+        Thread.sleep(1_100);
+        assertNull(cache.get("a"));
+        assertEquals(1L, cache.snapshot().get("expirations"));
+    }
+
+    @Test
+    void ClearInsideTransactionWaitsForCommit() {
+        BoundedCache cache = new BoundedCache("test", 10);
+        cache.put("a", 1);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.clear();
+            cache.evict("a");
+            assertNotNull(cache.get("a"));
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                synchronization.afterCommit();
+            }
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertNull(cache.get("a"));
+        assertEquals(2L, cache.snapshot().get("invalidations"));
+    }
+
+    @Test
+    void ClearOutsideTransactionIsImmediate() {
+        BoundedCache cache = new BoundedCache("test", 10);
+        cache.put("a", 1);
+        cache.clear();
+        assertNull(cache.get("a"));
+    }
+}
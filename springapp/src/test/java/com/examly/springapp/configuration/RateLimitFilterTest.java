@@ -0,0 +1,56 @@
+package com.examly.springapp.configuration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.lang.reflect.Proxy;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.Test;
+
+class RateLimitFilterTest {
+
+    @Test
+    void ForwardedForIsIgnoredWithoutTrustedProxies() {
+        RateLimitFilter filter = new RateLimitFilter(null, 0);
+        assertEquals("10.0.0.1", filter.clientIp(request("1.2.3.4", "10.0.0.1")));
+    }
+
+    @Test
+    void ClientSuppliedEntriesAreSkipped() {
+        RateLimitFilter filter = new RateLimitFilter(null, 1);
+        // The client sent "1.2.3.4"; the proxy appended the address it actually saw
+        assertEquals("203.0.113.7", filter.clientIp(request("1.2.3.4, 203.0.113.7", "10.0.0.1")));
+    }
+
+    @Test
+    void EachTrustedProxyAccountsForOneEntry() {
+        RateLimitFilter filter = new RateLimitFilter(null, 2);
+        assertEquals("203.0.113.7", filter.clientIp(request("1.2.3.4, 203.0.113.7, 10.0.0.2", "10.0.0.1")));
+    }
+
+    @Test
+    void FewerEntriesThanProxiesUsesTheFirst() {
+        RateLimitFilter filter = new RateLimitFilter(null, 3);
+        assertEquals("203.0.113.7", filter.clientIp(request("203.0.113.7, 10.0.0.2", "10.0.0.1")));
+    }
+
+    @Test
+    void MissingHeaderFallsBackToPeerAddress() {
+        RateLimitFilter filter = new RateLimitFilter(null, 1);
+        assertEquals("10.0.0.1", filter.clientIp(request(null, "10.0.0.1")));
+    }
+
+    private static HttpServletRequest request(String forwardedFor, String remoteAddr) {
+        return (HttpServletRequest) Proxy.newProxyInstance(RateLimitFilterTest.class.getClassLoader(),
+                new Class<?>[] {HttpServletRequest.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getHeader":
+                            return "X-Forwarded-For".equalsIgnoreCase((String) args[0]) ? forwardedFor : null;
+                        case "getRemoteAddr":
+                            return remoteAddr;
+                        default:
+                            return null;
+                    }
+                });
+    }
+}
@@ -0,0 +1,119 @@
+package com.examly.springapp.service.audit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+
+class AuditRingBufferTest {
+
+    @Test
+    void CapacityRoundsUpToAPowerOfTwo() {
+        assertEquals(8, new AuditRingBuffer(5).capacity());
+        assertEquals(8, new AuditRingBuffer(8).capacity());
+        assertEquals(2, new AuditRingBuffer(1).capacity());
+    }
+
+    @Test
+    void PollReturnsEventsInOfferOrder() {
+        AuditRingBuffer buffer = new AuditRingBuffer(4);
+        for (int i = 0; i < 3; i++) {
+            assertTrue(buffer.offer(event(i)));
+        }
+        assertEquals(3, buffer.size());
+        for (int i = 0; i < 3; i++) {
+            assertEquals("event-" + i, buffer.poll().getDescription());
+        }
+        assertNull(buffer.poll());
+        assertEquals(0, buffer.size());
+    }
+
+    @Test
+    void FullBufferRejectsUntilASlotIsPolled() {
+        AuditRingBuffer buffer = new AuditRingBuffer(4);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(buffer.offer(event(i)));
+        }
+        assertFalse(buffer.offer(event(4)));
+
+        assertEquals("event-0", buffer.poll().getDescription());
+        assertTrue(buffer.offer(event(4)));
+        assertFalse(buffer.offer(event(5)));
+    }
+
+    @Test
+    void SlotsAreReusedAcrossManyWrapArounds() {
+        AuditRingBuffer buffer = new AuditRingBuffer(4);
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(buffer.offer(event(i)));
+            assertEquals("event-" + i, buffer.poll().getDescription());
+        }
+        assertNull(buffer.poll());
+    }
+
+    @Test
+    void DrainToStopsAtTheRequestedMaximum() {
+        AuditRingBuffer buffer = new AuditRingBuffer(16);
+        for (int i = 0; i < 10; i++) {
+            buffer.offer(event(i));
+        }
+        List<AuditEvent> batch = new ArrayList<>();
+        assertEquals(4, buffer.drainTo(batch, 4));
+        assertEquals(4, batch.size());
+        assertEquals(6, buffer.drainTo(batch, 100));
+        assertEquals(0, buffer.drainTo(batch, 100));
+        assertEquals(10, batch.size());
+    }
+
+    @Test
+    void ConcurrentProducersLoseAndDuplicateNothing() throws InterruptedException {
+        int producers = 4;
+        int perProducer = 20000;
+        AuditRingBuffer buffer = new AuditRingBuffer(1024);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            int producer = p;
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < perProducer; i++) {
+                    AuditEvent event = event(producer * perProducer + i);
+                    while (!buffer.offer(event)) {
+                        Thread.onSpinWait();
+                    }
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        Set<String> seen = new HashSet<>();
+        start.countDown();
+        while (seen.size() < producers * perProducer) {
+            AuditEvent event = buffer.poll();
+            if (event != null) {
+                assertTrue(seen.add(event.getDescription()), "duplicate " + event.getDescription());
+            }
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertNull(buffer.poll());
+    }
+
+    private static AuditEvent event(int i) {
+        return AuditEvent.of("TEST", "AuditRingBuffer", "event-" + i, "INFO");
+    }
+}
@@ -0,0 +1,149 @@
+package com.examly.springapp.service.inventory;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class SeatSectionTest {
+
+    @Test
+    void TakeReturnsAdjacentSeatsWithinCapacity() {
+        SeatSection section = new SeatSection(100);
+        int[] seats = section.take(4);
+        assertNotNull(seats);
+        assertEquals(4, seats.length);
+        for (int i = 1; i < seats.length; i++) {
+            assertEquals(seats[i - 1] + 1, seats[i]);
+        }
+        assertTrue(seats[0] >= 1 && seats[3] <= 100);
+        assertEquals(96, section.available());
+    }
+
+    @Test
+    void SellsOutExactlyAtCapacityAndNeverPastIt() {
+        SeatSection section = new SeatSection(70);
+        Set<Integer> sold = new HashSet<>();
+        int[] seats;
+        while ((seats = section.take(1)) != null) {
+            assertTrue(sold.add(seats[0]), "seat " + seats[0] + " sold twice");
+            assertTrue(seats[0] >= 1 && seats[0] <= 70);
+        }
+        assertEquals(70, sold.size());
+        assertEquals(0, section.available());
+        assertNull(section.take(1));
+    }
+
+    @Test
+    void FailedTakeLeavesNothingClaimed() {
+        SeatSection section = new SeatSection(10);
+        assertNotNull(section.take(8));
+        assertNull(section.take(3));
+        assertEquals(2, section.available());
+        assertNotNull(section.take(2));
+    }
+
+    @Test
+    void TakesScatteredSeatsWhenNoRunIsFree() {
+        SeatSection section = new SeatSection(64);
+        // Every other seat sold: no two adjacent seats are free
+        for (int seat = 1; seat <= 64; seat += 2) {
+            assertTrue(section.takeExact(new int[]{seat}));
+        }
+        int[] seats = section.take(3);
+        assertNotNull(seats);
+        for (int seat : seats) {
+            assertEquals(0, seat % 2);
+        }
+        assertEquals(29, section.available());
+    }
+
+    @Test
+    void TakeExactIsAllOrNothing() {
+        SeatSection section = new SeatSection(20);
+        assertTrue(section.takeExact(new int[]{5, 6, 7}));
+        assertFalse(section.takeExact(new int[]{8, 9, 7}));
+        // 8 and 9 were given back when 7 turned out to be taken
+        assertTrue(section.takeExact(new int[]{8, 9}));
+        assertFalse(section.takeExact(new int[]{0}));
+        assertFalse(section.takeExact(new int[]{21}));
+        assertEquals(15, section.available());
+    }
+
+    @Test
+    void FreedSeatsCanBeSoldAgainAfterSellOut() {
+        SeatSection section = new SeatSection(128);
+        while (section.take(8) != null) {
+            // sell out
+        }
+        assertEquals(0, section.available());
+        section.free(new int[]{64, 65, 66});
+        assertEquals(3, section.available());
+        int[] seats = section.take(3);
+        assertNotNull(seats);
+        Arrays.sort(seats);
+        assertArrayEquals(new int[]{64, 65, 66}, seats);
+        assertNull(section.take(1));
+    }
+
+    @Test
+    void ConcurrentBuyersNeverShareASeat() throws InterruptedException {
+        SeatSection section = new SeatSection(5000);
+        Set<Integer> sold = ConcurrentHashMap.newKeySet();
+        AtomicInteger duplicates = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        CountDownLatch done = new CountDownLatch(8);
+        for (int t = 0; t < 8; t++) {
+            pool.execute(() -> {
+                int[] seats;
+                while ((seats = section.take(3)) != null) {
+                    for (int seat : seats) {
+                        if (!sold.add(seat)) {
+                            duplicates.incrementAndGet();
+                        }
+                    }
+                }
+                done.countDown();
+            });
+        }
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        pool.shutdown();
+        assertEquals(0, duplicates.get());
+        // 5000 is not a multiple of 3; whatever is left is fewer than one hold
+        assertTrue(section.available() < 3);
+        assertEquals(5000 - section.available(), sold.size());
+    }
+
+    @Test
+    void RejectsInvalidSizes() {
+        assertThrows(IllegalArgumentException.class, () -> new SeatSection(0));
+        SeatSection section = new SeatSection(10);
+        assertThrows(IllegalArgumentException.class, () -> section.take(0));
+        assertThrows(IllegalArgumentException.class, () -> section.take(65));
+    }
+
+    @Test
+    void SeatRangesRoundTrip() {
+        int[] seats = {1, 2, 3, 7, 9, 10, 64, 65};
+        String ranges = SeatHold.formatRanges(seats);
+        assertEquals("1-3,7,9-10,64-65", ranges);
+        assertArrayEquals(seats, SeatHold.parseSeats(ranges));
+        assertArrayEquals(new int[]{12, 13, 14}, SeatHold.parseSeats("12,13,14"));
+        assertEquals("", SeatHold.formatRanges(new int[0]));
+    }
+}
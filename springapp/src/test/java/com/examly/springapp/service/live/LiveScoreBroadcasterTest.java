@@ -0,0 +1,118 @@
+package com.examly.springapp.service.live;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+class LiveScoreBroadcasterTest {
+
+    /**
+     * A client that never reads: send() blocks while holding the emitter monitor, as
+     * SseEmitter does during a blocked socket write, until the "write timeout" fails it.
+     */
+    static final class NeverReadingEmitter extends SseEmitter {
+        final CountDownLatch sending = new CountDownLatch(1);
+        final CountDownLatch writeTimeout = new CountDownLatch(1);
+        final CountDownLatch completed = new CountDownLatch(1);
+        volatile String completedBy;
+
+        @Override
+        public synchronized void send(SseEventBuilder builder) throws IOException {
+            sending.countDown();
+            try {
+                writeTimeout.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            throw new IOException("write timed out");
+        }
+
+        @Override
+        public synchronized void complete() {
+            completedBy = Thread.currentThread().getName();
+            completed.countDown();
+        }
+    }
+
+    private final NeverReadingEmitter emitter = new NeverReadingEmitter();
+
+    private LiveScoreBroadcaster broadcaster(ThreadPoolTaskExecutor executor) {
+        LiveScoreBroadcaster broadcaster = new LiveScoreBroadcaster() {
+            @Override
+            SseEmitter createEmitter() {
+                return emitter;
+            }
+        };
+        ReflectionTestUtils.setField(broadcaster, "liveStreamExecutor", executor);
+        ReflectionTestUtils.setField(broadcaster, "objectMapper", new ObjectMapper());
+        ReflectionTestUtils.setField(broadcaster, "subscriberBuffer", 4);
+        ReflectionTestUtils.setField(broadcaster, "sendTimeoutMs", 50L);
+        return broadcaster;
+    }
+
+    private static ThreadPoolTaskExecutor executor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("live-stream-");
+        executor.initialize();
+        return executor;
+    }
+
+    @Test
+    void HeartbeatDropsAStuckClientWithoutBlocking() throws Exception {
+        ThreadPoolTaskExecutor executor = executor();
+        LiveScoreBroadcaster broadcaster = broadcaster(executor);
+        broadcaster.subscribe(7L);
+        broadcaster.publishScore(7L, Map.of("homeScore", 1));
+        assertTrue(emitter.sending.await(2, TimeUnit.SECONDS));
+
+        Thread.sleep(100);
+        long started = System.nanoTime();
+        broadcaster.sendHeartbeats();
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started) < 500, "heartbeat blocked");
+        assertEquals(0, broadcaster.getStreamStats().get("subscribers"));
+        assertEquals(1L, broadcaster.getStreamStats().get("sendTimeouts"));
+        assertEquals(1, emitter.completed.getCount(), "completed while the send still held the monitor");
+
+        // The write timeout fails the send; its own pool thread then ends the response
+        emitter.writeTimeout.countDown();
+        assertTrue(emitter.completed.await(2, TimeUnit.SECONDS));
+        assertTrue(emitter.completedBy.startsWith("live-stream-"), emitter.completedBy);
+        executor.shutdown();
+    }
+
+    @Test
+    void PublisherIsNotBlockedWhenTheBufferOverflows() throws Exception {
+        ThreadPoolTaskExecutor executor = executor();
+        LiveScoreBroadcaster broadcaster = broadcaster(executor);
+        broadcaster.subscribe(9L);
+        broadcaster.publishScore(9L, Map.of("homeScore", 0));
+        assertTrue(emitter.sending.await(2, TimeUnit.SECONDS));
+
+        long started = System.nanoTime();
+        for (int i = 0; i < 20; i++) {
+            broadcaster.publishEvents(9L, Map.of("n", i));
+        }
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started) < 500, "publisher blocked");
+        assertEquals(0, broadcaster.getStreamStats().get("subscribers"));
+        assertEquals(1L, broadcaster.getStreamStats().get("droppedSlowConsumers"));
+        assertFalse(broadcaster.hasScore(9L));
+
+        emitter.writeTimeout.countDown();
+        assertTrue(emitter.completed.await(2, TimeUnit.SECONDS));
+        assertTrue(emitter.completedBy.startsWith("live-stream-"), emitter.completedBy);
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,111 @@
+package com.examly.springapp.service.payment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class CircuitBreakerTest {
+
+    @Test
+    void StaysClosedBelowMinimumCalls() {
+        CircuitBreaker breaker = new CircuitBreaker(10, 5, 0.5, 60_000, 1);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(breaker.tryAcquire());
+            breaker.onFailure();
+        }
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void OpensAtTheFailureRateAndRefusesCalls() {
+        CircuitBreaker breaker = new CircuitBreaker(10, 4, 0.5, 60_000, 1);
+        call(breaker, true);
+        call(breaker, false);
+        call(breaker, true);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        call(breaker, false);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquire());
+        assertTrue(breaker.retryAfterMs() > 0);
+        assertEquals(1L, breaker.snapshot().get("notPermitted"));
+    }
+
+    @Test
+    void HalfOpenTrialsCloseWithAFreshWindow() throws InterruptedException {
+        CircuitBreaker breaker = new CircuitBreaker(4, 2, 0.5, 50, 2);
+        call(breaker, false);
+        call(breaker, false);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+
+        Thread.sleep(80);
+        assertTrue(breaker.tryAcquire());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertTrue(breaker.tryAcquire());
+        // Only trialCalls calls at a time while half-open
+        assertFalse(breaker.tryAcquire());
+        breaker.onSuccess();
+        breaker.onSuccess();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(0, breaker.snapshot().get("windowCalls"));
+
+        // The old failures are gone: one failure alone does not reopen it
+        call(breaker, false);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void FailedTrialReopens() throws InterruptedException {
+        CircuitBreaker breaker = new CircuitBreaker(4, 1, 0.5, 50, 3);
+        call(breaker, false);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+
+        Thread.sleep(80);
+        assertTrue(breaker.tryAcquire());
+        breaker.onFailure();
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquire());
+        assertEquals(2L, breaker.snapshot().get("timesOpened"));
+    }
+
+    @Test
+    void TrialNotAttemptedIsGivenBack() throws InterruptedException {
+        CircuitBreaker breaker = new CircuitBreaker(4, 1, 0.5, 50, 1);
+        call(breaker, false);
+        Thread.sleep(80);
+        assertTrue(breaker.tryAcquire());
+        breaker.onNotAttempted();
+        assertTrue(breaker.tryAcquire());
+        breaker.onSuccess();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void WindowForgetsOldOutcomes() {
+        CircuitBreaker breaker = new CircuitBreaker(4, 4, 0.75, 60_000, 1);
+        call(breaker, false);
+        call(breaker, false);
+        call(breaker, true);
+        call(breaker, true);
+        // 2 of 4 failed
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        call(breaker, true);
+        call(breaker, true);
+        // The two failures slid out of the window
+        assertEquals(0, breaker.snapshot().get("windowFailures"));
+        call(breaker, false);
+        call(breaker, false);
+        call(breaker, false);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    private static void call(CircuitBreaker breaker, boolean succeeded) {
+        assertTrue(breaker.tryAcquire());
+        if (succeeded) {
+            breaker.onSuccess();
+        } else {
+            breaker.onFailure();
+        }
+    }
+}
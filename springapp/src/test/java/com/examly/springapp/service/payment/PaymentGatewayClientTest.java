@@ -0,0 +1,138 @@
+package com.examly.springapp.service.payment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.examly.springapp.exception.PaymentGatewayException;
+
+class PaymentGatewayClientTest {
+
+    private final ThreadPoolTaskExecutor gatewayPool = pool("gateway-", 1);
+    private final ThreadPoolTaskExecutor completionPool = pool("completion-", 2);
+
+    @AfterEach
+    void shutdown() {
+        gatewayPool.shutdown();
+        completionPool.shutdown();
+    }
+
+    @Test
+    void GatewayGetsWhatIsLeftOfTheDeadline() throws Exception {
+        AtomicLong budget = new AtomicLong();
+        PaymentGatewayClient client = client(request -> "https://pay/" + request.getReference(), budget, 2_000);
+        String url = client.createCheckoutSession(request("r1")).get(5, TimeUnit.SECONDS);
+        assertEquals("https://pay/r1", url);
+        assertTrue(budget.get() > 0 && budget.get() <= 2_000);
+    }
+
+    @Test
+    void CallQueuedPastItsDeadlineIsNotMade() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        PaymentGatewayClient client = client(request -> {
+            calls.incrementAndGet();
+            if ("blocker".equals(request.getReference())) {
+                release.await();
+            }
+            return "ok";
+        }, new AtomicLong(), 200);
+        CompletableFuture<String> blocker = client.createCheckoutSession(request("blocker"));
+        CompletableFuture<String> queued = client.createCheckoutSession(request("queued"));
+        Throwable error = failure(queued);
+        assertTrue(error instanceof PaymentGatewayException);
+        release.countDown();
+        failure(blocker);
+        // Only the blocker reached the gateway; the queued call found its deadline gone
+        gatewayPool.getThreadPoolExecutor().shutdown();
+        gatewayPool.getThreadPoolExecutor().awaitTermination(5, TimeUnit.SECONDS);
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void TimeoutIsHandledOnTheCompletionPool() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        PaymentGatewayClient client = client(request -> {
+            release.await();
+            return "late";
+        }, new AtomicLong(), 100);
+        AtomicReference<String> thread = new AtomicReference<>();
+        CompletableFuture<String> future = client.createCheckoutSession(request("slow"))
+                .whenComplete((url, error) -> thread.set(Thread.currentThread().getName()));
+        failure(future);
+        release.countDown();
+        assertTrue(thread.get().startsWith("completion-"), thread.get());
+    }
+
+    private interface Call {
+        String run(CheckoutRequest request) throws Exception;
+    }
+
+    private PaymentGatewayClient client(Call call, AtomicLong budget, long timeoutMs) {
+        PaymentGateway gateway = new PaymentGateway() {
+            @Override
+            public String name() {
+                return "TEST";
+            }
+
+            @Override
+            public boolean isConfigured() {
+                return true;
+            }
+
+            @Override
+            public String createCheckoutSession(CheckoutRequest request, long remainingMs) throws Exception {
+                budget.set(remainingMs);
+                return call.run(request);
+            }
+        };
+        PaymentGatewayClient client = new PaymentGatewayClient();
+        ReflectionTestUtils.setField(client, "paymentGateway", gateway);
+        ReflectionTestUtils.setField(client, "paymentGatewayExecutor", gatewayPool);
+        ReflectionTestUtils.setField(client, "paymentCompletionExecutor", completionPool);
+        ReflectionTestUtils.setField(client, "timeoutMs", timeoutMs);
+        ReflectionTestUtils.setField(client, "windowSize", 50);
+        ReflectionTestUtils.setField(client, "minimumCalls", 10);
+        ReflectionTestUtils.setField(client, "failureRateThreshold", 0.5);
+        ReflectionTestUtils.setField(client, "openDurationMs", 30_000L);
+        ReflectionTestUtils.setField(client, "trialCalls", 3);
+        client.init();
+        return client;
+    }
+
+    private static CheckoutRequest request(String reference) {
+        return new CheckoutRequest(1000, "INR", "http://localhost/success", "http://localhost/cancel",
+                "Ticket", reference);
+    }
+
+    private static Throwable failure(CompletableFuture<String> future) throws Exception {
+        try {
+            future.get(5, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            return e.getCause();
+        }
+        return null;
+    }
+
+    private static ThreadPoolTaskExecutor pool(String prefix, int threads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(prefix);
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(10);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,87 @@
+package com.examly.springapp.service.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class RateLimiterTest {
+
+    @Test
+    void AllowsTheLimitThenRejectsWithRetryAfter() {
+        RateLimiter limiter = limiter("GET /api/players/**=3/60s", "off", 100);
+        for (int remaining = 2; remaining >= 0; remaining--) {
+            RateLimiter.Decision decision = limiter.tryAcquire("GET", "/api/players/1", "alice", "10.0.0.1");
+            assertTrue(decision.isAllowed());
+            assertEquals(3, decision.getLimit());
+            assertEquals(remaining, decision.getRemaining());
+        }
+        RateLimiter.Decision rejected = limiter.tryAcquire("GET", "/api/players/1", "alice", "10.0.0.1");
+        assertFalse(rejected.isAllowed());
+        assertEquals(0, rejected.getRemaining());
+        assertTrue(rejected.getRetryAfterSeconds() >= 1);
+        limiter.shutdown();
+    }
+
+    @Test
+    void SubjectsAndAnonymousIpsHaveTheirOwnBuckets() {
+        RateLimiter limiter = limiter("GET /api/players/**=1/60s", "off", 100);
+        assertTrue(limiter.tryAcquire("GET", "/api/players", "alice", "10.0.0.1").isAllowed());
+        assertFalse(limiter.tryAcquire("GET", "/api/players", "alice", "10.0.0.1").isAllowed());
+
+        assertTrue(limiter.tryAcquire("GET", "/api/players", "bob", "10.0.0.1").isAllowed());
+        assertTrue(limiter.tryAcquire("GET", "/api/players", null, "10.0.0.1").isAllowed());
+        assertFalse(limiter.tryAcquire("GET", "/api/players", null, "10.0.0.1").isAllowed());
+        assertTrue(limiter.tryAcquire("GET", "/api/players", null, "10.0.0.2").isAllowed());
+        limiter.shutdown();
+    }
+
+    @Test
+    void FirstMatchingRouteWinsAndOtherRequestsFallToTheDefault() {
+        RateLimiter limiter = limiter("POST /api/auth/**=1/60s", "5/60s", 100);
+        assertEquals(1, limiter.tryAcquire("POST", "/api/auth/login", null, "10.0.0.1").getLimit());
+        assertEquals(5, limiter.tryAcquire("GET", "/api/auth/me", null, "10.0.0.1").getLimit());
+        assertNull(limiter.tryAcquire("GET", "/actuator/health", null, "10.0.0.1"));
+        limiter.shutdown();
+    }
+
+    @Test
+    void DisabledLimiterAppliesNoQuota() {
+        RateLimiter limiter = limiter("GET /api/players/**=1/60s", "off", 100);
+        ReflectionTestUtils.setField(limiter, "enabled", false);
+        assertNull(limiter.tryAcquire("GET", "/api/players", "alice", "10.0.0.1"));
+        limiter.shutdown();
+    }
+
+    @Test
+    void NewCallersAreShedNotPooledWhenTheKeyTableIsFull() throws InterruptedException {
+        RateLimiter limiter = limiter("GET /api/players/**=10/1s", "off", 2);
+        assertTrue(limiter.tryAcquire("GET", "/api/players", "alice", "10.0.0.1").isAllowed());
+        assertTrue(limiter.tryAcquire("GET", "/api/players", "bob", "10.0.0.1").isAllowed());
+
+        // No room: the newcomer is turned away, the callers with buckets are untouched
+        RateLimiter.Decision shed = limiter.tryAcquire("GET", "/api/players", "mallory", "10.0.0.1");
+        assertFalse(shed.isAllowed());
+        assertEquals(1, shed.getRetryAfterSeconds());
+        assertTrue(limiter.tryAcquire("GET", "/api/players", "alice", "10.0.0.1").isAllowed());
+
+        // Once the existing buckets have refilled, the next newcomer sweeps them and gets in
+        Thread.sleep(1200);
+        assertTrue(limiter.tryAcquire("GET", "/api/players", "carol", "10.0.0.1").isAllowed());
+        limiter.shutdown();
+    }
+
+    private static RateLimiter limiter(String routes, String defaultSpec, int maxKeys) {
+        RateLimiter limiter = new RateLimiter();
+        ReflectionTestUtils.setField(limiter, "enabled", true);
+        ReflectionTestUtils.setField(limiter, "routeSpec", routes);
+        ReflectionTestUtils.setField(limiter, "defaultSpec", defaultSpec);
+        ReflectionTestUtils.setField(limiter, "maxKeys", maxKeys);
+        ReflectionTestUtils.setField(limiter, "idleSweepSeconds", 3600L);
+        limiter.start();
+        return limiter;
+    }
+}